@@ -0,0 +1,80 @@
+package com.jeevlifeworks.Smart.Task.Manager.App.Entity;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.JoinTable;
+import jakarta.persistence.ManyToMany;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+/**
+ * A completed task moved out of 'tasks' by TaskArchiver, mapped to 'tasks_archive'.
+ *
+ * Keeps the task's ID and the attributes the listings read, under the same
+ * names as in Task, so the filter specifications apply to both tables. Rows
+ * are only ever written by the archiver's INSERT ... SELECT statements; the
+ * entity exists for the read-through queries and to have the tables created.
+ */
+@Entity
+@Data
+@NoArgsConstructor
+@Table(name = "tasks_archive", indexes = {
+		// Same keyset order as the hot table, for includeArchived listings
+		@Index(name = "idx_tasks_archive_due_date_id", columnList = "dueDate, id")
+})
+@ToString(exclude = "assignees")
+@EqualsAndHashCode(exclude = "assignees")
+public class ArchivedTask {
+
+	// ID the task had in 'tasks'
+	@Id
+	private Long id;
+
+	private String title;
+
+	@Column(columnDefinition = "TEXT")
+	private String description;
+
+	private LocalDate dueDate;
+
+	private String priority;
+
+	private String status;
+
+	@ManyToMany(fetch = FetchType.LAZY)
+	@JoinTable(name = "task_assignees_archive",
+	      joinColumns = @JoinColumn(name = "task_id"),
+	      inverseJoinColumns = @JoinColumn(name = "user_id"),
+	      indexes = @Index(name = "idx_task_assignees_archive_user_task", columnList = "user_id, task_id"))
+	private List<User> assignees = new ArrayList<User>();
+
+	@ManyToOne(fetch = FetchType.LAZY)
+	@JoinColumn(name = "manager_id", nullable = false)
+	private User manager;
+
+	private String tags;
+
+	private Long changeVersion;
+
+	@Column(nullable = false)
+	private long version;
+
+	private LocalDateTime completedAt;
+
+	// When the task was moved to the archive
+	@Column(nullable = false)
+	private LocalDateTime archivedAt;
+}
@@ -0,0 +1,76 @@
+package com.jeevlifeworks.Smart.Task.Manager.App.Entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * EmailOutbox entity maps to the 'email_outbox' table.
+ * Every outgoing email is first written here inside the business transaction
+ * that caused it, and is delivered later by the EmailOutboxDispatcher.
+ * This keeps SMTP latency and failures out of request handling.
+ */
+@Entity
+@Data
+@NoArgsConstructor
+@Table(name = "email_outbox", indexes = {
+		// Supports the dispatcher's "due PENDING rows" poll
+		@Index(name = "idx_email_outbox_status_next_attempt", columnList = "status, nextAttemptAt")
+})
+public class EmailOutbox {
+
+	// Pooled table generator (see Task) so emails queued by bulk operations are inserted in JDBC batches
+	@Id
+	@GeneratedValue(strategy = GenerationType.TABLE, generator = "email_outbox_id_generator")
+	@TableGenerator(name = "email_outbox_id_generator", table = "id_generators",
+			pkColumnName = "generator_name", valueColumnName = "next_val",
+			pkColumnValue = "email_outbox", allocationSize = 50)
+	private Long id; // Primary key
+
+	@Column(nullable = false)
+	private String recipient; // Destination email address
+
+	@Column(nullable = false)
+	private String subject; // Email subject line
+
+	@Column(columnDefinition = "TEXT", nullable = false)
+	private String body; // Plain-text email body
+
+	@Enumerated(EnumType.STRING)
+	@Column(nullable = false, length = 16)
+	private EmailOutboxStatus status = EmailOutboxStatus.PENDING;
+
+	private int attempts; // Number of delivery attempts made so far
+
+	@Column(nullable = false)
+	private LocalDateTime nextAttemptAt; // Earliest time the dispatcher may (re)try this row
+
+	@Column(nullable = false)
+	private LocalDateTime createdAt; // When the email was queued
+
+	private LocalDateTime claimedAt; // When a dispatcher worker claimed the row
+
+	private LocalDateTime sentAt; // When the SMTP server accepted the message
+
+	@Column(length = 1000)
+	private String lastError; // Error message of the last failed attempt
+
+	public EmailOutbox(String recipient, String subject, String body, LocalDateTime now) {
+		this.recipient = recipient;
+		this.subject = subject;
+		this.body = body;
+		this.createdAt = now;
+		this.nextAttemptAt = now;
+	}
+}
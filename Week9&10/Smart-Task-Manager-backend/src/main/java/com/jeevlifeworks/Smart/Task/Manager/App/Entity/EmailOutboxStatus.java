@@ -0,0 +1,19 @@
+package com.jeevlifeworks.Smart.Task.Manager.App.Entity;
+
+
+/**
+ * EmailOutboxStatus defines the lifecycle of a queued email.
+ * Rows move PENDING -> SENDING -> SENT, or back to PENDING for a retry,
+ * and end up FAILED once the retry budget is exhausted.
+ */
+public enum EmailOutboxStatus {
+
+	// PENDING: Waiting to be picked up (possibly after a backoff delay).
+	PENDING,
+	// SENDING: Claimed by a dispatcher worker; reclaimed if the worker dies.
+	SENDING,
+	// SENT: Accepted by the SMTP server.
+	SENT,
+	// FAILED: Gave up after the maximum number of attempts.
+	FAILED
+}
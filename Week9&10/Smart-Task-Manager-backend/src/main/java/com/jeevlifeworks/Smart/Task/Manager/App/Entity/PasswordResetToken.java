@@ -7,8 +7,10 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.OneToOne;
+import jakarta.persistence.Table;
 import lombok.Data;
 
 /**
@@ -17,6 +19,12 @@ import lombok.Data;
  */
 @Entity
 @Data
+@Table(indexes = {
+		// Token lookups when a link from the email is followed
+		@Index(name = "uk_password_reset_token_token", columnList = "token", unique = true),
+		// Range scans of the expired-token purge
+		@Index(name = "idx_password_reset_token_expiry_date", columnList = "expiryDate")
+})
 public class PasswordResetToken {
 	
 	@Id
@@ -0,0 +1,52 @@
+package com.jeevlifeworks.Smart.Task.Manager.App.Entity;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * ReminderDigest entity maps to the 'reminder_digests' table.
+ * Records that a user's overdue-task digest was queued for a given day.
+ * Rows are written in the same transaction as the digest email itself,
+ * so they act as the job's checkpoint: a resumed run skips these users.
+ */
+@Entity
+@Data
+@NoArgsConstructor
+@Table(name = "reminder_digests", uniqueConstraints = {
+		// A user gets at most one digest per day, even if two runs overlap
+		@UniqueConstraint(name = "uk_reminder_digests_run_user", columnNames = {"run_date", "user_id"})
+})
+public class ReminderDigest {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id; // Primary key
+
+	@Column(name = "run_date", nullable = false)
+	private LocalDate runDate; // Day of the reminder run
+
+	@Column(name = "user_id", nullable = false)
+	private Long userId; // Recipient of the digest
+
+	private int taskCount; // Number of overdue tasks listed in the digest
+
+	@Column(nullable = false)
+	private LocalDateTime queuedAt; // When the digest was written to the email outbox
+
+	public ReminderDigest(LocalDate runDate, Long userId, int taskCount, LocalDateTime queuedAt) {
+		this.runDate = runDate;
+		this.userId = userId;
+		this.taskCount = taskCount;
+		this.queuedAt = queuedAt;
+	}
+}
@@ -0,0 +1,39 @@
+package com.jeevlifeworks.Smart.Task.Manager.App.Entity;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * ReminderRun entity maps to the 'reminder_runs' table.
+ * One row per day the overdue-reminder job has started; completedAt stays
+ * null until every chunk has been processed, which is how an interrupted
+ * run is detected and resumed on the next application start.
+ */
+@Entity
+@Data
+@NoArgsConstructor
+@Table(name = "reminder_runs")
+public class ReminderRun {
+
+	@Id
+	private LocalDate runDate; // Day the reminders are sent for
+
+	@Column(nullable = false)
+	private LocalDateTime startedAt; // When the run was first started
+
+	private LocalDateTime completedAt; // When all digests were queued (null while in progress)
+
+	private int digestsQueued; // Number of digest emails queued by the run
+
+	public ReminderRun(LocalDate runDate, LocalDateTime startedAt) {
+		this.runDate = runDate;
+		this.startedAt = startedAt;
+	}
+}
@@ -1,9 +1,12 @@
 package com.jeevlifeworks.Smart.Task.Manager.App.Entity;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.hibernate.annotations.SQLRestriction;
+
 import com.fasterxml.jackson.annotation.JsonIgnore;
 
 import jakarta.persistence.Column;
@@ -12,11 +15,14 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinTable;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToMany;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
+import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
@@ -33,12 +39,33 @@ import lombok.ToString;
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-@Table(name = "tasks")
+@Table(name = "tasks", indexes = {
+		// Supports keyset pagination ordered by (dueDate, id)
+		@Index(name = "idx_tasks_due_date_id", columnList = "dueDate, id"),
+		// Filtered listings: an equality on status or priority, then the keyset order
+		@Index(name = "idx_tasks_status_due_date_id", columnList = "status, dueDate, id"),
+		@Index(name = "idx_tasks_priority_due_date_id", columnList = "priority, dueDate, id"),
+		// Delta sync reads the rows changed after a client's watermark in version order
+		@Index(name = "idx_tasks_change_version", columnList = "changeVersion"),
+		// TaskArchiver looks for tasks completed before its cut-off; only completed tasks have a
+		// completedAt, and leaving status out keeps the planner on the status indexes for listings
+		@Index(name = "idx_tasks_completed_at", columnList = "completedAt")
+})
+// Deleted tasks stay behind as tombstones for delta sync; every entity query skips them
+@SQLRestriction("deleted = false")
 @ToString(exclude = "assignees") // Prevents circular reference in toString()
 @EqualsAndHashCode(exclude = "assignees") // Avoids stack overflow in hash-based collections	
 public class Task {
+	/**
+	 * IDs come from a pooled table generator rather than IDENTITY, so Hibernate
+	 * knows them before the INSERT and can send tasks (and their task_assignees
+	 * rows) as JDBC batches. One round-trip to id_generators reserves 50 IDs.
+	 */
 	@Id 
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.TABLE, generator = "task_id_generator")
+	@TableGenerator(name = "task_id_generator", table = "id_generators",
+			pkColumnName = "generator_name", valueColumnName = "next_val",
+			pkColumnValue = "tasks", allocationSize = 50)
 	private Long id; // Unique identifier for each task
 	
 	private String title; // Title or short name of the task	
@@ -54,6 +81,9 @@ public class Task {
 	// e.g., ToDo, In Progress, Completed
 	private String status;
 	
+	// When the task was last moved to "Completed"; null while it is not completed
+	private LocalDateTime completedAt;
+	
 	
 	/**
      * Many-to-Many relationship with User.
@@ -62,7 +92,9 @@ public class Task {
 	@ManyToMany(fetch = FetchType.LAZY)
 	@JoinTable(name = "task_assignees",
 	      joinColumns = @JoinColumn(name = "task_id"),
-	      inverseJoinColumns = @JoinColumn(name = "user_id"))
+	      inverseJoinColumns = @JoinColumn(name = "user_id"),
+	      // Lets the assignee filter and "my tasks" look up a user's tasks without scanning
+	      indexes = @Index(name = "idx_task_assignees_user_task", columnList = "user_id, task_id"))
 	private List<User> assignees = new ArrayList<User>();
 	
 	/**
@@ -77,4 +109,24 @@ public class Task {
 	// Optional comma-separated tags for filtering/searching
 	private String tags;
 	
+	/**
+	 * Increases with every change to the task (creation, status change, deletion).
+	 * Assigned by TaskChangeVersions; clients pass the highest version they have
+	 * seen to GET /api/tasks/changes to receive only what changed since.
+	 */
+	private Long changeVersion;
+	
+	// Soft-delete flag; a deleted task is only visible to delta sync, as a tombstone
+	@Column(nullable = false)
+	private boolean deleted = false;
+	
+	/**
+	 * Optimistic-locking version of the row, incremented by every update.
+	 * A status update only applies if the row still has the version it was
+	 * read with, so concurrent updates cannot silently overwrite each other.
+	 */
+	@Version
+	@Column(nullable = false)
+	private long version;
+	
 }
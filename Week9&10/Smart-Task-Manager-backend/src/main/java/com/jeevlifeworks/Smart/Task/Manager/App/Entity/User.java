@@ -4,8 +4,12 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import com.fasterxml.jackson.annotation.JsonIgnore;
 
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
@@ -36,6 +40,9 @@ import lombok.ToString;
 @Table(name = "users")
 @ToString(exclude = {"tasksAssigned", "roles"}) // Prevents recursive calls
 @EqualsAndHashCode(exclude = {"tasksAssigned", "roles"}) // Avoid circular reference in hash
+// Second-level cached (see application.conf); Hibernate evicts entries on every update or delete
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "users")
 public class User {
 
 	@Id
@@ -59,6 +66,7 @@ public class User {
      * A user can have multiple roles (Admin, Manager, Employee).
      */
 	@ManyToMany(fetch = FetchType.EAGER)
+	@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "users-roles")
 	@JoinTable(name = "user_roles", // Join table
 	      joinColumns = @JoinColumn(name = "user_id"), // Foreign key from User
 	      inverseJoinColumns = @JoinColumn(name = "role_id")) // Foreign key from Role
@@ -2,9 +2,11 @@ package com.jeevlifeworks.Smart.Task.Manager.App.config;
 
 import java.util.Arrays;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
 import org.springframework.boot.CommandLineRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
@@ -24,12 +26,18 @@ public class DatabaseInitializer implements CommandLineRunner {
 	private final RoleRepository roleRepository;
 	private final UserRepository userRepository;
 	private final PasswordEncoder passwordEncoder;
+	private final JdbcTemplate jdbcTemplate;
+
+	// allocationSize of the pooled @TableGenerator ids (see Task and EmailOutbox)
+	private static final int ID_ALLOCATION_SIZE = 50;
 
 	// Constructor injection for required dependencies
-	public DatabaseInitializer(RoleRepository roleRepository, UserRepository userRepository, PasswordEncoder passwordEncoder) {
+	public DatabaseInitializer(RoleRepository roleRepository, UserRepository userRepository, PasswordEncoder passwordEncoder,
+			JdbcTemplate jdbcTemplate) {
 		this.roleRepository = roleRepository;
 		this.userRepository = userRepository;
 		this.passwordEncoder = passwordEncoder;
+		this.jdbcTemplate = jdbcTemplate;
 	}
 
 	/**
@@ -52,9 +60,7 @@ public class DatabaseInitializer implements CommandLineRunner {
 		requiredRoles.forEach(roleEnum -> {
 			if (!roleRepository.findByName(roleEnum).isPresent()) {
 				log.info("Role "+ roleEnum.name() +" not found. Creating it now.");
-				Role role = new Role();
-				role.setName(roleEnum);
-				roleRepository.save(role);
+				roleRepository.save(new Role(null, roleEnum));
 			} else {
 				log.info("Role "+ roleEnum.name() +" already exists.");
 			}
@@ -85,5 +91,35 @@ public class DatabaseInitializer implements CommandLineRunner {
 		} else {
 			log.info("Default admin user already exists.");
 		}
+
+		// Make sure table-generated ids continue after rows created with the old IDENTITY ids
+		alignIdGenerator("tasks", "tasks");
+		alignIdGenerator("email_outbox", "email_outbox");
+	}
+
+	/**
+	 * Moves a pooled id generator past the highest id already present in its table.
+	 * The pooled optimizer hands out ids just below the stored value, so the stored
+	 * value must exceed the current maximum id by more than one allocation.
+	 *
+	 * Accepts parameter generatorName the pkColumnValue of the @TableGenerator
+	 * Accepts parameter table the table whose ids the generator produces
+	 */
+	private void alignIdGenerator(String generatorName, String table) {
+		Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + table, Long.class);
+		if (maxId == null || maxId == 0) {
+			return;
+		}
+		long required = maxId + ID_ALLOCATION_SIZE + 1;
+		List<Long> current = jdbcTemplate.queryForList(
+				"SELECT next_val FROM id_generators WHERE generator_name = ?", Long.class, generatorName);
+		if (current.isEmpty()) {
+			jdbcTemplate.update("INSERT INTO id_generators (generator_name, next_val) VALUES (?, ?)", generatorName, required);
+		} else if (current.get(0) < required) {
+			jdbcTemplate.update("UPDATE id_generators SET next_val = ? WHERE generator_name = ?", required, generatorName);
+		} else {
+			return;
+		}
+		log.info("Aligned id generator '"+ generatorName +"' past existing id "+ maxId);
 	}
 }
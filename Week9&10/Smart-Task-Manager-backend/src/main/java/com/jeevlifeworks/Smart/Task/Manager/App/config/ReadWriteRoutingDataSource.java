@@ -0,0 +1,178 @@
+package com.jeevlifeworks.Smart.Task.Manager.App.config;
+
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
+import javax.sql.DataSource;
+
+import org.springframework.boot.availability.AvailabilityChangeEvent;
+import org.springframework.boot.availability.ReadinessState;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.jpa.repository.support.SimpleJpaRepository;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Sends each transaction's connection to the primary or to the read replica.
+ *
+ * Read-only transactions declared by the application (@Transactional(readOnly = true),
+ * read-only TransactionTemplates) go to the replica, except:
+ * <ul>
+ * <li>until the application accepts traffic, so start-up work (schema update,
+ *     seeding, warming the in-memory snapshot, counters and change versions)
+ *     sees the primary;</li>
+ * <li>when the current user committed a write within the replica's max lag
+ *     (ReplicaLagGuard), so users read their own writes;</li>
+ * <li>when the transaction asked for the primary (readFromPrimary), or for
+ *     datasets that changed within the max lag (readIncludingRecentChanges);</li>
+ * <li>the implicit read-only transactions Spring Data opens around findById,
+ *     findAll etc. called outside a transaction: they are usually the read half
+ *     of a read-modify-write and must not see stale rows.</li>
+ * </ul>
+ * Everything else (writes, work outside transactions) uses the primary.
+ *
+ * The decision needs the transaction's read-only flag, which is only known once
+ * the transaction has begun, so this data source must be wrapped in a
+ * LazyConnectionDataSourceProxy that fetches the connection on first use.
+ */
+@Slf4j
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+	public enum Target { PRIMARY, REPLICA }
+
+	// Transactions Spring Data opens around its CRUD methods are named after them
+	private static final String SPRING_DATA_TRANSACTION_PREFIX = SimpleJpaRepository.class.getName() + ".";
+
+	// Transaction resource holding the ReadRequirements of the current transaction
+	private static final Object READ_REQUIREMENTS_KEY = ReadRequirements.class;
+
+	private final ReplicaLagGuard lagGuard;
+
+	private volatile boolean replicaEnabled;
+
+	public ReadWriteRoutingDataSource(DataSource primary, DataSource replica, ReplicaLagGuard lagGuard) {
+		this.lagGuard = lagGuard;
+		setTargetDataSources(Map.of(Target.PRIMARY, primary, Target.REPLICA, replica));
+		setDefaultTargetDataSource(primary);
+	}
+
+	/**
+	 * Starts sending reads to the replica once the application accepts traffic,
+	 * and stops again if it is taken out of rotation.
+	 */
+	@EventListener
+	public void onReadinessChange(AvailabilityChangeEvent<ReadinessState> event) {
+		replicaEnabled = event.getState() == ReadinessState.ACCEPTING_TRAFFIC;
+		log.info("Read replica "+ (replicaEnabled ? "enabled" : "disabled") +" for read-only transactions.");
+	}
+
+	/**
+	 * Sends the current transaction to the primary even if it is read-only, for
+	 * reads that must not lag behind state kept in memory (e.g. the change
+	 * watermark). Must be called before the transaction's first query; does
+	 * nothing outside a transaction, which uses the primary anyway.
+	 */
+	public static void readFromPrimary() {
+		ReadRequirements requirements = currentRequirements();
+		if (requirements != null) {
+			requirements.primary = true;
+		}
+	}
+
+	/**
+	 * Sends the current transaction to the primary while one of the datasets
+	 * changed within the replica's max lag, for reads cached under the datasets'
+	 * version stamps. Must be called before the transaction's first query.
+	 *
+	 * Accepts parameter datasets the data the transaction reads
+	 */
+	public static void readIncludingRecentChanges(ReplicaLagGuard.Dataset... datasets) {
+		ReadRequirements requirements = currentRequirements();
+		if (requirements != null) {
+			requirements.datasets.addAll(Set.of(datasets));
+		}
+	}
+
+	/**
+	 * Returns the requirements bound to the current transaction, binding new ones
+	 * until it completes; null outside a transaction.
+	 */
+	private static ReadRequirements currentRequirements() {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			return null;
+		}
+		ReadRequirements requirements = (ReadRequirements) TransactionSynchronizationManager.getResource(READ_REQUIREMENTS_KEY);
+		if (requirements == null) {
+			requirements = new ReadRequirements();
+			TransactionSynchronizationManager.bindResource(READ_REQUIREMENTS_KEY, requirements);
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCompletion(int status) {
+					TransactionSynchronizationManager.unbindResourceIfPossible(READ_REQUIREMENTS_KEY);
+				}
+			});
+		}
+		return requirements;
+	}
+
+	@Override
+	protected Object determineCurrentLookupKey() {
+		return route();
+	}
+
+	/**
+	 * Picks the data source for the connection the current transaction is about to use.
+	 * For a write transaction of an authenticated user, also arranges for the
+	 * write to be recorded in the lag guard once it commits.
+	 */
+	Target route() {
+		if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+			return Target.PRIMARY;
+		}
+		String username = currentUsername();
+		if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+			if (username != null && TransactionSynchronizationManager.isSynchronizationActive()) {
+				TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+					@Override
+					public void afterCommit() {
+						lagGuard.recordWrite(username);
+					}
+				});
+			}
+			return Target.PRIMARY;
+		}
+		String name = TransactionSynchronizationManager.getCurrentTransactionName();
+		ReadRequirements requirements = (ReadRequirements) TransactionSynchronizationManager.getResource(READ_REQUIREMENTS_KEY);
+		if (!replicaEnabled
+				|| (name != null && name.startsWith(SPRING_DATA_TRANSACTION_PREFIX))
+				|| (username != null && lagGuard.recentlyWrote(username))
+				|| (requirements != null && (requirements.primary || requirements.datasets.stream().anyMatch(lagGuard::changedRecently)))) {
+			return Target.PRIMARY;
+		}
+		return Target.REPLICA;
+	}
+
+	/**
+	 * What the current transaction asked for by readFromPrimary and readIncludingRecentChanges.
+	 */
+	private static final class ReadRequirements {
+
+		private boolean primary;
+		private final Set<ReplicaLagGuard.Dataset> datasets = EnumSet.noneOf(ReplicaLagGuard.Dataset.class);
+	}
+
+	private static String currentUsername() {
+		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+		if (authentication == null || !authentication.isAuthenticated() || authentication instanceof AnonymousAuthenticationToken) {
+			return null;
+		}
+		return authentication.getName();
+	}
+}
@@ -0,0 +1,78 @@
+package com.jeevlifeworks.Smart.Task.Manager.App.config;
+
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Adds a read replica when app.datasource.replica.url is set; without it the
+ * application keeps Spring Boot's single data source.
+ *
+ * Two Hikari pools are created, "primary" from the usual spring.datasource.*
+ * properties and "replica" from app.datasource.replica.*, and the data source
+ * used by JPA and JdbcTemplate routes between them (see ReadWriteRoutingDataSource).
+ * The replica must receive the primary's schema and data through replication;
+ * ddl-auto only runs against the primary.
+ */
+@Configuration
+@ConditionalOnProperty(name = "app.datasource.replica.url")
+public class ReplicaDataSourceConfig {
+
+	@Bean
+	@ConfigurationProperties("spring.datasource.hikari")
+	public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+		HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+		dataSource.setPoolName("primary");
+		return dataSource;
+	}
+
+	@Bean
+	@ConfigurationProperties("app.datasource.replica.hikari")
+	public HikariDataSource replicaDataSource(@Value("${app.datasource.replica.url}") String url,
+			@Value("${app.datasource.replica.username:}") String username,
+			@Value("${app.datasource.replica.password:}") String password) {
+		HikariDataSource dataSource = DataSourceBuilder.create()
+				.type(HikariDataSource.class)
+				.url(url)
+				.username(username)
+				.password(password)
+				.build();
+		dataSource.setPoolName("replica");
+		dataSource.setReadOnly(true);
+		return dataSource;
+	}
+
+	@Bean
+	public ReplicaLagGuard replicaLagGuard(@Value("${app.datasource.replica.max-lag:PT5S}") Duration maxLag,
+			@Value("${app.datasource.replica.lag-guard.max-size:10000}") long maxSize) {
+		return new ReplicaLagGuard(maxLag, maxSize);
+	}
+
+	@Bean
+	public ReadWriteRoutingDataSource readWriteRoutingDataSource(HikariDataSource primaryDataSource,
+			HikariDataSource replicaDataSource, ReplicaLagGuard replicaLagGuard) {
+		return new ReadWriteRoutingDataSource(primaryDataSource, replicaDataSource, replicaLagGuard);
+	}
+
+	/**
+	 * The data source everything else is wired with; connections are fetched
+	 * from the routing data source on first use within a transaction.
+	 */
+	@Bean
+	@Primary
+	public DataSource dataSource(ReadWriteRoutingDataSource readWriteRoutingDataSource) {
+		return new LazyConnectionDataSourceProxy(readWriteRoutingDataSource);
+	}
+}
@@ -0,0 +1,87 @@
+package com.jeevlifeworks.Smart.Task.Manager.App.config;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Remembers recent writes, so the reads that must include them can skip the replica.
+ *
+ * A replica applies the primary's changes with some delay. Two kinds of reads
+ * must not miss a committed change during that delay:
+ * <ul>
+ * <li>a user who has just changed something and immediately reads it back (e.g.
+ *     the task list after a status update): for max-lag after each of their write
+ *     transactions, all of their read-only transactions go to the primary;</li>
+ * <li>reads whose result is cached under a version stamp that moved on commit
+ *     (the ETag listings): for max-lag after any change to their dataset, they go
+ *     to the primary for every user, or an old body would be cached under the new tag.</li>
+ * </ul>
+ *
+ * The record is local to this application instance.
+ */
+public class ReplicaLagGuard {
+
+	/**
+	 * Data whose changes are tracked for every user (see VersionStamps).
+	 */
+	public enum Dataset { TASKS, USERS }
+
+	private final Duration maxLag;
+
+	// Time of the last committed write by username; entries expire after max-lag
+	private final Cache<String, Instant> lastWrites;
+
+	// Time of the last committed change of each dataset, by any user
+	private final Map<Dataset, Instant> lastChanges = new ConcurrentHashMap<>();
+
+	public ReplicaLagGuard(Duration maxLag, long maxSize) {
+		this.maxLag = maxLag;
+		this.lastWrites = Caffeine.newBuilder()
+				.maximumSize(maxSize)
+				.expireAfterWrite(maxLag)
+				.build();
+	}
+
+	/**
+	 * Records that the user just committed a write transaction.
+	 *
+	 * Accepts parameter username the authenticated user's name (email)
+	 */
+	public void recordWrite(String username) {
+		lastWrites.put(username, Instant.now());
+	}
+
+	/**
+	 * Returns whether the user committed a write within max-lag, i.e. the replica may not have it yet.
+	 *
+	 * Accepts parameter username the authenticated user's name (email)
+	 */
+	public boolean recentlyWrote(String username) {
+		return lastWrites.getIfPresent(username) != null;
+	}
+
+	/**
+	 * Records that a change to the dataset just committed. Must be called before
+	 * the dataset's version stamp moves, so no reader sees the new stamp without this record.
+	 *
+	 * Accepts parameter dataset the changed data
+	 */
+	public void recordChange(Dataset dataset) {
+		lastChanges.put(dataset, Instant.now());
+	}
+
+	/**
+	 * Returns whether the dataset changed within max-lag.
+	 *
+	 * Accepts parameter dataset the data to be read
+	 */
+	public boolean changedRecently(Dataset dataset) {
+		Instant lastChange = lastChanges.get(dataset);
+		return lastChange != null && lastChange.plus(maxLag).isAfter(Instant.now());
+	}
+}
@@ -1,14 +1,22 @@
 package com.jeevlifeworks.Smart.Task.Manager.App.controller;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
+import java.util.zip.GZIPOutputStream;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -16,13 +24,32 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.jeevlifeworks.Smart.Task.Manager.App.Entity.Task;
+import com.jeevlifeworks.Smart.Task.Manager.App.dto.BulkTaskResultDto;
+import com.jeevlifeworks.Smart.Task.Manager.App.dto.DashboardAnalyticsDto;
+import com.jeevlifeworks.Smart.Task.Manager.App.dto.TaskChangesDto;
 import com.jeevlifeworks.Smart.Task.Manager.App.dto.TaskDto;
+import com.jeevlifeworks.Smart.Task.Manager.App.dto.TaskExportFormat;
 import com.jeevlifeworks.Smart.Task.Manager.App.dto.TaskFilterDto;
+import com.jeevlifeworks.Smart.Task.Manager.App.dto.TaskImportResultDto;
+import com.jeevlifeworks.Smart.Task.Manager.App.dto.TaskPageDto;
+import com.jeevlifeworks.Smart.Task.Manager.App.dto.TaskStatusBatchItemDto;
+import com.jeevlifeworks.Smart.Task.Manager.App.dto.TaskStatusBatchResultDto;
 import com.jeevlifeworks.Smart.Task.Manager.App.dto.TaskStatusUpdateDto;
+import com.jeevlifeworks.Smart.Task.Manager.App.dto.TaskSummaryDto;
+import com.jeevlifeworks.Smart.Task.Manager.App.service.DashboardService;
+import com.jeevlifeworks.Smart.Task.Manager.App.service.TaskExportService;
+import com.jeevlifeworks.Smart.Task.Manager.App.service.TaskFeedService;
+import com.jeevlifeworks.Smart.Task.Manager.App.service.TaskImportService;
 import com.jeevlifeworks.Smart.Task.Manager.App.service.TaskService;
+import com.jeevlifeworks.Smart.Task.Manager.App.service.VersionStamps;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -37,6 +64,21 @@ public class TaskController {
 	
 	@Autowired 
 	private TaskService taskService;
+	
+	@Autowired 
+	private DashboardService dashboardService;
+	
+	@Autowired 
+	private TaskFeedService taskFeedService;
+	
+	@Autowired 
+	private VersionStamps versionStamps;
+
+	@Autowired
+	private TaskExportService taskExportService;
+
+	@Autowired
+	private TaskImportService taskImportService;
 
 	/**
      * Endpoint to create a new task.
@@ -53,67 +95,288 @@ public class TaskController {
         return ResponseEntity.ok(createdTask);
     }
 
+    /**
+     * Endpoint to create many tasks at once (e.g. a sprint import).
+     * Accessible only by MANAGER or ADMIN roles.
+     * Invalid tasks are reported per item and do not prevent the others from being created.
+     *
+     * Accepts parameter taskDtos the tasks to create
+     * return the outcome of every task, in request order
+     */
+    @PostMapping("/bulk")
+    @PreAuthorize("hasRole('ROLE_MANAGER') or hasRole('ROLE_ADMIN')")
+    public ResponseEntity<BulkTaskResultDto> createTasksBulk(@RequestBody List<TaskDto> taskDtos) {
+    	log.info("Received request to create "+ taskDtos.size() +" tasks in bulk.");
+        return ResponseEntity.ok(taskService.createTasksBulk(taskDtos));
+    }
+
+    /**
+     * Endpoint to create tasks from an uploaded CSV file, managed by the caller.
+     * Accessible only by MANAGER or ADMIN roles.
+     * The file is parsed while it is read, so its size is only limited by the
+     * multipart settings.
+     *
+     * Accepts parameter file CSV with a header line; see TaskImportService for the columns
+     * Accepts parameter userDetails the authenticated user's details
+     * return the number of imported and rejected rows with the line and reason of each rejection;
+     *        400 if the file has no title column
+     */
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @PreAuthorize("hasRole('ROLE_MANAGER') or hasRole('ROLE_ADMIN')")
+    public ResponseEntity<TaskImportResultDto> importTasks(@RequestParam("file") MultipartFile file,
+    		@AuthenticationPrincipal UserDetails userDetails) throws IOException {
+    	log.info("Received request to import tasks from file "+ file.getOriginalFilename() +" ("+ file.getSize() +" bytes).");
+    	try (InputStream in = file.getInputStream()) {
+    		return ResponseEntity.ok(taskImportService.importTasks(in, userDetails));
+    	}
+    }
+
     /**
      * Endpoint for an employee to update the status of a task assigned to them.
      * Accessible only by EMPLOYEE role.
      *
      * Accepts parameter taskId the ID of the task to update
-     * Accepts parameter statusUpdate contains the new status
+     * Accepts parameter statusUpdate contains the new status and, optionally, the task version the client last saw
      * Accepts parameter userDetails the authenticated user's details
-     * return the updated Task entity
+     * return the updated task; 404 if it does not exist, 403 if the user is not
+     *        an assignee, 409 if it changed since the given version or is archived
      */
     @PutMapping("/{taskId}/status")
     @PreAuthorize("hasRole('ROLE_EMPLOYEE')")
-    public ResponseEntity<Task> updateTaskStatus(@PathVariable Long taskId, @RequestBody TaskStatusUpdateDto statusUpdate, @AuthenticationPrincipal UserDetails userDetails) {
+    public ResponseEntity<TaskDto> updateTaskStatus(@PathVariable Long taskId, @RequestBody TaskStatusUpdateDto statusUpdate, @AuthenticationPrincipal UserDetails userDetails) {
         log.info("Received request to update status for task ID "+ taskId +" to " + statusUpdate.getStatus());
-        Task updatedTask = taskService.updateTaskStatus(taskId, statusUpdate.getStatus(), userDetails);
+        TaskDto updatedTask = taskService.updateTaskStatus(taskId, statusUpdate.getStatus(), statusUpdate.getVersion(), userDetails);
         return ResponseEntity.ok(updatedTask);
     }
+
+    /**
+     * Endpoint for an employee to change the status of many assigned tasks at once.
+     * Accessible only by EMPLOYEE role.
+     * Each entry is checked like a single status update and rejected on its own
+     * (not found, not an assignee, changed since the given version).
+     *
+     * Accepts parameter updates the (taskId, status, optional version) entries
+     * Accepts parameter userDetails the authenticated user's details
+     * return the outcome of every entry, in request order
+     */
+    @PutMapping("/status")
+    @PreAuthorize("hasRole('ROLE_EMPLOYEE')")
+    public ResponseEntity<TaskStatusBatchResultDto> updateTaskStatuses(@RequestBody List<TaskStatusBatchItemDto> updates, @AuthenticationPrincipal UserDetails userDetails) {
+        log.info("Received request to update the status of "+ updates.size() +" tasks.");
+        return ResponseEntity.ok(taskService.updateTaskStatuses(updates, userDetails));
+    }
+    
+    /**
+     * Endpoint to delete a task.
+     * Accessible only by MANAGER or ADMIN roles. The task is kept as a tombstone
+     * so clients using /changes learn about the deletion.
+     *
+     * Accepts parameter taskId the ID of the task to delete
+     * return 204 No Content
+     */
+    @DeleteMapping("/{taskId}")
+    @PreAuthorize("hasRole('ROLE_MANAGER') or hasRole('ROLE_ADMIN')")
+    public ResponseEntity<Void> deleteTask(@PathVariable Long taskId) {
+        log.info("Received request to delete task ID "+ taskId);
+        taskService.deleteTask(taskId);
+        return ResponseEntity.noContent().build();
+    }
+    
+    /**
+     * Endpoint for delta sync: returns the tasks created, changed or deleted
+     * after the client's watermark, so a reconnecting client does not have to
+     * download its whole task list again.
+     * Accessible by ADMIN, MANAGER, or EMPLOYEE roles; employees only receive their own tasks.
+     *
+     * Accepts parameter since watermark from the previous response (0 for a full sync)
+     * Accepts parameter userDetails the authenticated user's details
+     * return the changes and the watermark to send next time
+     */
+    @GetMapping("/changes")
+    @PreAuthorize("hasAnyRole('ROLE_ADMIN', 'ROLE_MANAGER', 'ROLE_EMPLOYEE')")
+    public ResponseEntity<TaskChangesDto> getChanges(@RequestParam(defaultValue = "0") long since,
+    		@AuthenticationPrincipal UserDetails userDetails) {
+        log.info("Received request for task changes since version "+ since);
+        return ResponseEntity.ok(taskService.getChangesSince(since, userDetails));
+    }
     
+    /**
+     * Endpoint to read one task, including tasks that have been archived.
+     * Accessible by ADMIN, MANAGER, or EMPLOYEE roles; employees only read their own tasks.
+     *
+     * Accepts parameter taskId the ID of the task
+     * Accepts parameter userDetails the authenticated user's details
+     * return the task (archived = true if it came from the archive); 404 if it does not exist
+     */
+    @GetMapping("/{taskId}")
+    @PreAuthorize("hasAnyRole('ROLE_ADMIN', 'ROLE_MANAGER', 'ROLE_EMPLOYEE')")
+    public ResponseEntity<TaskDto> getTask(@PathVariable Long taskId, @AuthenticationPrincipal UserDetails userDetails) {
+        log.info("Received request to get task ID "+ taskId);
+        return ResponseEntity.ok(taskService.getTask(taskId, userDetails));
+    }
+
     /**
      * Endpoint to filter tasks based on various criteria like status, priority, date, etc.
+     * Set includeArchived=true to also list archived tasks.
      * Accessible by ADMIN, MANAGER, or EMPLOYEE roles.
      *
      * Accepts parameter filterDto DTO containing filter criteria
+     * Accepts parameter cursor nextCursor from the previous page (omit for the first page)
+     * Accepts parameter size maximum number of tasks per page
      * Accepts parameter userDetails the authenticated user's details
-     * return list of tasks matching the filter criteria
+     * Accepts parameter request used to answer If-None-Match
+     * return one page of tasks matching the filter criteria, or 304 if the
+     *        client's ETag is still current
      */
     @GetMapping("/filter")
     @PreAuthorize("hasAnyRole('ROLE_ADMIN', 'ROLE_MANAGER', 'ROLE_EMPLOYEE')")
-    public ResponseEntity<List<Task>> getTasksFiltered(@ModelAttribute TaskFilterDto filterDto, @AuthenticationPrincipal UserDetails userDetails) {
+    public ResponseEntity<TaskPageDto> getTasksFiltered(@ModelAttribute TaskFilterDto filterDto,
+    		@RequestParam(required = false) String cursor,
+    		@RequestParam(required = false) Integer size,
+    		@AuthenticationPrincipal UserDetails userDetails,
+    		WebRequest request) {
         log.info("Received request to get tasks with filters.");
-        List<Task> tasks = taskService.getTasksFiltered(filterDto, userDetails);
-        return ResponseEntity.ok(tasks);
+     // The tag is taken before reading, so a change committed meanwhile yields a new tag next time
+        String eTag = versionStamps.taskListTag(userDetails);
+        if (request.checkNotModified(eTag)) {
+            return null; // 304 Not Modified, already written
+        }
+        TaskPageDto page = taskService.getTasksFiltered(filterDto, userDetails, cursor, size);
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache().cachePrivate()).body(page);
+    }
+    
+    /**
+     * Endpoint to search tasks by title, description and tags.
+     * Accessible by ADMIN, MANAGER, or EMPLOYEE roles; employees only find their own tasks.
+     *
+     * Accepts parameter q search text; every word must match, the last one may be a prefix
+     * Accepts parameter size maximum number of results
+     * Accepts parameter userDetails the authenticated user's details
+     * return the matching tasks, most relevant first
+     */
+    @GetMapping("/search")
+    @PreAuthorize("hasAnyRole('ROLE_ADMIN', 'ROLE_MANAGER', 'ROLE_EMPLOYEE')")
+    public ResponseEntity<List<TaskSummaryDto>> searchTasks(@RequestParam String q,
+    		@RequestParam(required = false) Integer size,
+    		@AuthenticationPrincipal UserDetails userDetails) {
+        log.info("Received request to search tasks.");
+        return ResponseEntity.ok(taskService.searchTasks(q, size, userDetails));
     }
     
     /**
-     * Endpoint to get a list of all tasks.
+     * Endpoint to get all tasks, one page at a time.
      * Accessible by ADMIN and MANAGER roles.
      *
-     * @return a list of all Task entities.
+     * Accepts parameter cursor nextCursor from the previous page (omit for the first page)
+     * Accepts parameter size maximum number of tasks per page
+     * Accepts parameter request used to answer If-None-Match
+     * @return one page of task summaries and the cursor for the next page,
+     *         or 304 if the client's ETag is still current.
      */
 	@GetMapping
 	@PreAuthorize("hasAnyRole('ROLE_ADMIN', 'ROLE_MANAGER')")
-	public ResponseEntity<List<Task>> getAllTasks() {
+	public ResponseEntity<TaskPageDto> getAllTasks(@RequestParam(required = false) String cursor,
+			@RequestParam(required = false) Integer size,
+			@AuthenticationPrincipal UserDetails userDetails,
+			WebRequest request) {
 		log.info("Received request to get all tasks.");
-		List<Task> tasks = taskService.getAllTasks();
-		return ResponseEntity.ok(tasks);
+		String eTag = versionStamps.taskListTag(userDetails);
+		if (request.checkNotModified(eTag)) {
+			return null; // 304 Not Modified, already written
+		}
+		TaskPageDto page = taskService.getAllTasks(cursor, size);
+		return ResponseEntity.ok().cacheControl(CacheControl.noCache().cachePrivate()).body(page);
+	}
+
+	/**
+     * Endpoint to download all tasks as one file.
+     * Accessible by ADMIN and MANAGER roles.
+     * The rows are streamed to the client as they are read from the database,
+     * so the export never holds the whole task list in memory.
+     *
+     * Accepts parameter format csv (default) or ndjson
+     * Accepts parameter gzip compress the file (tasks.csv.gz / tasks.ndjson.gz)
+     * Accepts parameter includeArchived also export archived tasks
+     * return the streamed file; 400 for an unknown format
+     */
+	@GetMapping("/export")
+	@PreAuthorize("hasAnyRole('ROLE_ADMIN', 'ROLE_MANAGER')")
+	public ResponseEntity<StreamingResponseBody> exportTasks(@RequestParam(defaultValue = "csv") String format,
+			@RequestParam(defaultValue = "false") boolean gzip,
+			@RequestParam(defaultValue = "false") boolean includeArchived) {
+		TaskExportFormat exportFormat = TaskExportFormat.parse(format);
+		log.info("Received request to export tasks as "+ exportFormat +", gzip="+ gzip);
+		String fileName = "tasks." + exportFormat.getFileExtension() + (gzip ? ".gz" : "");
+		StreamingResponseBody body = out -> {
+			if (gzip) {
+				GZIPOutputStream compressed = new GZIPOutputStream(out, 8192);
+				taskExportService.exportTasks(exportFormat, includeArchived, compressed);
+				compressed.finish();
+			} else {
+				taskExportService.exportTasks(exportFormat, includeArchived, out);
+			}
+		};
+		return ResponseEntity.ok()
+			.header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(fileName).build().toString())
+			.contentType(MediaType.parseMediaType(gzip ? "application/gzip" : exportFormat.getContentType() + ";charset=UTF-8"))
+			.cacheControl(CacheControl.noStore())
+			.body(body);
 	}
 	
+	/**
+     * Endpoint to get the dashboard analytics: assigned, completed, pending and
+     * overdue counts plus the number of tasks per status.
+     * Admins and managers get the counts of all tasks, employees those of their own tasks.
+     * Accessible by ADMIN, MANAGER, or EMPLOYEE roles.
+     *
+     * Accepts parameter userDetails the authenticated user's details
+     * return the dashboard counts, served from counters without scanning the tasks
+     */
+    @GetMapping("/dashboard")
+    @PreAuthorize("hasAnyRole('ROLE_ADMIN', 'ROLE_MANAGER', 'ROLE_EMPLOYEE')")
+    public ResponseEntity<DashboardAnalyticsDto> getDashboard(@AuthenticationPrincipal UserDetails userDetails) {
+        log.info("Received request for dashboard analytics.");
+        return ResponseEntity.ok(dashboardService.getDashboard(userDetails));
+    }
+	
 	/**
      * Endpoint to get all tasks assigned to the currently authenticated user.
      * Accessible by MANAGER or EMPLOYEE roles.
      *
-     * @return a list of TaskDto objects assigned to the current user.
+     * Accepts parameter request used to answer If-None-Match
+     * @return a list of TaskDto objects assigned to the current user,
+     *         or 304 if the client's ETag is still current.
      */
     @GetMapping("/assigned")
     @PreAuthorize("hasAnyRole('ROLE_MANAGER', 'ROLE_EMPLOYEE')")
-    public ResponseEntity<List<TaskDto>> getAssignedTasks() {
+    public ResponseEntity<List<TaskDto>> getAssignedTasks(WebRequest request) {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
         String currentUsername = authentication.getName(); // This will be the user's email
         log.info("Received request for tasks assigned to user: {}", currentUsername);
 
+        String eTag = versionStamps.assignedTasksTag((UserDetails) authentication.getPrincipal());
+        if (request.checkNotModified(eTag)) {
+            return null; // 304 Not Modified, already written
+        }
         List<TaskDto> assignedTasks = taskService.getAssignedTasksForUser(currentUsername);
-        return ResponseEntity.ok(assignedTasks);
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache().cachePrivate()).body(assignedTasks);
+    }
+    
+    /**
+     * Endpoint to stream task changes (Server-Sent Events) to the authenticated user:
+     * creations, status changes and deletions of the tasks they are assigned to or manage.
+     * Lets clients keep their task list current without polling /assigned; on a
+     * "resync" event they reload it.
+     * Accessible by ADMIN, MANAGER, or EMPLOYEE roles. Since a browser EventSource
+     * cannot send headers, the JWT may be passed as the access_token query parameter.
+     *
+     * Accepts parameter userDetails the authenticated user's details
+     * return the open event stream
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @PreAuthorize("hasAnyRole('ROLE_ADMIN', 'ROLE_MANAGER', 'ROLE_EMPLOYEE')")
+    public ResponseEntity<SseEmitter> streamTaskChanges(@AuthenticationPrincipal UserDetails userDetails) {
+        log.info("Opening task stream for user: "+ userDetails.getUsername());
+        return ResponseEntity.ok(taskFeedService.subscribe(userDetails));
     }
 }
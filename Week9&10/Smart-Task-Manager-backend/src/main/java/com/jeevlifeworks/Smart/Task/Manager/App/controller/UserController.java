@@ -3,6 +3,7 @@ package com.jeevlifeworks.Smart.Task.Manager.App.controller;
 import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -12,9 +13,11 @@ import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import com.jeevlifeworks.Smart.Task.Manager.App.Entity.User;
 import com.jeevlifeworks.Smart.Task.Manager.App.service.UserService;
+import com.jeevlifeworks.Smart.Task.Manager.App.service.VersionStamps;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -26,15 +29,22 @@ public class UserController {
 	@Autowired
 	private UserService userService;
 
+	@Autowired
+	private VersionStamps versionStamps;
+
 	/**
 	 * Endpoint to retrieve a list of all users in the system.
 	 * Accessible only by users with the 'ADMIN' role.
+	 * Answers with 304 Not Modified while the client's ETag is still current.
 	 */
 	@GetMapping
 	@PreAuthorize("hasRole('ROLE_ADMIN') or hasRole('ROLE_MANAGER')")
-	public ResponseEntity<List<User>> getAllUsers() {
+	public ResponseEntity<List<User>> getAllUsers(WebRequest request) {
 		log.info("Received request to get all users.");
-		return ResponseEntity.ok(userService.getAllUsers());
+		if (request.checkNotModified(versionStamps.usersTag())) {
+			return null; // 304 Not Modified, already written
+		}
+		return ResponseEntity.ok().cacheControl(CacheControl.noCache().cachePrivate()).body(userService.getAllUsers());
 	}
 
 	/**
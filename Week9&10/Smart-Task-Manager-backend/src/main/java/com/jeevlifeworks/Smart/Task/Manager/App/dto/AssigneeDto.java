@@ -0,0 +1,25 @@
+package com.jeevlifeworks.Smart.Task.Manager.App.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Minimal view of a task assignee, returned inside TaskSummaryDto.
+ * Carries only what the dashboards display instead of the full User entity.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AssigneeDto {
+
+	// ID of the task this assignment belongs to (used for grouping, not sent to the client)
+	@JsonIgnore
+	private Long taskId;
+	// Unique user identifier
+	private Long id;
+	// User's display name
+	private String username;
+}
@@ -0,0 +1,37 @@
+package com.jeevlifeworks.Smart.Task.Manager.App.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Outcome of a single task in a bulk creation request.
+ * Exactly one of taskId (created) or error (rejected) is set.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BulkTaskItemResultDto {
+
+	// Position of the task in the request body
+	private int index;
+	// ID of the created task
+	private Long taskId;
+	// Reason the task was rejected
+	private String error;
+
+	public static BulkTaskItemResultDto created(int index, Long taskId) {
+		return new BulkTaskItemResultDto(index, taskId, null);
+	}
+
+	public static BulkTaskItemResultDto failed(int index, String error) {
+		return new BulkTaskItemResultDto(index, null, error);
+	}
+
+	public boolean isCreated() {
+		return taskId != null;
+	}
+}
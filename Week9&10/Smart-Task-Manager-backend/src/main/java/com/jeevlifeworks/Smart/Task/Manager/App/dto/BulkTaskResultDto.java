@@ -0,0 +1,25 @@
+package com.jeevlifeworks.Smart.Task.Manager.App.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Response of the bulk task creation endpoint.
+ * Contains one entry per submitted task, in request order, so clients can
+ * tell exactly which items were created and which were rejected.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkTaskResultDto {
+
+	// Number of tasks created
+	private int created;
+	// Number of tasks rejected
+	private int failed;
+	// Outcome of each submitted task
+	private List<BulkTaskItemResultDto> items;
+}
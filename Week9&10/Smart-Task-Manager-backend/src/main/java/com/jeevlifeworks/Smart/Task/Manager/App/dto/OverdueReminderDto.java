@@ -0,0 +1,31 @@
+package com.jeevlifeworks.Smart.Task.Manager.App.dto;
+
+import java.time.LocalDate;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One (assignee, overdue task) pair read by the overdue-reminder job.
+ * Built by a JPQL constructor expression so the assignee's contact details
+ * arrive in the same row as the task, without loading any entities.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OverdueReminderDto {
+
+	// ID of the assignee who receives the digest
+	private Long assigneeId;
+	// Assignee's email address
+	private String email;
+	// Assignee's display name
+	private String username;
+	// ID of the overdue task
+	private Long taskId;
+	// Title of the overdue task
+	private String title;
+	// Date the task was due
+	private LocalDate dueDate;
+}
@@ -0,0 +1,27 @@
+package com.jeevlifeworks.Smart.Task.Manager.App.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * The tasks changed since a client's watermark, returned by GET /api/tasks/changes.
+ * The client applies the changes, stores watermark and passes it back as the
+ * "since" parameter next time; while hasMore is true it asks again right away.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskChangesDto {
+
+	// Tasks created or changed since the watermark, in change order, with their assignees
+	private List<TaskSummaryDto> changed;
+	// IDs of tasks deleted since the watermark
+	private List<Long> deleted;
+	// Highest change version covered by this response
+	private long watermark;
+	// True if more changes follow beyond this response's watermark
+	private boolean hasMore;
+}
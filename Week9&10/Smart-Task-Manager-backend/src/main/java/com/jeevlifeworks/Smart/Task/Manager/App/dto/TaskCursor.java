@@ -0,0 +1,73 @@
+package com.jeevlifeworks.Smart.Task.Manager.App.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import com.jeevlifeworks.Smart.Task.Manager.App.exception.InvalidCursorException;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Position of the last task returned in a page, on the (dueDate, id) sort key.
+ * Encoded as an opaque URL-safe token so clients never depend on its layout.
+ *
+ * Tasks with a due date are listed first; a cursor with a null dueDate means
+ * the listing has moved on to the undated tasks, which are ordered by id only.
+ */
+@Getter
+@AllArgsConstructor
+public class TaskCursor {
+
+	private final LocalDate dueDate;
+	private final Long id;
+
+	/**
+	 * Returns true while the listing is still walking through tasks that have a due date.
+	 */
+	public boolean isDated() {
+		return dueDate != null;
+	}
+
+	/**
+	 * Builds the cursor pointing after the given task.
+	 */
+	public static TaskCursor after(TaskSummaryDto task) {
+		return new TaskCursor(task.getDueDate(), task.getId());
+	}
+
+	/**
+	 * Encodes the cursor as "dueDate:id" (dueDate empty when null) in URL-safe Base64.
+	 */
+	public String encode() {
+		String raw = (dueDate == null ? "" : dueDate.toString()) + ":" + id;
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Decodes a token produced by encode().
+	 *
+	 * Accepts parameter token the cursor received from the client, may be null or blank
+	 * return the decoded cursor, or null when no cursor was supplied (first page)
+	 * throws InvalidCursorException if the token is malformed
+	 */
+	public static TaskCursor decode(String token) {
+		if (token == null || token.isBlank()) {
+			return null;
+		}
+		try {
+			String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+			int separator = raw.lastIndexOf(':');
+			if (separator < 0) {
+				throw new InvalidCursorException("Invalid page cursor.");
+			}
+			String datePart = raw.substring(0, separator);
+			LocalDate dueDate = datePart.isEmpty() ? null : LocalDate.parse(datePart);
+			return new TaskCursor(dueDate, Long.parseLong(raw.substring(separator + 1)));
+		} catch (IllegalArgumentException | DateTimeParseException e) {
+			throw new InvalidCursorException("Invalid page cursor.");
+		}
+	}
+}
@@ -4,12 +4,14 @@ import java.time.LocalDate;
 import java.util.List;
 
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 /**
  * Data Transfer Object (DTO) representing a Task.
  * Used to transfer task details between backend and frontend.
  */
 @Data
+@NoArgsConstructor
 public class TaskDto {
 
 	// Unique identifier of the task
@@ -30,4 +32,25 @@ public class TaskDto {
 	private List<Long> assigneeIds;
 	// Optional tags associated with the task for filtering.
 	private String tags;
+	// Row version; send it back with a status update to reject it if the task changed meanwhile
+	private Long version;
+	// True for a task read from the archive; archived tasks can no longer be changed
+	private boolean archived;
+
+	/**
+	 * Constructor used by the JPQL "SELECT new ..." projection in TaskRepository.
+	 * Assignee IDs are attached afterwards.
+	 */
+	public TaskDto(Long id, String title, String description, LocalDate dueDate, String priority, String status, Long managerId, String tags,
+			Long version) {
+		this.id = id;
+		this.title = title;
+		this.description = description;
+		this.dueDate = dueDate;
+		this.priority = priority;
+		this.status = status;
+		this.managerId = managerId;
+		this.tags = tags;
+		this.version = version;
+	}
 }
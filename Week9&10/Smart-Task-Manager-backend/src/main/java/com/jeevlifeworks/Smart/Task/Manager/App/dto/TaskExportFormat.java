@@ -0,0 +1,38 @@
+package com.jeevlifeworks.Smart.Task.Manager.App.dto;
+
+import com.jeevlifeworks.Smart.Task.Manager.App.exception.InvalidExportFormatException;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Output formats of the task export (GET /api/tasks/export).
+ */
+@Getter
+@AllArgsConstructor
+public enum TaskExportFormat {
+
+	// One header line, then one comma-separated line per task (RFC 4180 quoting)
+	CSV("text/csv", "csv"),
+	// One JSON object per line, in the shape of TaskDto
+	NDJSON("application/x-ndjson", "ndjson");
+
+	private final String contentType;
+	private final String fileExtension;
+
+	/**
+	 * Resolves the format named by the client, ignoring case.
+	 *
+	 * Accepts parameter value the format query parameter
+	 * return the matching format
+	 * throws InvalidExportFormatException if no format has that name
+	 */
+	public static TaskExportFormat parse(String value) {
+		for (TaskExportFormat format : values()) {
+			if (format.name().equalsIgnoreCase(value)) {
+				return format;
+			}
+		}
+		throw new InvalidExportFormatException("Unknown export format '" + value + "'; use csv or ndjson.");
+	}
+}
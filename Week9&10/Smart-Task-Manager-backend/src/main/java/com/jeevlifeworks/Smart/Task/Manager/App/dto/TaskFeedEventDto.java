@@ -0,0 +1,47 @@
+package com.jeevlifeworks.Smart.Task.Manager.App.dto;
+
+import java.time.LocalDate;
+
+import com.jeevlifeworks.Smart.Task.Manager.App.event.TaskChangeEvent;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One task change pushed over the task stream (GET /api/tasks/stream).
+ * Carries enough for a client to update its list in place; it can always
+ * reload the task for the full details.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskFeedEventDto {
+
+	// CREATED, STATUS_CHANGED or DELETED
+	private String type;
+	private Long taskId;
+	private String title;
+	private String status;
+	private LocalDate dueDate;
+
+	/**
+	 * Builds the stream message for a committed task change.
+	 */
+	public static TaskFeedEventDto of(TaskChangeEvent event) {
+		return new TaskFeedEventDto(event.getType().name(), event.getTaskId(), event.getTitle(), event.getNewStatus(),
+				event.getDueDate());
+	}
+
+	/**
+	 * Combines this pending change with a later one to the same task: the latest
+	 * values win, but a task created within the same flush is still reported as
+	 * CREATED unless it was deleted again.
+	 */
+	public TaskFeedEventDto followedBy(TaskFeedEventDto later) {
+		boolean keepCreated = type.equals(TaskChangeEvent.Type.CREATED.name())
+				&& !later.getType().equals(TaskChangeEvent.Type.DELETED.name());
+		return new TaskFeedEventDto(keepCreated ? type : later.getType(),
+				taskId, later.getTitle(), later.getStatus(), later.getDueDate());
+	}
+}
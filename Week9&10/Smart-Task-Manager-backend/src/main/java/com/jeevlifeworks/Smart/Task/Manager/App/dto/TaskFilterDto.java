@@ -1,22 +1,50 @@
 package com.jeevlifeworks.Smart.Task.Manager.App.dto;
 
 import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.format.annotation.DateTimeFormat;
 
 import lombok.Data;
 
 /**
  * DTO to capture filtering criteria for querying tasks.
  * Used by frontend to specify filters when requesting filtered task lists.
+ * Every criterion is optional; only the ones supplied end up in the query.
  */
 @Data
 public class TaskFilterDto {
 
-	// Filter tasks by status (e.g., To Do, Completed)
-	private String status;
-	// Filter tasks by priority (e.g., High, Low)
-	private String priority;
+	// Filter tasks by status; several values match any of them (e.g., ?status=To Do&status=In Progress)
+	private List<String> status;
+	// Filter tasks by priority; several values match any of them (e.g., ?priority=High,Medium)
+	private List<String> priority;
 	// Filter tasks assigned to a specific user by their ID
 	private Long assigneeId;
 	// Filter tasks with a specific due date
+	@DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
 	private LocalDate dueDate;
+	// Filter tasks due on or after this date
+	@DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+	private LocalDate dueDateFrom;
+	// Filter tasks due on or before this date
+	@DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+	private LocalDate dueDateTo;
+	// Also list archived tasks (completed long ago and moved out of the tasks table); off by default
+	private Boolean includeArchived;
+
+	/**
+	 * Returns true if any due date criterion is set, in which case tasks
+	 * without a due date can never match.
+	 */
+	public boolean hasDueDateCriteria() {
+		return dueDate != null || dueDateFrom != null || dueDateTo != null;
+	}
+
+	/**
+	 * Returns true if the listing should also cover archived tasks.
+	 */
+	public boolean includesArchived() {
+		return Boolean.TRUE.equals(includeArchived);
+	}
 }
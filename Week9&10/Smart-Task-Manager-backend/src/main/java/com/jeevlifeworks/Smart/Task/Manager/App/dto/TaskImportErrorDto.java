@@ -0,0 +1,19 @@
+package com.jeevlifeworks.Smart.Task.Manager.App.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One rejected row of a CSV task import.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskImportErrorDto {
+
+	// Line of the file the row starts on (the header is line 1)
+	private int line;
+	// Reason the row was rejected
+	private String error;
+}
@@ -0,0 +1,25 @@
+package com.jeevlifeworks.Smart.Task.Manager.App.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Response of the CSV task import: how many rows became tasks, how many were
+ * rejected, and why. Only the first task.import.max-errors rejections are
+ * listed; failed always counts all of them.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskImportResultDto {
+
+	// Number of tasks created
+	private long imported;
+	// Number of rows rejected
+	private long failed;
+	// Rejected rows, in file order
+	private List<TaskImportErrorDto> errors;
+}
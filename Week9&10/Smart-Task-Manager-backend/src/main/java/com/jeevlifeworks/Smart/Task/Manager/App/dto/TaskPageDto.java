@@ -0,0 +1,23 @@
+package com.jeevlifeworks.Smart.Task.Manager.App.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One page of tasks returned by the keyset-paginated list endpoints.
+ * The client passes nextCursor back as the "cursor" request parameter
+ * to fetch the following page; it is null on the last page.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskPageDto {
+
+	// Tasks on this page, ordered by due date (undated tasks last) and then ID
+	private List<TaskSummaryDto> items;
+	// Opaque token pointing after the last item, or null when there are no more pages
+	private String nextCursor;
+}
@@ -0,0 +1,23 @@
+package com.jeevlifeworks.Smart.Task.Manager.App.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * The searchable text of one task, read in batches when the search index is rebuilt.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskSearchDocumentDto {
+
+	// Unique identifier of the task
+	private Long id;
+	// Title of the task
+	private String title;
+	// Detailed description of the task (may be null)
+	private String description;
+	// Comma-separated tags (may be null)
+	private String tags;
+}
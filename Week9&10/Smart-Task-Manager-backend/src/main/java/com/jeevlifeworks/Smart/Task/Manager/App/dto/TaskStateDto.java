@@ -0,0 +1,31 @@
+package com.jeevlifeworks.Smart.Task.Manager.App.dto;
+
+import java.time.LocalDate;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * The current state of a task, read right before its status is changed:
+ * the row version the conditional UPDATE checks, and the values the change
+ * event and the response need. One row per assignee (assigneeId is null for
+ * a task without assignees), so the whole state comes from a single query.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskStateDto {
+
+	private Long id;
+	// Optimistic-locking version of the row (Task.version)
+	private Long version;
+	private String title;
+	private String description;
+	private LocalDate dueDate;
+	private String priority;
+	private String status;
+	private Long managerId;
+	private String tags;
+	private Long assigneeId;
+}
@@ -0,0 +1,23 @@
+package com.jeevlifeworks.Smart.Task.Manager.App.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One entry of a status batch (PUT /api/tasks/status): the task, its new
+ * status and, optionally, the task version the client last saw.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskStatusBatchItemDto {
+
+	private Long taskId;
+
+	// New status, e.g. "In Progress" or "Completed"
+	private String status;
+
+	// Task version as last read by the client (TaskDto.version); the entry is rejected if the task changed since
+	private Long version;
+}
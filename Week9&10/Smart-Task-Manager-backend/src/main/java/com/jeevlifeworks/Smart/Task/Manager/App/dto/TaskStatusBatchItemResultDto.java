@@ -0,0 +1,40 @@
+package com.jeevlifeworks.Smart.Task.Manager.App.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Outcome of a single entry in a status batch.
+ * Either status and version (applied) or error (rejected) are set.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TaskStatusBatchItemResultDto {
+
+	// Position of the entry in the request body
+	private int index;
+	private Long taskId;
+	// Status of the task after the batch
+	private String status;
+	// Version of the task after the batch, for the client's next conditional update
+	private Long version;
+	// Reason the entry was rejected
+	private String error;
+
+	public static TaskStatusBatchItemResultDto updated(int index, Long taskId, String status, long version) {
+		return new TaskStatusBatchItemResultDto(index, taskId, status, version, null);
+	}
+
+	public static TaskStatusBatchItemResultDto failed(int index, Long taskId, String error) {
+		return new TaskStatusBatchItemResultDto(index, taskId, null, null, error);
+	}
+
+	public boolean isUpdated() {
+		return error == null;
+	}
+}
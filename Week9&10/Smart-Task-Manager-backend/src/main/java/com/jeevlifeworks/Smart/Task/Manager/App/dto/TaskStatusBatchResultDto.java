@@ -0,0 +1,24 @@
+package com.jeevlifeworks.Smart.Task.Manager.App.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Response of the status batch endpoint, with one entry per submitted
+ * update in request order.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaskStatusBatchResultDto {
+
+	// Number of tasks now at the requested status (including those already at it)
+	private int updated;
+	// Number of rejected entries
+	private int failed;
+	// Outcome of each entry
+	private List<TaskStatusBatchItemResultDto> items;
+}
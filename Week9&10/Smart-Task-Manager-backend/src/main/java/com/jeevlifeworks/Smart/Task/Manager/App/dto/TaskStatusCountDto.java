@@ -0,0 +1,34 @@
+package com.jeevlifeworks.Smart.Task.Manager.App.dto;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * One row of the GROUP BY queries used to reconcile the dashboard counters:
+ * the number of tasks in a status, and how many of them are overdue.
+ * userId is only set by the per-assignee query.
+ */
+@Data
+@NoArgsConstructor
+public class TaskStatusCountDto {
+
+	// Assignee the counts belong to; null for the global counts
+	private Long userId;
+	// Task status, may be null for tasks without one
+	private String status;
+	// Number of tasks in this status
+	private long count;
+	// Number of those tasks that are past their due date
+	private long overdue;
+
+	public TaskStatusCountDto(String status, Long count, Long overdue) {
+		this(null, status, count, overdue);
+	}
+
+	public TaskStatusCountDto(Long userId, String status, Long count, Long overdue) {
+		this.userId = userId;
+		this.status = status;
+		this.count = count == null ? 0 : count;
+		this.overdue = overdue == null ? 0 : overdue;
+	}
+}
@@ -17,4 +17,10 @@ public class TaskStatusUpdateDto {
      */
 	@NotBlank 
 	private String status;
+	
+	/**
+	 * Optional version of the task as last read by the client (TaskDto.version).
+	 * If given, the update is rejected with 409 when the task changed since.
+	 */
+	private Long version;
 }
@@ -0,0 +1,50 @@
+package com.jeevlifeworks.Smart.Task.Manager.App.dto;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Lean, read-only projection of a Task used by the paginated list endpoints.
+ * Built directly by JPQL constructor expressions, so no Task entity, manager
+ * or lazy collection is ever loaded into the persistence context.
+ */
+@Data
+@NoArgsConstructor
+public class TaskSummaryDto {
+
+	// Unique identifier of the task
+	private Long id;
+	// Title of the task
+	private String title;
+	// Due date by which task should be completed (may be null)
+	private LocalDate dueDate;
+	// Task priority (e.g., Low, Medium, High)
+	private String priority;
+	// Current status of the task (e.g., To Do, In Progress, Completed)
+	private String status;
+	// ID of the manager who created/owns the task
+	private Long managerId;
+	// Optional tags associated with the task
+	private String tags;
+	// Users assigned to the task, filled in with a single query per page
+	private List<AssigneeDto> assignees = new ArrayList<>();
+	// True for a task read from the archive; archived tasks can no longer be changed
+	private boolean archived;
+
+	/**
+	 * Constructor used by the JPQL "SELECT new ..." projections in TaskRepository.
+	 */
+	public TaskSummaryDto(Long id, String title, LocalDate dueDate, String priority, String status, Long managerId, String tags) {
+		this.id = id;
+		this.title = title;
+		this.dueDate = dueDate;
+		this.priority = priority;
+		this.status = status;
+		this.managerId = managerId;
+		this.tags = tags;
+	}
+}
@@ -0,0 +1,15 @@
+package com.jeevlifeworks.Smart.Task.Manager.App.dto;
+
+/**
+ * A changed task as read by delta sync: its ID, the version of its latest
+ * change and whether that change deleted it. An interface projection, since
+ * the rows come from a native query (the only way to see tombstones).
+ */
+public interface TaskVersionDto {
+
+	Long getId();
+
+	Long getChangeVersion();
+
+	Boolean getDeleted();
+}
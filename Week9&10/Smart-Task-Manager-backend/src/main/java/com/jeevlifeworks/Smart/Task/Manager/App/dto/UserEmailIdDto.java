@@ -0,0 +1,12 @@
+package com.jeevlifeworks.Smart.Task.Manager.App.dto;
+
+/**
+ * A user's ID and email, used to resolve assignee emails without loading
+ * the users. An interface projection of UserRepository.findIdsByEmailIn.
+ */
+public interface UserEmailIdDto {
+
+	Long getId();
+
+	String getEmail();
+}
@@ -0,0 +1,87 @@
+package com.jeevlifeworks.Smart.Task.Manager.App.event;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.jeevlifeworks.Smart.Task.Manager.App.Entity.Task;
+import com.jeevlifeworks.Smart.Task.Manager.App.Entity.User;
+import com.jeevlifeworks.Smart.Task.Manager.App.dto.TaskStateDto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Published by TaskService whenever a task is created, changes status or is deleted,
+ * and by TaskArchiver when a completed task moves to the archive.
+ * Listeners use @TransactionalEventListener so they only see changes that
+ * actually committed. The event carries a snapshot of the values they need,
+ * so no listener has to touch the (by then detached) Task entity.
+ */
+@Getter
+@ToString(exclude = "description")
+@AllArgsConstructor
+public class TaskChangeEvent {
+
+	public enum Type {
+		CREATED,
+		STATUS_CHANGED,
+		DELETED,
+		// Moved to tasks_archive: gone from the hot table and its in-memory views, but not deleted
+		ARCHIVED
+	}
+
+	private final Type type;
+	private final Long taskId;
+	// Status before the change; null for newly created tasks
+	private final String oldStatus;
+	// Status after the change; null for deleted tasks
+	private final String newStatus;
+	private final LocalDate dueDate;
+	private final String priority;
+	private final Long managerId;
+	private final List<Long> assigneeIds;
+	// Searchable text of the task
+	private final String title;
+	private final String description;
+	private final String tags;
+
+	/**
+	 * Builds the event for a task that has just been saved for the first time.
+	 */
+	public static TaskChangeEvent created(Task task) {
+		return new TaskChangeEvent(Type.CREATED, task.getId(), null, task.getStatus(), task.getDueDate(), task.getPriority(),
+				task.getManager().getId(), assigneeIdsOf(task), task.getTitle(), task.getDescription(), task.getTags());
+	}
+
+	/**
+	 * Builds the event for a task whose status changed from the one in its
+	 * previously read state to newStatus.
+	 */
+	public static TaskChangeEvent statusChanged(TaskStateDto previous, List<Long> assigneeIds, String newStatus) {
+		return new TaskChangeEvent(Type.STATUS_CHANGED, previous.getId(), previous.getStatus(), newStatus, previous.getDueDate(),
+				previous.getPriority(), previous.getManagerId(), assigneeIds, previous.getTitle(), previous.getDescription(),
+				previous.getTags());
+	}
+
+	/**
+	 * Builds the event for a task that has just been moved to the archive.
+	 */
+	public static TaskChangeEvent archived(TaskStateDto state, List<Long> assigneeIds) {
+		return new TaskChangeEvent(Type.ARCHIVED, state.getId(), state.getStatus(), state.getStatus(), state.getDueDate(),
+				state.getPriority(), state.getManagerId(), assigneeIds, state.getTitle(), state.getDescription(), state.getTags());
+	}
+
+	/**
+	 * Builds the event for a task that has just been (soft) deleted.
+	 */
+	public static TaskChangeEvent deleted(Task task) {
+		return new TaskChangeEvent(Type.DELETED, task.getId(), task.getStatus(), null, task.getDueDate(), task.getPriority(),
+				task.getManager().getId(), assigneeIdsOf(task), task.getTitle(), task.getDescription(), task.getTags());
+	}
+
+	private static List<Long> assigneeIdsOf(Task task) {
+		return task.getAssignees().stream().map(User::getId).collect(Collectors.toList());
+	}
+}
@@ -0,0 +1,22 @@
+package com.jeevlifeworks.Smart.Task.Manager.App.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Custom exception thrown when a bulk request contains more items than allowed.
+ *
+ * The @ResponseStatus annotation maps this exception to a 400 BAD REQUEST HTTP status code.
+ */
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class BulkLimitExceededException extends RuntimeException{
+
+	/**
+     * Constructor to create the exception with a custom error message.
+     *
+     * Accepts parameter message Detailed message stating the limit that was exceeded.
+     */
+	public BulkLimitExceededException(String message) {
+        super(message); // Pass the custom message to the base RuntimeException
+    }
+}
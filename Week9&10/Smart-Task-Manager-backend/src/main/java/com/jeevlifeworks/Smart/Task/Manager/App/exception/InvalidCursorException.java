@@ -0,0 +1,22 @@
+package com.jeevlifeworks.Smart.Task.Manager.App.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Custom exception thrown when a page cursor sent by the client cannot be decoded.
+ *
+ * The @ResponseStatus annotation maps this exception to a 400 BAD REQUEST HTTP status code.
+ */
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class InvalidCursorException extends RuntimeException{
+
+	/**
+     * Constructor to create the exception with a custom error message.
+     *
+     * Accepts parameter message Detailed message describing why the cursor was rejected.
+     */
+	public InvalidCursorException(String message) {
+        super(message); // Pass the custom message to the base RuntimeException
+    }
+}
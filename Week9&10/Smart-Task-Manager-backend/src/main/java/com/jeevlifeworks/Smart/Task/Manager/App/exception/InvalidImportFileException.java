@@ -0,0 +1,24 @@
+package com.jeevlifeworks.Smart.Task.Manager.App.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Custom exception thrown when an uploaded task import file cannot be used at
+ * all (e.g. it is empty or its header has no title column). Problems with
+ * single rows are reported in the import result instead.
+ *
+ * The @ResponseStatus annotation maps this exception to a 400 BAD REQUEST HTTP status code.
+ */
+@ResponseStatus(HttpStatus.BAD_REQUEST)
+public class InvalidImportFileException extends RuntimeException{
+
+	/**
+     * Constructor to create the exception with a custom error message.
+     *
+     * Accepts parameter message Detailed message describing what is wrong with the file.
+     */
+	public InvalidImportFileException(String message) {
+        super(message); // Pass the custom message to the base RuntimeException
+    }
+}
@@ -0,0 +1,22 @@
+package com.jeevlifeworks.Smart.Task.Manager.App.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Custom exception thrown when the password hashing pool cannot take another call.
+ *
+ * The @ResponseStatus annotation maps this exception to a 429 TOO MANY REQUESTS HTTP status code.
+ */
+@ResponseStatus(HttpStatus.TOO_MANY_REQUESTS)
+public class PasswordHashingBusyException extends RuntimeException{
+
+	/**
+     * Constructor to create the exception with a custom error message.
+     *
+     * Accepts parameter message Detailed message asking the client to retry later.
+     */
+	public PasswordHashingBusyException(String message) {
+        super(message); // Pass the custom message to the base RuntimeException
+    }
+}
@@ -0,0 +1,23 @@
+package com.jeevlifeworks.Smart.Task.Manager.App.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Custom exception thrown when a change is requested for a task that has
+ * been moved to the archive. Archived tasks can still be read, but not changed.
+ *
+ * The @ResponseStatus annotation maps this exception to a 409 CONFLICT HTTP status code.
+ */
+@ResponseStatus(HttpStatus.CONFLICT)
+public class TaskArchivedException extends RuntimeException{
+
+	/**
+     * Constructor to create the exception with a custom error message.
+     *
+     * Accepts parameter message Detailed message naming the archived task.
+     */
+	public TaskArchivedException(String message) {
+        super(message); // Pass the custom message to the base RuntimeException
+    }
+}
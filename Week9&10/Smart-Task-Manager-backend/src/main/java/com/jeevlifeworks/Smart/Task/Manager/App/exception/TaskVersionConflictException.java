@@ -0,0 +1,23 @@
+package com.jeevlifeworks.Smart.Task.Manager.App.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Custom exception thrown when a task was changed by someone else since the
+ * client read it, so applying the update would overwrite that change.
+ *
+ * The @ResponseStatus annotation maps this exception to a 409 CONFLICT HTTP status code.
+ */
+@ResponseStatus(HttpStatus.CONFLICT)
+public class TaskVersionConflictException extends RuntimeException{
+
+	/**
+     * Constructor to create the exception with a custom error message.
+     *
+     * Accepts parameter message Detailed message naming the task that changed.
+     */
+	public TaskVersionConflictException(String message) {
+        super(message); // Pass the custom message to the base RuntimeException
+    }
+}
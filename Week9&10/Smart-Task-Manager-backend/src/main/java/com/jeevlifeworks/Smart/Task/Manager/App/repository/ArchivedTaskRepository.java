@@ -0,0 +1,118 @@
+package com.jeevlifeworks.Smart.Task.Manager.App.repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.jeevlifeworks.Smart.Task.Manager.App.Entity.ArchivedTask;
+import com.jeevlifeworks.Smart.Task.Manager.App.dto.AssigneeDto;
+import com.jeevlifeworks.Smart.Task.Manager.App.dto.TaskDto;
+import com.jeevlifeworks.Smart.Task.Manager.App.dto.TaskStateDto;
+import com.jeevlifeworks.Smart.Task.Manager.App.dto.TaskStatusCountDto;
+
+import jakarta.persistence.QueryHint;
+
+/**
+ * Repository for archived tasks (tasks_archive and task_assignees_archive).
+ * The copy statements are native INSERT ... SELECTs used by TaskArchiver; they
+ * declare the tables they write, so Hibernate leaves unrelated second-level
+ * cache regions alone. The read queries mirror their counterparts in TaskRepository.
+ */
+@Repository
+public interface ArchivedTaskRepository extends JpaRepository<ArchivedTask, Long> {
+
+	/**
+	 * Copies tasks from 'tasks' into 'tasks_archive'.
+	 *
+	 * Accepts parameter ids IDs of the tasks to copy
+	 * Accepts parameter archivedAt archive time to record
+	 * return number of tasks copied
+	 */
+	@Modifying
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "tasks_archive"))
+	@Query(value = "INSERT INTO tasks_archive (id, title, description, due_date, priority, status, manager_id, tags, " +
+			"change_version, version, completed_at, archived_at) " +
+			"SELECT id, title, description, due_date, priority, status, manager_id, tags, " +
+			"change_version, version, completed_at, :archivedAt FROM tasks WHERE id IN (:ids)", nativeQuery = true)
+	int copyFromTasks(@Param("ids") Collection<Long> ids, @Param("archivedAt") LocalDateTime archivedAt);
+
+	/**
+	 * Copies the assignee rows of tasks from 'task_assignees' into 'task_assignees_archive'.
+	 *
+	 * Accepts parameter ids IDs of the tasks whose assignees to copy
+	 * return number of rows copied
+	 */
+	@Modifying
+	@QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "task_assignees_archive"))
+	@Query(value = "INSERT INTO task_assignees_archive (task_id, user_id) " +
+			"SELECT task_id, user_id FROM task_assignees WHERE task_id IN (:ids)", nativeQuery = true)
+	int copyAssigneesFromTasks(@Param("ids") Collection<Long> ids);
+
+	/**
+	 * Reads an archived task and one row per assignee, in the shape of TaskRepository.findStateById.
+	 *
+	 * Accepts parameter id ID of the task
+	 * return one row per assignee, or an empty list if the task is not archived
+	 */
+	@Query("SELECT new com.jeevlifeworks.Smart.Task.Manager.App.dto.TaskStateDto(" +
+			"t.id, t.version, t.title, t.description, t.dueDate, t.priority, t.status, t.manager.id, t.tags, a.id) " +
+			"FROM ArchivedTask t LEFT JOIN t.assignees a WHERE t.id = :id")
+	List<TaskStateDto> findStateById(@Param("id") Long id);
+
+	/**
+	 * Streams every archived task for the export, like TaskRepository.streamTaskDtos.
+	 */
+	@QueryHints({
+		@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+		@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+	})
+	@Query("SELECT new com.jeevlifeworks.Smart.Task.Manager.App.dto.TaskDto(" +
+			"t.id, t.title, t.description, t.dueDate, t.priority, t.status, t.manager.id, t.tags, t.version) " +
+			"FROM ArchivedTask t ORDER BY t.id")
+	Stream<TaskDto> streamTaskDtos();
+
+	/**
+	 * Returns which of the given task IDs are archived.
+	 *
+	 * Accepts parameter ids task IDs to look up
+	 * return the archived ones
+	 */
+	@Query("SELECT t.id FROM ArchivedTask t WHERE t.id IN :ids")
+	List<Long> findIdsByIdIn(@Param("ids") Collection<Long> ids);
+
+	/**
+	 * Loads the assignees (ID and username) of archived tasks in one query.
+	 *
+	 * Accepts parameter taskIds IDs of archived tasks
+	 * return one row per (task, assignee) pair
+	 */
+	@Query("SELECT new com.jeevlifeworks.Smart.Task.Manager.App.dto.AssigneeDto(t.id, a.id, a.username) " +
+			"FROM ArchivedTask t JOIN t.assignees a WHERE t.id IN :taskIds")
+	List<AssigneeDto> findAssigneesByTaskIds(@Param("taskIds") Collection<Long> taskIds);
+
+	/**
+	 * Counts archived tasks per status, like TaskRepository.countByStatus.
+	 */
+	@Query("SELECT new com.jeevlifeworks.Smart.Task.Manager.App.dto.TaskStatusCountDto(t.status, COUNT(t), " +
+			"SUM(CASE WHEN t.dueDate < :today AND (t.status IS NULL OR t.status <> :completed) THEN 1 ELSE 0 END)) " +
+			"FROM ArchivedTask t GROUP BY t.status")
+	List<TaskStatusCountDto> countByStatus(@Param("today") LocalDate today, @Param("completed") String completed);
+
+	/**
+	 * Counts archived tasks per assignee and status, like TaskRepository.countByAssigneeAndStatus.
+	 */
+	@Query("SELECT new com.jeevlifeworks.Smart.Task.Manager.App.dto.TaskStatusCountDto(a.id, t.status, COUNT(t), " +
+			"SUM(CASE WHEN t.dueDate < :today AND (t.status IS NULL OR t.status <> :completed) THEN 1 ELSE 0 END)) " +
+			"FROM ArchivedTask t JOIN t.assignees a GROUP BY a.id, t.status")
+	List<TaskStatusCountDto> countByAssigneeAndStatus(@Param("today") LocalDate today, @Param("completed") String completed);
+}
@@ -0,0 +1,103 @@
+package com.jeevlifeworks.Smart.Task.Manager.App.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.jeevlifeworks.Smart.Task.Manager.App.Entity.EmailOutbox;
+import com.jeevlifeworks.Smart.Task.Manager.App.Entity.EmailOutboxStatus;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+
+/**
+ * Repository interface for EmailOutbox entity.
+ * Provides the claim/complete queries used by the email dispatcher.
+ */
+@Repository
+public interface EmailOutboxRepository extends JpaRepository<EmailOutbox, Long>{
+
+	/**
+     * Locks the next batch of PENDING emails that are due for delivery.
+     *
+     * Uses SELECT ... FOR UPDATE SKIP LOCKED (lock timeout -2), so several
+     * dispatchers can poll concurrently without blocking on each other's rows.
+     *
+     * Accepts parameter now current time; rows scheduled after it are skipped
+     * Accepts parameter limit maximum batch size
+     * return the locked rows, oldest first
+     */
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+	@Query("SELECT e FROM EmailOutbox e WHERE e.status = com.jeevlifeworks.Smart.Task.Manager.App.Entity.EmailOutboxStatus.PENDING " +
+	       "AND e.nextAttemptAt <= :now ORDER BY e.nextAttemptAt, e.id")
+	List<EmailOutbox> findDueForDispatch(@Param("now") LocalDateTime now, Limit limit);
+
+	/**
+     * Marks a batch of emails as delivered.
+     *
+     * Accepts parameter ids IDs of the emails accepted by the SMTP server
+     * Accepts parameter sentAt delivery time
+     * return number of rows updated
+     */
+	@Modifying
+	@Query("UPDATE EmailOutbox e SET e.status = com.jeevlifeworks.Smart.Task.Manager.App.Entity.EmailOutboxStatus.SENT, " +
+	       "e.sentAt = :sentAt, e.attempts = e.attempts + 1, e.lastError = NULL WHERE e.id IN :ids")
+	int markSent(@Param("ids") Collection<Long> ids, @Param("sentAt") LocalDateTime sentAt);
+
+	/**
+     * Records a failed delivery attempt for one email.
+     *
+     * Accepts parameter id ID of the email
+     * Accepts parameter status PENDING to retry later, FAILED to give up
+     * Accepts parameter attempts total attempts made so far
+     * Accepts parameter nextAttemptAt earliest time of the next retry
+     * Accepts parameter lastError error message reported by the mail server
+     * return number of rows updated
+     */
+	@Modifying
+	@Query("UPDATE EmailOutbox e SET e.status = :status, e.attempts = :attempts, " +
+	       "e.nextAttemptAt = :nextAttemptAt, e.lastError = :lastError WHERE e.id = :id")
+	int markFailedAttempt(@Param("id") Long id,
+	                      @Param("status") EmailOutboxStatus status,
+	                      @Param("attempts") int attempts,
+	                      @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+	                      @Param("lastError") String lastError);
+
+	/**
+     * Returns emails claimed by a worker that never reported back
+     * (e.g. the application stopped mid-send) to the PENDING state.
+     *
+     * Accepts parameter claimedBefore claims older than this are considered abandoned
+     * return number of rows reclaimed
+     */
+	@Modifying
+	@Query("UPDATE EmailOutbox e SET e.status = com.jeevlifeworks.Smart.Task.Manager.App.Entity.EmailOutboxStatus.PENDING " +
+	       "WHERE e.status = com.jeevlifeworks.Smart.Task.Manager.App.Entity.EmailOutboxStatus.SENDING AND e.claimedAt < :claimedBefore")
+	int reclaimAbandoned(@Param("claimedBefore") LocalDateTime claimedBefore);
+
+	/**
+     * Deletes delivered emails older than the retention window.
+     *
+     * Accepts parameter sentBefore delivered emails sent before this time are removed
+     * return number of rows deleted
+     */
+	@Modifying
+	@Query("DELETE FROM EmailOutbox e WHERE e.status = com.jeevlifeworks.Smart.Task.Manager.App.Entity.EmailOutboxStatus.SENT " +
+	       "AND e.sentAt < :sentBefore")
+	int deleteSentBefore(@Param("sentBefore") LocalDateTime sentBefore);
+
+	/**
+     * Counts queued emails in the given state (used for queue-depth metrics).
+     */
+	long countByStatus(EmailOutboxStatus status);
+}
@@ -0,0 +1,24 @@
+package com.jeevlifeworks.Smart.Task.Manager.App.repository;
+
+import java.time.LocalDate;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.jeevlifeworks.Smart.Task.Manager.App.Entity.ReminderDigest;
+
+/**
+ * Repository interface for ReminderDigest entity.
+ * Holds the per-user checkpoints written by the overdue-reminder job.
+ */
+@Repository
+public interface ReminderDigestRepository extends JpaRepository<ReminderDigest, Long>{
+
+	/**
+     * Counts the digests already queued for a run.
+     *
+     * Accepts parameter runDate day of the reminder run
+     * return number of users that have received their digest
+     */
+	long countByRunDate(LocalDate runDate);
+}
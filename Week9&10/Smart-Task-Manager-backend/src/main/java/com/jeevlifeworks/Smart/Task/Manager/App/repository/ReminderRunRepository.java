@@ -0,0 +1,16 @@
+package com.jeevlifeworks.Smart.Task.Manager.App.repository;
+
+import java.time.LocalDate;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import com.jeevlifeworks.Smart.Task.Manager.App.Entity.ReminderRun;
+
+/**
+ * Repository interface for ReminderRun entity.
+ * Tracks the start and completion of each daily overdue-reminder run.
+ */
+@Repository
+public interface ReminderRunRepository extends JpaRepository<ReminderRun, LocalDate>{
+}
@@ -2,12 +2,16 @@ package com.jeevlifeworks.Smart.Task.Manager.App.repository;
 
 import java.util.Optional;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import com.jeevlifeworks.Smart.Task.Manager.App.Entity.Role;
 import com.jeevlifeworks.Smart.Task.Manager.App.Entity.RoleEnum;
 
+import jakarta.persistence.QueryHint;
+
 /**
  * Repository interface for Role entity.
  * Provides database operations related to Role.
@@ -20,6 +24,11 @@ public interface RoleRepository extends JpaRepository<Role, Long>{
      * 
      * Accepts name, The RoleEnum to search for (e.g., ROLE_ADMIN)
      * returns an Optional containing the Role if found, else empty.
+     * Served from the query cache and the read-only role cache after the first call.
      */
+	@QueryHints({
+		@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+		@QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "roles-by-name")
+	})
 	Optional<Role> findByName(RoleEnum name);
 }
@@ -0,0 +1,48 @@
+package com.jeevlifeworks.Smart.Task.Manager.App.repository;
+
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
+
+import com.jeevlifeworks.Smart.Task.Manager.App.dto.TaskCursor;
+import com.jeevlifeworks.Smart.Task.Manager.App.dto.TaskFilterDto;
+import com.jeevlifeworks.Smart.Task.Manager.App.dto.TaskSummaryDto;
+
+/**
+ * Filtered, keyset-paginated task listings whose WHERE clause is assembled
+ * from the criteria actually supplied. Implemented by TaskFilterRepositoryImpl
+ * and exposed through TaskRepository. The Archived variants run the same
+ * queries against tasks_archive.
+ */
+public interface TaskFilterRepository {
+
+	/**
+	 * Returns dated task summaries matching the filter, ordered by (dueDate, id).
+	 *
+	 * Accepts parameter filter the filter criteria
+	 * Accepts parameter after position of the last task on the previous page, or null for the first page
+	 * Accepts parameter limit maximum number of rows to return
+	 * return the next page of dated task summaries
+	 */
+	List<TaskSummaryDto> findDatedSummariesByFilter(TaskFilterDto filter, TaskCursor after, Limit limit);
+
+	/**
+	 * Returns undated task summaries matching the filter whose id is greater than afterId.
+	 *
+	 * Accepts parameter filter the filter criteria
+	 * Accepts parameter afterId ID of the last undated task already returned (0 to start)
+	 * Accepts parameter limit maximum number of rows to return
+	 * return the next page of undated task summaries
+	 */
+	List<TaskSummaryDto> findUndatedSummariesByFilter(TaskFilterDto filter, Long afterId, Limit limit);
+
+	/**
+	 * findDatedSummariesByFilter over archived tasks.
+	 */
+	List<TaskSummaryDto> findArchivedDatedSummariesByFilter(TaskFilterDto filter, TaskCursor after, Limit limit);
+
+	/**
+	 * findUndatedSummariesByFilter over archived tasks.
+	 */
+	List<TaskSummaryDto> findArchivedUndatedSummariesByFilter(TaskFilterDto filter, Long afterId, Limit limit);
+}
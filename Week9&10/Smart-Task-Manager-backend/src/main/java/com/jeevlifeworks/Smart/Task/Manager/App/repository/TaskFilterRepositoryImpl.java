@@ -0,0 +1,103 @@
+package com.jeevlifeworks.Smart.Task.Manager.App.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
+
+import com.jeevlifeworks.Smart.Task.Manager.App.Entity.ArchivedTask;
+import com.jeevlifeworks.Smart.Task.Manager.App.Entity.Task;
+import com.jeevlifeworks.Smart.Task.Manager.App.dto.TaskCursor;
+import com.jeevlifeworks.Smart.Task.Manager.App.dto.TaskFilterDto;
+import com.jeevlifeworks.Smart.Task.Manager.App.dto.TaskSummaryDto;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CompoundSelection;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+
+/**
+ * Criteria API implementation of TaskFilterRepository.
+ *
+ * Each query selects the TaskSummaryDto columns directly, combines the filter's
+ * specification with the keyset position and reads at most limit rows.
+ * Task and ArchivedTask share the attribute names, so the same queries serve both.
+ */
+class TaskFilterRepositoryImpl implements TaskFilterRepository {
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	@Override
+	public List<TaskSummaryDto> findDatedSummariesByFilter(TaskFilterDto filter, TaskCursor after, Limit limit) {
+		return findDated(Task.class, filter, after, limit);
+	}
+
+	@Override
+	public List<TaskSummaryDto> findUndatedSummariesByFilter(TaskFilterDto filter, Long afterId, Limit limit) {
+		return findUndated(Task.class, filter, afterId, limit);
+	}
+
+	@Override
+	public List<TaskSummaryDto> findArchivedDatedSummariesByFilter(TaskFilterDto filter, TaskCursor after, Limit limit) {
+		return findDated(ArchivedTask.class, filter, after, limit);
+	}
+
+	@Override
+	public List<TaskSummaryDto> findArchivedUndatedSummariesByFilter(TaskFilterDto filter, Long afterId, Limit limit) {
+		return findUndated(ArchivedTask.class, filter, afterId, limit);
+	}
+
+	private <T> List<TaskSummaryDto> findDated(Class<T> entity, TaskFilterDto filter, TaskCursor after, Limit limit) {
+		CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+		CriteriaQuery<TaskSummaryDto> query = cb.createQuery(TaskSummaryDto.class);
+		Root<T> task = query.from(entity);
+		Path<LocalDate> dueDate = task.get("dueDate");
+		Path<Long> id = task.get("id");
+
+		Predicate position = after == null
+			? cb.isNotNull(dueDate)
+			: cb.or(cb.greaterThan(dueDate, after.getDueDate()),
+				cb.and(cb.equal(dueDate, after.getDueDate()), cb.greaterThan(id, after.getId())));
+		query.select(summary(cb, task))
+			.where(cb.and(position, filterPredicate(filter, task, query, cb)))
+			.orderBy(cb.asc(dueDate), cb.asc(id));
+		return entityManager.createQuery(query).setMaxResults(limit.max()).getResultList();
+	}
+
+	private <T> List<TaskSummaryDto> findUndated(Class<T> entity, TaskFilterDto filter, Long afterId, Limit limit) {
+		if (filter.hasDueDateCriteria()) {
+			return List.of(); // A task without a due date cannot match a due date criterion
+		}
+		CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+		CriteriaQuery<TaskSummaryDto> query = cb.createQuery(TaskSummaryDto.class);
+		Root<T> task = query.from(entity);
+		Path<Long> id = task.get("id");
+
+		query.select(summary(cb, task))
+			.where(cb.and(cb.isNull(task.get("dueDate")), cb.greaterThan(id, afterId),
+				filterPredicate(filter, task, query, cb)))
+			.orderBy(cb.asc(id));
+		return entityManager.createQuery(query).setMaxResults(limit.max()).getResultList();
+	}
+
+	/**
+	 * The filter's criteria as one predicate; an always-true conjunction when none were supplied.
+	 */
+	private <T> Predicate filterPredicate(TaskFilterDto filter, Root<T> task, CriteriaQuery<?> query, CriteriaBuilder cb) {
+		Predicate predicate = TaskSpecifications.<T>matching(filter).toPredicate(task, query, cb);
+		return predicate == null ? cb.conjunction() : predicate;
+	}
+
+	/**
+	 * Same columns as the JPQL "SELECT new TaskSummaryDto(...)" projections in TaskRepository.
+	 */
+	private CompoundSelection<TaskSummaryDto> summary(CriteriaBuilder cb, Root<?> task) {
+		return cb.construct(TaskSummaryDto.class, task.get("id"), task.get("title"), task.get("dueDate"),
+			task.get("priority"), task.get("status"), task.get("manager").get("id"), task.get("tags"));
+	}
+}
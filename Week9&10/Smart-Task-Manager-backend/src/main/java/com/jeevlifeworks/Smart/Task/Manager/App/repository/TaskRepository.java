@@ -1,22 +1,44 @@
 package com.jeevlifeworks.Smart.Task.Manager.App.repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.jeevlifeworks.Smart.Task.Manager.App.Entity.Task;
 import com.jeevlifeworks.Smart.Task.Manager.App.Entity.User;
+import com.jeevlifeworks.Smart.Task.Manager.App.dto.AssigneeDto;
+import com.jeevlifeworks.Smart.Task.Manager.App.dto.OverdueReminderDto;
+import com.jeevlifeworks.Smart.Task.Manager.App.dto.TaskDto;
+import com.jeevlifeworks.Smart.Task.Manager.App.dto.TaskSearchDocumentDto;
+import com.jeevlifeworks.Smart.Task.Manager.App.dto.TaskStateDto;
+import com.jeevlifeworks.Smart.Task.Manager.App.dto.TaskStatusCountDto;
+import com.jeevlifeworks.Smart.Task.Manager.App.dto.TaskSummaryDto;
+import com.jeevlifeworks.Smart.Task.Manager.App.dto.TaskVersionDto;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
 
 /**
  * Repository interface for Task entity.
  * Provides CRUD and custom query methods for task management.
+ * Filtered listings are built dynamically by TaskFilterRepository, status
+ * batches are written by TaskStatusBatchRepository.
  */
 @Repository
-public interface TaskRepository extends JpaRepository<Task, Long>{
+public interface TaskRepository extends JpaRepository<Task, Long>, TaskFilterRepository, TaskStatusBatchRepository {
+
 	/**
      * Finds all tasks assigned to a specific user (assignee).
      * Uses a JPQL JOIN between Task and its assignees.
@@ -27,6 +49,90 @@ public interface TaskRepository extends JpaRepository<Task, Long>{
     @Query("SELECT t FROM Task t JOIN t.assignees a WHERE a.id = :userId")
     List<Task> findByAssigneeId(@Param("userId") Long userId);
 
+    /**
+     * Reads the tasks assigned to a user directly as DTOs, in one query.
+     * No Task entity is loaded, so neither the EAGER manager nor the lazy
+     * assignees trigger per-row queries; assignee IDs are attached by the caller.
+     *
+     * Accepts parameter userId ID of the user (assignee)
+     * return the user's tasks ordered by ID, without assignee IDs
+     */
+    @Query("SELECT new com.jeevlifeworks.Smart.Task.Manager.App.dto.TaskDto(" +
+           "t.id, t.title, t.description, t.dueDate, t.priority, t.status, t.manager.id, t.tags, t.version) " +
+           "FROM Task t WHERE EXISTS (SELECT a.id FROM t.assignees a WHERE a.id = :userId) ORDER BY t.id")
+    List<TaskDto> findTaskDtosByAssigneeId(@Param("userId") Long userId);
+
+    /**
+     * Streams every task for the export, in ID order, without assignee IDs.
+     * Rows are read from a forward-only cursor in fetches of 500 (on MySQL this
+     * needs useCursorFetch=true), so the whole table is never held in memory.
+     * Must be consumed, and closed, inside a transaction.
+     *
+     * return a stream of all tasks as DTOs
+     */
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new com.jeevlifeworks.Smart.Task.Manager.App.dto.TaskDto(" +
+           "t.id, t.title, t.description, t.dueDate, t.priority, t.status, t.manager.id, t.tags, t.version) " +
+           "FROM Task t ORDER BY t.id")
+    Stream<TaskDto> streamTaskDtos();
+
+    /**
+     * Reads what a status update needs to know about a task in one query: its
+     * row version, the values for the change event, and one row per assignee.
+     *
+     * Accepts parameter id ID of the task
+     * return one row per assignee (a single row with a null assignee if there
+     *        are none), or an empty list if the task does not exist
+     */
+    @Query("SELECT new com.jeevlifeworks.Smart.Task.Manager.App.dto.TaskStateDto(" +
+           "t.id, t.version, t.title, t.description, t.dueDate, t.priority, t.status, t.manager.id, t.tags, a.id) " +
+           "FROM Task t LEFT JOIN t.assignees a WHERE t.id = :id")
+    List<TaskStateDto> findStateById(@Param("id") Long id);
+
+    /**
+     * Batch variant of findStateById for a status batch: reads the state and
+     * assignees of many tasks in one query and locks their rows until the
+     * transaction ends, so the versions read stay current while the grouped
+     * UPDATEs (see TaskStatusBatchRepository) run. Rows are locked in ID order
+     * to avoid deadlocks between overlapping batches.
+     *
+     * Accepts parameter ids IDs of the tasks
+     * return one row per task and assignee, ordered by task ID; missing and deleted tasks are absent
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT new com.jeevlifeworks.Smart.Task.Manager.App.dto.TaskStateDto(" +
+           "t.id, t.version, t.title, t.description, t.dueDate, t.priority, t.status, t.manager.id, t.tags, a.id) " +
+           "FROM Task t LEFT JOIN t.assignees a WHERE t.id IN :ids ORDER BY t.id")
+    List<TaskStateDto> findStatesForUpdate(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Sets the status of a task in one statement, provided the row still has the
+     * expected version and the user is one of its assignees. Bumps the row
+     * version and stamps the change version for delta sync.
+     *
+     * Accepts parameter id ID of the task
+     * Accepts parameter status the new status
+     * Accepts parameter completedAt completion time if the new status is "Completed", null otherwise
+     * Accepts parameter version the row version the caller read
+     * Accepts parameter userId ID of the assignee making the change
+     * Accepts parameter changeVersion change version to stamp
+     * return 1 if the task was updated, 0 if the condition no longer holds
+     */
+    @Modifying
+    @Query("UPDATE Task t SET t.status = :status, t.completedAt = :completedAt, t.version = t.version + 1, " +
+           "t.changeVersion = :changeVersion " +
+           "WHERE t.id = :id AND t.version = :version " +
+           "AND EXISTS (SELECT a.id FROM t.assignees a WHERE a.id = :userId)")
+    int updateStatusIfCurrent(@Param("id") Long id,
+                              @Param("status") String status,
+                              @Param("completedAt") LocalDateTime completedAt,
+                              @Param("version") long version,
+                              @Param("userId") Long userId,
+                              @Param("changeVersion") long changeVersion);
+
     /**
      * Finds all tasks created/managed by a specific manager.
      *
@@ -36,33 +142,250 @@ public interface TaskRepository extends JpaRepository<Task, Long>{
     List<Task> findByManager(User manager);
 
     /**
-     * Finds all overdue tasks that are not completed.
+     * Returns the next chunk of users that have at least one overdue task and
+     * have not yet received their digest for the given run, ordered by user ID.
+     * Used by the overdue-reminder job to walk assignees in fixed-size chunks.
      *
+     * Accepts parameter date The date to compare task due dates against (also the run date)
+     * Accepts parameter status Status to exclude (e.g., "Completed")
+     * Accepts parameter afterId ID of the last user in the previous chunk (0 to start)
+     * Accepts parameter limit chunk size
+     * return IDs of the users in the next chunk
+     */
+    @Query("SELECT DISTINCT a.id FROM Task t JOIN t.assignees a " +
+           "WHERE t.dueDate < :date AND t.status <> :status AND a.id > :afterId " +
+           "AND NOT EXISTS (SELECT d.id FROM ReminderDigest d WHERE d.userId = a.id AND d.runDate = :date) " +
+           "ORDER BY a.id")
+    List<Long> findOverdueAssigneeIdsAfter(@Param("date") LocalDate date,
+                                           @Param("status") String status,
+                                           @Param("afterId") Long afterId,
+                                           Limit limit);
+
+    /**
+     * Loads every overdue task of a chunk of users together with the assignee's
+     * contact details in a single query, grouped by assignee.
+     *
+     * Accepts parameter assigneeIds IDs of the users in the current chunk
      * Accepts parameter date The date to compare task due dates against
      * Accepts parameter status Status to exclude (e.g., "Completed")
-     * return List of overdue tasks excluding completed ones
+     * return one row per (assignee, overdue task) pair
+     */
+    @Query("SELECT new com.jeevlifeworks.Smart.Task.Manager.App.dto.OverdueReminderDto(" +
+           "a.id, a.email, a.username, t.id, t.title, t.dueDate) " +
+           "FROM Task t JOIN t.assignees a " +
+           "WHERE a.id IN :assigneeIds AND t.dueDate < :date AND t.status <> :status " +
+           "ORDER BY a.id, t.dueDate, t.id")
+    List<OverdueReminderDto> findOverdueRemindersForAssignees(@Param("assigneeIds") Collection<Long> assigneeIds,
+                                                              @Param("date") LocalDate date,
+                                                              @Param("status") String status);
+
+    /**
+     * Keyset pagination over all tasks, ordered by (dueDate, id).
+     *
+     * Tasks with a due date come first; the undated ones follow, ordered by id.
+     * Each query seeks directly to the cursor position using the (due_date, id)
+     * index instead of counting past skipped rows with OFFSET.
+     *
+     * Accepts parameter limit maximum number of rows to return
+     * return the first page of dated task summaries
      */
-    List<Task> findByDueDateBeforeAndStatusIsNot(LocalDate date, String status);
+    @Query("SELECT new com.jeevlifeworks.Smart.Task.Manager.App.dto.TaskSummaryDto(" +
+           "t.id, t.title, t.dueDate, t.priority, t.status, t.manager.id, t.tags) " +
+           "FROM Task t WHERE t.dueDate IS NOT NULL ORDER BY t.dueDate, t.id")
+    List<TaskSummaryDto> findDatedSummaries(Limit limit);
 
     /**
-     * Filters tasks based on optional criteria: status, priority,
-     * assignee ID, and due date.
+     * Returns dated task summaries positioned strictly after (dueDate, id).
      *
-     * If any parameter is null, it is ignored in filtering.
+     * Accepts parameter dueDate due date of the last task on the previous page
+     * Accepts parameter id ID of the last task on the previous page
+     * Accepts parameter limit maximum number of rows to return
+     * return the next page of dated task summaries
+     */
+    @Query("SELECT new com.jeevlifeworks.Smart.Task.Manager.App.dto.TaskSummaryDto(" +
+           "t.id, t.title, t.dueDate, t.priority, t.status, t.manager.id, t.tags) " +
+           "FROM Task t WHERE t.dueDate > :dueDate OR (t.dueDate = :dueDate AND t.id > :id) " +
+           "ORDER BY t.dueDate, t.id")
+    List<TaskSummaryDto> findDatedSummariesAfter(@Param("dueDate") LocalDate dueDate,
+                                                 @Param("id") Long id,
+                                                 Limit limit);
+
+    /**
+     * Returns task summaries without a due date whose id is greater than afterId.
+     *
+     * Accepts parameter afterId ID of the last undated task already returned (0 to start)
+     * Accepts parameter limit maximum number of rows to return
+     * return the next page of undated task summaries
+     */
+    @Query("SELECT new com.jeevlifeworks.Smart.Task.Manager.App.dto.TaskSummaryDto(" +
+           "t.id, t.title, t.dueDate, t.priority, t.status, t.manager.id, t.tags) " +
+           "FROM Task t WHERE t.dueDate IS NULL AND t.id > :afterId ORDER BY t.id")
+    List<TaskSummaryDto> findUndatedSummariesAfter(@Param("afterId") Long afterId, Limit limit);
+
+    /**
+     * Loads the assignees of a page of tasks in one query.
+     *
+     * Accepts parameter taskIds IDs of the tasks on the current page
+     * return one row per (task, assignee) pair
+     */
+    @Query("SELECT new com.jeevlifeworks.Smart.Task.Manager.App.dto.AssigneeDto(t.id, a.id, a.username) " +
+           "FROM Task t JOIN t.assignees a WHERE t.id IN :taskIds")
+    List<AssigneeDto> findAssigneesByTaskIds(@Param("taskIds") Collection<Long> taskIds);
+
+    /**
+     * Counts all tasks per status, including how many are overdue, for the
+     * dashboard counter reconciliation.
+     *
+     * Accepts parameter today tasks due before this date are overdue
+     * Accepts parameter completed status that is never overdue (e.g., "Completed")
+     * return one row per status
+     */
+    @Query("SELECT new com.jeevlifeworks.Smart.Task.Manager.App.dto.TaskStatusCountDto(t.status, COUNT(t), " +
+           "SUM(CASE WHEN t.dueDate < :today AND (t.status IS NULL OR t.status <> :completed) THEN 1 ELSE 0 END)) " +
+           "FROM Task t GROUP BY t.status")
+    List<TaskStatusCountDto> countByStatus(@Param("today") LocalDate today, @Param("completed") String completed);
+
+    /**
+     * Same as countByStatus, but per assignee.
+     *
+     * Accepts parameter today tasks due before this date are overdue
+     * Accepts parameter completed status that is never overdue (e.g., "Completed")
+     * return one row per (assignee, status) pair
+     */
+    @Query("SELECT new com.jeevlifeworks.Smart.Task.Manager.App.dto.TaskStatusCountDto(a.id, t.status, COUNT(t), " +
+           "SUM(CASE WHEN t.dueDate < :today AND (t.status IS NULL OR t.status <> :completed) THEN 1 ELSE 0 END)) " +
+           "FROM Task t JOIN t.assignees a GROUP BY a.id, t.status")
+    List<TaskStatusCountDto> countByAssigneeAndStatus(@Param("today") LocalDate today, @Param("completed") String completed);
+
+    /**
+     * Reads the searchable text of tasks in ID order, for rebuilding the search index.
+     *
+     * Accepts parameter afterId ID of the last task in the previous batch (0 to start)
+     * Accepts parameter limit batch size
+     * return the next batch of search documents
+     */
+    @Query("SELECT new com.jeevlifeworks.Smart.Task.Manager.App.dto.TaskSearchDocumentDto(t.id, t.title, t.description, t.tags) " +
+           "FROM Task t WHERE t.id > :afterId ORDER BY t.id")
+    List<TaskSearchDocumentDto> findSearchDocumentsAfter(@Param("afterId") Long afterId, Limit limit);
+
+    /**
+     * Loads the summaries of the given tasks, e.g. the hits of a search.
+     * The order of the result is unspecified.
+     *
+     * Accepts parameter ids IDs of the tasks to load
+     * return one summary per existing task
+     */
+    @Query("SELECT new com.jeevlifeworks.Smart.Task.Manager.App.dto.TaskSummaryDto(" +
+           "t.id, t.title, t.dueDate, t.priority, t.status, t.manager.id, t.tags) " +
+           "FROM Task t WHERE t.id IN :ids")
+    List<TaskSummaryDto> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Reads task summaries in ID order, for rebuilding the filter snapshot.
+     *
+     * Accepts parameter afterId ID of the last task in the previous batch (0 to start)
+     * Accepts parameter limit batch size
+     * return the next batch of task summaries
+     */
+    @Query("SELECT new com.jeevlifeworks.Smart.Task.Manager.App.dto.TaskSummaryDto(" +
+           "t.id, t.title, t.dueDate, t.priority, t.status, t.manager.id, t.tags) " +
+           "FROM Task t WHERE t.id > :afterId ORDER BY t.id")
+    List<TaskSummaryDto> findSummariesAfterId(@Param("afterId") Long afterId, Limit limit);
+
+    /**
+     * Returns the tasks (tombstones included) whose latest change has a version in
+     * (since, upTo], in version order. Native, because entity queries skip deleted
+     * tasks; walks the change_version index.
+     *
+     * Accepts parameter since the client's watermark
+     * Accepts parameter upTo highest version whose transaction has surely completed
+     * Accepts parameter limit maximum number of rows to return
+     * return the changed tasks, oldest change first
+     */
+    @Query(value = "SELECT t.id AS id, t.change_version AS changeVersion, t.deleted AS deleted FROM tasks t " +
+           "WHERE t.change_version > :since AND t.change_version <= :upTo " +
+           "ORDER BY t.change_version LIMIT :limit", nativeQuery = true)
+    List<TaskVersionDto> findChangedAfter(@Param("since") long since, @Param("upTo") long upTo, @Param("limit") int limit);
+
+    /**
+     * Same as findChangedAfter, restricted to the tasks assigned to a user.
+     *
+     * Accepts parameter userId ID of the assignee
+     * Accepts parameter since the client's watermark
+     * Accepts parameter upTo highest version whose transaction has surely completed
+     * Accepts parameter limit maximum number of rows to return
+     * return the user's changed tasks, oldest change first
+     */
+    @Query(value = "SELECT t.id AS id, t.change_version AS changeVersion, t.deleted AS deleted FROM tasks t " +
+           "WHERE t.change_version > :since AND t.change_version <= :upTo " +
+           "AND EXISTS (SELECT 1 FROM task_assignees ta WHERE ta.task_id = t.id AND ta.user_id = :userId) " +
+           "ORDER BY t.change_version LIMIT :limit", nativeQuery = true)
+    List<TaskVersionDto> findChangedAfterForAssignee(@Param("userId") Long userId, @Param("since") long since,
+                                                     @Param("upTo") long upTo, @Param("limit") int limit);
+
+    /**
+     * Returns the highest change version stored, tombstones included (0 if there are no tasks).
+     */
+    @Query(value = "SELECT COALESCE(MAX(change_version), 0) FROM tasks", nativeQuery = true)
+    long findMaxChangeVersion();
+
+    /**
+     * Gives tasks saved before change versions existed their ID as version.
+     *
+     * return the number of tasks stamped
+     */
+    @Modifying
+    @Query(value = "UPDATE tasks SET change_version = id WHERE change_version IS NULL", nativeQuery = true)
+    int stampUnversioned();
+
+    /**
+     * Gives completed tasks saved before completion times were recorded the given
+     * time, so the archiver's retention period starts counting from it.
+     *
+     * Accepts parameter completed the completed status
+     * Accepts parameter now the completion time to record
+     * return the number of tasks stamped
+     */
+    @Modifying
+    @Query("UPDATE Task t SET t.completedAt = :now WHERE t.status = :completed AND t.completedAt IS NULL")
+    int stampUncompletedAt(@Param("completed") String completed, @Param("now") LocalDateTime now);
+
+    /**
+     * Selects and locks the next chunk of tasks that may be archived: completed
+     * before the cut-off and still completed now. The rows stay locked until the
+     * archiver's transaction ends, so none of them can be reopened mid-move.
+     *
+     * Accepts parameter completed the completed status
+     * Accepts parameter cutoff tasks completed before this time are archived
+     * Accepts parameter limit chunk size
+     * return the IDs of the chunk, in ID order
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t.id FROM Task t WHERE t.status = :completed AND t.completedAt < :cutoff ORDER BY t.id")
+    List<Long> findArchivableIdsForUpdate(@Param("completed") String completed,
+                                          @Param("cutoff") LocalDateTime cutoff,
+                                          Limit limit);
+
+    /**
+     * Physically removes the assignee rows of tasks that have been copied to the archive.
+     *
+     * Accepts parameter ids IDs of the archived tasks
+     * return the number of rows removed
+     */
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "task_assignees"))
+    @Query(value = "DELETE FROM task_assignees WHERE task_id IN (:ids)", nativeQuery = true)
+    int removeAssigneesOfArchived(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Physically removes tasks that have been copied to the archive. Unlike
+     * deleteTask this leaves no tombstone: the task still exists, just in tasks_archive.
      *
-     * Accepts parameter status Task status filter
-     * Accepts parameter priority Task priority filter
-     * Accepts parameter assigneeId User ID of assignee filter
-     * Accepts parameter dueDate Task due date filter
-     * return List of tasks matching the filter criteria
+     * Accepts parameter ids IDs of the archived tasks
+     * return the number of tasks removed
      */
-    @Query("SELECT DISTINCT t FROM Task t LEFT JOIN t.assignees a WHERE " +
-           "(:status IS NULL OR t.status = :status) AND " +
-           "(:priority IS NULL OR t.priority = :priority) AND " +
-           "(:assigneeId IS NULL OR a.id = :assigneeId) AND " +
-           "(:dueDate IS NULL OR t.dueDate = :dueDate)")
-    List<Task> findByFilterCriteria(@Param("status") String status,
-                                    @Param("priority") String priority,
-                                    @Param("assigneeId") Long assigneeId,
-                                    @Param("dueDate") LocalDate dueDate);
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "tasks"))
+    @Query(value = "DELETE FROM tasks WHERE id IN (:ids)", nativeQuery = true)
+    int removeArchived(@Param("ids") Collection<Long> ids);
 }
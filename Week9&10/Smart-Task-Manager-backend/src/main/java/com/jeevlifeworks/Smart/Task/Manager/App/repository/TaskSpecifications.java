@@ -0,0 +1,115 @@
+package com.jeevlifeworks.Smart.Task.Manager.App.repository;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import com.jeevlifeworks.Smart.Task.Manager.App.Entity.User;
+import com.jeevlifeworks.Smart.Task.Manager.App.dto.TaskFilterDto;
+
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+
+/**
+ * Reusable predicates on Task, also applied to ArchivedTask (same attribute names).
+ *
+ * Unlike "(:x IS NULL OR t.x = :x)" in a static query, each criterion is only
+ * added when the client supplied it, so the database sees plain equality, IN
+ * and range predicates it can match against the composite indexes on tasks
+ * and task_assignees.
+ */
+public final class TaskSpecifications {
+
+	private TaskSpecifications() {
+	}
+
+	/**
+	 * Combines the criteria present in the filter; absent ones add nothing.
+	 *
+	 * Accepts parameter filter the client's filter criteria
+	 * return a specification matching all supplied criteria
+	 */
+	public static <T> Specification<T> matching(TaskFilterDto filter) {
+		List<Specification<T>> criteria = new ArrayList<>();
+		if (hasValues(filter.getStatus())) {
+			criteria.add(statusIn(filter.getStatus()));
+		}
+		if (hasValues(filter.getPriority())) {
+			criteria.add(priorityIn(filter.getPriority()));
+		}
+		if (filter.getAssigneeId() != null) {
+			criteria.add(assignedTo(filter.getAssigneeId()));
+		}
+		if (filter.getDueDate() != null) {
+			criteria.add(dueOn(filter.getDueDate()));
+		}
+		if (filter.getDueDateFrom() != null) {
+			criteria.add(dueOnOrAfter(filter.getDueDateFrom()));
+		}
+		if (filter.getDueDateTo() != null) {
+			criteria.add(dueOnOrBefore(filter.getDueDateTo()));
+		}
+		return Specification.allOf(criteria);
+	}
+
+	/**
+	 * Tasks in one of the given statuses (a single value becomes an equality).
+	 */
+	public static <T> Specification<T> statusIn(Collection<String> statuses) {
+		return (root, query, cb) -> statuses.size() == 1
+			? cb.equal(root.get("status"), statuses.iterator().next())
+			: root.get("status").in(statuses);
+	}
+
+	/**
+	 * Tasks with one of the given priorities (a single value becomes an equality).
+	 */
+	public static <T> Specification<T> priorityIn(Collection<String> priorities) {
+		return (root, query, cb) -> priorities.size() == 1
+			? cb.equal(root.get("priority"), priorities.iterator().next())
+			: root.get("priority").in(priorities);
+	}
+
+	/**
+	 * Tasks assigned to the given user. Uses a correlated EXISTS on task_assignees
+	 * rather than a join, so each task is returned once without DISTINCT.
+	 */
+	public static <T> Specification<T> assignedTo(Long userId) {
+		return (root, query, cb) -> {
+			Subquery<Long> assignment = query.subquery(Long.class);
+			Root<T> task = assignment.correlate(root);
+			Join<T, User> assignee = task.join("assignees");
+			assignment.select(assignee.get("id")).where(cb.equal(assignee.get("id"), userId));
+			return cb.exists(assignment);
+		};
+	}
+
+	/**
+	 * Tasks due on the given date.
+	 */
+	public static <T> Specification<T> dueOn(LocalDate date) {
+		return (root, query, cb) -> cb.equal(root.get("dueDate"), date);
+	}
+
+	/**
+	 * Tasks due on or after the given date.
+	 */
+	public static <T> Specification<T> dueOnOrAfter(LocalDate date) {
+		return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("dueDate"), date);
+	}
+
+	/**
+	 * Tasks due on or before the given date.
+	 */
+	public static <T> Specification<T> dueOnOrBefore(LocalDate date) {
+		return (root, query, cb) -> cb.lessThanOrEqualTo(root.get("dueDate"), date);
+	}
+
+	private static boolean hasValues(Collection<String> values) {
+		return values != null && values.stream().anyMatch(value -> value != null && !value.isBlank());
+	}
+}
@@ -0,0 +1,26 @@
+package com.jeevlifeworks.Smart.Task.Manager.App.repository;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * Grouped status writes for status batches (PUT /api/tasks/status).
+ * Implemented by TaskStatusBatchRepositoryImpl and exposed through TaskRepository.
+ */
+public interface TaskStatusBatchRepository {
+
+	/**
+	 * Sets the same status on many tasks in one UPDATE, bumps their row
+	 * versions and stamps each task with its own change version, so delta
+	 * sync never sees two tasks of a batch at the same version.
+	 * The caller must hold the rows' locks (see TaskRepository.findStatesForUpdate);
+	 * only the assignee condition is checked again here.
+	 *
+	 * Accepts parameter changeVersionsById the tasks to update, mapped to the change version to stamp
+	 * Accepts parameter status the new status
+	 * Accepts parameter completedAt completion time if the new status is "Completed", null otherwise
+	 * Accepts parameter userId ID of the assignee making the change
+	 * return number of tasks updated
+	 */
+	int updateStatusByIds(Map<Long, Long> changeVersionsById, String status, LocalDateTime completedAt, Long userId);
+}
@@ -0,0 +1,56 @@
+package com.jeevlifeworks.Smart.Task.Manager.App.repository;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import com.jeevlifeworks.Smart.Task.Manager.App.Entity.Task;
+import com.jeevlifeworks.Smart.Task.Manager.App.Entity.User;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+
+/**
+ * Criteria API implementation of TaskStatusBatchRepository.
+ *
+ * The per-task change versions are written through a CASE on the task ID,
+ * which JPQL cannot express for a list whose length is only known at runtime.
+ */
+class TaskStatusBatchRepositoryImpl implements TaskStatusBatchRepository {
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	@Override
+	public int updateStatusByIds(Map<Long, Long> changeVersionsById, String status, LocalDateTime completedAt, Long userId) {
+		if (changeVersionsById.isEmpty()) {
+			return 0;
+		}
+		CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+		CriteriaUpdate<Task> update = cb.createCriteriaUpdate(Task.class);
+		Root<Task> task = update.from(Task.class);
+		Path<Long> id = task.get("id");
+		Path<Long> version = task.get("version");
+		Path<Long> changeVersion = task.get("changeVersion");
+
+		CriteriaBuilder.SimpleCase<Long, Long> newChangeVersion = cb.selectCase(id);
+		changeVersionsById.forEach((taskId, taskChangeVersion) -> newChangeVersion.when(taskId, taskChangeVersion));
+
+		// Same assignee condition as TaskRepository.updateStatusIfCurrent
+		Subquery<Long> assignee = update.subquery(Long.class);
+		Join<Task, User> assignees = assignee.correlate(task).join("assignees");
+		assignee.select(assignees.get("id")).where(cb.equal(assignees.get("id"), userId));
+
+		update.set(task.<String>get("status"), status)
+			.set(task.<LocalDateTime>get("completedAt"), completedAt)
+			.set(version, cb.sum(version, 1L))
+			.set(changeVersion, newChangeVersion.otherwise(changeVersion))
+			.where(id.in(changeVersionsById.keySet()), cb.exists(assignee));
+		return entityManager.createQuery(update).executeUpdate();
+	}
+}
@@ -1,13 +1,21 @@
 package com.jeevlifeworks.Smart.Task.Manager.App.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.jeevlifeworks.Smart.Task.Manager.App.Entity.RoleEnum;
 import com.jeevlifeworks.Smart.Task.Manager.App.Entity.User;
+import com.jeevlifeworks.Smart.Task.Manager.App.dto.UserEmailIdDto;
+
+import jakarta.persistence.QueryHint;
 
 /**
  * Repository interface for User entity.
@@ -18,12 +26,39 @@ public interface UserRepository extends JpaRepository<User, Long>{
 	
 	/**
      * Finds a user by their email.
+     * The result is kept in the query cache until the users table changes, and
+     * the user and their roles come from the second-level cache, so repeated
+     * lookups of the same email usually run no SQL at all.
      *
      * Accepts parameter email The email address to search for.
      * return Optional containing the User if found.
      */
+	@QueryHints({
+		@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+		@QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "users-by-email")
+	})
 	Optional<User> findByEmail(String email);
 	
+	/**
+     * Looks up only the ID of the user with the given email, without loading
+     * the user or their (eagerly fetched) roles.
+     *
+     * Accepts parameter email The email address to search for.
+     * return Optional containing the user's ID if found.
+     */
+	@Query("SELECT u.id FROM User u WHERE u.email = :email")
+	Optional<Long> findIdByEmail(@Param("email") String email);
+
+	/**
+     * Looks up the IDs of many users by email in one query, without loading them.
+     * Used to resolve the assignee emails of a CSV task import.
+     *
+     * Accepts parameter emails The email addresses to look up.
+     * return ID and email of every user found; unknown emails are simply absent.
+     */
+	@Query("SELECT u.id AS id, u.email AS email FROM User u WHERE u.email IN :emails")
+	List<UserEmailIdDto> findIdsByEmailIn(@Param("emails") Collection<String> emails);
+	
 	/**
      * Checks if a user exists with the given email.
      *
@@ -39,4 +74,14 @@ public interface UserRepository extends JpaRepository<User, Long>{
      * return List of Users having the specified role.
      */
 	List<User> findByRoles_Name(RoleEnum roleName);
+
+	/**
+     * Loads a set of users, with their roles, in a single query.
+     * Used to resolve all assignees of a bulk task import at once.
+     *
+     * Accepts parameter ids IDs of the users to load
+     * return the users found; missing IDs are simply absent
+     */
+	@Query("SELECT DISTINCT u FROM User u LEFT JOIN FETCH u.roles WHERE u.id IN :ids")
+	List<User> findAllWithRolesByIdIn(@Param("ids") Collection<Long> ids);
 }
@@ -1,8 +1,15 @@
 package com.jeevlifeworks.Smart.Task.Manager.App.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.jeevlifeworks.Smart.Task.Manager.App.Entity.VerificationToken;
@@ -21,4 +28,25 @@ public interface VerificationTokenRepository extends JpaRepository<VerificationT
      * return Optional containing the VerificationToken if found
      */
 	Optional<VerificationToken> findByToken(String token);
+
+	/**
+     * Finds the IDs of verification tokens that expired before the given time, oldest first.
+     * Scans the expiryDate index, so each chunk of the purge stays cheap.
+     *
+     * Accepts parameter expiredBefore cut-off time
+     * Accepts parameter limit maximum number of IDs (the purge chunk size)
+     * return IDs of expired tokens
+     */
+	@Query("SELECT t.id FROM VerificationToken t WHERE t.expiryDate < :expiredBefore ORDER BY t.expiryDate")
+	List<Long> findExpiredIds(@Param("expiredBefore") LocalDateTime expiredBefore, Limit limit);
+
+	/**
+     * Deletes the tokens with the given IDs.
+     *
+     * Accepts parameter ids IDs returned by findExpiredIds
+     * return number of deleted rows
+     */
+	@Modifying
+	@Query("DELETE FROM VerificationToken t WHERE t.id IN :ids")
+	int deleteByIds(@Param("ids") Collection<Long> ids);
 }
@@ -0,0 +1,46 @@
+package com.jeevlifeworks.Smart.Task.Manager.App.security;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.security.core.CredentialsContainer;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Security principal for an authenticated user.
+ * Besides the email (username) and authorities it carries the user's ID,
+ * so request handling can identify the user without another database lookup.
+ * The password is only present during login and is erased afterwards.
+ */
+@Getter
+@ToString(exclude = "password")
+public class AuthenticatedUser implements UserDetails, CredentialsContainer {
+
+	private static final long serialVersionUID = 1L;
+
+	private final Long id; // ID of the user
+	private final String username; // User's email address
+	private String password; // Encoded password, null outside of login
+	private final List<GrantedAuthority> authorities; // Roles granted to the user
+
+	public AuthenticatedUser(Long id, String username, String password, Collection<? extends GrantedAuthority> authorities) {
+		this.id = id;
+		this.username = username;
+		this.password = password;
+		this.authorities = List.copyOf(authorities);
+	}
+
+	@Override
+	public Collection<? extends GrantedAuthority> getAuthorities() {
+		return authorities;
+	}
+
+	@Override
+	public void eraseCredentials() {
+		this.password = null;
+	}
+}
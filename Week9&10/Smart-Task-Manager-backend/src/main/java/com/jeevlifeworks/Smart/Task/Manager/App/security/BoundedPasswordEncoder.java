@@ -0,0 +1,116 @@
+package com.jeevlifeworks.Smart.Task.Manager.App.security;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.jeevlifeworks.Smart.Task.Manager.App.exception.PasswordHashingBusyException;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * PasswordEncoder that runs the (deliberately slow) delegate on a bounded pool.
+ *
+ * Hashing and verifying passwords is CPU-bound, so the pool has one thread per
+ * core by default and a short queue. When both are full the caller is turned
+ * away at once with PasswordHashingBusyException (429) instead of queueing, so
+ * a burst of logins or registrations can only ever occupy pool + queue request
+ * threads, and those only wait rather than compete for the CPU.
+ *
+ * Every call is timed (including its wait in the queue) as auth.password.hashing,
+ * tagged with the operation (encode, matches) and the outcome (success,
+ * mismatch, rejected, error).
+ */
+@Slf4j
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+	private final PasswordEncoder delegate;
+
+	private final ThreadPoolExecutor workers;
+
+	private final MeterRegistry meterRegistry;
+
+	public BoundedPasswordEncoder(PasswordEncoder delegate, int threads, int queueCapacity, MeterRegistry meterRegistry) {
+		this.delegate = delegate;
+		this.meterRegistry = meterRegistry;
+		this.workers = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+				new ArrayBlockingQueue<>(queueCapacity), new CustomizableThreadFactory("password-hashing-"));
+		Gauge.builder("auth.password.hashing.queued", workers, executor -> executor.getQueue().size())
+				.description("Password hashing calls waiting for a thread").register(meterRegistry);
+		log.info("Password hashing runs on "+ threads +" threads with room for "+ queueCapacity +" waiting calls.");
+	}
+
+	@Override
+	public String encode(CharSequence rawPassword) {
+		return run("encode", () -> delegate.encode(rawPassword), encoded -> "success");
+	}
+
+	@Override
+	public boolean matches(CharSequence rawPassword, String encodedPassword) {
+		return run("matches", () -> delegate.matches(rawPassword, encodedPassword), matched -> matched ? "success" : "mismatch");
+	}
+
+	@Override
+	public boolean upgradeEncoding(String encodedPassword) {
+		// Only inspects the hash prefix, so it stays on the caller's thread
+		return delegate.upgradeEncoding(encodedPassword);
+	}
+
+	/**
+	 * Runs one delegate call on the pool and waits for its result.
+	 *
+	 * throws PasswordHashingBusyException if every thread is busy and the queue is full
+	 */
+	private <T> T run(String operation, Callable<T> call, Function<T, String> outcome) {
+		Timer.Sample sample = Timer.start(meterRegistry);
+		Future<T> future;
+		try {
+			future = workers.submit(call);
+		} catch (RejectedExecutionException e) {
+			sample.stop(timer(operation, "rejected"));
+			log.warn("Password hashing pool is saturated; rejected "+ operation +" call.");
+			throw new PasswordHashingBusyException("Too many sign-in attempts at the moment. Please try again shortly.");
+		}
+		try {
+			T result = future.get();
+			sample.stop(timer(operation, outcome.apply(result)));
+			return result;
+		} catch (ExecutionException e) {
+			sample.stop(timer(operation, "error"));
+			if (e.getCause() instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			throw new IllegalStateException("Password hashing failed", e.getCause());
+		} catch (InterruptedException e) {
+			future.cancel(true);
+			Thread.currentThread().interrupt();
+			sample.stop(timer(operation, "error"));
+			throw new IllegalStateException("Interrupted while waiting for password hashing", e);
+		}
+	}
+
+	private Timer timer(String operation, String outcome) {
+		return Timer.builder("auth.password.hashing")
+				.description("Time to hash or verify a password, including the wait for a thread")
+				.tag("operation", operation)
+				.tag("outcome", outcome)
+				.register(meterRegistry);
+	}
+
+	@PreDestroy
+	void shutdown() {
+		workers.shutdown();
+	}
+}
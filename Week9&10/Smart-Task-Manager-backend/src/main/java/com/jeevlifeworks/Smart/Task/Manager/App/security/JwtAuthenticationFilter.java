@@ -5,14 +5,12 @@ import java.io.IOException;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
-import com.jeevlifeworks.Smart.Task.Manager.App.service.UserDetailsServiceImpl;
-
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -28,7 +26,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter{
 	private JwtTokenUtil jwtUtil;
 	
     @Autowired 
-    private UserDetailsServiceImpl userDetailsService;
+    private PrincipalCache principalCache;
+    
+    private static final String TASK_STREAM_PATH = "/api/tasks/stream";
 
     /**
      * This method is called for every request. 
@@ -41,25 +41,24 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter{
     	try {
     		// Extracts the token from the request header using a helper method.
             String jwt = parseJwt(request);
-            if (jwt != null) {
-            	// Gets the email (username) encoded in the JWT
-                String userEmail = jwtUtil.extractUsername(jwt);
+            if (jwt != null && SecurityContextHolder.getContext().getAuthentication() == null) {
+            	// Verifies signature and expiry once and reads the claims (email, user ID, roles)
+                Claims claims = jwtUtil.parseToken(jwt);
                 
                 /**
-                 *  Ensures user isn't already authenticated.
-                 *  Loads user details from DB.
+                 *  Resolves the principal from the token claims via the principal cache.
+                 *  The database is only consulted if the user's roles changed or the
+                 *  user was deleted after the token was issued.
                  */
-                if (userEmail != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                    UserDetails userDetails = userDetailsService.loadUserByUsername(userEmail);
-                    //If the token is valid, a new authentication token is created with user roles/authorities.
-                    if (jwtUtil.validateToken(jwt, userDetails)) {
-                        UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
-                            userDetails, null, userDetails.getAuthorities());
-                        // Sets the authentication in the SecurityContextHolder, making the user officially "logged in" for this request.
-                        authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                        SecurityContextHolder.getContext().setAuthentication(authentication);
-                        log.debug("Authenticated user: "+ userEmail);
-                    }
+                if (claims != null && claims.getSubject() != null) {
+                    AuthenticatedUser principal = principalCache.resolve(claims);
+                    // A new authentication token is created with user roles/authorities.
+                    UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
+                        principal, null, principal.getAuthorities());
+                    // Sets the authentication in the SecurityContextHolder, making the user officially "logged in" for this request.
+                    authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                    SecurityContextHolder.getContext().setAuthentication(authentication);
+                    log.debug("Authenticated user: "+ principal.getUsername());
                 }
             }
         } catch (Exception e) {
@@ -78,6 +77,10 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter{
         if (StringUtils.hasText(headerAuth) && headerAuth.startsWith("Bearer ")) {
             return headerAuth.substring(7);
         }
+        // A browser EventSource cannot set headers, so the task stream also accepts the token as a query parameter
+        if (TASK_STREAM_PATH.equals(request.getServletPath()) && StringUtils.hasText(request.getParameter("access_token"))) {
+            return request.getParameter("access_token");
+        }
         return null;
     }
 }
@@ -1,9 +1,14 @@
 package com.jeevlifeworks.Smart.Task.Manager.App.security;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.util.Base64;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.HexFormat;
 import java.util.Map;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -12,24 +17,72 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.UnsupportedJwtException;
 import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * Issues and verifies the application's JWTs.
+ *
+ * The signing key and parser are built once. Verified claims are cached by the
+ * SHA-256 digest of the token until the token expires, so a client sending the
+ * same bearer token on every request pays for signature verification and JSON
+ * parsing only once. Only successfully verified tokens are cached; the cache is
+ * bounded and reports hits and misses as cache.gets{cache=jwt.claims}; the
+ * verifications done on a miss are timed as auth.jwt.verify.
+ * The cached claims are shared between requests and must not be modified.
+ */
 @Component
 @Slf4j
 public class JwtTokenUtil {
 
-	@Value("${app.jwt.secret}")
-	private String secret;
+	// Claim holding the user's role names
+	public static final String ROLES_CLAIM = "roles";
+
+	// Claim holding the user's ID
+	public static final String USER_ID_CLAIM = "uid";
+
+	private final long expiration;
+
+	private final Key signingKey;
 
-	@Value("${app.jwt.expiration}")
-	private long expiration;
+	private final JwtParser parser;
+
+	// Verified claims by token digest, each kept until its token expires
+	private final Cache<String, Claims> verifiedClaims;
+
+	private final Timer verifyTimer;
+
+	public JwtTokenUtil(@Value("${app.jwt.secret}") String secret,
+			@Value("${app.jwt.expiration}") long expiration,
+			@Value("${app.jwt.claims-cache.max-size:10000}") long claimsCacheSize,
+			MeterRegistry meterRegistry) {
+		this.expiration = expiration;
+		this.signingKey = getSigningKey(secret);
+		this.parser = Jwts.parserBuilder().setSigningKey(signingKey).build();
+		this.verifiedClaims = Caffeine.newBuilder()
+				.maximumSize(claimsCacheSize)
+				.expireAfter(Expiry.creating((String digest, Claims claims) -> untilExpiry(claims)))
+				.recordStats()
+				.build();
+		CaffeineCacheMetrics.monitor(meterRegistry, verifiedClaims, "jwt.claims");
+		this.verifyTimer = Timer.builder("auth.jwt.verify")
+				.description("Time to verify a token's signature and parse its claims").register(meterRegistry);
+	}
 
 	// Generate JWT token using user details
 	public String generateToken(UserDetails userDetails) {
@@ -37,11 +90,16 @@ public class JwtTokenUtil {
 		Map<String, Object> claims = new HashMap<>();
 		
 		// Extract the user's roles and add them to the claims map
-				claims.put("roles", userDetails.getAuthorities().stream()
+				claims.put(ROLES_CLAIM, userDetails.getAuthorities().stream()
 						.map(authority -> authority.getAuthority())
 						.collect(Collectors.toList()));
+		
+		// Add the user's ID so requests can be authenticated without loading the user
+		if (userDetails instanceof AuthenticatedUser authenticatedUser) {
+			claims.put(USER_ID_CLAIM, authenticatedUser.getId());
+		}
 				
-		log.info("Generating JWT for user: "+ userDetails.getUsername() + " with roles: " + claims.get("roles"));
+		log.info("Generating JWT for user: "+ userDetails.getUsername() + " with roles: " + claims.get(ROLES_CLAIM));
 		return createToken(claims, userDetails.getUsername());
 	}
 
@@ -52,29 +110,26 @@ public class JwtTokenUtil {
 				.setSubject(subject)
 				.setIssuedAt(new Date(System.currentTimeMillis()))
 				.setExpiration(new Date(System.currentTimeMillis() + expiration))
-				.signWith(getSigningKey(), SignatureAlgorithm.HS256)
+				.signWith(signingKey, SignatureAlgorithm.HS256)
 				.compact();
 	}
 
-	// Validates token: checks username and expiration
-	public Boolean validateToken(String token, UserDetails userDetails) {
+	// Verifies the token's signature and expiration; returns its claims, or null if the token is invalid
+	public Claims parseToken(String token) {
 		try {
-			final String username = extractUsername(token);
-			boolean isValid = username.equals(userDetails.getUsername()) && !isTokenExpired(token);
-			if (!isValid) {
-				log.warn("Invalid JWT: Token username does not match user details or is expired.");
-			}
-			return isValid;
+			return extractAllClaims(token);
 		} catch (MalformedJwtException e) {
 			log.error("Invalid JWT token: "+ e.getMessage());
 		} catch (ExpiredJwtException e) {
 			log.error("JWT token is expired: "+ e.getMessage());
 		} catch (UnsupportedJwtException e) {
 			log.error("JWT token is unsupported: "+ e.getMessage());
+		} catch (SignatureException e) {
+			log.error("Invalid JWT signature: "+ e.getMessage());
 		} catch (IllegalArgumentException e) {
 			log.error("JWT claims string is empty: "+ e.getMessage());
 		}
-		return false;
+		return null;
 	}
 
 	// Extract username from token
@@ -88,27 +143,32 @@ public class JwtTokenUtil {
 		return claimsResolver.apply(claims);
 	}
 
-	// Extract all claims from token
+	// Extract all claims from token, verifying it only if it is not cached yet
 	private Claims extractAllClaims(String token) {
-		return Jwts.parserBuilder()
-				.setSigningKey(getSigningKey())
-				.build()
-				.parseClaimsJws(token)
-				.getBody();
+		return verifiedClaims.get(digest(token), digest -> verifyTimer.record(() -> parser.parseClaimsJws(token).getBody()));
 	}
 
-	// Check if token is expired
-	private Boolean isTokenExpired(String token) {
-		return extractExpiration(token).before(new Date());
+	// Time left until the token expires; tokens without an expiry are kept for a token lifetime
+	private Duration untilExpiry(Claims claims) {
+		Date expiresAt = claims.getExpiration();
+		if (expiresAt == null) {
+			return Duration.ofMillis(expiration);
+		}
+		return Duration.ofMillis(Math.max(0, expiresAt.getTime() - System.currentTimeMillis()));
 	}
 
-	// Extract expiration time from token
-	private Date extractExpiration(String token) {
-		return extractClaim(token, Claims::getExpiration);
+	// SHA-256 of the token, so the cache does not hold usable bearer tokens
+	private static String digest(String token) {
+		try {
+			MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+			return HexFormat.of().formatHex(sha256.digest(token.getBytes(StandardCharsets.UTF_8)));
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 is not available", e);
+		}
 	}
 
 	// Generate signing key from base64-encoded secret
-	private Key getSigningKey() {
+	private static Key getSigningKey(String secret) {
 		byte[] keyBytes = Base64.getEncoder().encode(secret.getBytes());
 		return Keys.hmacShaKeyFor(keyBytes);
 	}
@@ -0,0 +1,140 @@
+package com.jeevlifeworks.Smart.Task.Manager.App.security;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.jeevlifeworks.Smart.Task.Manager.App.service.UserDetailsServiceImpl;
+
+import io.jsonwebtoken.Claims;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Resolves the principal for a verified JWT without a database round-trip.
+ *
+ * Tokens carry the user's ID ("uid") and roles, so the principal is normally
+ * built from the claims alone. When a user's roles change or the user is deleted,
+ * evict() records a revocation time; tokens issued before it (and older tokens
+ * without a "uid" claim) are resolved against the database instead. Those lookups
+ * go through a bounded, TTL-capped cache keyed by email, so a stale token costs
+ * one query per TTL rather than one per request. A deleted user fails the lookup
+ * and is not authenticated, and so does a token of a deleted account whose email
+ * has been registered again. Revocations are kept for the lifetime of a token,
+ * after which every token issued before them has expired. When more revocations
+ * are recorded than the cache holds, the dropped ones are folded into a single
+ * time before which every token is resolved against the database.
+ *
+ * The cache is local to this application instance.
+ */
+@Component
+@Slf4j
+public class PrincipalCache {
+
+	private final UserDetailsServiceImpl userDetailsService;
+
+	// Principals loaded from the database, by email
+	private final Cache<String, AuthenticatedUser> principals;
+
+	// Time of the last role change or deletion by email
+	private final Cache<String, Instant> revocations;
+
+	// Latest revocation dropped from the full revocations cache; tokens issued before it are stale
+	private final AtomicReference<Instant> droppedRevocationsUntil = new AtomicReference<>(Instant.EPOCH);
+
+	public PrincipalCache(UserDetailsServiceImpl userDetailsService,
+			@Value("${app.jwt.principal-cache.max-size:10000}") long maxSize,
+			@Value("${app.jwt.principal-cache.ttl:PT5M}") Duration ttl,
+			@Value("${app.jwt.principal-cache.revocations-max-size:100000}") long revocationsMaxSize,
+			@Value("${app.jwt.expiration}") long tokenLifetimeMillis) {
+		this.userDetailsService = userDetailsService;
+		this.principals = Caffeine.newBuilder()
+				.maximumSize(maxSize)
+				.expireAfterWrite(ttl)
+				.build();
+		this.revocations = Caffeine.newBuilder()
+				.maximumSize(revocationsMaxSize)
+				.expireAfterWrite(Duration.ofMillis(tokenLifetimeMillis))
+				.<String, Instant>evictionListener((email, revokedAt, cause) -> {
+					if (cause == RemovalCause.SIZE && revokedAt != null) {
+						droppedRevocationsUntil.accumulateAndGet(revokedAt, (current, dropped) -> dropped.isAfter(current) ? dropped : current);
+					}
+				})
+				.build();
+	}
+
+	/**
+	 * Returns the principal for a token whose signature and expiry have already been verified.
+	 *
+	 * Accepts parameter claims the token's claims
+	 * return the authenticated principal
+	 * throws UsernameNotFoundException if the token predates a revocation and its user no longer exists
+	 */
+	public AuthenticatedUser resolve(Claims claims) {
+		String email = claims.getSubject();
+		Long userId = claims.get(JwtTokenUtil.USER_ID_CLAIM, Long.class);
+		if (userId != null && !isStale(email, claims.getIssuedAt())) {
+			return fromClaims(claims);
+		}
+		// Claims can no longer be trusted (or the token predates the uid claim); ask the database
+		AuthenticatedUser principal = principals.get(email, this::load);
+		if (userId != null && !userId.equals(principal.getId())) {
+			// Cached entry belongs to an earlier account with the same email
+			principals.invalidate(email);
+			principal = principals.get(email, this::load);
+			if (!userId.equals(principal.getId())) {
+				// The token's account was deleted and the email registered again
+				throw new UsernameNotFoundException("User with id "+ userId +" no longer exists.");
+			}
+		}
+		return principal;
+	}
+
+	/**
+	 * Drops the cached principal of a user whose roles changed or who was deleted,
+	 * and makes tokens issued before now fall back to the database.
+	 *
+	 * Accepts parameter email the email of the affected user
+	 */
+	public void evict(String email) {
+		revocations.put(email, Instant.now());
+		principals.invalidate(email);
+		log.debug("Evicted cached principal for "+ email);
+	}
+
+	// JWT timestamps have second precision, so a token issued in the same second is treated as stale
+	private boolean isStale(String email, Date issuedAt) {
+		if (issuedAt == null || issuedAt.toInstant().isBefore(droppedRevocationsUntil.get())) {
+			return true;
+		}
+		Instant revokedAt = revocations.getIfPresent(email);
+		return revokedAt != null && issuedAt.toInstant().isBefore(revokedAt);
+	}
+
+	private AuthenticatedUser load(String email) {
+		log.debug("Loading principal for "+ email +" from the database.");
+		return (AuthenticatedUser) userDetailsService.loadUserByUsername(email);
+	}
+
+	private AuthenticatedUser fromClaims(Claims claims) {
+		Collection<?> roles = claims.get(JwtTokenUtil.ROLES_CLAIM, List.class);
+		return new AuthenticatedUser(
+				claims.get(JwtTokenUtil.USER_ID_CLAIM, Long.class),
+				claims.getSubject(),
+				null,
+				roles == null ? List.of() : roles.stream()
+						.map(role -> new SimpleGrantedAuthority(role.toString()))
+						.collect(Collectors.toList()));
+	}
+}
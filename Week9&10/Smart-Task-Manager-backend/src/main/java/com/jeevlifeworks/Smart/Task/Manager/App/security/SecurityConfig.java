@@ -3,6 +3,8 @@ package com.jeevlifeworks.Smart.Task.Manager.App.security;
 import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.security.servlet.EndpointRequest;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -24,6 +26,9 @@ import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 
 import com.jeevlifeworks.Smart.Task.Manager.App.service.UserDetailsServiceImpl;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
+
 /**
  * Configuration class for Spring Security setup.
  * It sets up authentication, authorization, and security filter chain using JWT.
@@ -42,11 +47,16 @@ public class SecurityConfig {
 
 	/**
 	 * Bean for password encoding using BCrypt algorithm.
-	 * Used for hashing user passwords.
+	 * Used for hashing user passwords. BCrypt runs on a bounded pool (one thread
+	 * per core unless configured), so login and registration bursts are turned
+	 * away with 429 instead of tying up request threads.
 	 */
 	@Bean
-	public PasswordEncoder passwordEncoder() {
-		return new BCryptPasswordEncoder();
+	public PasswordEncoder passwordEncoder(MeterRegistry meterRegistry,
+			@Value("${app.password-hashing.threads:0}") int threads,
+			@Value("${app.password-hashing.queue-capacity:32}") int queueCapacity) {
+		int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+		return new BoundedPasswordEncoder(new BCryptPasswordEncoder(), poolSize, queueCapacity, meterRegistry);
 	}
 
 	/**
@@ -54,10 +64,10 @@ public class SecurityConfig {
 	 * Connects Spring Security with our custom user fetching logic.
 	 */
 	@Bean
-	public DaoAuthenticationProvider authenticationProvider() {
+	public DaoAuthenticationProvider authenticationProvider(PasswordEncoder passwordEncoder) {
 		DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider();
 		authProvider.setUserDetailsService(userDetailsService); // Custom logic to fetch user
-		authProvider.setPasswordEncoder(passwordEncoder()); // Use BCrypt for password matching
+		authProvider.setPasswordEncoder(passwordEncoder); // Use BCrypt for password matching
 		return authProvider;
 	}
 
@@ -74,22 +84,26 @@ public class SecurityConfig {
 	 * Configures the HTTP security filter chain:
 	 * - Disables CSRF (since we use JWT, not sessions)
 	 * - Sets session policy to STATELESS
-	 * - Allows unauthenticated access to auth and Swagger endpoints
+	 * - Allows unauthenticated access to auth and Swagger endpoints, health checks and Prometheus scrapes
 	 * - Secures all other endpoints
 	 * - Adds JWT filter before UsernamePasswordAuthenticationFilter
 	 */
 	@Bean
-	public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+	public SecurityFilterChain filterChain(HttpSecurity http, DaoAuthenticationProvider authenticationProvider) throws Exception {
 		http.csrf(csrf -> csrf.disable())
 		.cors(cors -> cors.configurationSource(corsConfigurationSource()))
 		.sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
 		.authorizeHttpRequests(auth -> auth
 				.requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
+				// Completing a long-lived response (the task stream) re-dispatches the already authorized request
+				.dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
 				.requestMatchers("/api/auth/**").permitAll() // Public endpoints for auth
+				// Health checks and Prometheus scrapes; management.server.port keeps them off the public port
+				.requestMatchers(EndpointRequest.to("health", "prometheus")).permitAll()
 				.anyRequest().authenticated() // All other endpoints require authentication
 				);
 
-		http.authenticationProvider(authenticationProvider()); // Set the authentication provider
+		http.authenticationProvider(authenticationProvider); // Set the authentication provider
 		http.addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class); // Add JWT filter
 
 		// Build the security chain
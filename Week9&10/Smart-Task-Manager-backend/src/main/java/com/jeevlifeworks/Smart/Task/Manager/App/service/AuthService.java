@@ -25,6 +25,7 @@ import com.jeevlifeworks.Smart.Task.Manager.App.repository.RoleRepository;
 import com.jeevlifeworks.Smart.Task.Manager.App.repository.UserRepository;
 import com.jeevlifeworks.Smart.Task.Manager.App.repository.VerificationTokenRepository;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -33,6 +34,7 @@ import lombok.extern.slf4j.Slf4j;
  */
 @Service
 @Slf4j
+@Timed("auth.service")
 public class AuthService {
 
 	@Autowired 
@@ -53,6 +55,10 @@ public class AuthService {
 	@Autowired 
 	private EmailService emailService;
 
+	// Moves the ETag of the user list whenever a user is written
+	@Autowired 
+	private VersionStamps versionStamps;
+
 	/**
 	 * Registers a new user after validating that email is unique.
 	 * Encodes password, assigns default ROLE_EMPLOYEE, creates verification token,
@@ -87,6 +93,7 @@ public class AuthService {
 
 		// Save user to database
 		User savedUser = userRepository.save(user);
+		versionStamps.usersChanged();
 		log.info("User registered successfully. User ID: "+ savedUser.getId());
 
 		// Create and save verification token
@@ -100,7 +107,7 @@ public class AuthService {
 
 		// Send verification email
 		emailService.sendVerificationEmail(savedUser.getEmail(), token);
-		log.info("Verification email sent to: "+ savedUser.getEmail());
+		log.info("Verification email queued for: "+ savedUser.getEmail());
 
 		return savedUser;
 	}
@@ -133,6 +140,7 @@ public class AuthService {
 		User user = verificationToken.getUser();
 		user.setEnabled(true);
 		userRepository.save(user);
+		versionStamps.usersChanged();
 		// Delete verification token after successful confirmation
 		verificationTokenRepository.delete(verificationToken);
 		log.info("User "+ user.getEmail() +" account confirmed and enabled.");
@@ -166,7 +174,7 @@ public class AuthService {
 
 		// Send password reset email with token link
 		emailService.sendPasswordResetEmail(user.getEmail(), token);
-		log.info("Password reset email sent to: "+ user.getEmail());
+		log.info("Password reset email queued for: "+ user.getEmail());
 	}
 
 	/**
@@ -198,6 +206,7 @@ public class AuthService {
 		User user = resetToken.getUser();
 		user.setPassword(passwordEncoder.encode(newPassword));
 		userRepository.save(user);
+		versionStamps.usersChanged();
 		// Delete token after successful reset
 		passwordResetTokenRepository.delete(resetToken);
 		log.info("Password successfully reset for user: "+ user.getEmail());
@@ -0,0 +1,119 @@
+package com.jeevlifeworks.Smart.Task.Manager.App.service;
+
+import java.io.IOException;
+import java.io.PushbackReader;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads CSV records (RFC 4180) one at a time from a character stream, so a
+ * file of any size is parsed with only the current record in memory.
+ *
+ * Fields may be quoted; inside quotes, commas and line breaks are data and ""
+ * is a quote. Records end at LF, CRLF or CR. Blank lines are skipped. Line
+ * numbers are counted in the file, so a record with quoted line breaks spans
+ * several of them.
+ */
+final class CsvRecordReader {
+
+	/**
+	 * The file ends inside a quoted field; nothing after the opening quote can be read.
+	 */
+	static final class MalformedCsvException extends IOException {
+
+		MalformedCsvException(String message) {
+			super(message);
+		}
+	}
+
+	private final PushbackReader reader;
+
+	// Line the next character is on, and the line the last record started on
+	private int line = 1;
+	private int recordLine;
+
+	CsvRecordReader(Reader reader) {
+		this.reader = new PushbackReader(reader, 1);
+	}
+
+	/**
+	 * Line of the file the last record returned by next() started on.
+	 */
+	int getRecordLine() {
+		return recordLine;
+	}
+
+	/**
+	 * Reads the next record.
+	 *
+	 * return the record's fields, or null at the end of the input
+	 * throws MalformedCsvException if a quoted field is never closed
+	 */
+	List<String> next() throws IOException {
+		int c = reader.read();
+		while (c == '\r' || c == '\n') { // blank lines
+			endLine(c);
+			c = reader.read();
+		}
+		if (c == -1) {
+			return null;
+		}
+		recordLine = line;
+		List<String> fields = new ArrayList<>();
+		StringBuilder field = new StringBuilder();
+		boolean inQuotes = false;
+		while (true) {
+			if (inQuotes) {
+				if (c == -1) {
+					throw new MalformedCsvException("Quoted field starting on line " + recordLine + " is never closed.");
+				}
+				if (c == '"') {
+					int following = reader.read();
+					if (following == '"') {
+						field.append('"');
+					} else {
+						inQuotes = false;
+						if (following != -1) {
+							reader.unread(following);
+						}
+					}
+				} else {
+					if (c == '\r' || c == '\n') {
+						endLine(c);
+						field.append('\n');
+					} else {
+						field.append((char) c);
+					}
+				}
+			} else if (c == '"' && field.length() == 0) {
+				inQuotes = true;
+			} else if (c == ',') {
+				fields.add(field.toString());
+				field.setLength(0);
+			} else if (c == '\r' || c == '\n' || c == -1) {
+				fields.add(field.toString());
+				if (c != -1) {
+					endLine(c);
+				}
+				return fields;
+			} else {
+				field.append((char) c);
+			}
+			c = reader.read();
+		}
+	}
+
+	/**
+	 * Counts a line break, consuming the LF of a CRLF.
+	 */
+	private void endLine(int c) throws IOException {
+		if (c == '\r') {
+			int following = reader.read();
+			if (following != '\n' && following != -1) {
+				reader.unread(following);
+			}
+		}
+		line++;
+	}
+}
@@ -0,0 +1,83 @@
+package com.jeevlifeworks.Smart.Task.Manager.App.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import com.jeevlifeworks.Smart.Task.Manager.App.Entity.RoleEnum;
+import com.jeevlifeworks.Smart.Task.Manager.App.Entity.User;
+import com.jeevlifeworks.Smart.Task.Manager.App.exception.ResourceNotFoundException;
+import com.jeevlifeworks.Smart.Task.Manager.App.repository.UserRepository;
+import com.jeevlifeworks.Smart.Task.Manager.App.security.AuthenticatedUser;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Resolves the authenticated user for the services.
+ *
+ * The principal set by the JWT filter already carries the user's ID and
+ * roles, so most callers never need the User entity. Where they do, it is
+ * loaded once per HTTP request and kept in the request attributes; the
+ * lookup by email itself is served from the second-level cache. Outside a
+ * request (scheduled jobs, tests) every call looks the user up.
+ */
+@Service
+@Slf4j
+public class CurrentUserResolver {
+
+	private static final String USER_ATTRIBUTE = CurrentUserResolver.class.getName() + ".user";
+
+	@Autowired
+	private UserRepository userRepository;
+
+	/**
+	 * Returns the user's ID, taken from the principal if it carries one.
+	 *
+	 * Accepts parameter userDetails the authenticated user's details
+	 * return the user's ID
+	 * throws ResourceNotFoundException if the user no longer exists
+	 */
+	public Long getId(UserDetails userDetails) {
+		if (userDetails instanceof AuthenticatedUser authenticatedUser) {
+			return authenticatedUser.getId();
+		}
+		return getUser(userDetails).getId();
+	}
+
+	/**
+	 * Returns the User entity of the authenticated user, loading it at most
+	 * once per request. The entity is detached after the first transaction
+	 * and must only be read or used as a reference.
+	 *
+	 * Accepts parameter userDetails the authenticated user's details
+	 * return the User entity
+	 * throws ResourceNotFoundException if the user no longer exists
+	 */
+	public User getUser(UserDetails userDetails) {
+		RequestAttributes request = RequestContextHolder.getRequestAttributes();
+		if (request != null && request.getAttribute(USER_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST) instanceof User user
+				&& user.getEmail().equals(userDetails.getUsername())) {
+			return user;
+		}
+		User user = userRepository.findByEmail(userDetails.getUsername())
+			.orElseThrow(() -> {
+				log.error("Authenticated user not found in database: "+ userDetails.getUsername());
+				return new ResourceNotFoundException("Authenticated user not found.");
+			});
+		if (request != null) {
+			request.setAttribute(USER_ATTRIBUTE, user, RequestAttributes.SCOPE_REQUEST);
+		}
+		return user;
+	}
+
+	/**
+	 * Tells whether the user holds the employee role and is therefore limited to their own tasks.
+	 * Read from the principal's authorities, which follow role changes (see PrincipalCache).
+	 */
+	public boolean isEmployee(UserDetails userDetails) {
+		return userDetails.getAuthorities().stream()
+			.anyMatch(authority -> RoleEnum.ROLE_EMPLOYEE.name().equals(authority.getAuthority()));
+	}
+}
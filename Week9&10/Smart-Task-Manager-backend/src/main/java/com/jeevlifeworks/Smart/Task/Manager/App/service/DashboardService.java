@@ -0,0 +1,201 @@
+package com.jeevlifeworks.Smart.Task.Manager.App.service;
+
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.jeevlifeworks.Smart.Task.Manager.App.Entity.RoleEnum;
+import com.jeevlifeworks.Smart.Task.Manager.App.dto.DashboardAnalyticsDto;
+import com.jeevlifeworks.Smart.Task.Manager.App.dto.TaskDistributionDto;
+import com.jeevlifeworks.Smart.Task.Manager.App.dto.TaskStatusCountDto;
+import com.jeevlifeworks.Smart.Task.Manager.App.event.TaskChangeEvent;
+import com.jeevlifeworks.Smart.Task.Manager.App.repository.ArchivedTaskRepository;
+import com.jeevlifeworks.Smart.Task.Manager.App.repository.TaskRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Serves the dashboard analytics from in-memory counters instead of scanning tasks.
+ *
+ * One set of counters covers all tasks (shown to admins and managers) and one
+ * set per assignee (shown to employees). Each holds the task count per status
+ * and the number of overdue tasks. The counters are updated incrementally from
+ * the TaskChangeEvents published by TaskService once their transaction commits,
+ * and rebuilt periodically from GROUP BY queries over the tasks table and
+ * its archive (archived tasks still count as completed tasks).
+ *
+ * The reconciliation also corrects what events cannot see: tasks becoming
+ * overdue as days pass, rows changed outside TaskService, and the few events
+ * that commit while a rebuild is running. Between rebuilds the counters may
+ * therefore drift slightly from the table.
+ */
+@Service
+@Slf4j
+public class DashboardService {
+
+	// Tasks in this status are done and never overdue
+	private static final String COMPLETED = "Completed";
+
+	// Distribution key for tasks without a status
+	private static final String NO_STATUS = "Unknown";
+
+	@Autowired
+	private TaskRepository taskRepository;
+
+	@Autowired
+	private ArchivedTaskRepository archivedTaskRepository;
+
+	@Autowired
+	private CurrentUserResolver currentUserResolver;
+
+	// Replaced as a whole by reconcile(); events update whichever set is current
+	private volatile CounterSet counters = new CounterSet();
+
+	/**
+	 * Applies a committed task change to the global counters and to the
+	 * counters of every assignee of the task.
+	 *
+	 * Accepts parameter event the change published by TaskService
+	 */
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+	public void onTaskChange(TaskChangeEvent event) {
+		CounterSet current = counters;
+		LocalDate today = LocalDate.now();
+		apply(current.global, event, today);
+		event.getAssigneeIds().forEach(userId -> apply(current.forUser(userId), event, today));
+		log.debug("Dashboard counters updated for "+ event);
+	}
+
+	/**
+	 * Rebuilds all counters from the database.
+	 * Runs on startup and on the configured schedule.
+	 * Not read-only, so it reads the primary: a lagging replica would drop
+	 * changes whose events have already been applied.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	@Scheduled(cron = "${task.dashboard.reconcile-cron:0 */5 * * * *}")
+	@Transactional
+	public void reconcile() {
+		LocalDate today = LocalDate.now();
+		CounterSet rebuilt = new CounterSet();
+		taskRepository.countByStatus(today, COMPLETED)
+			.forEach(row -> rebuilt.global.add(row.getStatus(), row.getCount(), row.getOverdue()));
+		taskRepository.countByAssigneeAndStatus(today, COMPLETED)
+			.forEach(row -> rebuilt.forUser(row.getUserId()).add(row.getStatus(), row.getCount(), row.getOverdue()));
+		archivedTaskRepository.countByStatus(today, COMPLETED)
+			.forEach(row -> rebuilt.global.add(row.getStatus(), row.getCount(), row.getOverdue()));
+		archivedTaskRepository.countByAssigneeAndStatus(today, COMPLETED)
+			.forEach(row -> rebuilt.forUser(row.getUserId()).add(row.getStatus(), row.getCount(), row.getOverdue()));
+		counters = rebuilt;
+		log.info("Dashboard counters reconciled: "+ rebuilt.global.total.sum() +" tasks, "+ rebuilt.byUser.size() +" assignees.");
+	}
+
+	/**
+	 * Returns the dashboard analytics for the given user.
+	 * Admins and managers see the counts of all tasks; employees see the
+	 * counts of the tasks assigned to them.
+	 *
+	 * Accepts parameter userDetails the authenticated user's details
+	 * return assigned/completed/pending/overdue counts and the per-status distribution
+	 */
+	public DashboardAnalyticsDto getDashboard(UserDetails userDetails) {
+		CounterSet current = counters;
+		boolean seesAllTasks = userDetails.getAuthorities().stream()
+			.map(GrantedAuthority::getAuthority)
+			.anyMatch(role -> role.equals(RoleEnum.ROLE_ADMIN.name()) || role.equals(RoleEnum.ROLE_MANAGER.name()));
+		Counters scope = seesAllTasks
+			? current.global
+			: current.byUser.getOrDefault(currentUserResolver.getId(userDetails), new Counters());
+		return scope.toDto();
+	}
+
+	/**
+	 * Moves one task out of its old status (if any) and into its new one (unless deleted).
+	 * Archived tasks keep being counted, so archival changes nothing.
+	 */
+	private void apply(Counters scope, TaskChangeEvent event, LocalDate today) {
+		if (event.getType() == TaskChangeEvent.Type.ARCHIVED) {
+			return;
+		}
+		if (event.getType() != TaskChangeEvent.Type.CREATED) {
+			scope.add(event.getOldStatus(), -1, isOverdue(event.getDueDate(), event.getOldStatus(), today) ? -1 : 0);
+		}
+		if (event.getType() != TaskChangeEvent.Type.DELETED) {
+			scope.add(event.getNewStatus(), 1, isOverdue(event.getDueDate(), event.getNewStatus(), today) ? 1 : 0);
+		}
+	}
+
+	/**
+	 * A task is overdue when its due date has passed and it is not completed.
+	 */
+	private static boolean isOverdue(LocalDate dueDate, String status, LocalDate today) {
+		return dueDate != null && dueDate.isBefore(today) && !COMPLETED.equals(status);
+	}
+
+	/**
+	 * The global counters plus one set per assignee.
+	 */
+	private static class CounterSet {
+
+		private final Counters global = new Counters();
+		private final Map<Long, Counters> byUser = new ConcurrentHashMap<>();
+
+		Counters forUser(Long userId) {
+			return byUser.computeIfAbsent(userId, id -> new Counters());
+		}
+	}
+
+	/**
+	 * Task counts for one scope. LongAdders keep concurrent updates cheap;
+	 * a read sums them without locking.
+	 */
+	private static class Counters {
+
+		private final LongAdder total = new LongAdder();
+		private final LongAdder overdue = new LongAdder();
+		private final Map<String, LongAdder> byStatus = new ConcurrentHashMap<>();
+
+		void add(String status, long count, long overdueCount) {
+			total.add(count);
+			overdue.add(overdueCount);
+			byStatus.computeIfAbsent(Objects.requireNonNullElse(status, NO_STATUS), key -> new LongAdder()).add(count);
+		}
+
+		DashboardAnalyticsDto toDto() {
+			List<TaskDistributionDto> distribution = byStatus.entrySet().stream()
+				.map(entry -> new TaskDistributionDto(entry.getKey(), entry.getValue().sum()))
+				.filter(entry -> entry.getCount() > 0)
+				.sorted(Comparator.comparing(TaskDistributionDto::getStatus))
+				.collect(Collectors.toList());
+			long assigned = total.sum();
+			long completed = distribution.stream()
+				.filter(entry -> entry.getStatus().equals(COMPLETED))
+				.mapToLong(TaskDistributionDto::getCount)
+				.sum();
+
+			DashboardAnalyticsDto dto = new DashboardAnalyticsDto();
+			dto.setAssignedCount(assigned);
+			dto.setCompletedCount(completed);
+			dto.setPendingCount(assigned - completed);
+			dto.setOverdueCount(overdue.sum());
+			dto.setTaskDistribution(distribution);
+			return dto;
+		}
+	}
+}
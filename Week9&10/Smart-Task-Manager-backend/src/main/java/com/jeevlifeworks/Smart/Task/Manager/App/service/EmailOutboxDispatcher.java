@@ -0,0 +1,288 @@
+package com.jeevlifeworks.Smart.Task.Manager.App.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.jeevlifeworks.Smart.Task.Manager.App.Entity.EmailOutbox;
+import com.jeevlifeworks.Smart.Task.Manager.App.Entity.EmailOutboxStatus;
+import com.jeevlifeworks.Smart.Task.Manager.App.repository.EmailOutboxRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Background sender that drains the email outbox.
+ *
+ * A scheduled poller claims due PENDING rows in batches (FOR UPDATE SKIP LOCKED,
+ * then marked SENDING) and hands each batch to a small worker pool. A worker sends
+ * the whole batch through one JavaMailSender call, which opens a single SMTP
+ * connection for all messages, then records the outcome per message: SENT, or
+ * PENDING with exponential backoff, or FAILED once max attempts is reached.
+ *
+ * Delivery is at-least-once: a batch claimed by a worker that dies before reporting
+ * back is reclaimed after the claim timeout and may be sent again.
+ */
+@Service
+@Slf4j
+public class EmailOutboxDispatcher {
+
+	private final EmailOutboxRepository emailOutboxRepository;
+	private final JavaMailSender mailSender;
+	private final TransactionTemplate transactionTemplate;
+	private final ThreadPoolExecutor workers;
+
+	// Retrieves the sender's email address from application.properties
+	@Value("${spring.mail.username}")
+	private String fromEmail;
+
+	// Maximum number of emails sent over one SMTP connection
+	@Value("${email.outbox.batch-size:50}")
+	private int batchSize;
+
+	// Delivery attempts before an email is marked FAILED
+	@Value("${email.outbox.max-attempts:5}")
+	private int maxAttempts;
+
+	// Delay before the first retry; doubled on every further attempt
+	@Value("${email.outbox.initial-backoff:PT30S}")
+	private Duration initialBackoff;
+
+	// Upper bound for the retry delay
+	@Value("${email.outbox.max-backoff:PT30M}")
+	private Duration maxBackoff;
+
+	// Claims older than this are treated as abandoned by a crashed worker
+	@Value("${email.outbox.claim-timeout:PT5M}")
+	private Duration claimTimeout;
+
+	// How long delivered emails are kept before being purged
+	@Value("${email.outbox.sent-retention:P7D}")
+	private Duration sentRetention;
+
+	// Batches currently being sent by the worker pool
+	private final AtomicInteger inFlightBatches = new AtomicInteger();
+
+	// Queue depth, so metric scrapes never hit the database. Refreshed on the maintenance
+	// schedule (which also picks up newly queued emails) and on the first poll after a claim
+	// or a delivery outcome changed the counts; idle polls do not count the outbox
+	private final AtomicLong pendingDepth = new AtomicLong();
+	private final AtomicLong failedDepth = new AtomicLong();
+	private final AtomicBoolean depthChanged = new AtomicBoolean(true);
+
+	private final Counter sentCounter;
+	private final Counter retriedCounter;
+	private final Counter failedCounter;
+	private final Timer batchTimer;
+
+	public EmailOutboxDispatcher(EmailOutboxRepository emailOutboxRepository,
+			JavaMailSender mailSender,
+			PlatformTransactionManager transactionManager,
+			MeterRegistry meterRegistry,
+			@Value("${email.outbox.dispatcher-threads:2}") int dispatcherThreads) {
+		this.emailOutboxRepository = emailOutboxRepository;
+		this.mailSender = mailSender;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		// One batch per thread plus one waiting batch each; the poller never claims more than that
+		this.workers = new ThreadPoolExecutor(dispatcherThreads, dispatcherThreads, 0L, TimeUnit.MILLISECONDS,
+				new ArrayBlockingQueue<>(dispatcherThreads), new CustomizableThreadFactory("email-dispatch-"));
+
+		Gauge.builder("email.outbox.depth", pendingDepth, AtomicLong::get)
+				.description("Emails waiting in the outbox").tag("status", "pending").register(meterRegistry);
+		Gauge.builder("email.outbox.depth", failedDepth, AtomicLong::get)
+				.description("Emails waiting in the outbox").tag("status", "failed").register(meterRegistry);
+		this.sentCounter = Counter.builder("email.outbox.dispatched")
+				.description("Email delivery attempts by outcome").tag("outcome", "sent").register(meterRegistry);
+		this.retriedCounter = Counter.builder("email.outbox.dispatched")
+				.description("Email delivery attempts by outcome").tag("outcome", "retry").register(meterRegistry);
+		this.failedCounter = Counter.builder("email.outbox.dispatched")
+				.description("Email delivery attempts by outcome").tag("outcome", "failed").register(meterRegistry);
+		this.batchTimer = Timer.builder("email.outbox.batch")
+				.description("Time to send one batch over a single SMTP connection").register(meterRegistry);
+	}
+
+	/**
+	 * Polls the outbox and dispatches as many batches as there are free workers.
+	 * Runs on a fixed delay configured by email.outbox.poll-interval.
+	 */
+	@Scheduled(fixedDelayString = "${email.outbox.poll-interval:PT2S}", initialDelayString = "${email.outbox.poll-interval:PT2S}")
+	public void dispatchPending() {
+		if (depthChanged.getAndSet(false)) {
+			refreshQueueDepth();
+		}
+		int capacity = workers.getMaximumPoolSize() * 2;
+		while (inFlightBatches.get() < capacity) {
+			List<EmailOutbox> batch = claimBatch();
+			if (batch.isEmpty()) {
+				return;
+			}
+			inFlightBatches.incrementAndGet();
+			workers.execute(() -> {
+				try {
+					sendBatch(batch);
+				} finally {
+					inFlightBatches.decrementAndGet();
+				}
+			});
+		}
+	}
+
+	/**
+	 * Returns abandoned claims to the queue and purges old delivered rows.
+	 */
+	@Scheduled(fixedDelayString = "${email.outbox.maintenance-interval:PT1M}")
+	public void maintainOutbox() {
+		LocalDateTime now = LocalDateTime.now();
+		transactionTemplate.executeWithoutResult(status -> {
+			int reclaimed = emailOutboxRepository.reclaimAbandoned(now.minus(claimTimeout));
+			if (reclaimed > 0) {
+				log.warn("Reclaimed "+ reclaimed +" outbox emails abandoned by a dispatcher worker.");
+			}
+			int purged = emailOutboxRepository.deleteSentBefore(now.minus(sentRetention));
+			if (purged > 0) {
+				log.info("Purged "+ purged +" delivered emails from the outbox.");
+			}
+		});
+		refreshQueueDepth();
+	}
+
+	/**
+	 * Locks the next due batch and marks it SENDING in its own short transaction.
+	 */
+	List<EmailOutbox> claimBatch() {
+		List<EmailOutbox> claimed = transactionTemplate.execute(status -> {
+			LocalDateTime now = LocalDateTime.now();
+			List<EmailOutbox> batch = emailOutboxRepository.findDueForDispatch(now, Limit.of(batchSize));
+			batch.forEach(email -> {
+				email.setStatus(EmailOutboxStatus.SENDING);
+				email.setClaimedAt(now);
+			});
+			return batch;
+		});
+		if (!claimed.isEmpty()) {
+			depthChanged.set(true);
+		}
+		return claimed;
+	}
+
+	/**
+	 * Sends a claimed batch over one SMTP connection and records the result of each message.
+	 */
+	void sendBatch(List<EmailOutbox> batch) {
+		Map<SimpleMailMessage, EmailOutbox> byMessage = new IdentityHashMap<>();
+		for (EmailOutbox email : batch) {
+			SimpleMailMessage message = new SimpleMailMessage();
+			message.setFrom(fromEmail);
+			message.setTo(email.getRecipient());
+			message.setSubject(email.getSubject());
+			message.setText(email.getBody());
+			byMessage.put(message, email);
+		}
+
+		Map<EmailOutbox, Exception> failures = new IdentityHashMap<>();
+		Timer.Sample sample = Timer.start();
+		try {
+			mailSender.send(byMessage.keySet().toArray(new SimpleMailMessage[0]));
+		} catch (MailSendException e) {
+			// Per-message failures are reported here; if none are listed the whole batch failed
+			if (e.getFailedMessages().isEmpty()) {
+				batch.forEach(email -> failures.put(email, e));
+			} else {
+				e.getFailedMessages().forEach((message, cause) -> failures.put(byMessage.get(message), cause));
+			}
+		} catch (MailException e) {
+			batch.forEach(email -> failures.put(email, e));
+		} finally {
+			sample.stop(batchTimer);
+		}
+
+		recordOutcome(batch, failures);
+	}
+
+	/**
+	 * Marks delivered emails SENT and schedules retries (or gives up) for the failed ones.
+	 */
+	private void recordOutcome(List<EmailOutbox> batch, Map<EmailOutbox, Exception> failures) {
+		LocalDateTime now = LocalDateTime.now();
+		List<Long> sentIds = new ArrayList<>();
+		batch.stream().filter(email -> !failures.containsKey(email)).forEach(email -> sentIds.add(email.getId()));
+
+		transactionTemplate.executeWithoutResult(status -> {
+			if (!sentIds.isEmpty()) {
+				emailOutboxRepository.markSent(sentIds, now);
+			}
+			failures.forEach((email, cause) -> {
+				int attempts = email.getAttempts() + 1;
+				boolean giveUp = attempts >= maxAttempts;
+				String error = cause.getMessage() == null ? cause.getClass().getSimpleName() : cause.getMessage();
+				emailOutboxRepository.markFailedAttempt(email.getId(),
+						giveUp ? EmailOutboxStatus.FAILED : EmailOutboxStatus.PENDING,
+						attempts,
+						now.plus(backoffFor(attempts)),
+						error.length() > 1000 ? error.substring(0, 1000) : error);
+				if (giveUp) {
+					log.error("Giving up on email "+ email.getId() +" to "+ email.getRecipient() +" after "+ attempts +" attempts. Error: "+ error);
+				} else {
+					log.warn("Failed to send email "+ email.getId() +" to "+ email.getRecipient() +" (attempt "+ attempts +"), will retry. Error: "+ error);
+				}
+			});
+		});
+
+		depthChanged.set(true);
+		sentCounter.increment(sentIds.size());
+		failures.keySet().forEach(email -> (email.getAttempts() + 1 >= maxAttempts ? failedCounter : retriedCounter).increment());
+		log.info("Email batch dispatched: "+ sentIds.size() +" sent, "+ failures.size() +" failed.");
+	}
+
+	/**
+	 * Exponential backoff: initialBackoff * 2^(attempts - 1), capped at maxBackoff.
+	 */
+	Duration backoffFor(int attempts) {
+		Duration delay = initialBackoff.multipliedBy(1L << Math.min(attempts - 1, 20));
+		return delay.compareTo(maxBackoff) > 0 ? maxBackoff : delay;
+	}
+
+	/**
+	 * Re-reads the number of pending and failed emails for the queue-depth gauges.
+	 */
+	private void refreshQueueDepth() {
+		pendingDepth.set(emailOutboxRepository.countByStatus(EmailOutboxStatus.PENDING));
+		failedDepth.set(emailOutboxRepository.countByStatus(EmailOutboxStatus.FAILED));
+	}
+
+	/**
+	 * Lets in-flight batches finish on shutdown; unfinished claims are reclaimed on the next start.
+	 */
+	@PreDestroy
+	void shutdown() throws InterruptedException {
+		workers.shutdown();
+		if (!workers.awaitTermination(30, TimeUnit.SECONDS)) {
+			workers.shutdownNow();
+		}
+	}
+}
@@ -1,50 +1,48 @@
 package com.jeevlifeworks.Smart.Task.Manager.App.service;
 
-import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.mail.SimpleMailMessage;
-import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import com.jeevlifeworks.Smart.Task.Manager.App.Entity.EmailOutbox;
+import com.jeevlifeworks.Smart.Task.Manager.App.dto.OverdueReminderDto;
+import com.jeevlifeworks.Smart.Task.Manager.App.repository.EmailOutboxRepository;
+
+import io.micrometer.core.annotation.Timed;
 import lombok.extern.slf4j.Slf4j;
 
 /**
  * Service responsible for sending different types of email notifications 
  * like registration confirmation, task assignment, password reset, etc.
+ *
+ * Emails are not sent inline: they are written to the email outbox in the
+ * caller's transaction and delivered asynchronously by EmailOutboxDispatcher.
+ * An email is therefore only sent if the business change that triggered it commits.
  */
 @Service
 @Slf4j
+@Timed("email.service") // Only times queueing into the outbox; delivery is timed by EmailOutboxDispatcher
+@Transactional
 public class EmailService {
 	
-	// Injects the JavaMailSender to send emails
+	// Outbox table that the dispatcher drains in the background
 	@Autowired
-    private JavaMailSender mailSender;
-	
-	// Retrieves the sender's email address from application.properties
-	@Value("${spring.mail.username}")
-    private String fromEmail;
+    private EmailOutboxRepository emailOutboxRepository;
 
 	/**
-     * Sends a basic email with specified recipient, subject, and body.
+     * Queues a basic email with specified recipient, subject, and body.
+     * Joins the caller's transaction, so the email is discarded if it rolls back.
      * 
      * Accepts parameter to, recipient email address
      * Accepts parameter subject subject of the email
      * Accepts parameter body, body content of the email
      */
-    public void sendEmail(String to, String subject, String body) {
-    	try {
-            SimpleMailMessage message = new SimpleMailMessage();
-            message.setFrom(fromEmail);
-            message.setTo(to);
-            message.setSubject(subject);
-            message.setText(body);
-            mailSender.send(message);
-            log.info("Email successfully sent to "+ to +" with subject: "+ subject);
-        } catch (Exception e) {
-            log.error("Failed to send email to "+ to +". Error: "+e.getMessage());
-        }
+    public void queueEmail(String to, String subject, String body) {
+        emailOutboxRepository.save(new EmailOutbox(to, subject, body, LocalDateTime.now()));
+        log.debug("Email to "+ to +" with subject '"+ subject +"' queued in outbox.");
     }
 
     /**
@@ -60,7 +58,7 @@ public class EmailService {
                     + "Assigned by: " + managerName + "\n"
                     + "Please check the Task Manager for more details.\n\n"
                     + "Regards,\nYour Task Manager Team";
-        sendEmail(recipientEmail, subject, body);
+        queueEmail(recipientEmail, subject, body);
     }
     
     /**
@@ -73,7 +71,7 @@ public class EmailService {
         String subject = "Complete your registration!";
         String body = "To confirm your account, please click the following link: "
                     + "http://localhost:4200/register/confirm?token=" + token;
-        sendEmail(recipientEmail, subject, body);
+        queueEmail(recipientEmail, subject, body);
     }
 
     /**
@@ -87,21 +85,27 @@ public class EmailService {
         String body = "To reset your password, please use the following token or link: "
                     + "http://localhost:4200/reset-password?token=" + token
                     + "\nToken: " + token;
-        sendEmail(recipientEmail, subject, body);
+        queueEmail(recipientEmail, subject, body);
     }
     
     /**
-     * Sends a reminder email if a task is overdue.
+     * Queues a single digest email listing all of a user's overdue tasks.
      * 
      * Accepts parameter recipientEmail recipient's email address
-     * Accepts parameter taskTitle, title of the overdue task
-     * Accepts parameter dueDate, due date of the task
+     * Accepts parameter username, recipient's display name
+     * Accepts parameter overdueTasks, the user's overdue tasks, oldest due date first
      */
-    public void sendOverdueTaskReminder(String recipientEmail, String taskTitle, LocalDate dueDate) {
-        String subject = "Overdue Task Alert: " + taskTitle;
-        String body = "Hello,\n\nThis is a reminder that your task '" + taskTitle + "' was due on " + dueDate + ".\n"
-                    + "Please update its status in the Task Manager.\n\n"
-                    + "Regards,\nYour Task Manager Team";
-        sendEmail(recipientEmail, subject, body);
+    public void sendOverdueTasksDigest(String recipientEmail, String username, List<OverdueReminderDto> overdueTasks) {
+        String subject = overdueTasks.size() == 1
+                ? "Overdue Task Alert: " + overdueTasks.get(0).getTitle()
+                : "Overdue Task Alert: " + overdueTasks.size() + " tasks need your attention";
+        StringBuilder body = new StringBuilder("Hello " + username + ",\n\n")
+                .append("The following tasks assigned to you are past their due date:\n\n");
+        for (OverdueReminderDto task : overdueTasks) {
+            body.append("- ").append(task.getTitle()).append(" (due ").append(task.getDueDate()).append(")\n");
+        }
+        body.append("\nPlease update their status in the Task Manager.\n\n")
+            .append("Regards,\nYour Task Manager Team");
+        queueEmail(recipientEmail, subject, body.toString());
     }
 }
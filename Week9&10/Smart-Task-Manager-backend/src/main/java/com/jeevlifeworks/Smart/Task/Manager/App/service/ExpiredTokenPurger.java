@@ -0,0 +1,98 @@
+package com.jeevlifeworks.Smart.Task.Manager.App.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.jeevlifeworks.Smart.Task.Manager.App.repository.PasswordResetTokenRepository;
+import com.jeevlifeworks.Smart.Task.Manager.App.repository.VerificationTokenRepository;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Deletes expired email verification and password reset tokens.
+ *
+ * Tokens are otherwise only removed when they are used, so both tables would
+ * grow with every unfinished registration and reset request. The purge walks
+ * the expiryDate index in chunks, each deleted in its own short transaction,
+ * so it never holds locks on a large range of rows. The number of stored
+ * tokens is refreshed after every run and exported as auth.tokens{type=...}.
+ */
+@Service
+@Slf4j
+public class ExpiredTokenPurger {
+
+	private final VerificationTokenRepository verificationTokenRepository;
+
+	private final PasswordResetTokenRepository passwordResetTokenRepository;
+
+	private final TransactionTemplate transactionTemplate;
+
+	// Maximum number of tokens deleted per transaction
+	@Value("${auth.token-purge.batch-size:500}")
+	private int batchSize;
+
+	// Table sizes, refreshed on every run so metric scrapes never hit the database
+	private final AtomicLong verificationTokens = new AtomicLong();
+	private final AtomicLong passwordResetTokens = new AtomicLong();
+
+	public ExpiredTokenPurger(VerificationTokenRepository verificationTokenRepository,
+			PasswordResetTokenRepository passwordResetTokenRepository,
+			PlatformTransactionManager transactionManager,
+			MeterRegistry meterRegistry) {
+		this.verificationTokenRepository = verificationTokenRepository;
+		this.passwordResetTokenRepository = passwordResetTokenRepository;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+
+		Gauge.builder("auth.tokens", verificationTokens, AtomicLong::get)
+				.description("Stored email verification and password reset tokens").tag("type", "verification").register(meterRegistry);
+		Gauge.builder("auth.tokens", passwordResetTokens, AtomicLong::get)
+				.description("Stored email verification and password reset tokens").tag("type", "password_reset").register(meterRegistry);
+	}
+
+	/**
+	 * Purges every token that expired before now and refreshes the table sizes.
+	 * Runs on a fixed delay configured by auth.token-purge.interval.
+	 */
+	@Scheduled(fixedDelayString = "${auth.token-purge.interval:PT15M}", initialDelayString = "${auth.token-purge.interval:PT15M}")
+	public void purgeExpiredTokens() {
+		LocalDateTime now = LocalDateTime.now();
+		int verification = purge(now, verificationTokenRepository::findExpiredIds, verificationTokenRepository::deleteByIds);
+		int passwordReset = purge(now, passwordResetTokenRepository::findExpiredIds, passwordResetTokenRepository::deleteByIds);
+		if (verification + passwordReset > 0) {
+			log.info("Purged "+ verification +" expired verification tokens and "+ passwordReset +" expired password reset tokens.");
+		}
+		verificationTokens.set(verificationTokenRepository.count());
+		passwordResetTokens.set(passwordResetTokenRepository.count());
+	}
+
+	/**
+	 * Deletes expired tokens of one kind chunk by chunk until a chunk comes back short.
+	 *
+	 * return number of deleted tokens
+	 */
+	private int purge(LocalDateTime now, BiFunction<LocalDateTime, Limit, List<Long>> findExpiredIds,
+			Function<List<Long>, Integer> deleteByIds) {
+		int total = 0;
+		int deleted;
+		do {
+			deleted = transactionTemplate.execute(status -> {
+				List<Long> ids = findExpiredIds.apply(now, Limit.of(batchSize));
+				return ids.isEmpty() ? 0 : deleteByIds.apply(ids);
+			});
+			total += deleted;
+		} while (deleted == batchSize);
+		return total;
+	}
+}
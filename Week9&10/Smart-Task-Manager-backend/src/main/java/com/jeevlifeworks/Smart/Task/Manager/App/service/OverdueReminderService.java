@@ -0,0 +1,212 @@
+package com.jeevlifeworks.Smart.Task.Manager.App.service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.jeevlifeworks.Smart.Task.Manager.App.Entity.ReminderDigest;
+import com.jeevlifeworks.Smart.Task.Manager.App.Entity.ReminderRun;
+import com.jeevlifeworks.Smart.Task.Manager.App.dto.OverdueReminderDto;
+import com.jeevlifeworks.Smart.Task.Manager.App.repository.ReminderDigestRepository;
+import com.jeevlifeworks.Smart.Task.Manager.App.repository.ReminderRunRepository;
+import com.jeevlifeworks.Smart.Task.Manager.App.repository.TaskRepository;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Daily job that emails every user a single digest of their overdue tasks.
+ *
+ * Users with overdue tasks are walked in fixed-size chunks ordered by ID. Each
+ * chunk is processed on a small worker pool: one query loads all overdue tasks
+ * of the chunk's users together with their contact details, one digest per user
+ * is queued in the email outbox, and a ReminderDigest checkpoint row is written
+ * in the same transaction. A run interrupted by a crash is resumed on the next
+ * start and skips the users that already have a checkpoint, so nobody is emailed twice.
+ */
+@Service
+@Slf4j
+public class OverdueReminderService {
+
+	// Tasks in this status are never reminded about
+	private static final String COMPLETED = "Completed";
+
+	@Autowired
+	private TaskRepository taskRepository;
+
+	@Autowired
+	private ReminderRunRepository reminderRunRepository;
+
+	@Autowired
+	private ReminderDigestRepository reminderDigestRepository;
+
+	@Autowired
+	private EmailService emailService;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	// Number of users whose digests are built per chunk (and per transaction)
+	@Value("${task.reminders.chunk-size:200}")
+	private int chunkSize;
+
+	// Number of chunks processed in parallel
+	@Value("${task.reminders.threads:2}")
+	private int threads;
+
+	private TransactionTemplate transactionTemplate;
+	private ThreadPoolExecutor chunkWorkers;
+
+	// Guards against the scheduled run and a startup resume overlapping
+	private final AtomicBoolean running = new AtomicBoolean();
+
+	@PostConstruct
+	void init() {
+		transactionTemplate = new TransactionTemplate(transactionManager);
+		// Bounded queue with caller-runs: the coordinator slows down instead of buffering every chunk
+		chunkWorkers = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+				new ArrayBlockingQueue<>(threads), new CustomizableThreadFactory("overdue-reminder-"),
+				new ThreadPoolExecutor.CallerRunsPolicy());
+	}
+
+	/**
+	 * Scheduled job that runs daily to send digest emails for overdue tasks.
+	 * Triggered based on cron expression defined in application properties.
+	 */
+	@Scheduled(cron = "${task.reminders.schedule}")
+	public void sendDailyOverdueReminders() {
+		log.info("Scheduled task: Running daily overdue task reminder job.");
+		runReminders(LocalDate.now());
+	}
+
+	/**
+	 * Resumes today's run if the application stopped before it completed.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void resumeInterruptedRun() {
+		LocalDate today = LocalDate.now();
+		reminderRunRepository.findById(today)
+				.filter(run -> run.getCompletedAt() == null)
+				.ifPresent(run -> {
+					log.warn("Overdue reminder run for "+ today +" started at "+ run.getStartedAt() +" did not complete. Resuming.");
+					runReminders(today);
+				});
+	}
+
+	/**
+	 * Queues one digest per user with tasks due before the given date,
+	 * skipping users already checkpointed for that date.
+	 *
+	 * Accepts parameter runDate day the reminders are sent for
+	 * return number of digests queued by this invocation
+	 */
+	int runReminders(LocalDate runDate) {
+		if (!running.compareAndSet(false, true)) {
+			log.warn("Overdue reminder run already in progress; skipping.");
+			return 0;
+		}
+		try {
+			ReminderRun run = transactionTemplate.execute(status -> reminderRunRepository.findById(runDate)
+					.orElseGet(() -> reminderRunRepository.save(new ReminderRun(runDate, LocalDateTime.now()))));
+			if (run.getCompletedAt() != null) {
+				log.info("Overdue reminders for "+ runDate +" were already sent.");
+				return 0;
+			}
+
+			List<Future<Integer>> chunks = new ArrayList<>();
+			List<Long> assigneeIds;
+			Long afterId = 0L;
+			do {
+				assigneeIds = taskRepository.findOverdueAssigneeIdsAfter(runDate, COMPLETED, afterId, Limit.of(chunkSize));
+				if (!assigneeIds.isEmpty()) {
+					List<Long> chunk = assigneeIds;
+					chunks.add(chunkWorkers.submit(() -> processChunk(chunk, runDate)));
+					afterId = assigneeIds.get(assigneeIds.size() - 1);
+				}
+			} while (assigneeIds.size() == chunkSize);
+
+			int queued = 0;
+			int failedChunks = 0;
+			for (Future<Integer> chunk : chunks) {
+				try {
+					queued += chunk.get();
+				} catch (ExecutionException e) {
+					failedChunks++;
+					log.error("Overdue reminder chunk failed. Error: "+ e.getCause().getMessage());
+				}
+			}
+			if (failedChunks > 0) {
+				// Leave the run open; completed chunks are checkpointed and the rest is retried on resume
+				log.error(failedChunks +" of "+ chunks.size() +" overdue reminder chunks failed for "+ runDate +"; run left incomplete.");
+				return queued;
+			}
+
+			transactionTemplate.executeWithoutResult(status -> {
+				ReminderRun completed = reminderRunRepository.findById(runDate).orElseThrow();
+				completed.setCompletedAt(LocalDateTime.now());
+				completed.setDigestsQueued((int) reminderDigestRepository.countByRunDate(runDate));
+			});
+			log.info("Overdue reminder run for "+ runDate +" complete: "+ queued +" digests queued in "+ chunks.size() +" chunks.");
+			return queued;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			log.warn("Overdue reminder run for "+ runDate +" interrupted; it will resume on the next start.");
+			return 0;
+		} finally {
+			running.set(false);
+		}
+	}
+
+	/**
+	 * Builds and queues the digests for one chunk of users, checkpointing each
+	 * user in the same transaction as their email.
+	 */
+	private int processChunk(List<Long> assigneeIds, LocalDate runDate) {
+		return transactionTemplate.execute(status -> {
+			LocalDateTime now = LocalDateTime.now();
+			Map<Long, List<OverdueReminderDto>> byAssignee = taskRepository
+					.findOverdueRemindersForAssignees(assigneeIds, runDate, COMPLETED).stream()
+					.collect(Collectors.groupingBy(OverdueReminderDto::getAssigneeId, LinkedHashMap::new, Collectors.toList()));
+
+			List<ReminderDigest> checkpoints = new ArrayList<>();
+			byAssignee.forEach((assigneeId, tasks) -> {
+				OverdueReminderDto assignee = tasks.get(0);
+				log.debug("Queueing overdue digest for "+ assignee.getEmail() +" with "+ tasks.size() +" tasks.");
+				emailService.sendOverdueTasksDigest(assignee.getEmail(), assignee.getUsername(), tasks);
+				checkpoints.add(new ReminderDigest(runDate, assigneeId, tasks.size(), now));
+			});
+			reminderDigestRepository.saveAll(checkpoints);
+			return byAssignee.size();
+		});
+	}
+
+	/**
+	 * Stops the chunk workers; unfinished chunks are picked up when the run resumes.
+	 */
+	@PreDestroy
+	void shutdown() {
+		chunkWorkers.shutdownNow();
+	}
+}
@@ -0,0 +1,138 @@
+package com.jeevlifeworks.Smart.Task.Manager.App.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.jeevlifeworks.Smart.Task.Manager.App.dto.TaskStateDto;
+import com.jeevlifeworks.Smart.Task.Manager.App.event.TaskChangeEvent;
+import com.jeevlifeworks.Smart.Task.Manager.App.repository.ArchivedTaskRepository;
+import com.jeevlifeworks.Smart.Task.Manager.App.repository.TaskRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Moves tasks completed longer than task.archive.after ago out of 'tasks'.
+ *
+ * Every chunk is moved in its own transaction: the chunk's rows are selected
+ * and locked, copied with their task_assignees rows into tasks_archive and
+ * task_assignees_archive, and deleted from the hot tables. A task reopened at
+ * the same moment either waits for the move (and then finds the task archived)
+ * or commits first (and the task no longer qualifies).
+ *
+ * An ARCHIVED TaskChangeEvent per task drops it from the search index and the
+ * filter snapshot and moves the ETags of the listings it was part of; the
+ * dashboard keeps counting archived tasks. Archived tasks stay readable through
+ * GET /api/tasks/{taskId} and filtered listings with includeArchived.
+ */
+@Service
+@Slf4j
+public class TaskArchiver {
+
+	private static final String COMPLETED = "Completed";
+
+	private final TaskRepository taskRepository;
+
+	private final ArchivedTaskRepository archivedTaskRepository;
+
+	private final ApplicationEventPublisher eventPublisher;
+
+	private final TransactionTemplate transactionTemplate;
+
+	private final Counter archived;
+
+	// Completed tasks are archived once they have been completed for this long
+	@Value("${task.archive.after:P30D}")
+	private Duration archiveAfter;
+
+	// Maximum number of tasks moved per transaction
+	@Value("${task.archive.batch-size:500}")
+	private int batchSize;
+
+	public TaskArchiver(TaskRepository taskRepository,
+			ArchivedTaskRepository archivedTaskRepository,
+			ApplicationEventPublisher eventPublisher,
+			PlatformTransactionManager transactionManager,
+			MeterRegistry meterRegistry) {
+		this.taskRepository = taskRepository;
+		this.archivedTaskRepository = archivedTaskRepository;
+		this.eventPublisher = eventPublisher;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.archived = Counter.builder("tasks.archived")
+				.description("Completed tasks moved to the archive tables").register(meterRegistry);
+	}
+
+	/**
+	 * Completed tasks saved before completion times were recorded have none;
+	 * their retention period starts now rather than never.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void stampCompletedTasks() {
+		int stamped = transactionTemplate.execute(status -> taskRepository.stampUncompletedAt(COMPLETED, LocalDateTime.now()));
+		if (stamped > 0) {
+			log.info("Recorded a completion time for "+ stamped +" completed tasks.");
+		}
+	}
+
+	/**
+	 * Archives every task completed before the cut-off, chunk by chunk.
+	 * Runs on a fixed delay configured by task.archive.interval.
+	 *
+	 * return number of archived tasks
+	 */
+	@Scheduled(fixedDelayString = "${task.archive.interval:PT1H}", initialDelayString = "${task.archive.interval:PT1H}")
+	public int archiveCompletedTasks() {
+		LocalDateTime cutoff = LocalDateTime.now().minus(archiveAfter);
+		int total = 0;
+		int moved;
+		do {
+			moved = transactionTemplate.execute(status -> archiveChunk(cutoff));
+			total += moved;
+		} while (moved == batchSize);
+		if (total > 0) {
+			archived.increment(total);
+			log.info("Archived "+ total +" tasks completed before "+ cutoff);
+		}
+		return total;
+	}
+
+	/**
+	 * Moves one chunk; runs inside the chunk's transaction.
+	 *
+	 * return number of tasks moved
+	 */
+	private int archiveChunk(LocalDateTime cutoff) {
+		List<Long> ids = taskRepository.findArchivableIdsForUpdate(COMPLETED, cutoff, Limit.of(batchSize));
+		if (ids.isEmpty()) {
+			return 0;
+		}
+		// Values for the change events, read before the rows are gone
+		Map<Long, List<TaskStateDto>> states = taskRepository.findStatesForUpdate(ids).stream()
+				.collect(Collectors.groupingBy(TaskStateDto::getId));
+
+		archivedTaskRepository.copyFromTasks(ids, LocalDateTime.now());
+		archivedTaskRepository.copyAssigneesFromTasks(ids);
+		taskRepository.removeAssigneesOfArchived(ids);
+		int moved = taskRepository.removeArchived(ids);
+
+		states.values().forEach(rows -> eventPublisher.publishEvent(TaskChangeEvent.archived(rows.get(0),
+				rows.stream().map(TaskStateDto::getAssigneeId).filter(Objects::nonNull).collect(Collectors.toList()))));
+		log.debug("Moved "+ moved +" tasks to the archive.");
+		return moved;
+	}
+}
@@ -0,0 +1,104 @@
+package com.jeevlifeworks.Smart.Task.Manager.App.service;
+
+import java.util.concurrent.ConcurrentSkipListSet;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.jeevlifeworks.Smart.Task.Manager.App.repository.TaskRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Hands out the change versions stamped on tasks for delta sync.
+ *
+ * Versions come from an in-memory counter, seeded from the highest version in
+ * the tasks table on startup, so stamping a change costs no extra statement.
+ * Like the search index and the filter snapshot this assumes a single
+ * application instance writes the tasks table.
+ *
+ * A version is handed out before its transaction commits, so a lower version
+ * may still become visible after a higher one. Every version is therefore
+ * tracked until its transaction completes, and a sync may only advance a
+ * client to safeWatermark(): below every version that is still in flight.
+ */
+@Service
+@Slf4j
+public class TaskChangeVersions {
+
+	@Autowired
+	private TaskRepository taskRepository;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	// Last version handed out; 0 until seeded from the database
+	private long current;
+
+	private boolean seeded;
+
+	// Versions handed out to transactions that have not completed yet
+	private final ConcurrentSkipListSet<Long> inFlight = new ConcurrentSkipListSet<>();
+
+	/**
+	 * Returns the next change version for a task written by the current transaction.
+	 * The version counts as in flight until that transaction commits or rolls back.
+	 *
+	 * return a version higher than every version handed out before
+	 */
+	public synchronized long next() {
+		seed();
+		long version = ++current;
+		inFlight.add(version);
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCompletion(int status) {
+				inFlight.remove(version);
+			}
+		});
+		return version;
+	}
+
+	/**
+	 * Returns the highest version below which every change has committed (or
+	 * rolled back). Changes up to it can be handed to a client without a later
+	 * commit slipping in beneath its watermark.
+	 */
+	public synchronized long safeWatermark() {
+		seed();
+		Long oldest = inFlight.ceiling(0L);
+		return oldest == null ? current : oldest - 1;
+	}
+
+	/**
+	 * Reads the highest stored version once. Tasks saved before versions existed
+	 * are stamped with their ID, which keeps versions unique and lets a client
+	 * syncing from 0 receive them.
+	 * Runs on startup, or on first use if a request beats the ready event.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public synchronized void seed() {
+		if (seeded) {
+			return;
+		}
+		// In its own transaction, so a rollback of the caller's cannot undo the stamping
+		TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+		transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+		transactionTemplate.executeWithoutResult(status -> {
+			int stamped = taskRepository.stampUnversioned();
+			if (stamped > 0) {
+				log.info("Stamped "+ stamped +" tasks without a change version.");
+			}
+			current = taskRepository.findMaxChangeVersion();
+		});
+		seeded = true;
+		log.info("Task change versions continue after "+ current +".");
+	}
+}
@@ -0,0 +1,181 @@
+package com.jeevlifeworks.Smart.Task.Manager.App.service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jeevlifeworks.Smart.Task.Manager.App.dto.AssigneeDto;
+import com.jeevlifeworks.Smart.Task.Manager.App.dto.TaskDto;
+import com.jeevlifeworks.Smart.Task.Manager.App.dto.TaskExportFormat;
+import com.jeevlifeworks.Smart.Task.Manager.App.repository.ArchivedTaskRepository;
+import com.jeevlifeworks.Smart.Task.Manager.App.repository.TaskRepository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Writes all tasks to an output stream as CSV or NDJSON, in constant memory.
+ *
+ * The tasks are read from a forward-only cursor (TaskRepository.streamTaskDtos)
+ * and handled in chunks of task.export.chunk-size: the chunk's assignee IDs are
+ * loaded with one IN query, its rows are written and flushed to the client, and
+ * the persistence context is cleared before the next chunk. Memory use depends
+ * on the chunk size, not on the number of tasks. The export holds one database
+ * connection, in a read-only transaction, until the last row is written.
+ */
+@Service
+@Slf4j
+public class TaskExportService {
+
+	static final String CSV_HEADER = "id,title,description,dueDate,priority,status,managerId,assigneeIds,tags,version,archived";
+
+	private final TaskRepository taskRepository;
+
+	private final ArchivedTaskRepository archivedTaskRepository;
+
+	private final ObjectMapper objectMapper;
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	private final TransactionTemplate transactionTemplate;
+
+	// Tasks written between two flushes; also the size of the assignee IN queries
+	@Value("${task.export.chunk-size:500}")
+	private int chunkSize;
+
+	public TaskExportService(TaskRepository taskRepository,
+			ArchivedTaskRepository archivedTaskRepository,
+			ObjectMapper objectMapper,
+			PlatformTransactionManager transactionManager) {
+		this.taskRepository = taskRepository;
+		this.archivedTaskRepository = archivedTaskRepository;
+		this.objectMapper = objectMapper;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+		this.transactionTemplate.setReadOnly(true);
+	}
+
+	/**
+	 * Writes every task, in ID order, followed by the archived tasks if requested.
+	 * The output stream is flushed but not closed.
+	 *
+	 * Accepts parameter format CSV or NDJSON
+	 * Accepts parameter includeArchived also export the archived tasks
+	 * Accepts parameter out where the export is written
+	 * return number of exported tasks
+	 * throws IOException if writing to the client fails (e.g. it disconnected)
+	 */
+	public long exportTasks(TaskExportFormat format, boolean includeArchived, OutputStream out) throws IOException {
+		log.info("Starting "+ format +" export of tasks, includeArchived="+ includeArchived);
+		Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+		if (format == TaskExportFormat.CSV) {
+			writer.write(CSV_HEADER);
+			writer.write("\r\n");
+		}
+		try {
+			long exported = transactionTemplate.execute(status -> {
+				long count = writeAll(taskRepository::streamTaskDtos, taskRepository::findAssigneesByTaskIds, false, format, writer);
+				if (includeArchived) {
+					count += writeAll(archivedTaskRepository::streamTaskDtos, archivedTaskRepository::findAssigneesByTaskIds, true, format, writer);
+				}
+				return count;
+			});
+			writer.flush();
+			log.info("Exported "+ exported +" tasks as "+ format);
+			return exported;
+		} catch (UncheckedIOException e) {
+			throw e.getCause();
+		}
+	}
+
+	/**
+	 * Writes the rows of one table chunk by chunk; runs inside the export's transaction.
+	 */
+	private long writeAll(Supplier<Stream<TaskDto>> rows, Function<Collection<Long>, List<AssigneeDto>> findAssignees,
+			boolean archived, TaskExportFormat format, Writer writer) {
+		long count = 0;
+		List<TaskDto> chunk = new ArrayList<>(chunkSize);
+		try (Stream<TaskDto> stream = rows.get()) {
+			Iterator<TaskDto> iterator = stream.iterator();
+			while (iterator.hasNext()) {
+				chunk.add(iterator.next());
+				if (chunk.size() == chunkSize || !iterator.hasNext()) {
+					writeChunk(chunk, findAssignees, archived, format, writer);
+					count += chunk.size();
+					chunk.clear();
+				}
+			}
+		}
+		return count;
+	}
+
+	private void writeChunk(List<TaskDto> chunk, Function<Collection<Long>, List<AssigneeDto>> findAssignees,
+			boolean archived, TaskExportFormat format, Writer writer) {
+		Map<Long, List<Long>> assigneeIdsByTask = findAssignees.apply(chunk.stream().map(TaskDto::getId).collect(Collectors.toList()))
+			.stream()
+			.collect(Collectors.groupingBy(AssigneeDto::getTaskId, Collectors.mapping(AssigneeDto::getId, Collectors.toList())));
+		try {
+			for (TaskDto task : chunk) {
+				task.setAssigneeIds(assigneeIdsByTask.getOrDefault(task.getId(), List.of()));
+				task.setArchived(archived);
+				writer.write(format == TaskExportFormat.CSV ? toCsvLine(task) : objectMapper.writeValueAsString(task) + "\n");
+			}
+			writer.flush();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		// Nothing read here is an entity, but make sure a long export never accumulates state
+		entityManager.clear();
+	}
+
+	/**
+	 * One CSV record, columns as in CSV_HEADER; assignee IDs are separated by ';'.
+	 */
+	static String toCsvLine(TaskDto task) {
+		return String.join(",",
+			String.valueOf(task.getId()),
+			csvField(task.getTitle()),
+			csvField(task.getDescription()),
+			task.getDueDate() == null ? "" : task.getDueDate().toString(),
+			csvField(task.getPriority()),
+			csvField(task.getStatus()),
+			task.getManagerId() == null ? "" : String.valueOf(task.getManagerId()),
+			task.getAssigneeIds().stream().map(String::valueOf).collect(Collectors.joining(";")),
+			csvField(task.getTags()),
+			String.valueOf(task.getVersion()),
+			String.valueOf(task.isArchived())) + "\r\n";
+	}
+
+	/**
+	 * Quotes a value (doubling inner quotes) if it contains a separator, quote or line break.
+	 */
+	private static String csvField(String value) {
+		if (value == null) {
+			return "";
+		}
+		if (value.contains(",") || value.contains("\"") || value.contains("\n") || value.contains("\r")) {
+			return "\"" + value.replace("\"", "\"\"") + "\"";
+		}
+		return value;
+	}
+}
@@ -0,0 +1,262 @@
+package com.jeevlifeworks.Smart.Task.Manager.App.service;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.jeevlifeworks.Smart.Task.Manager.App.dto.TaskFeedEventDto;
+import com.jeevlifeworks.Smart.Task.Manager.App.event.TaskChangeEvent;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Pushes committed task changes to the open task streams (Server-Sent Events)
+ * of the users they concern: the task's assignees and its manager.
+ *
+ * Changes are not written to the connection right away. Each connection keeps
+ * the latest pending change per task, so a burst of updates to one task is sent
+ * once, and a flusher writes every connection's pending changes as a single
+ * "tasks" event on a small sender pool, so a slow client never holds up the
+ * request that changed the task. The pending changes per connection are
+ * bounded: a connection that falls further behind gets one "resync" event
+ * instead, telling the client to reload its tasks.
+ */
+@Service
+@Slf4j
+public class TaskFeedService {
+
+	private final CurrentUserResolver currentUserResolver;
+	private final ThreadPoolExecutor senders;
+
+	// user ID -> that user's open streams (one per browser tab)
+	private final Map<Long, Set<Connection>> connectionsByUser = new ConcurrentHashMap<>();
+
+	// Connections with something to send, each queued at most once
+	private final Queue<Connection> dirty = new ConcurrentLinkedQueue<>();
+
+	// How long a stream stays open; the browser's EventSource reconnects after it
+	@Value("${task.feed.timeout:PT30M}")
+	private Duration timeout;
+
+	// Distinct tasks a connection may have pending before it is told to resync
+	@Value("${task.feed.max-pending:200}")
+	private int maxPending;
+
+	private final Counter sentCounter;
+	private final Counter resyncCounter;
+
+	public TaskFeedService(CurrentUserResolver currentUserResolver,
+			MeterRegistry meterRegistry,
+			@Value("${task.feed.sender-threads:2}") int senderThreads) {
+		this.currentUserResolver = currentUserResolver;
+		// Each connection is queued at most once, so the queue never holds more than the open streams
+		this.senders = new ThreadPoolExecutor(senderThreads, senderThreads, 0L, TimeUnit.MILLISECONDS,
+				new LinkedBlockingQueue<>(), new CustomizableThreadFactory("task-feed-"));
+
+		Gauge.builder("task.feed.connections", connectionsByUser, connections -> connections.values().stream().mapToInt(Set::size).sum())
+				.description("Open task streams").register(meterRegistry);
+		this.sentCounter = Counter.builder("task.feed.sent")
+				.description("Task stream events written to clients").tag("event", "tasks").register(meterRegistry);
+		this.resyncCounter = Counter.builder("task.feed.sent")
+				.description("Task stream events written to clients").tag("event", "resync").register(meterRegistry);
+	}
+
+	/**
+	 * Opens a task stream for the authenticated user.
+	 *
+	 * Accepts parameter userDetails the authenticated user's details
+	 * return the emitter Spring MVC keeps open and writes the events to
+	 */
+	public SseEmitter subscribe(UserDetails userDetails) {
+		SseEmitter emitter = new SseEmitter(timeout.toMillis());
+		register(currentUserResolver.getId(userDetails), emitter);
+		return emitter;
+	}
+
+	/**
+	 * Adds an emitter to the user's streams and removes it again once it completes,
+	 * times out or fails.
+	 */
+	void register(Long userId, SseEmitter emitter) {
+		Connection connection = new Connection(userId, emitter);
+		// compute() keeps the add atomic with a concurrent close() removing the user's last stream
+		connectionsByUser.compute(userId, (id, connections) -> {
+			Set<Connection> open = connections == null ? ConcurrentHashMap.newKeySet() : connections;
+			open.add(connection);
+			return open;
+		});
+		emitter.onCompletion(connection::close);
+		emitter.onTimeout(connection::close);
+		emitter.onError(error -> connection.close());
+		log.debug("Task stream opened for user "+ userId);
+	}
+
+	/**
+	 * Queues a committed task change for the streams of its assignees and manager.
+	 *
+	 * Accepts parameter event the change published by TaskService
+	 */
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+	public void onTaskChange(TaskChangeEvent event) {
+		if (event.getType() == TaskChangeEvent.Type.ARCHIVED) {
+			return; // Nothing about the task changed for its viewers
+		}
+		TaskFeedEventDto change = TaskFeedEventDto.of(event);
+		Set<Long> recipients = new LinkedHashSet<>(event.getAssigneeIds());
+		recipients.add(event.getManagerId());
+		for (Long userId : recipients) {
+			Set<Connection> connections = connectionsByUser.get(userId);
+			if (connections != null) {
+				connections.forEach(connection -> connection.enqueue(change));
+			}
+		}
+	}
+
+	/**
+	 * Hands every connection with pending changes to the sender pool.
+	 * Runs on a short fixed delay; changes arriving in between are coalesced.
+	 */
+	@Scheduled(fixedDelayString = "${task.feed.flush-interval:PT0.25S}")
+	public void flush() {
+		Connection connection;
+		while ((connection = dirty.poll()) != null) {
+			senders.execute(connection::drain);
+		}
+	}
+
+	/**
+	 * Sends a comment line on every stream so proxies keep idle connections open
+	 * and connections of departed clients are detected and closed.
+	 */
+	@Scheduled(fixedDelayString = "${task.feed.heartbeat-interval:PT25S}")
+	public void heartbeat() {
+		connectionsByUser.values().forEach(connections -> connections.forEach(Connection::requestHeartbeat));
+	}
+
+	@PreDestroy
+	void shutdown() {
+		senders.shutdownNow();
+		connectionsByUser.values().forEach(connections -> connections.forEach(connection -> connection.emitter.complete()));
+	}
+
+	/**
+	 * One open stream and the changes waiting to be written to it.
+	 */
+	private final class Connection {
+
+		private final Long userId;
+		private final SseEmitter emitter;
+		// Latest pending change per task, in the order the tasks first changed
+		private final Map<Long, TaskFeedEventDto> pending = new LinkedHashMap<>();
+		private boolean overflowed;
+		private boolean heartbeatDue;
+		// Set while the connection is queued in dirty or being drained
+		private final AtomicBoolean scheduled = new AtomicBoolean();
+
+		Connection(Long userId, SseEmitter emitter) {
+			this.userId = userId;
+			this.emitter = emitter;
+		}
+
+		void enqueue(TaskFeedEventDto change) {
+			synchronized (this) {
+				if (overflowed) {
+					return; // The client reloads everything anyway
+				}
+				TaskFeedEventDto previous = pending.get(change.getTaskId());
+				pending.put(change.getTaskId(), previous == null ? change : previous.followedBy(change));
+				if (pending.size() > maxPending) {
+					pending.clear();
+					overflowed = true;
+				}
+			}
+			markDirty();
+		}
+
+		void requestHeartbeat() {
+			synchronized (this) {
+				heartbeatDue = true;
+			}
+			markDirty();
+		}
+
+		private void markDirty() {
+			if (scheduled.compareAndSet(false, true)) {
+				dirty.add(this);
+			}
+		}
+
+		/**
+		 * Writes what is pending; runs on a sender thread, never twice at once for a connection.
+		 */
+		void drain() {
+			List<TaskFeedEventDto> changes;
+			boolean resync;
+			boolean heartbeat;
+			synchronized (this) {
+				changes = new ArrayList<>(pending.values());
+				pending.clear();
+				resync = overflowed;
+				overflowed = false;
+				heartbeat = heartbeatDue;
+				heartbeatDue = false;
+			}
+			try {
+				if (resync) {
+					emitter.send(SseEmitter.event().name("resync").data("{}", MediaType.APPLICATION_JSON));
+					resyncCounter.increment();
+				} else if (!changes.isEmpty()) {
+					emitter.send(SseEmitter.event().name("tasks").data(changes, MediaType.APPLICATION_JSON));
+					sentCounter.increment();
+				} else if (heartbeat) {
+					emitter.send(SseEmitter.event().comment("heartbeat"));
+				}
+			} catch (IOException | IllegalStateException e) {
+				log.debug("Closing task stream of user "+ userId +": "+ e.getMessage());
+				close();
+				return;
+			} finally {
+				scheduled.set(false);
+			}
+			// Changes that arrived while sending go out with the next flush
+			synchronized (this) {
+				if (overflowed || heartbeatDue || !pending.isEmpty()) {
+					markDirty();
+				}
+			}
+		}
+
+		void close() {
+			connectionsByUser.computeIfPresent(userId, (id, connections) -> {
+				connections.remove(this);
+				return connections.isEmpty() ? null : connections;
+			});
+		}
+	}
+}
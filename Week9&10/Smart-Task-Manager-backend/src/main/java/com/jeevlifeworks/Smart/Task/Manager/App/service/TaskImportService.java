@@ -0,0 +1,363 @@
+package com.jeevlifeworks.Smart.Task.Manager.App.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.jeevlifeworks.Smart.Task.Manager.App.Entity.Task;
+import com.jeevlifeworks.Smart.Task.Manager.App.Entity.User;
+import com.jeevlifeworks.Smart.Task.Manager.App.dto.TaskImportErrorDto;
+import com.jeevlifeworks.Smart.Task.Manager.App.dto.TaskImportResultDto;
+import com.jeevlifeworks.Smart.Task.Manager.App.dto.UserEmailIdDto;
+import com.jeevlifeworks.Smart.Task.Manager.App.event.TaskChangeEvent;
+import com.jeevlifeworks.Smart.Task.Manager.App.exception.InvalidImportFileException;
+import com.jeevlifeworks.Smart.Task.Manager.App.repository.UserRepository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Creates tasks from an uploaded CSV file (e.g. a migration from another tracker).
+ *
+ * The file is parsed record by record (CsvRecordReader) and handled in chunks
+ * of task.import.batch-size rows, so memory use does not grow with the file:
+ * <ol>
+ * <li>assignee emails not seen before are resolved with one IN query and kept
+ *     in a map for the rest of the import;</li>
+ * <li>the chunk's rows are validated in parallel;</li>
+ * <li>the valid rows are inserted in one transaction, the tasks and their
+ *     task_assignees rows going out as JDBC batches of the chunk's size.</li>
+ * </ol>
+ * A chunk the database rejects is retried row by row, so only the offending
+ * rows fail. Rejected rows are reported with their line number. Imported tasks
+ * publish the usual CREATED events but send no assignment emails.
+ *
+ * Columns are matched by header name, ignoring case: title (required),
+ * description, dueDate (yyyy-MM-dd), priority, status (default "To Do"), tags
+ * and assignees (emails separated by ';'). Other columns are ignored.
+ */
+@Service
+@Slf4j
+public class TaskImportService {
+
+	private static final String COMPLETED = "Completed";
+
+	// VARCHAR columns of 'tasks'
+	private static final int MAX_TEXT_LENGTH = 255;
+
+	private final UserRepository userRepository;
+
+	private final CurrentUserResolver currentUserResolver;
+
+	private final TaskChangeVersions taskChangeVersions;
+
+	private final ApplicationEventPublisher eventPublisher;
+
+	private final TransactionTemplate transactionTemplate;
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	// Rows inserted per transaction and per JDBC batch
+	@Value("${task.import.batch-size:1000}")
+	private int batchSize;
+
+	// Rejected rows listed in the result; the rest are only counted
+	@Value("${task.import.max-errors:1000}")
+	private int maxErrors;
+
+	public TaskImportService(UserRepository userRepository,
+			CurrentUserResolver currentUserResolver,
+			TaskChangeVersions taskChangeVersions,
+			ApplicationEventPublisher eventPublisher,
+			PlatformTransactionManager transactionManager) {
+		this.userRepository = userRepository;
+		this.currentUserResolver = currentUserResolver;
+		this.taskChangeVersions = taskChangeVersions;
+		this.eventPublisher = eventPublisher;
+		this.transactionTemplate = new TransactionTemplate(transactionManager);
+	}
+
+	/**
+	 * Imports every row of the file as a task managed by the authenticated user.
+	 *
+	 * Accepts parameter in the CSV file, UTF-8 encoded (a byte order mark is skipped)
+	 * Accepts parameter userDetails the authenticated manager's details
+	 * return the number of imported and rejected rows and the reasons for the rejections
+	 * throws InvalidImportFileException (400) if the file has no header with a title column
+	 * throws IOException if the upload cannot be read
+	 */
+	public TaskImportResultDto importTasks(InputStream in, UserDetails userDetails) throws IOException {
+		long started = System.nanoTime();
+		Long managerId = currentUserResolver.getId(userDetails);
+		BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+		reader.mark(1);
+		if (reader.read() != '\uFEFF') {
+			reader.reset();
+		}
+		CsvRecordReader records = new CsvRecordReader(reader);
+		Columns columns = Columns.of(records.next());
+		log.info("Starting CSV task import for manager ID "+ managerId);
+
+		Import state = new Import();
+		List<Row> chunk = new ArrayList<>(batchSize);
+		try {
+			for (List<String> fields = records.next(); fields != null; fields = records.next()) {
+				chunk.add(new Row(records.getRecordLine(), fields));
+				if (chunk.size() == batchSize) {
+					importChunk(chunk, columns, managerId, state);
+					chunk.clear();
+				}
+			}
+		} catch (CsvRecordReader.MalformedCsvException e) {
+			state.reject(records.getRecordLine(), e.getMessage());
+		}
+		importChunk(chunk, columns, managerId, state);
+
+		long millis = (System.nanoTime() - started) / 1_000_000;
+		log.info("CSV task import finished in "+ millis +" ms: "+ state.imported +" imported, "+ state.failed +" rejected.");
+		return new TaskImportResultDto(state.imported, state.failed, state.errors);
+	}
+
+	/**
+	 * Validates one chunk and inserts its valid rows.
+	 */
+	private void importChunk(List<Row> chunk, Columns columns, Long managerId, Import state) {
+		if (chunk.isEmpty()) {
+			return;
+		}
+		resolveEmails(chunk, columns, state);
+		// Parsing dates and checking emails needs nothing but the row, so rows are checked side by side
+		chunk.parallelStream().forEach(row -> row.error = validate(row, columns, state.userIdsByEmail));
+		List<Row> valid = new ArrayList<>(chunk.size());
+		for (Row row : chunk) {
+			if (row.error == null) {
+				valid.add(row);
+			} else {
+				state.reject(row.line, row.error);
+			}
+		}
+		if (valid.isEmpty()) {
+			return;
+		}
+		try {
+			insert(valid, columns, managerId, state.userIdsByEmail);
+			state.imported += valid.size();
+		} catch (RuntimeException e) {
+			log.warn("Import chunk of "+ valid.size() +" rows failed, retrying row by row. Error: "+ e.getMessage());
+			for (Row row : valid) {
+				try {
+					insert(List.of(row), columns, managerId, state.userIdsByEmail);
+					state.imported++;
+				} catch (RuntimeException single) {
+					state.reject(row.line, "Could not save task: " + NestedExceptionUtils.getMostSpecificCause(single).getMessage());
+				}
+			}
+		}
+	}
+
+	/**
+	 * Looks up the assignee emails of the chunk that have not been seen yet, with one query.
+	 */
+	private void resolveEmails(List<Row> chunk, Columns columns, Import state) {
+		Set<String> unseen = new HashSet<>();
+		chunk.forEach(row -> emails(row, columns).stream()
+			.filter(email -> !state.userIdsByEmail.containsKey(email) && !state.unknownEmails.contains(email))
+			.forEach(unseen::add));
+		if (unseen.isEmpty()) {
+			return;
+		}
+		for (UserEmailIdDto user : userRepository.findIdsByEmailIn(unseen)) {
+			state.userIdsByEmail.put(normalizeEmail(user.getEmail()), user.getId());
+		}
+		unseen.stream().filter(email -> !state.userIdsByEmail.containsKey(email)).forEach(state.unknownEmails::add);
+	}
+
+	/**
+	 * Returns why the row cannot be imported, or null if it is valid.
+	 */
+	private String validate(Row row, Columns columns, Map<String, Long> userIdsByEmail) {
+		if (row.fields.size() > columns.count) {
+			return "Row has " + row.fields.size() + " columns, the header has " + columns.count + ".";
+		}
+		String title = columns.value(row, Columns.TITLE);
+		if (title == null) {
+			return "Title is required.";
+		}
+		for (String column : List.of(Columns.TITLE, Columns.PRIORITY, Columns.STATUS, Columns.TAGS)) {
+			String value = columns.value(row, column);
+			if (value != null && value.length() > MAX_TEXT_LENGTH) {
+				return "Column " + column + " is longer than " + MAX_TEXT_LENGTH + " characters.";
+			}
+		}
+		String dueDate = columns.value(row, Columns.DUE_DATE);
+		if (dueDate != null) {
+			try {
+				LocalDate.parse(dueDate);
+			} catch (DateTimeParseException e) {
+				return "Invalid dueDate '" + dueDate + "'; expected yyyy-MM-dd.";
+			}
+		}
+		return emails(row, columns).stream()
+			.filter(email -> !userIdsByEmail.containsKey(email))
+			.findFirst()
+			.map(email -> "Assignee not found with email: " + email)
+			.orElse(null);
+	}
+
+	/**
+	 * Inserts validated rows in one transaction, as JDBC batches of the chunk's size.
+	 * Users are referenced by ID and never loaded.
+	 */
+	private void insert(List<Row> rows, Columns columns, Long managerId, Map<String, Long> userIdsByEmail) {
+		transactionTemplate.executeWithoutResult(status -> {
+			entityManager.unwrap(Session.class).setJdbcBatchSize(batchSize);
+			User manager = entityManager.getReference(User.class, managerId);
+			LocalDateTime now = LocalDateTime.now();
+			List<Task> tasks = new ArrayList<>(rows.size());
+			for (Row row : rows) {
+				Task task = new Task();
+				task.setTitle(columns.value(row, Columns.TITLE));
+				task.setDescription(columns.value(row, Columns.DESCRIPTION));
+				String dueDate = columns.value(row, Columns.DUE_DATE);
+				task.setDueDate(dueDate == null ? null : LocalDate.parse(dueDate));
+				task.setPriority(columns.value(row, Columns.PRIORITY));
+				String taskStatus = columns.value(row, Columns.STATUS);
+				task.setStatus(taskStatus == null ? "To Do" : taskStatus);
+				task.setCompletedAt(COMPLETED.equals(task.getStatus()) ? now : null);
+				task.setTags(columns.value(row, Columns.TAGS));
+				task.setManager(manager);
+				emails(row, columns).stream().distinct()
+					.forEach(email -> task.getAssignees().add(entityManager.getReference(User.class, userIdsByEmail.get(email))));
+				task.setChangeVersion(taskChangeVersions.next());
+				entityManager.persist(task);
+				tasks.add(task);
+			}
+			entityManager.flush();
+			tasks.forEach(task -> eventPublisher.publishEvent(TaskChangeEvent.created(task)));
+			entityManager.clear();
+		});
+	}
+
+	private static List<String> emails(Row row, Columns columns) {
+		String assignees = columns.value(row, Columns.ASSIGNEES);
+		if (assignees == null) {
+			return List.of();
+		}
+		return Arrays.stream(assignees.split(";"))
+			.map(String::trim)
+			.filter(email -> !email.isEmpty())
+			.map(TaskImportService::normalizeEmail)
+			.collect(Collectors.toList());
+	}
+
+	private static String normalizeEmail(String email) {
+		return email.toLowerCase(Locale.ROOT);
+	}
+
+	/**
+	 * One record of the file and the line it starts on.
+	 */
+	private static final class Row {
+
+		private final int line;
+		private final List<String> fields;
+		private String error;
+
+		Row(int line, List<String> fields) {
+			this.line = line;
+			this.fields = fields;
+		}
+	}
+
+	/**
+	 * Running totals and the email lookup map of one import.
+	 */
+	private final class Import {
+
+		private final Map<String, Long> userIdsByEmail = new HashMap<>();
+		private final Set<String> unknownEmails = new HashSet<>();
+		private final List<TaskImportErrorDto> errors = new ArrayList<>();
+		private long imported;
+		private long failed;
+
+		void reject(int line, String error) {
+			failed++;
+			if (errors.size() < maxErrors) {
+				errors.add(new TaskImportErrorDto(line, error));
+			}
+		}
+	}
+
+	/**
+	 * Positions of the known columns in the header.
+	 */
+	private static final class Columns {
+
+		static final String TITLE = "title";
+		static final String DESCRIPTION = "description";
+		static final String DUE_DATE = "duedate";
+		static final String PRIORITY = "priority";
+		static final String STATUS = "status";
+		static final String TAGS = "tags";
+		static final String ASSIGNEES = "assignees";
+
+		private final Map<String, Integer> indexes;
+		private final int count;
+
+		private Columns(Map<String, Integer> indexes, int count) {
+			this.indexes = indexes;
+			this.count = count;
+		}
+
+		static Columns of(List<String> header) {
+			if (header == null) {
+				throw new InvalidImportFileException("The file is empty.");
+			}
+			Map<String, Integer> indexes = new HashMap<>();
+			for (int i = 0; i < header.size(); i++) {
+				indexes.putIfAbsent(header.get(i).trim().toLowerCase(Locale.ROOT), i);
+			}
+			if (!indexes.containsKey(TITLE)) {
+				throw new InvalidImportFileException("The first line must be a header with a 'title' column.");
+			}
+			return new Columns(indexes, header.size());
+		}
+
+		/**
+		 * The row's trimmed value in the column, or null if the column is absent or the value blank.
+		 */
+		String value(Row row, String column) {
+			Integer index = indexes.get(column);
+			if (index == null || index >= row.fields.size()) {
+				return null;
+			}
+			String value = row.fields.get(index).trim();
+			return value.isEmpty() ? null : value;
+		}
+	}
+}
@@ -0,0 +1,362 @@
+package com.jeevlifeworks.Smart.Task.Manager.App.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.jeevlifeworks.Smart.Task.Manager.App.dto.AssigneeDto;
+import com.jeevlifeworks.Smart.Task.Manager.App.dto.TaskSearchDocumentDto;
+import com.jeevlifeworks.Smart.Task.Manager.App.event.TaskChangeEvent;
+import com.jeevlifeworks.Smart.Task.Manager.App.repository.TaskRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * In-memory inverted index over task titles, descriptions and tags.
+ *
+ * Text is lower-cased and split into words; each word maps to the tasks that
+ * contain it, weighted by where it occurs (title over tags over description).
+ * A query matches the tasks containing all of its words, the last word also
+ * matching as a prefix so results appear while the user is typing. Hits are
+ * ranked by a tf-idf score and only the top results are kept.
+ *
+ * The index is rebuilt from the database on startup and on a schedule, and kept
+ * current from the TaskChangeEvents of committed transactions. Changes committed
+ * while a rebuild reads the table are applied to the served index and replayed
+ * onto the new one before it is swapped in. It only returns task IDs; the caller
+ * loads the rows, so tasks deleted behind the index's back simply drop out.
+ */
+@Service
+@Slf4j
+public class TaskSearchIndex {
+
+	private static final float TITLE_WEIGHT = 3f;
+	private static final float TAG_WEIGHT = 2f;
+	private static final float DESCRIPTION_WEIGHT = 1f;
+
+	// A prefix match scores a little lower than the exact word
+	private static final float PREFIX_FACTOR = 0.8f;
+
+	// Caps the words a short prefix can expand to, so "a" does not walk the whole dictionary
+	private static final int MAX_PREFIX_EXPANSIONS = 64;
+
+	private static final Pattern WORD_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+	@Autowired
+	private TaskRepository taskRepository;
+
+	// Number of tasks read per query while rebuilding
+	@Value("${task.search.rebuild-batch-size:2000}")
+	private int rebuildBatchSize;
+
+	private volatile Index index = new Index();
+
+	// Held while a change is applied and while a rebuilt index is swapped in, so no change misses the new one
+	private final Object swapLock = new Object();
+
+	// Changes committed while a rebuild runs, replayed onto the new index; null when no rebuild runs
+	private List<Consumer<Index>> pendingChanges;
+
+	/**
+	 * Indexes a task once the transaction that created it has committed, and
+	 * drops it once its deletion or archival has. Archived tasks are not searchable.
+	 *
+	 * Accepts parameter event the change published by TaskService
+	 */
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+	public void onTaskChange(TaskChangeEvent event) {
+		if (event.getType() == TaskChangeEvent.Type.DELETED || event.getType() == TaskChangeEvent.Type.ARCHIVED) {
+			change(target -> target.remove(event.getTaskId()));
+			return;
+		}
+		if (event.getType() != TaskChangeEvent.Type.CREATED) {
+			return; // Status changes do not touch the indexed text
+		}
+		Map<String, Float> terms = weighTerms(event.getTitle(), event.getDescription(), event.getTags());
+		long[] assigneeIds = event.getAssigneeIds().stream().mapToLong(Long::longValue).toArray();
+		change(target -> target.put(event.getTaskId(), terms, assigneeIds));
+	}
+
+	// Applies the change to the served index and keeps it for the one being rebuilt
+	private void change(Consumer<Index> change) {
+		synchronized (swapLock) {
+			change.accept(index);
+			if (pendingChanges != null) {
+				pendingChanges.add(change);
+			}
+		}
+	}
+
+	/**
+	 * Builds a fresh index from the tasks table and swaps it in.
+	 * Searches keep using the previous index until the new one is complete.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	@Scheduled(cron = "${task.search.rebuild-cron:0 30 * * * *}")
+	public synchronized void rebuild() {
+		long started = System.currentTimeMillis();
+		Index next = new Index();
+		synchronized (swapLock) {
+			pendingChanges = new ArrayList<>();
+		}
+		int replayed;
+		try {
+			List<TaskSearchDocumentDto> batch;
+			Long afterId = 0L;
+			do {
+				batch = taskRepository.findSearchDocumentsAfter(afterId, Limit.of(rebuildBatchSize));
+				if (batch.isEmpty()) {
+					break;
+				}
+				Map<Long, long[]> assigneesByTask = taskRepository
+					.findAssigneesByTaskIds(batch.stream().map(TaskSearchDocumentDto::getId).collect(Collectors.toList()))
+					.stream()
+					.collect(Collectors.groupingBy(AssigneeDto::getTaskId,
+						Collectors.collectingAndThen(Collectors.toList(),
+							rows -> rows.stream().mapToLong(AssigneeDto::getId).toArray())));
+				for (TaskSearchDocumentDto document : batch) {
+					next.put(document.getId(), weighTerms(document.getTitle(), document.getDescription(), document.getTags()),
+						assigneesByTask.getOrDefault(document.getId(), new long[0]));
+				}
+				afterId = batch.get(batch.size() - 1).getId();
+			} while (batch.size() == rebuildBatchSize);
+			synchronized (swapLock) {
+				replayed = pendingChanges.size();
+				pendingChanges.forEach(change -> change.accept(next));
+				index = next;
+			}
+		} finally {
+			synchronized (swapLock) {
+				pendingChanges = null;
+			}
+		}
+		log.info("Task search index rebuilt: "+ next.size() +" tasks, "+ next.termCount() +" terms in "
+			+ (System.currentTimeMillis() - started) +" ms, "+ replayed +" changes replayed.");
+	}
+
+	/**
+	 * Returns the IDs of the best matching tasks, best first.
+	 *
+	 * Accepts parameter query free text; every word must match
+	 * Accepts parameter assigneeId only return tasks assigned to this user, or null for all tasks
+	 * Accepts parameter limit maximum number of IDs to return
+	 * return task IDs ordered by descending relevance
+	 */
+	public List<Long> search(String query, Long assigneeId, int limit) {
+		List<String> words = tokenize(query).stream().distinct().collect(Collectors.toList());
+		if (words.isEmpty() || limit <= 0) {
+			return List.of();
+		}
+		return index.search(words, assigneeId, limit);
+	}
+
+	/**
+	 * Splits a task's text into words and sums the field weight of every occurrence.
+	 * Tags are split on commas first, so "Back End, urgent" yields "back", "end" and "urgent".
+	 */
+	static Map<String, Float> weighTerms(String title, String description, String tags) {
+		Map<String, Float> terms = new HashMap<>();
+		tokenize(title).forEach(word -> terms.merge(word, TITLE_WEIGHT, Float::sum));
+		tokenize(description).forEach(word -> terms.merge(word, DESCRIPTION_WEIGHT, Float::sum));
+		if (tags != null) {
+			for (String tag : tags.split(",")) {
+				tokenize(tag).forEach(word -> terms.merge(word, TAG_WEIGHT, Float::sum));
+			}
+		}
+		return terms;
+	}
+
+	/**
+	 * Lower-cases the text and splits it into words of letters and digits,
+	 * dropping single characters.
+	 */
+	static List<String> tokenize(String text) {
+		if (text == null || text.isBlank()) {
+			return List.of();
+		}
+		List<String> words = new ArrayList<>();
+		for (String word : WORD_SEPARATOR.split(text.toLowerCase(Locale.ROOT))) {
+			if (word.length() > 1) {
+				words.add(word);
+			}
+		}
+		return words;
+	}
+
+	/**
+	 * The postings and the per-task data needed to update and filter them.
+	 * Guarded by a read/write lock: searches run concurrently, writes are short.
+	 */
+	private static class Index {
+
+		private final ReadWriteLock lock = new ReentrantReadWriteLock();
+		// word -> (task ID -> weight of the word in that task); sorted for prefix lookups
+		private final NavigableMap<String, Map<Long, Float>> postings = new TreeMap<>();
+		private final Map<Long, IndexedTask> tasks = new HashMap<>();
+
+		void put(Long taskId, Map<String, Float> terms, long[] assigneeIds) {
+			lock.writeLock().lock();
+			try {
+				unindex(taskId, tasks.put(taskId, new IndexedTask(terms.keySet().toArray(String[]::new), assigneeIds)));
+				terms.forEach((word, weight) -> postings.computeIfAbsent(word, key -> new HashMap<>()).put(taskId, weight));
+			} finally {
+				lock.writeLock().unlock();
+			}
+		}
+
+		void remove(Long taskId) {
+			lock.writeLock().lock();
+			try {
+				unindex(taskId, tasks.remove(taskId));
+			} finally {
+				lock.writeLock().unlock();
+			}
+		}
+
+		// Removes the task from the postings of the words it was indexed under
+		private void unindex(Long taskId, IndexedTask previous) {
+			if (previous == null) {
+				return;
+			}
+			for (String word : previous.words) {
+				Map<Long, Float> posting = postings.get(word);
+				posting.remove(taskId);
+				if (posting.isEmpty()) {
+					postings.remove(word);
+				}
+			}
+		}
+
+		List<Long> search(List<String> words, Long assigneeId, int limit) {
+			lock.readLock().lock();
+			try {
+				int documentCount = tasks.size();
+				// Per word: matching task -> score contribution
+				List<Map<Long, Float>> scoresPerWord = new ArrayList<>();
+				for (int i = 0; i < words.size(); i++) {
+					boolean prefix = i == words.size() - 1;
+					Map<Long, Float> scores = scoreWord(words.get(i), prefix, documentCount);
+					if (scores.isEmpty()) {
+						return List.of();
+					}
+					scoresPerWord.add(scores);
+				}
+				// Walk the rarest word's tasks and keep those matching every other word
+				scoresPerWord.sort(Comparator.comparingInt(Map::size));
+				PriorityQueue<Map.Entry<Long, Float>> top = new PriorityQueue<>(
+					Map.Entry.<Long, Float>comparingByValue().thenComparing(Map.Entry.comparingByKey()));
+				for (Map.Entry<Long, Float> candidate : scoresPerWord.get(0).entrySet()) {
+					Long taskId = candidate.getKey();
+					if (assigneeId != null && !tasks.get(taskId).isAssignedTo(assigneeId)) {
+						continue;
+					}
+					float score = candidate.getValue();
+					boolean matchesAll = true;
+					for (int i = 1; i < scoresPerWord.size() && matchesAll; i++) {
+						Float other = scoresPerWord.get(i).get(taskId);
+						matchesAll = other != null;
+						if (matchesAll) {
+							score += other;
+						}
+					}
+					if (matchesAll) {
+						top.add(Map.entry(taskId, score));
+						if (top.size() > limit) {
+							top.poll();
+						}
+					}
+				}
+				List<Long> ranked = new ArrayList<>(top.size());
+				while (!top.isEmpty()) {
+					ranked.add(top.poll().getKey());
+				}
+				return ranked.reversed();
+			} finally {
+				lock.readLock().unlock();
+			}
+		}
+
+		/**
+		 * Scores the tasks containing the word (or, for a prefix, any word starting with it).
+		 * A task matching several expansions keeps its best one.
+		 */
+		private Map<Long, Float> scoreWord(String word, boolean prefix, int documentCount) {
+			Map<Long, Float> scores = new HashMap<>();
+			Map<Long, Float> exact = postings.get(word);
+			if (exact != null) {
+				addScores(scores, exact, 1f, documentCount);
+			}
+			if (prefix) {
+				int expansions = 0;
+				for (Map.Entry<String, Map<Long, Float>> entry : postings.tailMap(word, false).entrySet()) {
+					if (!entry.getKey().startsWith(word) || ++expansions > MAX_PREFIX_EXPANSIONS) {
+						break;
+					}
+					addScores(scores, entry.getValue(), PREFIX_FACTOR, documentCount);
+				}
+			}
+			return scores;
+		}
+
+		private void addScores(Map<Long, Float> scores, Map<Long, Float> posting, float factor, int documentCount) {
+			float idf = (float) Math.log(1 + (double) documentCount / posting.size());
+			posting.forEach((taskId, weight) -> scores.merge(taskId,
+				factor * (1 + (float) Math.log(weight)) * idf, Math::max));
+		}
+
+		int size() {
+			lock.readLock().lock();
+			try {
+				return tasks.size();
+			} finally {
+				lock.readLock().unlock();
+			}
+		}
+
+		int termCount() {
+			lock.readLock().lock();
+			try {
+				return postings.size();
+			} finally {
+				lock.readLock().unlock();
+			}
+		}
+	}
+
+	/**
+	 * What the index remembers about a task: its words, to remove them when the
+	 * task is re-indexed, and its assignees, to restrict an employee's search.
+	 */
+	private record IndexedTask(String[] words, long[] assigneeIds) {
+
+		boolean isAssignedTo(long userId) {
+			for (long assigneeId : assigneeIds) {
+				if (assigneeId == userId) {
+					return true;
+				}
+			}
+			return false;
+		}
+	}
+}
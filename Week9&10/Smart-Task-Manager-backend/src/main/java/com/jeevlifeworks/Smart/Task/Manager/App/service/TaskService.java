@@ -1,29 +1,73 @@
 package com.jeevlifeworks.Smart.Task.Manager.App.service;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.data.domain.Limit;
+import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.jeevlifeworks.Smart.Task.Manager.App.Entity.Task;
 import com.jeevlifeworks.Smart.Task.Manager.App.Entity.User;
+import com.jeevlifeworks.Smart.Task.Manager.App.config.ReadWriteRoutingDataSource;
+import com.jeevlifeworks.Smart.Task.Manager.App.config.ReplicaLagGuard;
+import com.jeevlifeworks.Smart.Task.Manager.App.dto.AssigneeDto;
+import com.jeevlifeworks.Smart.Task.Manager.App.dto.BulkTaskItemResultDto;
+import com.jeevlifeworks.Smart.Task.Manager.App.dto.BulkTaskResultDto;
+import com.jeevlifeworks.Smart.Task.Manager.App.dto.TaskChangesDto;
+import com.jeevlifeworks.Smart.Task.Manager.App.dto.TaskCursor;
 import com.jeevlifeworks.Smart.Task.Manager.App.dto.TaskDto;
 import com.jeevlifeworks.Smart.Task.Manager.App.dto.TaskFilterDto;
+import com.jeevlifeworks.Smart.Task.Manager.App.dto.TaskPageDto;
+import com.jeevlifeworks.Smart.Task.Manager.App.dto.TaskStateDto;
+import com.jeevlifeworks.Smart.Task.Manager.App.dto.TaskStatusBatchItemDto;
+import com.jeevlifeworks.Smart.Task.Manager.App.dto.TaskStatusBatchItemResultDto;
+import com.jeevlifeworks.Smart.Task.Manager.App.dto.TaskStatusBatchResultDto;
+import com.jeevlifeworks.Smart.Task.Manager.App.dto.TaskSummaryDto;
+import com.jeevlifeworks.Smart.Task.Manager.App.dto.TaskVersionDto;
+import com.jeevlifeworks.Smart.Task.Manager.App.event.TaskChangeEvent;
+import com.jeevlifeworks.Smart.Task.Manager.App.repository.ArchivedTaskRepository;
 import com.jeevlifeworks.Smart.Task.Manager.App.repository.TaskRepository;
 import com.jeevlifeworks.Smart.Task.Manager.App.repository.UserRepository;
+import com.jeevlifeworks.Smart.Task.Manager.App.exception.BulkLimitExceededException;
 import com.jeevlifeworks.Smart.Task.Manager.App.exception.ResourceNotFoundException;
+import com.jeevlifeworks.Smart.Task.Manager.App.exception.TaskArchivedException;
+import com.jeevlifeworks.Smart.Task.Manager.App.exception.TaskVersionConflictException;
 
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import lombok.extern.slf4j.Slf4j;
 
 @Service
 @Slf4j
+@Timed("task.service") // Times every public method, tagged with class and method
 public class TaskService {
+
+    private static final String COMPLETED = "Completed";
 	
 	@Autowired 
 	private TaskRepository taskRepository;
@@ -33,6 +77,61 @@ public class TaskService {
     
     @Autowired 
     private EmailService emailService;
+    
+    // Authenticated user's ID and roles from the principal; the entity at most once per request
+    @Autowired
+    private CurrentUserResolver currentUserResolver;
+    
+    // Publishes TaskChangeEvents (consumed after commit, e.g. by DashboardService)
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+    
+    @Autowired
+    private ArchivedTaskRepository archivedTaskRepository;
+
+    @Autowired
+    private TaskSearchIndex taskSearchIndex;
+    
+    @Autowired
+    private TaskSnapshot taskSnapshot;
+    
+    // Stamps every change with the version delta sync reads
+    @Autowired
+    private TaskChangeVersions taskChangeVersions;
+    
+    // Page size used when the client does not request one
+    @Value("${task.page.default-size:50}")
+    private int defaultPageSize;
+    
+    // Upper bound on the page size a client may request
+    @Value("${task.page.max-size:200}")
+    private int maxPageSize;
+    
+    // Number of search results returned when the client does not request a size
+    @Value("${task.search.default-size:20}")
+    private int defaultSearchSize;
+    
+    // Upper bound on the number of search results a client may request
+    @Value("${task.search.max-size:100}")
+    private int maxSearchSize;
+    
+    // Maximum number of tasks accepted by one bulk request
+    @Value("${task.bulk.max-items:5000}")
+    private int bulkMaxItems;
+    
+    // Tasks saved per transaction during a bulk import
+    @Value("${task.bulk.chunk-size:500}")
+    private int bulkChunkSize;
+    
+    // Maximum number of changes returned by one delta sync request
+    @Value("${task.changes.max-size:500}")
+    private int maxChangesSize;
+    
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    
+    @PersistenceContext
+    private EntityManager entityManager;
 
     /**
      * Creates a new task and assigns it to selected users.
@@ -42,14 +141,141 @@ public class TaskService {
     public Task createTask(TaskDto taskDto) {
     	log.info("Attempting to create a new task with title: "+ taskDto.getTitle());
     	// Get the currently authenticated user (assumed to be a manager)
-        UserDetails userDetails = (UserDetails) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
-        User manager = userRepository.findByEmail(userDetails.getUsername())
-            .orElseThrow(() -> {
-                log.error("Authenticated user (manager) not found.");
-                return new ResourceNotFoundException("Authenticated user not found.");
+        User manager = getAuthenticatedManager();
+
+     // Map assignee IDs to User entities with a single IN query
+        List<Long> assigneeIds = distinctAssigneeIds(taskDto);
+        Map<Long, User> assigneesById = findAssigneesById(assigneeIds);
+        List<User> assignees = assigneeIds.stream()
+            .map(id -> {
+                User assignee = assigneesById.get(id);
+                if (assignee == null) {
+                    log.error("Assignee with ID "+ id +" not found.");
+                    throw new ResourceNotFoundException("Assignee not found with id: " + id);
+                }
+                return assignee;
+            })
+            .collect(Collectors.toList());
+
+     // Create, populate and save the Task entity
+        Task savedTask = taskRepository.save(buildTask(taskDto, manager, assignees));
+        log.info("Task created successfully with ID: "+ savedTask.getId());
+        eventPublisher.publishEvent(TaskChangeEvent.created(savedTask));
+
+        // Queue task assignment email to all assignees
+        notifyAssignees(savedTask, manager);
+
+        return savedTask;
+    }
+
+    /**
+     * Creates many tasks in one request (e.g. a sprint import).
+     *
+     * All assignees are resolved with one IN query. Valid tasks are saved in chunks,
+     * each in its own transaction, so the tasks and task_assignees inserts go out as
+     * JDBC batches. Invalid tasks (missing title, unknown assignee) are reported per
+     * item without stopping the import; if a chunk fails in the database its tasks
+     * are retried one by one so only the offending item is rejected.
+     *
+     * Accepts parameter taskDtos the tasks to create
+     * return the outcome of every task, in request order
+     */
+    public BulkTaskResultDto createTasksBulk(List<TaskDto> taskDtos) {
+        if (taskDtos.size() > bulkMaxItems) {
+            log.error("Bulk task creation rejected: "+ taskDtos.size() +" tasks exceeds the limit of "+ bulkMaxItems);
+            throw new BulkLimitExceededException("A bulk request may contain at most " + bulkMaxItems + " tasks.");
+        }
+        log.info("Attempting to create "+ taskDtos.size() +" tasks in bulk.");
+        User manager = getAuthenticatedManager();
+
+        Set<Long> allAssigneeIds = taskDtos.stream()
+            .flatMap(dto -> distinctAssigneeIds(dto).stream())
+            .collect(Collectors.toSet());
+        Map<Long, User> assigneesById = findAssigneesById(allAssigneeIds);
+
+     // Reject invalid items up front; only valid ones reach the database
+        BulkTaskItemResultDto[] results = new BulkTaskItemResultDto[taskDtos.size()];
+        List<Integer> validIndexes = new ArrayList<>();
+        for (int i = 0; i < taskDtos.size(); i++) {
+            String error = validateBulkItem(taskDtos.get(i), assigneesById);
+            if (error == null) {
+                validIndexes.add(i);
+            } else {
+                results[i] = BulkTaskItemResultDto.failed(i, error);
+            }
+        }
+
+        for (int from = 0; from < validIndexes.size(); from += bulkChunkSize) {
+            List<Integer> chunk = validIndexes.subList(from, Math.min(from + bulkChunkSize, validIndexes.size()));
+            try {
+                List<Long> ids = saveBulkChunk(chunk, taskDtos, assigneesById, manager);
+                for (int k = 0; k < chunk.size(); k++) {
+                    results[chunk.get(k)] = BulkTaskItemResultDto.created(chunk.get(k), ids.get(k));
+                }
+            } catch (RuntimeException e) {
+                log.warn("Bulk chunk of "+ chunk.size() +" tasks failed, retrying individually. Error: "+ e.getMessage());
+                for (Integer index : chunk) {
+                    try {
+                        results[index] = BulkTaskItemResultDto.created(index,
+                            saveBulkChunk(List.of(index), taskDtos, assigneesById, manager).get(0));
+                    } catch (RuntimeException single) {
+                        results[index] = BulkTaskItemResultDto.failed(index,
+                            "Could not save task: " + NestedExceptionUtils.getMostSpecificCause(single).getMessage());
+                    }
+                }
+            }
+        }
+
+        List<BulkTaskItemResultDto> items = Arrays.asList(results);
+        int created = (int) items.stream().filter(BulkTaskItemResultDto::isCreated).count();
+        log.info("Bulk task creation finished: "+ created +" created, "+ (items.size() - created) +" failed.");
+        return new BulkTaskResultDto(created, items.size() - created, items);
+    }
+
+    /**
+     * Saves one chunk of a bulk import in its own transaction and queues the
+     * assignment emails. The persistence context is cleared afterwards so a long
+     * import does not accumulate managed entities.
+     */
+    private List<Long> saveBulkChunk(List<Integer> indexes, List<TaskDto> taskDtos, Map<Long, User> assigneesById, User manager) {
+        return transactionTemplate.execute(status -> {
+            List<Task> tasks = indexes.stream()
+                .map(index -> {
+                    TaskDto dto = taskDtos.get(index);
+                    return buildTask(dto, manager, distinctAssigneeIds(dto).stream()
+                        .map(assigneesById::get)
+                        .collect(Collectors.toList()));
+                })
+                .collect(Collectors.toList());
+            taskRepository.saveAll(tasks);
+            tasks.forEach(task -> {
+                notifyAssignees(task, manager);
+                eventPublisher.publishEvent(TaskChangeEvent.created(task));
             });
+            taskRepository.flush();
+            entityManager.clear();
+            return tasks.stream().map(Task::getId).collect(Collectors.toList());
+        });
+    }
 
-     // Create and populate the Task entity
+    /**
+     * Returns why a bulk item cannot be created, or null if it is valid.
+     */
+    private String validateBulkItem(TaskDto taskDto, Map<Long, User> assigneesById) {
+        if (taskDto.getTitle() == null || taskDto.getTitle().isBlank()) {
+            return "Title is required.";
+        }
+        return distinctAssigneeIds(taskDto).stream()
+            .filter(id -> !assigneesById.containsKey(id))
+            .findFirst()
+            .map(id -> "Assignee not found with id: " + id)
+            .orElse(null);
+    }
+
+    /**
+     * Builds a new, unsaved task in the default "To Do" status.
+     */
+    private Task buildTask(TaskDto taskDto, User manager, List<User> assignees) {
         Task task = new Task();
         task.setTitle(taskDto.getTitle());
         task.setDescription(taskDto.getDescription());
@@ -57,166 +283,635 @@ public class TaskService {
         task.setPriority(taskDto.getPriority());
         task.setStatus("To Do"); // Default status for new tasks
         task.setManager(manager);
+        task.setAssignees(new ArrayList<>(assignees));
+        task.setTags(taskDto.getTags());
+        task.setChangeVersion(taskChangeVersions.next());
+        return task;
+    }
 
-     // Map assignee IDs to User entities
-        List<User> assignees = taskDto.getAssigneeIds().stream()
-            .map(id -> userRepository.findById(id).orElseThrow(() -> {
-                log.error("Assignee with ID "+ id +" not found.");
-                return new ResourceNotFoundException("Assignee not found with id: " + id);
-            }))
-            .collect(Collectors.toList());
-        task.setAssignees(assignees);
+    /**
+     * Queues a task assignment email for every assignee of the task.
+     */
+    private void notifyAssignees(Task task, User manager) {
+        task.getAssignees().forEach(assignee -> {
+            log.debug("Queueing task assignment notification for "+ assignee.getEmail());
+            emailService.sendTaskAssignmentNotification(assignee.getEmail(), task.getTitle(), manager.getUsername());
+        });
+    }
 
-     // Save task to database
-        Task savedTask = taskRepository.save(task);
-        log.info("Task created successfully with ID: "+ savedTask.getId());
+    /**
+     * Loads the given users with one IN query, keyed by ID.
+     */
+    private Map<Long, User> findAssigneesById(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        return userRepository.findAllWithRolesByIdIn(ids).stream()
+            .collect(Collectors.toMap(User::getId, Function.identity()));
+    }
 
-        // Send task assignment email to all assignees
-        assignees.forEach(assignee -> {
-            log.debug("Sending task assignment notification to "+ assignee.getEmail());
-            emailService.sendTaskAssignmentNotification(assignee.getEmail(), savedTask.getTitle(), manager.getUsername());
-        });
+    /**
+     * Returns the task's assignee IDs without nulls or duplicates, in request order.
+     */
+    private List<Long> distinctAssigneeIds(TaskDto taskDto) {
+        if (taskDto.getAssigneeIds() == null) {
+            return List.of();
+        }
+        return taskDto.getAssigneeIds().stream().filter(Objects::nonNull).distinct().collect(Collectors.toList());
+    }
 
-        return savedTask;
+    /**
+     * Loads the authenticated user (the manager creating tasks).
+     */
+    private User getAuthenticatedManager() {
+        UserDetails userDetails = (UserDetails) SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        return currentUserResolver.getUser(userDetails);
     }
 
     /**
      * Updates the status of a task by an employee who is assigned to it.
      * Ensures only assignees can update task statuses.
+     *
+     * Runs two statements and loads no entity: one query reads the task's row
+     * version, current values and assignees (needed for the change event), then
+     * one conditional UPDATE writes the status only if the row still has that
+     * version and the user is still an assignee.
+     *
+     * Accepts parameter taskId the ID of the task to update
+     * Accepts parameter newStatus the new status
+     * Accepts parameter expectedVersion the task version the client last saw, or null to skip that check
+     * Accepts parameter userDetails the authenticated user's details
+     * return the updated task, with its new version
+     * throws ResourceNotFoundException (404) if the task does not exist,
+     *        AccessDeniedException (403) if the user is not an assignee,
+     *        TaskVersionConflictException (409) if the task changed since it was read,
+     *        TaskArchivedException (409) if the task has been archived
      */
     @Transactional
-    public Task updateTaskStatus(Long taskId, String newStatus, UserDetails userDetails) {
+    public TaskDto updateTaskStatus(Long taskId, String newStatus, Long expectedVersion, UserDetails userDetails) {
         log.info("Attempting to update status for task ID "+ taskId +" to "+ newStatus);
-     // Fetch the task
+        Long userId = currentUserResolver.getId(userDetails);
+
+     // Read the task's version, current values and assignees in one query
+        List<TaskStateDto> rows = taskRepository.findStateById(taskId);
+        if (rows.isEmpty()) {
+            if (archivedTaskRepository.existsById(taskId)) {
+                log.warn("Status update rejected: task ID "+ taskId +" is archived.");
+                throw archived(taskId);
+            }
+            log.error("Task with ID "+ taskId +" not found.");
+            throw new ResourceNotFoundException("Task not found with id: " + taskId);
+        }
+        TaskStateDto current = rows.get(0);
+        List<Long> assigneeIds = rows.stream().map(TaskStateDto::getAssigneeId).filter(Objects::nonNull).collect(Collectors.toList());
+
+     // Check if the user is assigned to the task
+        if (!assigneeIds.contains(userId)) {
+            log.warn("User "+ userDetails.getUsername() +" attempted to update task "+ taskId +" but is not an assignee.");
+            throw new AccessDeniedException("You are not authorized to update this task.");
+        }
+        if (expectedVersion != null && expectedVersion.longValue() != current.getVersion()) {
+            throw versionConflict(taskId);
+        }
+        if (Objects.equals(current.getStatus(), newStatus)) {
+            return toTaskDto(current, assigneeIds, newStatus, current.getVersion());
+        }
+
+     // Write the new status only if nobody changed the task since it was read
+        if (taskRepository.updateStatusIfCurrent(taskId, newStatus, completedAt(newStatus), current.getVersion(), userId,
+                taskChangeVersions.next()) == 0) {
+            throw versionConflict(taskId);
+        }
+        eventPublisher.publishEvent(TaskChangeEvent.statusChanged(current, assigneeIds, newStatus));
+        log.info("Task ID "+ taskId +" status successfully updated to " + newStatus);
+        return toTaskDto(current, assigneeIds, newStatus, current.getVersion() + 1);
+    }
+
+    /**
+     * Retrieves one task by ID. A task that is no longer in the tasks table is
+     * looked up in the archive, so links to old completed tasks keep working;
+     * such a task comes back with archived = true.
+     * Employees can only read their own tasks; managers/admins can read any task.
+     *
+     * Accepts parameter taskId the ID of the task
+     * Accepts parameter userDetails the authenticated user's details
+     * return the task with its assignee IDs
+     * throws ResourceNotFoundException (404) if the task neither exists nor is archived,
+     *        AccessDeniedException (403) if an employee is not an assignee
+     */
+    @Transactional(readOnly = true)
+    public TaskDto getTask(Long taskId, UserDetails userDetails) {
+        log.info("Fetching task ID "+ taskId);
+        List<TaskStateDto> rows = taskRepository.findStateById(taskId);
+        boolean archived = rows.isEmpty();
+        if (archived) {
+            rows = archivedTaskRepository.findStateById(taskId);
+        }
+        if (rows.isEmpty()) {
+            log.error("Task with ID "+ taskId +" not found.");
+            throw new ResourceNotFoundException("Task not found with id: " + taskId);
+        }
+        TaskStateDto state = rows.get(0);
+        List<Long> assigneeIds = rows.stream().map(TaskStateDto::getAssigneeId).filter(Objects::nonNull).collect(Collectors.toList());
+        if (currentUserResolver.isEmployee(userDetails) && !assigneeIds.contains(currentUserResolver.getId(userDetails))) {
+            log.warn("User "+ userDetails.getUsername() +" attempted to read task "+ taskId +" but is not an assignee.");
+            throw new AccessDeniedException("You are not authorized to view this task.");
+        }
+        TaskDto dto = toTaskDto(state, assigneeIds, state.getStatus(), state.getVersion());
+        dto.setArchived(archived);
+        return dto;
+    }
+
+    private TaskVersionConflictException versionConflict(Long taskId) {
+        log.warn("Task ID "+ taskId +" changed since it was read; status update rejected.");
+        return new TaskVersionConflictException("Task " + taskId + " was changed by someone else. Reload it and try again.");
+    }
+
+    private TaskArchivedException archived(Long taskId) {
+        return new TaskArchivedException("Task " + taskId + " is archived and can no longer be changed.");
+    }
+
+    /**
+     * Completion time to store with a new status: now when the task is completed, none otherwise.
+     */
+    private LocalDateTime completedAt(String status) {
+        return COMPLETED.equals(status) ? LocalDateTime.now() : null;
+    }
+
+    /**
+     * Builds the response of a status update from the state read before it.
+     */
+    private TaskDto toTaskDto(TaskStateDto state, List<Long> assigneeIds, String status, long version) {
+        TaskDto dto = new TaskDto(state.getId(), state.getTitle(), state.getDescription(), state.getDueDate(),
+            state.getPriority(), status, state.getManagerId(), state.getTags(), version);
+        dto.setAssigneeIds(assigneeIds);
+        return dto;
+    }
+
+    /**
+     * Applies many status updates of the authenticated assignee at once (e.g.
+     * when closing out a sprint).
+     *
+     * One locking query reads the state and assignees of every task in the
+     * batch, then the accepted updates are written with one UPDATE per distinct
+     * new status, all in a single transaction. Entries are checked like single
+     * updates (task exists, user is an assignee, optional version matches) and
+     * rejected per entry without affecting the others.
+     *
+     * Accepts parameter updates the (taskId, status, version) entries
+     * Accepts parameter userDetails the authenticated user's details
+     * return the outcome of every entry, in request order
+     */
+    @Transactional
+    public TaskStatusBatchResultDto updateTaskStatuses(List<TaskStatusBatchItemDto> updates, UserDetails userDetails) {
+        if (updates.size() > bulkMaxItems) {
+            log.error("Status batch rejected: "+ updates.size() +" updates exceeds the limit of "+ bulkMaxItems);
+            throw new BulkLimitExceededException("A status batch may contain at most " + bulkMaxItems + " updates.");
+        }
+        log.info("Attempting to update the status of "+ updates.size() +" tasks in one batch.");
+        Long userId = currentUserResolver.getId(userDetails);
+        TaskStatusBatchItemResultDto[] results = new TaskStatusBatchItemResultDto[updates.size()];
+
+     // Reject incomplete and repeated entries before reading anything
+        Map<Long, Integer> indexByTaskId = new LinkedHashMap<>();
+        for (int i = 0; i < updates.size(); i++) {
+            TaskStatusBatchItemDto update = updates.get(i);
+            if (update.getTaskId() == null) {
+                results[i] = TaskStatusBatchItemResultDto.failed(i, null, "Task ID is required.");
+            } else if (update.getStatus() == null || update.getStatus().isBlank()) {
+                results[i] = TaskStatusBatchItemResultDto.failed(i, update.getTaskId(), "Status is required.");
+            } else if (indexByTaskId.putIfAbsent(update.getTaskId(), i) != null) {
+                results[i] = TaskStatusBatchItemResultDto.failed(i, update.getTaskId(), "Task appears more than once in the batch.");
+            }
+        }
+
+     // State and assignees of all tasks in one query; the rows stay locked until commit
+        Map<Long, List<TaskStateDto>> rowsByTaskId = indexByTaskId.isEmpty() ? Map.of()
+            : taskRepository.findStatesForUpdate(indexByTaskId.keySet()).stream()
+                .collect(Collectors.groupingBy(TaskStateDto::getId));
+
+     // Tasks missing from 'tasks' are either archived or do not exist
+        List<Long> missingIds = indexByTaskId.keySet().stream()
+            .filter(taskId -> !rowsByTaskId.containsKey(taskId)).collect(Collectors.toList());
+        Set<Long> archivedIds = missingIds.isEmpty() ? Set.of() : new HashSet<>(archivedTaskRepository.findIdsByIdIn(missingIds));
+
+        Map<String, List<Long>> taskIdsByStatus = new LinkedHashMap<>();
+        indexByTaskId.forEach((taskId, index) -> {
+            TaskStatusBatchItemDto update = updates.get(index);
+            List<TaskStateDto> rows = rowsByTaskId.get(taskId);
+            if (rows == null) {
+                results[index] = TaskStatusBatchItemResultDto.failed(index, taskId, archivedIds.contains(taskId)
+                    ? archived(taskId).getMessage() : "Task not found with id: " + taskId);
+                return;
+            }
+            TaskStateDto current = rows.get(0);
+            if (rows.stream().noneMatch(row -> userId.equals(row.getAssigneeId()))) {
+                log.warn("User "+ userDetails.getUsername() +" attempted to update task "+ taskId +" but is not an assignee.");
+                results[index] = TaskStatusBatchItemResultDto.failed(index, taskId, "You are not authorized to update this task.");
+            } else if (update.getVersion() != null && update.getVersion().longValue() != current.getVersion()) {
+                results[index] = TaskStatusBatchItemResultDto.failed(index, taskId,
+                    "Task " + taskId + " was changed by someone else. Reload it and try again.");
+            } else if (Objects.equals(current.getStatus(), update.getStatus())) {
+                results[index] = TaskStatusBatchItemResultDto.updated(index, taskId, current.getStatus(), current.getVersion());
+            } else {
+                taskIdsByStatus.computeIfAbsent(update.getStatus(), status -> new ArrayList<>()).add(taskId);
+            }
+        });
+
+     // One UPDATE per new status; each task still gets its own change version
+        taskIdsByStatus.forEach((status, taskIds) -> {
+            Map<Long, Long> changeVersionsById = new LinkedHashMap<>();
+            taskIds.forEach(taskId -> changeVersionsById.put(taskId, taskChangeVersions.next()));
+            int updated = taskRepository.updateStatusByIds(changeVersionsById, status, completedAt(status), userId);
+            if (updated != taskIds.size()) {
+             // Cannot happen while the rows are locked; roll the whole batch back rather than report wrong results
+                throw new IllegalStateException("Status batch updated " + updated + " of " + taskIds.size() + " tasks");
+            }
+            for (Long taskId : taskIds) {
+                int index = indexByTaskId.get(taskId);
+                List<TaskStateDto> rows = rowsByTaskId.get(taskId);
+                TaskStateDto current = rows.get(0);
+                List<Long> assigneeIds = rows.stream().map(TaskStateDto::getAssigneeId).filter(Objects::nonNull).collect(Collectors.toList());
+                eventPublisher.publishEvent(TaskChangeEvent.statusChanged(current, assigneeIds, status));
+                results[index] = TaskStatusBatchItemResultDto.updated(index, taskId, status, current.getVersion() + 1);
+            }
+        });
+
+        List<TaskStatusBatchItemResultDto> items = Arrays.asList(results);
+        int updated = (int) items.stream().filter(TaskStatusBatchItemResultDto::isUpdated).count();
+        log.info("Status batch finished: "+ updated +" updated, "+ (items.size() - updated) +" rejected.");
+        return new TaskStatusBatchResultDto(updated, items.size() - updated, items);
+    }
+
+    /**
+     * Deletes a task. The row stays behind as a tombstone with a new change
+     * version, so clients syncing with getChangesSince learn about the deletion;
+     * every other query no longer sees the task.
+     *
+     * Accepts parameter taskId the ID of the task to delete
+     */
+    @Transactional
+    public void deleteTask(Long taskId) {
+        log.info("Attempting to delete task ID "+ taskId);
         Task task = taskRepository.findById(taskId)
             .orElseThrow(() -> {
                 log.error("Task with ID "+ taskId +" not found.");
                 return new ResourceNotFoundException("Task not found with id: " + taskId);
             });
+        task.setDeleted(true);
+        task.setChangeVersion(taskChangeVersions.next());
+        taskRepository.save(task);
+        eventPublisher.publishEvent(TaskChangeEvent.deleted(task));
+        log.info("Task ID "+ taskId +" deleted.");
+    }
 
-     // Get current user (assumed to be an employee)
-        User employee = userRepository.findByEmail(userDetails.getUsername())
-            .orElseThrow(() -> {
-                log.error("Authenticated user (employee) not found.");
-                return new ResourceNotFoundException("Authenticated user not found.");
-            });
+    /**
+     * Returns the tasks changed after the client's watermark, so a reconnecting
+     * client downloads only what changed instead of its whole task list.
+     * Employees only receive their own tasks; managers/admins receive all tasks.
+     *
+     * The changed rows are found on the change_version index; only the live ones
+     * are loaded, deleted ones are reported by ID. Changes still being committed
+     * are held back (see TaskChangeVersions), so the returned watermark never
+     * skips a change that becomes visible later. The watermark comes from the
+     * primary's in-memory counter, so the rows are read from the primary too; a
+     * lagging replica would move the client past changes it never receives.
+     *
+     * Accepts parameter since watermark from the previous response, or 0 for everything
+     * Accepts parameter userDetails the authenticated user's details
+     * return the changes in version order and the new watermark
+     */
+    @Transactional(readOnly = true)
+    public TaskChangesDto getChangesSince(long since, UserDetails userDetails) {
+        ReadWriteRoutingDataSource.readFromPrimary();
+        log.info("Fetching task changes since version "+ since);
+        boolean isEmployee = currentUserResolver.isEmployee(userDetails);
 
-     // Check if the user is assigned to the task
-        boolean isAssignee = task.getAssignees().stream().anyMatch(a -> a.getId().equals(employee.getId()));
-        if (!isAssignee) {
-            log.warn("User "+ employee.getEmail() +" attempted to update task "+ taskId +" but is not an assignee.");
-            throw new SecurityException("You are not authorized to update this task.");
+        long upTo = taskChangeVersions.safeWatermark();
+        List<TaskVersionDto> rows = isEmployee
+            ? taskRepository.findChangedAfterForAssignee(currentUserResolver.getId(userDetails), since, upTo, maxChangesSize + 1)
+            : taskRepository.findChangedAfter(since, upTo, maxChangesSize + 1);
+        boolean hasMore = rows.size() > maxChangesSize;
+        if (hasMore) {
+            rows = rows.subList(0, maxChangesSize);
         }
+        long watermark = hasMore ? rows.get(rows.size() - 1).getChangeVersion() : Math.max(since, upTo);
 
-     // Update and save the new task status
-        task.setStatus(newStatus);
-        Task updatedTask = taskRepository.save(task);
-        log.info("Task ID "+ taskId +" status successfully updated to " + newStatus);
-        return updatedTask;
+        List<Long> deleted = new ArrayList<>();
+        List<Long> changedIds = new ArrayList<>();
+        rows.forEach(row -> (Boolean.TRUE.equals(row.getDeleted()) ? deleted : changedIds).add(row.getId()));
+        List<TaskSummaryDto> changed = List.of();
+        if (!changedIds.isEmpty()) {
+         // A task deleted since the rows were read drops out here; its tombstone comes with the next sync
+            Map<Long, TaskSummaryDto> byId = taskRepository.findSummariesByIdIn(changedIds).stream()
+                .collect(Collectors.toMap(TaskSummaryDto::getId, Function.identity()));
+            changed = changedIds.stream().map(byId::get).filter(Objects::nonNull).collect(Collectors.toList());
+            attachAssignees(changed);
+        }
+        log.debug("Returning "+ changed.size() +" changed and "+ deleted.size() +" deleted tasks up to version "+ watermark);
+        return new TaskChangesDto(changed, deleted, watermark, hasMore);
     }
 
     /**
-     * Retrieves a list of tasks filtered by status, priority, assignee, and due date.
+     * Retrieves one page of tasks filtered by status, priority, assignee, and due date.
      * Employees only get their own tasks; managers/admins get tasks based on filters.
+     * The matching page is picked from the in-memory TaskSnapshot once it is built,
+     * so the database only loads the rows on the page. With includeArchived the
+     * archived tasks are merged into the listing; the snapshot only holds live
+     * tasks, so such listings always run against the database.
+     *
+     * Accepts parameter cursor token from the previous page's nextCursor, or null for the first page
+     * Accepts parameter size requested page size, capped at the configured maximum
      */
-    public List<Task> getTasksFiltered(TaskFilterDto filterDto, UserDetails userDetails) {
-        log.info("Fetching tasks with filter: status="+ filterDto.getStatus() +", priority="+ filterDto.getPriority() +", assigneeId="+ filterDto.getAssigneeId() +", dueDate="+filterDto.getDueDate());
-     // Identify current user
-        User currentUser = userRepository.findByEmail(userDetails.getUsername())
-            .orElseThrow(() -> {
-                log.error("User with email "+ userDetails.getUsername() +" not found.");
-                return new ResourceNotFoundException("User not found");
-            });
+    @Transactional(readOnly = true)
+    public TaskPageDto getTasksFiltered(TaskFilterDto filterDto, UserDetails userDetails, String cursor, Integer size) {
+     // Cached under the task list ETag, which covers the tasks and the assignee names
+        ReadWriteRoutingDataSource.readIncludingRecentChanges(ReplicaLagGuard.Dataset.TASKS, ReplicaLagGuard.Dataset.USERS);
+        log.info("Fetching tasks with filter: status="+ filterDto.getStatus() +", priority="+ filterDto.getPriority() +", assigneeId="+ filterDto.getAssigneeId() +", dueDate="+filterDto.getDueDate() +", dueDateFrom="+ filterDto.getDueDateFrom() +", dueDateTo="+ filterDto.getDueDateTo());
+     // If the user is an employee, return only their assigned tasks;
+     // otherwise, apply filter criteria for admin/manager
+        boolean isEmployee = currentUserResolver.isEmployee(userDetails);
+        TaskFilterDto criteria = isEmployee ? assignedToFilter(currentUserResolver.getId(userDetails)) : filterDto;
+        criteria.setIncludeArchived(filterDto.getIncludeArchived());
+        log.debug(isEmployee
+            ? "User is an employee. Retrieving only their assigned tasks."
+            : "User is a manager or admin. Retrieving tasks based on filter criteria.");
 
-     // If the user is an employee, return only their assigned tasks
-        if (currentUser.getRoles().stream().anyMatch(r -> r.getName().equals(com.jeevlifeworks.Smart.Task.Manager.App.Entity.RoleEnum.ROLE_EMPLOYEE))) {
-            log.debug("User is an employee. Retrieving only their assigned tasks.");
-            return taskRepository.findByAssigneeId(currentUser.getId());
+        TaskCursor position = TaskCursor.decode(cursor);
+        int pageSize = resolvePageSize(size);
+        if (criteria.includesArchived()) {
+            return fetchPage(position, pageSize,
+                limit -> mergeDated(taskRepository.findDatedSummariesByFilter(criteria, null, limit),
+                    taskRepository.findArchivedDatedSummariesByFilter(criteria, null, limit), limit),
+                (after, limit) -> mergeDated(taskRepository.findDatedSummariesByFilter(criteria, after, limit),
+                    taskRepository.findArchivedDatedSummariesByFilter(criteria, after, limit), limit),
+                (afterId, limit) -> mergeUndated(taskRepository.findUndatedSummariesByFilter(criteria, afterId, limit),
+                    taskRepository.findArchivedUndatedSummariesByFilter(criteria, afterId, limit), limit));
+        }
+     // Pick the page from the in-memory snapshot and only load its rows; query the filter in the database otherwise
+        Optional<TaskPageDto> page = taskSnapshot.findPage(criteria, position, pageSize + 1)
+            .flatMap(ids -> loadPage(ids, criteria, pageSize));
+        if (page.isPresent()) {
+            return page.get();
         }
+        return fetchPage(position, pageSize,
+            limit -> taskRepository.findDatedSummariesByFilter(criteria, null, limit),
+            (after, limit) -> taskRepository.findDatedSummariesByFilter(criteria, after, limit),
+            (afterId, limit) -> taskRepository.findUndatedSummariesByFilter(criteria, afterId, limit));
+    }
+    
+    /**
+     * Searches task titles, descriptions and tags and returns the best matches first.
+     * Employees only find their own tasks; managers/admins search all tasks.
+     *
+     * Accepts parameter query free text; every word must occur in the task, the last one may be a prefix
+     * Accepts parameter size maximum number of results, capped at the configured maximum
+     * Accepts parameter userDetails the authenticated user's details
+     * return the matching task summaries ordered by relevance
+     */
+    @Transactional(readOnly = true)
+    public List<TaskSummaryDto> searchTasks(String query, Integer size, UserDetails userDetails) {
+        log.info("Searching tasks for: "+ query);
+        boolean isEmployee = currentUserResolver.isEmployee(userDetails);
+        int limit = size == null ? defaultSearchSize : Math.max(1, Math.min(size, maxSearchSize));
 
-     // Otherwise, apply filter criteria for admin/manager
-        log.debug("User is a manager or admin. Retrieving tasks based on filter criteria.");
-        return taskRepository.findByFilterCriteria(
-            filterDto.getStatus(),
-            filterDto.getPriority(),
-            filterDto.getAssigneeId(),
-            filterDto.getDueDate()
-        );
+        List<Long> rankedIds = taskSearchIndex.search(query, isEmployee ? currentUserResolver.getId(userDetails) : null, limit);
+        if (rankedIds.isEmpty()) {
+            return List.of();
+        }
+     // Load the hits with one query and put them back in rank order
+        Map<Long, TaskSummaryDto> byId = taskRepository.findSummariesByIdIn(rankedIds).stream()
+            .collect(Collectors.toMap(TaskSummaryDto::getId, Function.identity()));
+        List<TaskSummaryDto> results = rankedIds.stream()
+            .map(byId::get)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toList());
+        attachAssignees(results);
+        log.debug("Search for '"+ query +"' returned "+ results.size() +" tasks.");
+        return results;
+    }
+    
+    /**
+     * Builds the filter that restricts a listing to the tasks assigned to the given user.
+     */
+    private TaskFilterDto assignedToFilter(Long userId) {
+        TaskFilterDto filter = new TaskFilterDto();
+        filter.setAssigneeId(userId);
+        return filter;
     }
 
     /**
-     * Scheduled job that runs daily to send email reminders for overdue tasks.
-     * Triggered based on cron expression defined in application properties.
+     * Retrieves one page of all tasks ordered by due date (undated last) and ID.
+     *
+     * Accepts parameter cursor token from the previous page's nextCursor, or null for the first page
+     * Accepts parameter size requested page size, capped at the configured maximum
      */
-    @Scheduled(cron = "${task.reminders.schedule}")
-    public void sendDailyOverdueReminders() {
-        log.info("Scheduled task: Running daily overdue task reminder job.");
-     // Get today's date
-        LocalDate today = LocalDate.now();
-     // Find tasks that are past due and not yet completed
-        List<Task> overdueTasks = taskRepository.findByDueDateBeforeAndStatusIsNot(today, "Completed");
-        if (overdueTasks.isEmpty()) {
-            log.info("No overdue tasks found today.");
-            return;
+    @Transactional(readOnly = true)
+    public TaskPageDto getAllTasks(String cursor, Integer size) {
+        ReadWriteRoutingDataSource.readIncludingRecentChanges(ReplicaLagGuard.Dataset.TASKS, ReplicaLagGuard.Dataset.USERS);
+    	log.info("Attempting to retrieve a page of tasks.");
+        return fetchPage(TaskCursor.decode(cursor), resolvePageSize(size),
+            taskRepository::findDatedSummaries,
+            (after, limit) -> taskRepository.findDatedSummariesAfter(after.getDueDate(), after.getId(), limit),
+            taskRepository::findUndatedSummariesAfter);
+    }
+    
+    /**
+     * Assembles one keyset page. Dated tasks are read first; once they run out,
+     * the rest of the page is filled with undated tasks. One extra row is fetched
+     * to know whether another page exists without running a COUNT query.
+     */
+    private TaskPageDto fetchPage(TaskCursor cursor, int pageSize,
+            Function<Limit, List<TaskSummaryDto>> firstDated,
+            BiFunction<TaskCursor, Limit, List<TaskSummaryDto>> datedAfter,
+            BiFunction<Long, Limit, List<TaskSummaryDto>> undatedAfter) {
+        List<TaskSummaryDto> rows;
+        if (cursor == null || cursor.isDated()) {
+            rows = new ArrayList<>(cursor == null
+                ? firstDated.apply(Limit.of(pageSize + 1))
+                : datedAfter.apply(cursor, Limit.of(pageSize + 1)));
+            if (rows.size() <= pageSize) {
+                rows.addAll(undatedAfter.apply(0L, Limit.of(pageSize + 1 - rows.size())));
+            }
+        } else {
+            rows = undatedAfter.apply(cursor.getId(), Limit.of(pageSize + 1));
         }
+        return toPage(rows, pageSize);
+    }
+    
+    /**
+     * Merges the next dated live and archived tasks into (dueDate, id) order and keeps the first limit.
+     * Both inputs are already in that order; a task is in exactly one of the tables.
+     */
+    private List<TaskSummaryDto> mergeDated(List<TaskSummaryDto> live, List<TaskSummaryDto> archived, Limit limit) {
+        return merge(live, archived, limit, Comparator.comparing(TaskSummaryDto::getDueDate).thenComparing(TaskSummaryDto::getId));
+    }
 
-        log.info("Found "+ overdueTasks.size() +" overdue tasks.");
-     // Send reminder to each assignee of overdue tasks
-        for (Task task : overdueTasks) {
-            task.getAssignees().forEach(assignee -> {
-                log.debug("Sending overdue reminder to "+ assignee.getEmail() +" for task: "+task.getTitle());
-                emailService.sendOverdueTaskReminder(assignee.getEmail(), task.getTitle(), task.getDueDate());
-            });
+    /**
+     * Merges the next undated live and archived tasks into ID order and keeps the first limit.
+     */
+    private List<TaskSummaryDto> mergeUndated(List<TaskSummaryDto> live, List<TaskSummaryDto> archived, Limit limit) {
+        return merge(live, archived, limit, Comparator.comparing(TaskSummaryDto::getId));
+    }
+
+    private List<TaskSummaryDto> merge(List<TaskSummaryDto> live, List<TaskSummaryDto> archived, Limit limit,
+            Comparator<TaskSummaryDto> order) {
+        archived.forEach(task -> task.setArchived(true));
+        List<TaskSummaryDto> rows = new ArrayList<>(live);
+        rows.addAll(archived);
+        rows.sort(order);
+        return rows.size() > limit.max() ? new ArrayList<>(rows.subList(0, limit.max())) : rows;
+    }
+
+    /**
+     * Loads the page of tasks picked by the filter snapshot, keeping the snapshot's order.
+     *
+     * Accepts parameter ids IDs of up to pageSize + 1 matching tasks, in listing order
+     * Accepts parameter criteria the filter the snapshot answered
+     * Accepts parameter pageSize number of tasks on the page
+     * return the page, or empty if some of the tasks were not found or no longer match
+     *        the filter (the caller falls back to the database query; tasks deleted on
+     *        the primary are dropped from the snapshot)
+     */
+    private Optional<TaskPageDto> loadPage(List<Long> ids, TaskFilterDto criteria, int pageSize) {
+        if (ids.isEmpty()) {
+            return Optional.of(new TaskPageDto(List.of(), null));
         }
+        Map<Long, TaskSummaryDto> byId = taskRepository.findSummariesByIdIn(ids).stream()
+            .collect(Collectors.toMap(TaskSummaryDto::getId, Function.identity()));
+        if (byId.size() < ids.size()) {
+            List<Long> missing = ids.stream().filter(id -> !byId.containsKey(id)).collect(Collectors.toList());
+         // The rows may come from a replica that has not caught up yet; only the primary can tell a task is gone
+            List<Long> deleted = findDeletedOnPrimary(missing);
+            if (!deleted.isEmpty()) {
+                log.warn("Filter snapshot held deleted tasks "+ deleted +"; querying the database instead.");
+                taskSnapshot.remove(deleted);
+            }
+            return Optional.empty();
+        }
+        List<TaskSummaryDto> rows = ids.stream().map(byId::get).collect(Collectors.toList());
+     // The snapshot may lag a change that already committed; never list a task the filter excludes
+        List<Long> mismatched = rows.stream().filter(row -> !matches(criteria, row)).map(TaskSummaryDto::getId).collect(Collectors.toList());
+        if (!mismatched.isEmpty()) {
+            log.warn("Filter snapshot disagrees with the database on tasks "+ mismatched +"; querying the database instead.");
+            return Optional.empty();
+        }
+        return Optional.of(toPage(rows, pageSize));
+    }
+
+    /**
+     * Returns whether the loaded row satisfies the filter's status, priority and due date criteria.
+     */
+    private static boolean matches(TaskFilterDto criteria, TaskSummaryDto row) {
+        if (hasValues(criteria.getStatus()) && !criteria.getStatus().contains(row.getStatus())) {
+            return false;
+        }
+        if (hasValues(criteria.getPriority()) && !criteria.getPriority().contains(row.getPriority())) {
+            return false;
+        }
+        LocalDate dueDate = row.getDueDate();
+        if (criteria.hasDueDateCriteria() && dueDate == null) {
+            return false;
+        }
+        return (criteria.getDueDate() == null || criteria.getDueDate().equals(dueDate))
+            && (criteria.getDueDateFrom() == null || !dueDate.isBefore(criteria.getDueDateFrom()))
+            && (criteria.getDueDateTo() == null || !dueDate.isAfter(criteria.getDueDateTo()));
+    }
+
+    private static boolean hasValues(Collection<String> values) {
+        return values != null && values.stream().anyMatch(value -> value != null && !value.isBlank());
     }
     
-    public List<Task> getAllTasks() {
-    	log.info("Attempting to retrieve all the tasks.");
-        return taskRepository.findAll();
+    /**
+     * Returns those of the given tasks that no longer exist on the primary, read
+     * in a transaction of its own so it does not use the caller's replica connection.
+     */
+    private List<Long> findDeletedOnPrimary(List<Long> taskIds) {
+        TransactionTemplate primaryRead = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        primaryRead.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        primaryRead.setReadOnly(true);
+        Set<Long> existing = primaryRead.execute(status -> {
+            ReadWriteRoutingDataSource.readFromPrimary();
+            return taskRepository.findSummariesByIdIn(taskIds).stream().map(TaskSummaryDto::getId).collect(Collectors.toSet());
+        });
+        return taskIds.stream().filter(id -> !existing.contains(id)).collect(Collectors.toList());
+    }
+
+    /**
+     * Trims the extra look-ahead row, derives the next cursor from the last task
+     * on the page and attaches the assignees.
+     */
+    private TaskPageDto toPage(List<TaskSummaryDto> rows, int pageSize) {
+        String nextCursor = null;
+        if (rows.size() > pageSize) {
+            rows = rows.subList(0, pageSize);
+            nextCursor = TaskCursor.after(rows.get(pageSize - 1)).encode();
+        }
+        attachAssignees(rows);
+        log.debug("Returning page of "+ rows.size() +" tasks, hasMore="+ (nextCursor != null));
+        return new TaskPageDto(rows, nextCursor);
+    }
+    
+    /**
+     * Loads the assignees of all tasks on a page with one query and attaches them
+     * (a second query reads those of archived tasks, if the page has any).
+     */
+    private void attachAssignees(List<TaskSummaryDto> tasks) {
+        if (tasks.isEmpty()) {
+            return;
+        }
+        Map<Boolean, List<Long>> idsByArchived = tasks.stream()
+            .collect(Collectors.partitioningBy(TaskSummaryDto::isArchived,
+                Collectors.mapping(TaskSummaryDto::getId, Collectors.toList())));
+        List<AssigneeDto> assignees = new ArrayList<>();
+        if (!idsByArchived.get(false).isEmpty()) {
+            assignees.addAll(taskRepository.findAssigneesByTaskIds(idsByArchived.get(false)));
+        }
+        if (!idsByArchived.get(true).isEmpty()) {
+            assignees.addAll(archivedTaskRepository.findAssigneesByTaskIds(idsByArchived.get(true)));
+        }
+        Map<Long, List<AssigneeDto>> byTask = assignees.stream()
+            .collect(Collectors.groupingBy(AssigneeDto::getTaskId));
+        tasks.forEach(task -> task.setAssignees(byTask.getOrDefault(task.getId(), List.of())));
+    }
+    
+    /**
+     * Applies the default page size and clamps the requested size to [1, maxPageSize].
+     */
+    private int resolvePageSize(Integer size) {
+        if (size == null) {
+            return defaultPageSize;
+        }
+        return Math.max(1, Math.min(size, maxPageSize));
     }
     
     /**
      * Finds and returns a list of tasks assigned to a specific user.
      *
+     * Runs a fixed number of queries however many tasks the user has: the user's ID,
+     * the task rows as DTOs, and the assignee IDs of all those tasks in one IN query.
+     *
      * Accepts parameter username The email of the user whose tasks are to be fetched.
      * return a list of TaskDto objects assigned to the user.
      */
+    @Transactional(readOnly = true)
     public List<TaskDto> getAssignedTasksForUser(String username) {
-        User user = userRepository.findByEmail(username)
+        ReadWriteRoutingDataSource.readIncludingRecentChanges(ReplicaLagGuard.Dataset.TASKS);
+        Long userId = userRepository.findIdByEmail(username)
                 .orElseThrow(() -> new RuntimeException("User not found: " + username));
         
-        List<Task> assignedTasks = taskRepository.findByAssigneeId(user.getId());
-
-        // Convert the entity list to a DTO list
-        return assignedTasks.stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
-    }
-    
-    /**
-     * Converts a Task entity to a TaskDto.
-     */
-    private TaskDto convertToDto(Task task) {
-    	TaskDto taskDto = new TaskDto();
-        taskDto.setId(task.getId());
-        taskDto.setTitle(task.getTitle());
-        taskDto.setDescription(task.getDescription());
-        taskDto.setDueDate(task.getDueDate());
-        taskDto.setPriority(task.getPriority());
-        taskDto.setStatus(task.getStatus());
-        
-        // Map the manager's ID from the Task entity, with a null check
-        if (task.getManager() != null) {
-            taskDto.setManagerId(task.getManager().getId());
+        List<TaskDto> assignedTasks = taskRepository.findTaskDtosByAssigneeId(userId);
+        if (assignedTasks.isEmpty()) {
+            return assignedTasks;
         }
-        
-        // Map the assignee IDs from the Task entity
-        taskDto.setAssigneeIds(task.getAssignees().stream()
-                                  .map(User::getId)
-                                  .collect(Collectors.toList()));
-                                  
-        // Map the tags from the Task entity
-        taskDto.setTags(task.getTags());
-        return taskDto;
+
+        // Attach every task's assignee IDs from a single query
+        Map<Long, List<Long>> assigneeIdsByTask = taskRepository
+                .findAssigneesByTaskIds(assignedTasks.stream().map(TaskDto::getId).collect(Collectors.toList()))
+                .stream()
+                .collect(Collectors.groupingBy(AssigneeDto::getTaskId,
+                        Collectors.mapping(AssigneeDto::getId, Collectors.toList())));
+        assignedTasks.forEach(task -> task.setAssigneeIds(assigneeIdsByTask.getOrDefault(task.getId(), List.of())));
+        return assignedTasks;
     }
 }
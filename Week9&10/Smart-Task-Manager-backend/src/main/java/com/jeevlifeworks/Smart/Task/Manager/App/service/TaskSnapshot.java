@@ -0,0 +1,524 @@
+package com.jeevlifeworks.Smart.Task.Manager.App.service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.function.Consumer;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.roaringbitmap.IntConsumer;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.jeevlifeworks.Smart.Task.Manager.App.dto.AssigneeDto;
+import com.jeevlifeworks.Smart.Task.Manager.App.dto.TaskCursor;
+import com.jeevlifeworks.Smart.Task.Manager.App.dto.TaskFilterDto;
+import com.jeevlifeworks.Smart.Task.Manager.App.dto.TaskSummaryDto;
+import com.jeevlifeworks.Smart.Task.Manager.App.event.TaskChangeEvent;
+import com.jeevlifeworks.Smart.Task.Manager.App.repository.TaskRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Read-side, column-oriented copy of the task fields the filter works on.
+ *
+ * Each task occupies one row slot: its ID, due date (as an epoch day) and
+ * status/priority codes are held in primitive arrays, and every status,
+ * priority and assignee has a compressed bitmap of the slots it applies to.
+ * The slots are also kept sorted on (dueDate, id), apart from a short tail of
+ * recently created tasks that is merged in once it fills up. A filter is
+ * answered by OR-ing the bitmaps of the requested values and AND-ing the
+ * criteria, then walking that order from the page's cursor and taking matching
+ * slots until the page is full; the database is only asked for the rows of that page.
+ *
+ * Like TaskSearchIndex, the snapshot is built from the database on startup and
+ * kept current from the TaskChangeEvents of committed transactions. It is also
+ * rebuilt on a schedule, which repairs drift from writes made outside TaskService.
+ * Changes committed while a rebuild reads the table are applied to the served
+ * snapshot and replayed onto the new one before it is swapped in, so a row read
+ * just before its change committed does not stay stale until the next rebuild.
+ * Until the first build has finished, findPage() returns nothing and callers
+ * query the database instead.
+ */
+@Service
+@Slf4j
+public class TaskSnapshot {
+
+	// Epoch day stored for tasks without a due date; sorts them after every dated task
+	private static final int NO_DUE_DATE = Integer.MAX_VALUE;
+
+	@Autowired
+	private TaskRepository taskRepository;
+
+	// Number of tasks read per query while rebuilding
+	@Value("${task.snapshot.rebuild-batch-size:2000}")
+	private int rebuildBatchSize;
+
+	// Tasks created since the last merge that are kept unsorted; a merge moves the whole order once
+	@Value("${task.snapshot.merge-threshold:4096}")
+	private int mergeThreshold;
+
+	// Null until the first build has completed
+	private volatile Columns columns;
+
+	// Held while a change is applied and while a rebuilt snapshot is swapped in, so no change misses the new one
+	private final Object swapLock = new Object();
+
+	// Changes committed while a rebuild runs, replayed onto the new snapshot; null when no rebuild runs
+	private List<Consumer<Columns>> pendingChanges;
+
+	/**
+	 * Applies a task creation, status change, deletion or archival once its transaction has committed.
+	 *
+	 * Accepts parameter event the change published by TaskService
+	 */
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+	public void onTaskChange(TaskChangeEvent event) {
+		change(target -> apply(target, event));
+	}
+
+	// Applies the change to the served snapshot and keeps it for the one being rebuilt
+	private void change(Consumer<Columns> change) {
+		synchronized (swapLock) {
+			if (columns != null) {
+				change.accept(columns);
+			}
+			if (pendingChanges != null) {
+				pendingChanges.add(change);
+			}
+		}
+	}
+
+	private static void apply(Columns target, TaskChangeEvent event) {
+		if (event.getType() == TaskChangeEvent.Type.CREATED) {
+			target.put(event.getTaskId(), event.getDueDate(), event.getNewStatus(), event.getPriority(),
+				event.getAssigneeIds().stream().mapToLong(Long::longValue).toArray());
+		} else if (event.getType() == TaskChangeEvent.Type.DELETED || event.getType() == TaskChangeEvent.Type.ARCHIVED) {
+			target.remove(List.of(event.getTaskId()));
+		} else {
+			target.updateStatus(event.getTaskId(), event.getNewStatus());
+		}
+	}
+
+	/**
+	 * Builds a fresh snapshot from the tasks table and swaps it in.
+	 * Filters keep using the previous snapshot until the new one is complete.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	@Scheduled(cron = "${task.snapshot.rebuild-cron:0 0 * * * *}")
+	public synchronized void rebuild() {
+		long started = System.currentTimeMillis();
+		Columns next = new Columns(mergeThreshold);
+		synchronized (swapLock) {
+			pendingChanges = new ArrayList<>();
+		}
+		int replayed;
+		try {
+			List<TaskSummaryDto> batch;
+			Long afterId = 0L;
+			do {
+				batch = taskRepository.findSummariesAfterId(afterId, Limit.of(rebuildBatchSize));
+				if (batch.isEmpty()) {
+					break;
+				}
+				Map<Long, long[]> assigneesByTask = taskRepository
+					.findAssigneesByTaskIds(batch.stream().map(TaskSummaryDto::getId).collect(Collectors.toList()))
+					.stream()
+					.collect(Collectors.groupingBy(AssigneeDto::getTaskId,
+						Collectors.collectingAndThen(Collectors.toList(),
+							rows -> rows.stream().mapToLong(AssigneeDto::getId).toArray())));
+				for (TaskSummaryDto task : batch) {
+					next.put(task.getId(), task.getDueDate(), task.getStatus(), task.getPriority(),
+						assigneesByTask.getOrDefault(task.getId(), new long[0]));
+				}
+				afterId = batch.get(batch.size() - 1).getId();
+			} while (batch.size() == rebuildBatchSize);
+			next.finishLoading();
+			synchronized (swapLock) {
+				replayed = pendingChanges.size();
+				pendingChanges.forEach(change -> change.accept(next));
+				columns = next;
+			}
+		} finally {
+			synchronized (swapLock) {
+				pendingChanges = null;
+			}
+		}
+		log.info("Task filter snapshot rebuilt: "+ next.size() +" tasks in "+ (System.currentTimeMillis() - started) +" ms, "
+			+ replayed +" changes replayed.");
+	}
+
+	/**
+	 * Returns the IDs of the next tasks matching the filter, in (dueDate, id)
+	 * order with undated tasks last, the same order as the database listing.
+	 *
+	 * Accepts parameter filter the filter criteria; absent criteria match everything
+	 * Accepts parameter after position of the last task already returned, or null for the first page
+	 * Accepts parameter limit maximum number of IDs to return
+	 * return the matching task IDs, or empty if the snapshot has not been built yet
+	 */
+	public Optional<List<Long>> findPage(TaskFilterDto filter, TaskCursor after, int limit) {
+		Columns current = columns;
+		return current == null ? Optional.empty() : Optional.of(current.findPage(filter, after, limit));
+	}
+
+	/**
+	 * Drops tasks that turned out to no longer exist in the database.
+	 *
+	 * Accepts parameter taskIds IDs of the missing tasks
+	 */
+	public void remove(Collection<Long> taskIds) {
+		List<Long> removed = List.copyOf(taskIds);
+		change(target -> target.remove(removed));
+	}
+
+	private static int epochDay(LocalDate date) {
+		return date == null ? NO_DUE_DATE : (int) date.toEpochDay();
+	}
+
+	private static boolean hasValues(Collection<String> values) {
+		return values != null && values.stream().anyMatch(value -> value != null && !value.isBlank());
+	}
+
+	/**
+	 * The columns and bitmaps, guarded by a read/write lock: filters run
+	 * concurrently, writes are short. Slots of removed tasks are not reused
+	 * (they stay in the order, where the live bitmap skips them); the next
+	 * rebuild compacts them away.
+	 */
+	private static class Columns {
+
+		private static final int INITIAL_CAPACITY = 1024;
+
+		// Created slots collected before they are merged into the sorted order in one pass
+		private final int maxUnsortedSlots;
+
+		private final ReadWriteLock lock = new ReentrantReadWriteLock();
+		private final Map<Long, Integer> slotsByTaskId = new HashMap<>();
+		private long[] taskIds = new long[INITIAL_CAPACITY];
+		private int[] dueDays = new int[INITIAL_CAPACITY];
+		private short[] statusCodes = new short[INITIAL_CAPACITY];
+		private short[] priorityCodes = new short[INITIAL_CAPACITY];
+		// Kept per slot so a removed task can be taken out of its assignees' bitmaps
+		private long[][] assigneeIdsBySlot = new long[INITIAL_CAPACITY][];
+		// Every slot; the first sortedCount are sorted on (dueDay, taskId), the rest are the slots after them in slot order
+		private int[] order = new int[INITIAL_CAPACITY];
+		private int slotCount;
+		private int sortedCount;
+		// While the rebuild loads the table, nothing is merged; finishLoading() sorts all slots at once
+		private boolean loading = true;
+		// Slots holding a current task
+		private final RoaringBitmap live = new RoaringBitmap();
+		private final Dictionary statuses = new Dictionary();
+		private final Dictionary priorities = new Dictionary();
+		private final Map<Long, RoaringBitmap> slotsByAssignee = new HashMap<>();
+
+		Columns(int maxUnsortedSlots) {
+			this.maxUnsortedSlots = maxUnsortedSlots;
+		}
+
+		void put(Long taskId, LocalDate dueDate, String status, String priority, long[] assigneeIds) {
+			lock.writeLock().lock();
+			try {
+				Integer previous = slotsByTaskId.get(taskId);
+				if (previous != null) {
+					clear(previous);
+				}
+				int slot = slotCount++;
+				if (slot == taskIds.length) {
+					int capacity = taskIds.length * 2;
+					taskIds = Arrays.copyOf(taskIds, capacity);
+					dueDays = Arrays.copyOf(dueDays, capacity);
+					statusCodes = Arrays.copyOf(statusCodes, capacity);
+					priorityCodes = Arrays.copyOf(priorityCodes, capacity);
+					assigneeIdsBySlot = Arrays.copyOf(assigneeIdsBySlot, capacity);
+					order = Arrays.copyOf(order, capacity);
+				}
+				taskIds[slot] = taskId;
+				dueDays[slot] = epochDay(dueDate);
+				statusCodes[slot] = statuses.add(status, slot);
+				priorityCodes[slot] = priorities.add(priority, slot);
+				assigneeIdsBySlot[slot] = assigneeIds;
+				for (long assigneeId : assigneeIds) {
+					slotsByAssignee.computeIfAbsent(assigneeId, id -> new RoaringBitmap()).add(slot);
+				}
+				slotsByTaskId.put(taskId, slot);
+				live.add(slot);
+				order[slot] = slot;
+				if (!loading && slotCount - sortedCount >= maxUnsortedSlots) {
+					mergeUnsorted();
+				}
+			} finally {
+				lock.writeLock().unlock();
+			}
+		}
+
+		/**
+		 * Sorts the slots loaded by the rebuild; later puts collect in the unsorted tail.
+		 */
+		void finishLoading() {
+			lock.writeLock().lock();
+			try {
+				mergeUnsorted();
+				loading = false;
+			} finally {
+				lock.writeLock().unlock();
+			}
+		}
+
+		// Sorts the unsorted tail and merges it into the sorted order, from the back so it needs no second array
+		private void mergeUnsorted() {
+			int[] tail = IntStream.range(sortedCount, slotCount).boxed()
+				.sorted(slotOrder())
+				.mapToInt(Integer::intValue)
+				.toArray();
+			int sorted = sortedCount - 1;
+			int unsorted = tail.length - 1;
+			for (int position = slotCount - 1; unsorted >= 0; position--) {
+				order[position] = sorted >= 0 && compareSlots(order[sorted], tail[unsorted]) > 0 ? order[sorted--] : tail[unsorted--];
+			}
+			sortedCount = slotCount;
+		}
+
+		void updateStatus(Long taskId, String status) {
+			lock.writeLock().lock();
+			try {
+				Integer slot = slotsByTaskId.get(taskId);
+				if (slot == null) {
+					return; // Not in the snapshot (removed meanwhile, or written outside TaskService); the next rebuild reads it
+				}
+				statuses.remove(statusCodes[slot], slot);
+				statusCodes[slot] = statuses.add(status, slot);
+			} finally {
+				lock.writeLock().unlock();
+			}
+		}
+
+		void remove(Collection<Long> removedTaskIds) {
+			lock.writeLock().lock();
+			try {
+				for (Long taskId : removedTaskIds) {
+					Integer slot = slotsByTaskId.remove(taskId);
+					if (slot != null) {
+						clear(slot);
+					}
+				}
+			} finally {
+				lock.writeLock().unlock();
+			}
+		}
+
+		private void clear(int slot) {
+			live.remove(slot);
+			statuses.remove(statusCodes[slot], slot);
+			priorities.remove(priorityCodes[slot], slot);
+			for (long assigneeId : assigneeIdsBySlot[slot]) {
+				slotsByAssignee.get(assigneeId).remove(slot);
+			}
+			assigneeIdsBySlot[slot] = null;
+		}
+
+		List<Long> findPage(TaskFilterDto filter, TaskCursor after, int limit) {
+			lock.readLock().lock();
+			try {
+				RoaringBitmap matches = live;
+				if (hasValues(filter.getStatus())) {
+					matches = RoaringBitmap.and(matches, statuses.slotsOf(filter.getStatus()));
+				}
+				if (hasValues(filter.getPriority())) {
+					matches = RoaringBitmap.and(matches, priorities.slotsOf(filter.getPriority()));
+				}
+				if (filter.getAssigneeId() != null) {
+					RoaringBitmap assigned = slotsByAssignee.get(filter.getAssigneeId());
+					if (assigned == null) {
+						return List.of();
+					}
+					matches = RoaringBitmap.and(matches, assigned);
+				}
+
+				// Due date criteria become an epoch-day range; undated tasks (NO_DUE_DATE) fall outside any of them
+				int firstDay = Integer.MIN_VALUE;
+				int lastDay = NO_DUE_DATE;
+				if (filter.hasDueDateCriteria()) {
+					lastDay = NO_DUE_DATE - 1;
+					if (filter.getDueDate() != null) {
+						firstDay = Math.max(firstDay, epochDay(filter.getDueDate()));
+						lastDay = Math.min(lastDay, epochDay(filter.getDueDate()));
+					}
+					if (filter.getDueDateFrom() != null) {
+						firstDay = Math.max(firstDay, epochDay(filter.getDueDateFrom()));
+					}
+					if (filter.getDueDateTo() != null) {
+						lastDay = Math.min(lastDay, epochDay(filter.getDueDateTo()));
+					}
+				}
+				int afterDay = after == null ? Integer.MIN_VALUE : epochDay(after.getDueDate());
+				long afterId = after == null ? Long.MIN_VALUE : after.getId();
+
+				// Few matches (a selective filter): cheaper to rank them than to walk the order past the rest
+				long matchCount = matches.getCardinality();
+				if (matchCount * matchCount <= (long) limit * slotCount) {
+					return pageOfMatches(matches, firstDay, lastDay, afterDay, afterId, limit);
+				}
+
+				// Matching slots of the unsorted tail are merged into the walk over the sorted order
+				int[] unsorted = unsortedOnPage(matches, firstDay, lastDay, afterDay, afterId);
+				int nextUnsorted = 0;
+
+				int start = after == null ? 0 : firstAfter(afterDay, afterId, sortedCount);
+				if (firstDay != Integer.MIN_VALUE) {
+					start = Math.max(start, firstAfter(firstDay - 1, Long.MAX_VALUE, sortedCount));
+				}
+				List<Long> ids = new ArrayList<>(Math.min(limit, slotCount));
+				for (int position = start; position < sortedCount && ids.size() < limit; position++) {
+					int slot = order[position];
+					if (dueDays[slot] > lastDay) {
+						break;
+					}
+					if (!matches.contains(slot)) {
+						continue;
+					}
+					while (nextUnsorted < unsorted.length && ids.size() < limit && compareSlots(unsorted[nextUnsorted], slot) < 0) {
+						ids.add(taskIds[unsorted[nextUnsorted++]]);
+					}
+					if (ids.size() < limit) {
+						ids.add(taskIds[slot]);
+					}
+				}
+				while (nextUnsorted < unsorted.length && ids.size() < limit) {
+					ids.add(taskIds[unsorted[nextUnsorted++]]);
+				}
+				return ids;
+			} finally {
+				lock.readLock().unlock();
+			}
+		}
+
+		// Keeps the first `limit` matches after the cursor on (dueDate, id); the head is the last of them
+		private List<Long> pageOfMatches(RoaringBitmap matches, int firstDay, int lastDay, int afterDay, long afterId, int limit) {
+			PriorityQueue<Integer> page = new PriorityQueue<>(limit + 1, slotOrder().reversed());
+			matches.forEach((IntConsumer) slot -> {
+				if (!onPage(slot, firstDay, lastDay, afterDay, afterId)) {
+					return;
+				}
+				page.add(slot);
+				if (page.size() > limit) {
+					page.poll();
+				}
+			});
+
+			List<Long> ids = new ArrayList<>(page.size());
+			while (!page.isEmpty()) {
+				ids.add(taskIds[page.poll()]);
+			}
+			return ids.reversed();
+		}
+
+		// Position in the first `end` entries of the order of the first slot sorting after (day, taskId)
+		private int firstAfter(int day, long taskId, int end) {
+			int low = 0;
+			int high = end;
+			while (low < high) {
+				int middle = (low + high) >>> 1;
+				int slot = order[middle];
+				if (dueDays[slot] < day || (dueDays[slot] == day && taskIds[slot] <= taskId)) {
+					low = middle + 1;
+				} else {
+					high = middle;
+				}
+			}
+			return low;
+		}
+
+		// The slots of the unsorted tail that match and lie on the page, sorted
+		private int[] unsortedOnPage(RoaringBitmap matches, int firstDay, int lastDay, int afterDay, long afterId) {
+			return IntStream.range(sortedCount, slotCount)
+				.filter(slot -> matches.contains(slot) && onPage(slot, firstDay, lastDay, afterDay, afterId))
+				.boxed()
+				.sorted(slotOrder())
+				.mapToInt(Integer::intValue)
+				.toArray();
+		}
+
+		// Whether the slot lies within the due date range and after the cursor
+		private boolean onPage(int slot, int firstDay, int lastDay, int afterDay, long afterId) {
+			int day = dueDays[slot];
+			return day >= firstDay && day <= lastDay && (day > afterDay || (day == afterDay && taskIds[slot] > afterId));
+		}
+
+		private int compareSlots(int first, int second) {
+			int byDay = Integer.compare(dueDays[first], dueDays[second]);
+			return byDay != 0 ? byDay : Long.compare(taskIds[first], taskIds[second]);
+		}
+
+		private Comparator<Integer> slotOrder() {
+			return this::compareSlots;
+		}
+
+		int size() {
+			lock.readLock().lock();
+			try {
+				return slotsByTaskId.size();
+			} finally {
+				lock.readLock().unlock();
+			}
+		}
+	}
+
+	/**
+	 * Encodes the distinct values of a column (statuses or priorities) as small
+	 * codes and keeps the bitmap of the slots holding each value.
+	 */
+	private static class Dictionary {
+
+		private final Map<String, Short> codes = new HashMap<>();
+		private final List<RoaringBitmap> slotsByCode = new ArrayList<>();
+
+		short add(String value, int slot) {
+			Short code = codes.get(value);
+			if (code == null) {
+				code = (short) slotsByCode.size();
+				codes.put(value, code);
+				slotsByCode.add(new RoaringBitmap());
+			}
+			slotsByCode.get(code).add(slot);
+			return code;
+		}
+
+		void remove(short code, int slot) {
+			slotsByCode.get(code).remove(slot);
+		}
+
+		/**
+		 * Returns the slots holding any of the values (a new bitmap the caller may modify).
+		 */
+		RoaringBitmap slotsOf(Collection<String> values) {
+			RoaringBitmap slots = new RoaringBitmap();
+			for (String value : values) {
+				Short code = value == null ? null : codes.get(value);
+				if (code != null) {
+					slots.or(slotsByCode.get(code));
+				}
+			}
+			return slots;
+		}
+	}
+}
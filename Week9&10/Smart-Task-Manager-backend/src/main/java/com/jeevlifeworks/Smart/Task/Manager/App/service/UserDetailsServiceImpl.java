@@ -11,6 +11,7 @@ import org.springframework.stereotype.Service;
 
 import com.jeevlifeworks.Smart.Task.Manager.App.Entity.User;
 import com.jeevlifeworks.Smart.Task.Manager.App.repository.UserRepository;
+import com.jeevlifeworks.Smart.Task.Manager.App.security.AuthenticatedUser;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -30,7 +31,7 @@ public class UserDetailsServiceImpl implements UserDetailsService{
      * This method is automatically called by Spring Security during login.
      *
      * Accepts parameter email the email (used as username) of the user to be loaded
-     * return UserDetails object with user information and roles
+     * return AuthenticatedUser with the user's ID, credentials and roles
      * throws UsernameNotFoundException if the user is not found or not verified
      */
     @Override
@@ -51,7 +52,8 @@ public class UserDetailsServiceImpl implements UserDetailsService{
 
         // Create a UserDetails object with the user's information and roles
         log.info("User loaded successfully: "+ email);
-        return new org.springframework.security.core.userdetails.User(
+        return new AuthenticatedUser(
+            user.getId(),
             user.getEmail(),
             user.getPassword(),
             user.getRoles().stream()
@@ -7,13 +7,17 @@ import java.util.Set;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.jeevlifeworks.Smart.Task.Manager.App.Entity.Role;
 import com.jeevlifeworks.Smart.Task.Manager.App.Entity.RoleEnum;
 import com.jeevlifeworks.Smart.Task.Manager.App.Entity.User;
+import com.jeevlifeworks.Smart.Task.Manager.App.config.ReadWriteRoutingDataSource;
+import com.jeevlifeworks.Smart.Task.Manager.App.config.ReplicaLagGuard;
 import com.jeevlifeworks.Smart.Task.Manager.App.repository.RoleRepository;
 import com.jeevlifeworks.Smart.Task.Manager.App.repository.UserRepository;
 import com.jeevlifeworks.Smart.Task.Manager.App.exception.ResourceNotFoundException;
+import com.jeevlifeworks.Smart.Task.Manager.App.security.PrincipalCache;
 
 import lombok.extern.slf4j.Slf4j;
 
@@ -27,6 +31,16 @@ public class UserService {
     @Autowired
     private RoleRepository roleRepository;
 
+    @Autowired
+    private PrincipalCache principalCache;
+
+    // Moves the ETag of the user list whenever a user is written
+    @Autowired
+    private VersionStamps versionStamps;
+
+    @Autowired
+    private CurrentUserResolver currentUserResolver;
+
     /**
      * Change the role of a specific user by user ID.
      *
@@ -64,6 +78,9 @@ public class UserService {
 
      // Save and return the updated user
         User updatedUser = userRepository.save(user);
+        versionStamps.usersChanged();
+     // Tokens issued before the change carry the old roles; stop trusting them
+        principalCache.evict(updatedUser.getEmail());
         log.info("Role for user ID "+ userId +" successfully changed to "+ roleName);
         return updatedUser;
     }
@@ -73,7 +90,10 @@ public class UserService {
      *
      * return list of all users
      */
+    @Transactional(readOnly = true)
     public List<User> getAllUsers() {
+     // Cached under the users ETag
+        ReadWriteRoutingDataSource.readIncludingRecentChanges(ReplicaLagGuard.Dataset.USERS);
         log.info("Fetching all users.");
         return userRepository.findAll();
     }
@@ -83,6 +103,7 @@ public class UserService {
      *
      * return list of employees
      */
+    @Transactional(readOnly = true)
     public List<User> getEmployees() {
         log.info("Fetching all employees.");
         return userRepository.findByRoles_Name(RoleEnum.ROLE_EMPLOYEE);
@@ -96,11 +117,7 @@ public class UserService {
      */
     public User getCurrentUser(UserDetails userDetails) {
         log.debug("Fetching current user details for email: "+ userDetails.getUsername());
-        return userRepository.findByEmail(userDetails.getUsername())
-            .orElseThrow(() -> {
-                log.error("Authenticated user not found in database: "+ userDetails.getUsername());
-                return new ResourceNotFoundException("Authenticated user not found.");
-            });
+        return currentUserResolver.getUser(userDetails);
     }
 
     /**
@@ -110,11 +127,15 @@ public class UserService {
      */
     public void deleteUser(Long userId) {
         log.info("Attempting to delete user with ID: "+ userId);
-        if (!userRepository.existsById(userId)) {
-            log.error("Delete failed: User with ID "+ userId +" not found.");
-            throw new ResourceNotFoundException("User not found with id: " + userId);
-        }
-        userRepository.deleteById(userId);
+        User user = userRepository.findById(userId)
+            .orElseThrow(() -> {
+                log.error("Delete failed: User with ID "+ userId +" not found.");
+                return new ResourceNotFoundException("User not found with id: " + userId);
+            });
+        userRepository.delete(user);
+        versionStamps.usersChanged();
+     // Existing tokens of the deleted user must no longer authenticate
+        principalCache.evict(user.getEmail());
         log.info("User with ID "+ userId +" successfully deleted.");
     }
 }
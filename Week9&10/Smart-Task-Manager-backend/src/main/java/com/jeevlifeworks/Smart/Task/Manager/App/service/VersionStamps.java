@@ -0,0 +1,129 @@
+package com.jeevlifeworks.Smart.Task.Manager.App.service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.jeevlifeworks.Smart.Task.Manager.App.Entity.RoleEnum;
+import com.jeevlifeworks.Smart.Task.Manager.App.config.ReplicaLagGuard;
+import com.jeevlifeworks.Smart.Task.Manager.App.event.TaskChangeEvent;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * In-memory version stamps behind the ETags of the task and user read endpoints.
+ *
+ * One stamp covers all tasks, one per user covers the tasks that user is
+ * assigned to or manages, and one covers the users. Stamps only move after a
+ * write has committed, so a client holding the current ETag holds current data,
+ * and an unchanged stamp answers If-None-Match with 304 without reading the
+ * tables. Every tag starts with the application's start time, so tags issued
+ * before a restart (when the stamps start over) never match.
+ *
+ * With a read replica, the services reading these bodies ask for the primary
+ * while the stamp's data changed within the replica lag (ReplicaLagGuard);
+ * the change is recorded before the stamp moves.
+ *
+ * Like the other in-memory task views this assumes a single application
+ * instance; writes bypassing TaskService and UserService do not move the stamps.
+ */
+@Service
+@Slf4j
+public class VersionStamps {
+
+	@Autowired
+	private CurrentUserResolver currentUserResolver;
+
+	// Only present with a read replica
+	@Autowired
+	private ObjectProvider<ReplicaLagGuard> replicaLagGuard;
+
+	private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+
+	private final AtomicLong tasks = new AtomicLong();
+
+	private final AtomicLong users = new AtomicLong();
+
+	// User ID -> value of the tasks stamp at the last change to one of the user's tasks
+	private final Map<Long, Long> tasksByUser = new ConcurrentHashMap<>();
+
+	/**
+	 * Moves the tasks stamp and the stamps of the task's assignees and manager
+	 * once the change has committed.
+	 *
+	 * Accepts parameter event the change published by TaskService
+	 */
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+	public void onTaskChange(TaskChangeEvent event) {
+		replicaLagGuard.ifAvailable(guard -> guard.recordChange(ReplicaLagGuard.Dataset.TASKS));
+		long stamp = tasks.incrementAndGet();
+		event.getAssigneeIds().forEach(userId -> tasksByUser.put(userId, stamp));
+		tasksByUser.put(event.getManagerId(), stamp);
+	}
+
+	/**
+	 * Moves the users stamp after the current transaction commits, or right away
+	 * outside a transaction. Called by every write to the users table.
+	 */
+	public void usersChanged() {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					moveUsersStamp();
+				}
+			});
+		} else {
+			moveUsersStamp();
+		}
+	}
+
+	private void moveUsersStamp() {
+		replicaLagGuard.ifAvailable(guard -> guard.recordChange(ReplicaLagGuard.Dataset.USERS));
+		users.incrementAndGet();
+	}
+
+	/**
+	 * ETag of the task listings (GET /api/tasks, GET /api/tasks/filter) as seen
+	 * by the given user. Employees only see their own tasks, so only changes to
+	 * those move their tag; the user stamp is included for the assignee names.
+	 */
+	public String taskListTag(UserDetails userDetails) {
+		if (seesAllTasks(userDetails)) {
+			return epoch + "-t" + tasks.get() + "-u" + users.get();
+		}
+		Long userId = currentUserResolver.getId(userDetails);
+		return epoch + "-e" + userId + "." + tasksByUser.getOrDefault(userId, 0L) + "-u" + users.get();
+	}
+
+	/**
+	 * ETag of the user's assigned tasks (GET /api/tasks/assigned).
+	 */
+	public String assignedTasksTag(UserDetails userDetails) {
+		Long userId = currentUserResolver.getId(userDetails);
+		return epoch + "-a" + userId + "." + tasksByUser.getOrDefault(userId, 0L);
+	}
+
+	/**
+	 * ETag of the user list (GET /api/users).
+	 */
+	public String usersTag() {
+		return epoch + "-u" + users.get();
+	}
+
+	private static boolean seesAllTasks(UserDetails userDetails) {
+		return userDetails.getAuthorities().stream()
+			.map(GrantedAuthority::getAuthority)
+			.anyMatch(role -> role.equals(RoleEnum.ROLE_ADMIN.name()) || role.equals(RoleEnum.ROLE_MANAGER.name()));
+	}
+}
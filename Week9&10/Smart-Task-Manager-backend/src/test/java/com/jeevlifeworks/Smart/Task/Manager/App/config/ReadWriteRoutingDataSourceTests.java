@@ -0,0 +1,209 @@
+package com.jeevlifeworks.Smart.Task.Manager.App.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.annotation.DirtiesContext;
+
+import com.jeevlifeworks.Smart.Task.Manager.App.Entity.RoleEnum;
+import com.jeevlifeworks.Smart.Task.Manager.App.Entity.Task;
+import com.jeevlifeworks.Smart.Task.Manager.App.Entity.User;
+import com.jeevlifeworks.Smart.Task.Manager.App.dto.TaskChangesDto;
+import com.jeevlifeworks.Smart.Task.Manager.App.dto.TaskDto;
+import com.jeevlifeworks.Smart.Task.Manager.App.dto.TaskFilterDto;
+import com.jeevlifeworks.Smart.Task.Manager.App.dto.TaskSummaryDto;
+import com.jeevlifeworks.Smart.Task.Manager.App.exception.ResourceNotFoundException;
+import com.jeevlifeworks.Smart.Task.Manager.App.repository.TaskRepository;
+import com.jeevlifeworks.Smart.Task.Manager.App.repository.UserRepository;
+import com.jeevlifeworks.Smart.Task.Manager.App.service.TaskService;
+import com.jeevlifeworks.Smart.Task.Manager.App.service.TaskSnapshot;
+import com.jeevlifeworks.Smart.Task.Manager.App.service.UserService;
+import com.jeevlifeworks.Smart.Task.Manager.App.support.TestUsers;
+
+/**
+ * Runs against two separate in-memory H2 databases. Nothing replicates between
+ * them, so a row written to only one of them shows which database a read used.
+ */
+@SpringBootTest(properties = {
+		"spring.datasource.url=jdbc:h2:mem:taskmanager_routing_primary;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+		"app.datasource.replica.url=jdbc:h2:mem:taskmanager_routing_replica;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+		"app.datasource.replica.username=sa",
+		"app.datasource.replica.max-lag=PT1S" })
+@DirtiesContext
+class ReadWriteRoutingDataSourceTests {
+
+	private static final long REPLICA_ONLY_USER_ID = 999_999L;
+
+	/**
+	 * Gives the replica the primary's schema, as replication would; runs before the application accepts traffic.
+	 */
+	@TestConfiguration
+	static class ReplicaSchema {
+
+		@Bean
+		ApplicationRunner copySchemaToReplica(@Qualifier("primaryDataSource") DataSource primary,
+				@Qualifier("replicaDataSource") DataSource replica) {
+			return args -> {
+				JdbcTemplate replicaJdbc = new JdbcTemplate(replica);
+				new JdbcTemplate(primary).queryForList("SCRIPT NODATA", String.class).stream()
+					.filter(statement -> !statement.startsWith("--") && !statement.startsWith("CREATE USER"))
+					.forEach(replicaJdbc::execute);
+			};
+		}
+	}
+
+	@Autowired
+	private UserService userService;
+
+	@Autowired
+	private TaskService taskService;
+
+	@Autowired
+	private TaskSnapshot taskSnapshot;
+
+	@Autowired
+	private TaskRepository taskRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private TestUsers testUsers;
+
+	@Autowired
+	@Qualifier("replicaDataSource")
+	private DataSource replicaDataSource;
+
+	private User manager;
+	private User reader;
+
+	@BeforeEach
+	void seedUsers() {
+		manager = testUsers.saveUser("routing.manager@example.com", RoleEnum.ROLE_MANAGER);
+		reader = testUsers.saveUser("routing.reader@example.com", RoleEnum.ROLE_MANAGER);
+		new JdbcTemplate(replicaDataSource).update("INSERT INTO users (id, username, email, password, is_enabled) VALUES (?, ?, ?, ?, true)",
+				REPLICA_ONLY_USER_ID, "routing.replica", "routing.replica@example.com", "encoded");
+	}
+
+	@AfterEach
+	void cleanUp() {
+		SecurityContextHolder.clearContext();
+		taskRepository.deleteAll(taskRepository.findByManager(manager));
+		userRepository.deleteAll(List.of(manager, reader));
+		new JdbcTemplate(replicaDataSource).update("DELETE FROM users WHERE id = ?", REPLICA_ONLY_USER_ID);
+	}
+
+	@Test
+	void readOnlyServiceMethodsReadTheReplicaAndEverythingElseThePrimary() {
+		// @Transactional(readOnly = true)
+		assertEquals(List.of("routing.replica@example.com"), emails(userService.getAllUsers()));
+
+		// Spring Data's own read-only transaction, and no transaction at all
+		assertEquals(List.of("routing.manager@example.com", "routing.reader@example.com"), emails(userRepository.findAll()));
+		assertTrue(userRepository.findByEmail("routing.manager@example.com").isPresent());
+		assertFalse(userRepository.findByEmail("routing.replica@example.com").isPresent());
+	}
+
+	@Test
+	void usersReadTheirOwnWritesFromThePrimaryUntilTheReplicaCaughtUp() throws InterruptedException {
+		testUsers.logIn(manager);
+		Task task = saveTask("Routing task");
+
+		assertTrue(visible(task), "the writer reads the primary");
+
+		testUsers.logIn(reader);
+		assertFalse(visible(task), "other users read the replica");
+
+		testUsers.logIn(manager);
+		Thread.sleep(1_100); // max-lag
+		assertFalse(visible(task), "after max-lag the writer reads the replica again");
+	}
+
+	@Test
+	void changesSinceReadsThePrimaryWhileTheReplicaIsStale() {
+		testUsers.logIn(manager);
+		Task task = taskService.createTask(newTask("Routing change"));
+
+		testUsers.logIn(reader);
+		assertFalse(visible(task), "the replica has not received the task");
+		TaskChangesDto changes = taskService.getChangesSince(0, testUsers.details(reader));
+		assertTrue(changes.getChanged().stream().anyMatch(changed -> changed.getId().equals(task.getId())));
+	}
+
+	@Test
+	void etagListingsReadThePrimaryForEveryoneUntilTheReplicaCaughtUp() throws InterruptedException {
+		testUsers.logIn(manager);
+		Task task = taskService.createTask(newTask("Routing listing"));
+
+		// The task stamp moved, so nobody may cache a replica body under the new tag
+		testUsers.logIn(reader);
+		assertFalse(visible(task));
+		assertTrue(allTaskIds().contains(task.getId()));
+		assertTrue(filteredTaskIds().contains(task.getId()));
+
+		Thread.sleep(1_100); // max-lag
+		assertFalse(allTaskIds().contains(task.getId()));
+		// The snapshot page names the task, the replica misses it: the task is still on the primary, so it stays
+		assertFalse(filteredTaskIds().contains(task.getId()));
+		assertTrue(taskSnapshot.findPage(new TaskFilterDto(), null, 1_000).orElseThrow().contains(task.getId()));
+	}
+
+	private boolean visible(Task task) {
+		try {
+			taskService.getTask(task.getId(), testUsers.details(reader));
+			return true;
+		} catch (ResourceNotFoundException e) {
+			return false;
+		}
+	}
+
+	private List<Long> allTaskIds() {
+		return taskService.getAllTasks(null, 50).getItems().stream().map(TaskSummaryDto::getId).toList();
+	}
+
+	private List<Long> filteredTaskIds() {
+		return taskService.getTasksFiltered(new TaskFilterDto(), testUsers.details(reader), null, 50).getItems().stream()
+				.map(TaskSummaryDto::getId).toList();
+	}
+
+	private TaskDto newTask(String title) {
+		TaskDto dto = new TaskDto();
+		dto.setTitle(title);
+		dto.setPriority("Medium");
+		dto.setDueDate(LocalDate.of(2030, 1, 1));
+		dto.setAssigneeIds(List.of());
+		return dto;
+	}
+
+	private List<String> emails(List<User> users) {
+		return users.stream().map(User::getEmail).filter(email -> email.startsWith("routing.")).sorted().toList();
+	}
+
+	private Task saveTask(String title) {
+		Task task = new Task();
+		task.setTitle(title);
+		task.setDueDate(LocalDate.of(2030, 1, 1));
+		task.setPriority("Medium");
+		task.setStatus("To Do");
+		task.setManager(manager);
+		task.setChangeVersion(0L);
+		return taskRepository.save(task);
+	}
+}
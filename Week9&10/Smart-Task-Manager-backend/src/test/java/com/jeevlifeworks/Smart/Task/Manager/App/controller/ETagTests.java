@@ -0,0 +1,158 @@
+package com.jeevlifeworks.Smart.Task.Manager.App.controller;
+
+import static com.jeevlifeworks.Smart.Task.Manager.App.support.SqlStatementRecorder.assertStatementCount;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.jeevlifeworks.Smart.Task.Manager.App.Entity.RoleEnum;
+import com.jeevlifeworks.Smart.Task.Manager.App.Entity.Task;
+import com.jeevlifeworks.Smart.Task.Manager.App.Entity.User;
+import com.jeevlifeworks.Smart.Task.Manager.App.dto.TaskDto;
+import com.jeevlifeworks.Smart.Task.Manager.App.repository.EmailOutboxRepository;
+import com.jeevlifeworks.Smart.Task.Manager.App.repository.TaskRepository;
+import com.jeevlifeworks.Smart.Task.Manager.App.repository.UserRepository;
+import com.jeevlifeworks.Smart.Task.Manager.App.security.JwtTokenUtil;
+import com.jeevlifeworks.Smart.Task.Manager.App.service.TaskService;
+import com.jeevlifeworks.Smart.Task.Manager.App.service.UserService;
+import com.jeevlifeworks.Smart.Task.Manager.App.support.TestUsers;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class ETagTests {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private JwtTokenUtil jwtTokenUtil;
+
+	@Autowired
+	private TaskService taskService;
+
+	@Autowired
+	private UserService userService;
+
+	@Autowired
+	private TaskRepository taskRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private TestUsers testUsers;
+
+	@Autowired
+	private EmailOutboxRepository emailOutboxRepository;
+
+	private User manager;
+	private User alice;
+	private User bob;
+	private Task aliceTask;
+
+	@BeforeEach
+	void createTask() {
+		manager = testUsers.saveUser("etag.manager@example.com", RoleEnum.ROLE_MANAGER);
+		alice = testUsers.saveUser("etag.alice@example.com", RoleEnum.ROLE_EMPLOYEE);
+		bob = testUsers.saveUser("etag.bob@example.com", RoleEnum.ROLE_EMPLOYEE);
+		testUsers.logIn(manager);
+		aliceTask = taskService.createTask(task("Alice's task", alice));
+		taskService.createTask(task("Bob's task", bob));
+		SecurityContextHolder.clearContext();
+	}
+
+	@AfterEach
+	void cleanUp() {
+		emailOutboxRepository.deleteAll();
+		taskRepository.deleteAll(taskRepository.findByManager(manager));
+		userRepository.deleteAll(List.of(alice, bob, manager));
+	}
+
+	@Test
+	void unchangedAssignedTasksAreAnsweredWith304WithoutQueries() throws Exception {
+		String token = token(alice);
+		MockHttpServletResponse first = fetch("/api/tasks/assigned", token, null);
+		String eTag = first.getHeader(HttpHeaders.ETAG);
+		assertEquals(200, first.getStatus());
+		assertTrue(eTag.startsWith("\""), "strong ETag expected: " + eTag);
+
+		// The principal is cached after the first request, so a 304 costs no statement at all
+		MockHttpServletResponse revalidated = assertStatementCount(0, () -> fetchUnchecked("/api/tasks/assigned", token, eTag));
+		assertEquals(304, revalidated.getStatus());
+		assertEquals("", revalidated.getContentAsString());
+	}
+
+	@Test
+	void taskChangeOnlyMovesTheTagsOfUsersItConcerns() throws Exception {
+		String aliceTag = fetch("/api/tasks/assigned", alice, null).getHeader(HttpHeaders.ETAG);
+		String bobTag = fetch("/api/tasks/assigned", bob, null).getHeader(HttpHeaders.ETAG);
+		String listTag = fetch("/api/tasks", manager, null).getHeader(HttpHeaders.ETAG);
+
+		taskService.updateTaskStatus(aliceTask.getId(), "In Progress", null, testUsers.details(alice));
+
+		MockHttpServletResponse aliceAfter = fetch("/api/tasks/assigned", alice, aliceTag);
+		assertEquals(200, aliceAfter.getStatus());
+		assertNotEquals(aliceTag, aliceAfter.getHeader(HttpHeaders.ETAG));
+		assertTrue(aliceAfter.getContentAsString().contains("In Progress"));
+		assertEquals(304, fetch("/api/tasks/assigned", bob, bobTag).getStatus());
+		assertEquals(200, fetch("/api/tasks", manager, listTag).getStatus());
+	}
+
+	@Test
+	void userListTagMovesWhenAUserChanges() throws Exception {
+		String usersTag = fetch("/api/users", manager, null).getHeader(HttpHeaders.ETAG);
+		assertEquals(304, fetch("/api/users", manager, usersTag).getStatus());
+
+		userService.changeUserRole(bob.getId(), "MANAGER");
+
+		assertEquals(200, fetch("/api/users", manager, usersTag).getStatus());
+	}
+
+	private MockHttpServletResponse fetch(String path, User user, String ifNoneMatch) throws Exception {
+		return fetch(path, token(user), ifNoneMatch);
+	}
+
+	private MockHttpServletResponse fetch(String path, String token, String ifNoneMatch) throws Exception {
+		var request = get(path).header(HttpHeaders.AUTHORIZATION, "Bearer " + token);
+		if (ifNoneMatch != null) {
+			request.header(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+		}
+		return mockMvc.perform(request).andReturn().getResponse();
+	}
+
+	private MockHttpServletResponse fetchUnchecked(String path, String token, String ifNoneMatch) {
+		try {
+			return fetch(path, token, ifNoneMatch);
+		} catch (Exception e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private String token(User user) {
+		return jwtTokenUtil.generateToken(testUsers.details(user));
+	}
+
+	private TaskDto task(String title, User assignee) {
+		TaskDto dto = new TaskDto();
+		dto.setTitle(title);
+		dto.setPriority("Low");
+		dto.setDueDate(LocalDate.of(2030, 3, 1));
+		dto.setAssigneeIds(List.of(assignee.getId()));
+		return dto;
+	}
+}
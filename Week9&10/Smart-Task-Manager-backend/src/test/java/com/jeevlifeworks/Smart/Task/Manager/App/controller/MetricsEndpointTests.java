@@ -0,0 +1,79 @@
+package com.jeevlifeworks.Smart.Task.Manager.App.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.jeevlifeworks.Smart.Task.Manager.App.Entity.RoleEnum;
+import com.jeevlifeworks.Smart.Task.Manager.App.Entity.User;
+import com.jeevlifeworks.Smart.Task.Manager.App.repository.UserRepository;
+import com.jeevlifeworks.Smart.Task.Manager.App.security.JwtTokenUtil;
+import com.jeevlifeworks.Smart.Task.Manager.App.support.TestUsers;
+
+// Tests normally run without metrics exporters; this one needs the Prometheus registry
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability(tracing = false)
+class MetricsEndpointTests {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private JwtTokenUtil jwtTokenUtil;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private TestUsers testUsers;
+
+	private User user;
+
+	@BeforeEach
+	void createUser() {
+		user = testUsers.saveUser("metrics.user@example.com", RoleEnum.ROLE_EMPLOYEE);
+	}
+
+	@AfterEach
+	void cleanUp() {
+		userRepository.delete(user);
+	}
+
+	@Test
+	void prometheusScrapeCoversRequestsServicesJwtAndHibernate() throws Exception {
+		String token = jwtTokenUtil.generateToken(testUsers.details(user));
+		mockMvc.perform(get("/api/tasks/assigned").header(HttpHeaders.AUTHORIZATION, "Bearer " + token));
+
+		// Scraping needs no token
+		var response = mockMvc.perform(get("/actuator/prometheus")).andReturn().getResponse();
+		assertEquals(200, response.getStatus());
+		String scrape = response.getContentAsString();
+
+		// Histogram buckets, so p50/p95/p99 can be computed per endpoint
+		assertContains(scrape, "http_server_requests_seconds_bucket{");
+		assertContains(scrape, "uri=\"/api/tasks/assigned\"");
+		assertContains(scrape, "task_service_seconds_bucket{");
+		assertContains(scrape, "method=\"getAssignedTasksForUser\"");
+		assertContains(scrape, "auth_jwt_verify_seconds_count");
+		assertContains(scrape, "hibernate_statements_total");
+		assertContains(scrape, "hikaricp_connections_active");
+		assertContains(scrape, "email_outbox_dispatched_total");
+		// @Scheduled methods are observed by Spring itself
+		assertContains(scrape, "tasks_scheduled_execution");
+	}
+
+	private static void assertContains(String scrape, String expected) {
+		assertTrue(scrape.contains(expected), "scrape lacks " + expected);
+	}
+}
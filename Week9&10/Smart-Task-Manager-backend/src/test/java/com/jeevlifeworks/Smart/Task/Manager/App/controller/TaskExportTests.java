@@ -0,0 +1,167 @@
+package com.jeevlifeworks.Smart.Task.Manager.App.controller;
+
+import static com.jeevlifeworks.Smart.Task.Manager.App.support.SqlStatementRecorder.assertStatementCount;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jeevlifeworks.Smart.Task.Manager.App.Entity.RoleEnum;
+import com.jeevlifeworks.Smart.Task.Manager.App.Entity.Task;
+import com.jeevlifeworks.Smart.Task.Manager.App.Entity.User;
+import com.jeevlifeworks.Smart.Task.Manager.App.dto.TaskExportFormat;
+import com.jeevlifeworks.Smart.Task.Manager.App.repository.TaskRepository;
+import com.jeevlifeworks.Smart.Task.Manager.App.repository.UserRepository;
+import com.jeevlifeworks.Smart.Task.Manager.App.security.JwtTokenUtil;
+import com.jeevlifeworks.Smart.Task.Manager.App.service.TaskExportService;
+import com.jeevlifeworks.Smart.Task.Manager.App.support.TestUsers;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class TaskExportTests {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private JwtTokenUtil jwtTokenUtil;
+
+	@Autowired
+	private TaskExportService taskExportService;
+
+	@Autowired
+	private TaskRepository taskRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private TestUsers testUsers;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	private User manager;
+	private User alice;
+	private Task quoted;
+
+	@BeforeEach
+	void seedTasks() {
+		manager = testUsers.saveUser("export.manager@example.com", RoleEnum.ROLE_MANAGER);
+		alice = testUsers.saveUser("export.alice@example.com", RoleEnum.ROLE_EMPLOYEE);
+		quoted = saveTask("Plan \"Q3\", draft", "line one\nline two", alice);
+		saveTask("Export task 1", null, alice);
+		saveTask("Export task 2", null, null);
+	}
+
+	@AfterEach
+	void cleanUp() {
+		taskRepository.deleteAll(taskRepository.findByManager(manager));
+		userRepository.deleteAll(List.of(alice, manager));
+	}
+
+	@Test
+	void csvExportReadsOneCursorAndOneAssigneeQueryPerChunk() {
+		long tasks = taskRepository.count();
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+		// the streamed task rows, then the assignees of every chunk of two
+		long exported = assertStatementCount((int) (1 + (tasks + 1) / 2), () -> export(TaskExportFormat.CSV, out));
+
+		assertEquals(tasks, exported);
+		String csv = out.toString(StandardCharsets.UTF_8);
+		assertTrue(csv.startsWith("id,title,description,dueDate,priority,status,managerId,assigneeIds,tags,version,archived\r\n"));
+		assertTrue(csv.contains(quoted.getId() + ",\"Plan \"\"Q3\"\", draft\",\"line one\nline two\",2030-01-01,Medium,To Do,"
+				+ manager.getId() + "," + alice.getId() + ",,0,false\r\n"), csv);
+	}
+
+	@Test
+	void gzippedNdjsonExportIsStreamedOneTaskPerLine() throws Exception {
+		MockHttpServletResponse response = fetch("/api/tasks/export?format=ndjson&gzip=true", manager);
+
+		assertEquals(200, response.getStatus());
+		assertEquals("application/gzip", response.getContentType());
+		assertTrue(response.getHeader(HttpHeaders.CONTENT_DISPOSITION).contains("tasks.ndjson.gz"));
+		String ndjson;
+		try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(response.getContentAsByteArray()))) {
+			ndjson = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+		}
+		List<String> lines = ndjson.lines().toList();
+		assertEquals(taskRepository.count(), lines.size());
+		JsonNode first = lines.stream().map(this::readTree)
+				.filter(node -> node.get("id").asLong() == quoted.getId()).findFirst().orElseThrow();
+		assertEquals("Plan \"Q3\", draft", first.get("title").asText());
+		assertEquals("2030-01-01", first.get("dueDate").asText());
+		assertEquals(alice.getId(), first.get("assigneeIds").get(0).asLong());
+	}
+
+	@Test
+	void unknownFormatsAndEmployeesAreRejected() throws Exception {
+		assertEquals(400, mockMvc.perform(get("/api/tasks/export?format=xml")
+				.header(HttpHeaders.AUTHORIZATION, "Bearer " + token(manager))).andReturn().getResponse().getStatus());
+		assertEquals(403, mockMvc.perform(get("/api/tasks/export")
+				.header(HttpHeaders.AUTHORIZATION, "Bearer " + token(alice))).andReturn().getResponse().getStatus());
+	}
+
+	private long export(TaskExportFormat format, ByteArrayOutputStream out) {
+		try {
+			return taskExportService.exportTasks(format, false, out);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private MockHttpServletResponse fetch(String path, User user) throws Exception {
+		MvcResult started = mockMvc.perform(get(path).header(HttpHeaders.AUTHORIZATION, "Bearer " + token(user))).andReturn();
+		return mockMvc.perform(asyncDispatch(started)).andReturn().getResponse();
+	}
+
+	private JsonNode readTree(String line) {
+		try {
+			return objectMapper.readTree(line);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private String token(User user) {
+		return jwtTokenUtil.generateToken(testUsers.details(user));
+	}
+
+	private Task saveTask(String title, String description, User assignee) {
+		Task task = new Task();
+		task.setTitle(title);
+		task.setDescription(description);
+		task.setDueDate(LocalDate.of(2030, 1, 1));
+		task.setPriority("Medium");
+		task.setStatus("To Do");
+		task.setManager(manager);
+		task.setChangeVersion(0L);
+		if (assignee != null) {
+			task.getAssignees().add(assignee);
+		}
+		return taskRepository.save(task);
+	}
+}
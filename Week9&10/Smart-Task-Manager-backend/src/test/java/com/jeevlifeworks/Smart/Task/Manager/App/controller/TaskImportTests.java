@@ -0,0 +1,154 @@
+package com.jeevlifeworks.Smart.Task.Manager.App.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.jeevlifeworks.Smart.Task.Manager.App.Entity.RoleEnum;
+import com.jeevlifeworks.Smart.Task.Manager.App.Entity.Task;
+import com.jeevlifeworks.Smart.Task.Manager.App.Entity.User;
+import com.jeevlifeworks.Smart.Task.Manager.App.dto.AssigneeDto;
+import com.jeevlifeworks.Smart.Task.Manager.App.dto.TaskImportErrorDto;
+import com.jeevlifeworks.Smart.Task.Manager.App.dto.TaskImportResultDto;
+import com.jeevlifeworks.Smart.Task.Manager.App.repository.TaskRepository;
+import com.jeevlifeworks.Smart.Task.Manager.App.repository.UserRepository;
+import com.jeevlifeworks.Smart.Task.Manager.App.security.JwtTokenUtil;
+import com.jeevlifeworks.Smart.Task.Manager.App.service.TaskImportService;
+import com.jeevlifeworks.Smart.Task.Manager.App.support.TestUsers;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class TaskImportTests {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private JwtTokenUtil jwtTokenUtil;
+
+	@Autowired
+	private TaskImportService taskImportService;
+
+	@Autowired
+	private TaskRepository taskRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private TestUsers testUsers;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	private User manager;
+	private User alice;
+	private User bob;
+
+	@BeforeEach
+	void seedUsers() {
+		manager = testUsers.saveUser("import.manager@example.com", RoleEnum.ROLE_MANAGER);
+		alice = testUsers.saveUser("import.alice@example.com", RoleEnum.ROLE_EMPLOYEE);
+		bob = testUsers.saveUser("import.bob@example.com", RoleEnum.ROLE_EMPLOYEE);
+	}
+
+	@AfterEach
+	void cleanUp() {
+		taskRepository.deleteAll(taskRepository.findByManager(manager));
+		userRepository.deleteAll(List.of(alice, bob, manager));
+	}
+
+	@Test
+	void validRowsAreImportedAcrossChunksAndRejectedRowsReportedByLine() throws Exception {
+		String csv = "Title,Description,DueDate,Priority,Status,Tags,Assignees,Source\r\n"
+				+ "Import task 1,,2030-01-01,High,,ops,import.alice@example.com,legacy\r\n"
+				+ "\"Import \"\"two\"\", quoted\",\"first line\r\nsecond line\",,,Completed,,import.alice@example.com; IMPORT.BOB@example.com\r\n"
+				+ ",no title\r\n"
+				+ "\r\n"
+				+ "Import task 4,,2030-13-01\r\n"
+				+ "Import task 5,,,,,,nobody@example.com\r\n"
+				+ "Import task 6,,,,,,,,one too many\r\n"
+				+ "Import task 7,,,Low,,,import.bob@example.com";
+
+		TaskImportResultDto result = taskImportService.importTasks(
+				new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)), testUsers.details(manager));
+
+		assertEquals(3, result.getImported());
+		assertEquals(4, result.getFailed());
+		// Only the first max-errors (3) rejections are listed; the quoted row spans lines 3 and 4
+		assertEquals(List.of(5, 7, 8), result.getErrors().stream().map(TaskImportErrorDto::getLine).toList());
+		assertEquals("Title is required.", result.getErrors().get(0).getError());
+		assertEquals("Invalid dueDate '2030-13-01'; expected yyyy-MM-dd.", result.getErrors().get(1).getError());
+		assertEquals("Assignee not found with email: nobody@example.com", result.getErrors().get(2).getError());
+
+		List<Task> tasks = taskRepository.findByManager(manager).stream().sorted(Comparator.comparing(Task::getId)).toList();
+		assertEquals(List.of("Import task 1", "Import \"two\", quoted", "Import task 7"), tasks.stream().map(Task::getTitle).toList());
+		Task first = tasks.get(0);
+		assertEquals(LocalDate.of(2030, 1, 1), first.getDueDate());
+		assertEquals("To Do", first.getStatus());
+		assertEquals("ops", first.getTags());
+		assertEquals(List.of(alice.getId()), assigneeIds(first));
+		Task second = tasks.get(1);
+		assertEquals("first line\nsecond line", second.getDescription());
+		assertEquals("Completed", second.getStatus());
+		assertNotNull(second.getCompletedAt());
+		assertEquals(List.of(alice.getId(), bob.getId()), assigneeIds(second));
+		assertNull(tasks.get(2).getDueDate());
+		assertEquals(List.of(bob.getId()), assigneeIds(tasks.get(2)));
+	}
+
+	@Test
+	void uploadedFileIsImportedForTheCallingManager() throws Exception {
+		byte[] csv = "\uFEFFtitle,assignees\nUploaded task,import.alice@example.com\n".getBytes(StandardCharsets.UTF_8);
+
+		MockHttpServletResponse response = upload(csv, manager);
+
+		assertEquals(200, response.getStatus());
+		JsonNode body = objectMapper.readTree(response.getContentAsString());
+		assertEquals(1, body.get("imported").asLong());
+		assertEquals(0, body.get("failed").asLong());
+		assertEquals(List.of("Uploaded task"), taskRepository.findByManager(manager).stream().map(Task::getTitle).toList());
+	}
+
+	@Test
+	void filesWithoutTitleColumnAndEmployeesAreRejected() throws Exception {
+		assertEquals(400, upload("name,assignees\nTask,\n".getBytes(StandardCharsets.UTF_8), manager).getStatus());
+		assertEquals(400, upload(new byte[0], manager).getStatus());
+		assertEquals(403, upload("title\nTask\n".getBytes(StandardCharsets.UTF_8), alice).getStatus());
+		assertEquals(List.of(), taskRepository.findByManager(manager));
+	}
+
+	private MockHttpServletResponse upload(byte[] content, User user) throws Exception {
+		MockMultipartFile file = new MockMultipartFile("file", "tasks.csv", "text/csv", content);
+		return mockMvc.perform(multipart("/api/tasks/import").file(file)
+				.header(HttpHeaders.AUTHORIZATION, "Bearer " + token(user))).andReturn().getResponse();
+	}
+
+	private List<Long> assigneeIds(Task task) {
+		return taskRepository.findAssigneesByTaskIds(List.of(task.getId())).stream().map(AssigneeDto::getId).sorted().toList();
+	}
+
+	private String token(User user) {
+		return jwtTokenUtil.generateToken(testUsers.details(user));
+	}
+}
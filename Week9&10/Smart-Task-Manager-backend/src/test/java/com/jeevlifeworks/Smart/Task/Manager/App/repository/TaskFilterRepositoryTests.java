@@ -0,0 +1,166 @@
+package com.jeevlifeworks.Smart.Task.Manager.App.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.jeevlifeworks.Smart.Task.Manager.App.Entity.RoleEnum;
+import com.jeevlifeworks.Smart.Task.Manager.App.Entity.Task;
+import com.jeevlifeworks.Smart.Task.Manager.App.Entity.User;
+import com.jeevlifeworks.Smart.Task.Manager.App.dto.TaskFilterDto;
+import com.jeevlifeworks.Smart.Task.Manager.App.dto.TaskSummaryDto;
+import com.jeevlifeworks.Smart.Task.Manager.App.support.SqlStatementRecorder;
+import com.jeevlifeworks.Smart.Task.Manager.App.support.TestUsers;
+
+@SpringBootTest
+class TaskFilterRepositoryTests {
+
+	private static final LocalDate BASE = LocalDate.of(2032, 3, 1);
+
+	@Autowired
+	private TaskRepository taskRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private TestUsers testUsers;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private User manager;
+	private User employee;
+
+	@BeforeEach
+	void seedTasks() {
+		manager = testUsers.saveUser("filter.manager@example.com", RoleEnum.ROLE_MANAGER);
+		employee = testUsers.saveUser("filter.employee@example.com", RoleEnum.ROLE_EMPLOYEE);
+		saveTask("Plan", BASE, "To Do", "High", employee);
+		saveTask("Build", BASE.plusDays(1), "In Progress", "Medium", employee);
+		saveTask("Ship", BASE.plusDays(2), "Completed", "High");
+		saveTask("Someday", null, "To Do", "Low", employee);
+	}
+
+	@AfterEach
+	void cleanUp() {
+		taskRepository.deleteAll(taskRepository.findByManager(manager));
+		userRepository.deleteAll(List.of(employee, manager));
+	}
+
+	@Test
+	void onlySuppliedCriteriaReachTheQuery() {
+		TaskFilterDto filter = new TaskFilterDto();
+		filter.setStatus(List.of("To Do"));
+
+		String sql = recordSql(filter);
+
+		assertFalse(sql.toLowerCase().contains("is null or"), sql);
+		assertFalse(sql.toLowerCase().contains("distinct"), sql);
+		assertFalse(sql.toLowerCase().contains("priority=?"), sql);
+		assertTrue(sql.toLowerCase().contains("status=?"), sql);
+	}
+
+	@Test
+	void multiValueStatusAndDueDateRangeAreApplied() {
+		TaskFilterDto filter = new TaskFilterDto();
+		filter.setStatus(List.of("To Do", "Completed"));
+		filter.setDueDateFrom(BASE);
+		filter.setDueDateTo(BASE.plusDays(5));
+
+		assertEquals(List.of("Plan", "Ship"), titles(taskRepository.findDatedSummariesByFilter(filter, null, Limit.of(10))));
+		assertTrue(taskRepository.findUndatedSummariesByFilter(filter, 0L, Limit.of(10)).isEmpty());
+	}
+
+	@Test
+	void assigneeFilterReturnsEachTaskOnce() {
+		TaskFilterDto filter = new TaskFilterDto();
+		filter.setAssigneeId(employee.getId());
+		filter.setPriority(List.of("High", "Medium", "Low"));
+
+		assertEquals(List.of("Plan", "Build"), titles(taskRepository.findDatedSummariesByFilter(filter, null, Limit.of(10))));
+		assertEquals(List.of("Someday"), titles(taskRepository.findUndatedSummariesByFilter(filter, 0L, Limit.of(10))));
+	}
+
+	@Test
+	void statusFilterUsesTheStatusIndex() {
+		TaskFilterDto filter = new TaskFilterDto();
+		filter.setStatus(List.of("To Do"));
+
+		assertTrue(explain(recordSql(filter)).contains("idx_tasks_status_due_date_id"));
+	}
+
+	@Test
+	void priorityFilterUsesThePriorityIndex() {
+		TaskFilterDto filter = new TaskFilterDto();
+		filter.setPriority(List.of("High"));
+
+		assertTrue(explain(recordSql(filter)).contains("idx_tasks_priority_due_date_id"));
+	}
+
+	@Test
+	void assigneeFilterUsesTheAssignmentIndex() {
+		TaskFilterDto filter = new TaskFilterDto();
+		filter.setAssigneeId(employee.getId());
+
+		assertTrue(explain(recordSql(filter)).contains("idx_task_assignees_user_task"));
+	}
+
+	/**
+	 * Runs the first-page dated query for the filter and returns the SQL Hibernate generated.
+	 */
+	private String recordSql(TaskFilterDto filter) {
+		SqlStatementRecorder.start();
+		taskRepository.findDatedSummariesByFilter(filter, null, Limit.of(10));
+		List<String> statements = SqlStatementRecorder.stop();
+		assertEquals(1, statements.size(), statements.toString());
+		return statements.get(0);
+	}
+
+	/**
+	 * Returns H2's plan for the statement, lower-cased. H2 plans the query
+	 * without needing the parameter values.
+	 */
+	private String explain(String sql) {
+		return jdbcTemplate.execute((Connection connection) -> {
+			try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql);
+					ResultSet plan = statement.executeQuery()) {
+				StringBuilder text = new StringBuilder();
+				while (plan.next()) {
+					text.append(plan.getString(1)).append('\n');
+				}
+				return text.toString().toLowerCase();
+			}
+		});
+	}
+
+	private List<String> titles(List<TaskSummaryDto> rows) {
+		return rows.stream().map(TaskSummaryDto::getTitle).collect(Collectors.toList());
+	}
+
+	private void saveTask(String title, LocalDate dueDate, String status, String priority, User... assignees) {
+		Task task = new Task();
+		task.setTitle(title);
+		task.setDueDate(dueDate);
+		task.setPriority(priority);
+		task.setStatus(status);
+		task.setManager(manager);
+		task.getAssignees().addAll(List.of(assignees));
+		taskRepository.save(task);
+	}
+}
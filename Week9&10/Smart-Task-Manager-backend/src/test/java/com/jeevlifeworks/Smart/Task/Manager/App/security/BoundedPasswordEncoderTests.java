@@ -0,0 +1,97 @@
+package com.jeevlifeworks.Smart.Task.Manager.App.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.jeevlifeworks.Smart.Task.Manager.App.exception.PasswordHashingBusyException;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class BoundedPasswordEncoderTests {
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	// Blocks every call until released, standing in for a slow BCrypt
+	private final CountDownLatch release = new CountDownLatch(1);
+
+	private final CountDownLatch started = new CountDownLatch(1);
+
+	private final PasswordEncoder slowEncoder = new PasswordEncoder() {
+		@Override
+		public String encode(CharSequence rawPassword) {
+			await();
+			return "hashed:" + rawPassword;
+		}
+
+		@Override
+		public boolean matches(CharSequence rawPassword, String encodedPassword) {
+			await();
+			return encodedPassword.equals("hashed:" + rawPassword);
+		}
+
+		private void await() {
+			started.countDown();
+			try {
+				release.await(10, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	};
+
+	@Test
+	void callsBeyondThePoolAndQueueAreRejectedAtOnce() throws Exception {
+		BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(slowEncoder, 1, 1, meterRegistry);
+		try {
+			CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> encoder.encode("first"));
+			assertTrue(started.await(5, TimeUnit.SECONDS));
+			CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> encoder.encode("second"));
+			awaitQueued();
+
+			assertThrows(PasswordHashingBusyException.class, () -> encoder.matches("third", "hashed:third"));
+			assertEquals(1, timerCount("matches", "rejected"));
+
+			release.countDown();
+			assertEquals("hashed:first", running.get(5, TimeUnit.SECONDS));
+			assertEquals("hashed:second", queued.get(5, TimeUnit.SECONDS));
+			assertEquals(2, timerCount("encode", "success"));
+		} finally {
+			release.countDown();
+			encoder.shutdown();
+		}
+	}
+
+	@Test
+	void outcomesAreTimedSeparately() {
+		release.countDown();
+		BoundedPasswordEncoder encoder = new BoundedPasswordEncoder(slowEncoder, 2, 4, meterRegistry);
+		try {
+			assertTrue(encoder.matches("secret", "hashed:secret"));
+			assertFalse(encoder.matches("guess", "hashed:secret"));
+
+			assertEquals(1, timerCount("matches", "success"));
+			assertEquals(1, timerCount("matches", "mismatch"));
+		} finally {
+			encoder.shutdown();
+		}
+	}
+
+	private void awaitQueued() throws InterruptedException {
+		for (int i = 0; i < 500 && meterRegistry.get("auth.password.hashing.queued").gauge().value() < 1; i++) {
+			Thread.sleep(10);
+		}
+	}
+
+	private long timerCount(String operation, String outcome) {
+		return meterRegistry.get("auth.password.hashing").tag("operation", operation).tag("outcome", outcome).timer().count();
+	}
+}
@@ -0,0 +1,124 @@
+package com.jeevlifeworks.Smart.Task.Manager.App.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import com.jeevlifeworks.Smart.Task.Manager.App.Entity.RoleEnum;
+import com.jeevlifeworks.Smart.Task.Manager.App.Entity.User;
+import com.jeevlifeworks.Smart.Task.Manager.App.repository.UserRepository;
+import com.jeevlifeworks.Smart.Task.Manager.App.service.UserService;
+import com.jeevlifeworks.Smart.Task.Manager.App.support.TestUsers;
+
+@SpringBootTest
+class JwtAuthenticationFilterTests {
+
+	@Autowired
+	private JwtAuthenticationFilter filter;
+
+	@Autowired
+	private JwtTokenUtil jwtTokenUtil;
+
+	@Autowired
+	private UserService userService;
+
+	@Autowired
+	private TestUsers testUsers;
+
+	@MockitoSpyBean
+	private UserRepository userRepository;
+
+	private User user;
+	private String token;
+
+	@BeforeEach
+	void loginUser() {
+		// A fresh email per test, so revocations recorded by earlier tests do not apply
+		user = testUsers.saveUser("cached.principal." + UUID.randomUUID() + "@example.com", RoleEnum.ROLE_EMPLOYEE);
+		token = jwtTokenUtil.generateToken(testUsers.details(user));
+		clearInvocations(userRepository);
+	}
+
+	@AfterEach
+	void cleanUp() {
+		SecurityContextHolder.clearContext();
+		userRepository.findByEmail(user.getEmail()).ifPresent(existing -> userService.deleteUser(existing.getId()));
+	}
+
+	@Test
+	void requestsAreAuthenticatedFromTokenClaimsWithoutLoadingTheUser() throws Exception {
+		for (int i = 0; i < 3; i++) {
+			Authentication authentication = authenticate(token);
+			AuthenticatedUser principal = (AuthenticatedUser) authentication.getPrincipal();
+			assertEquals(user.getId(), principal.getId());
+			assertEquals(List.of("ROLE_EMPLOYEE"), roleNames(authentication));
+		}
+		verify(userRepository, never()).findByEmail(anyString());
+	}
+
+	@Test
+	void roleChangeIsAppliedToTokensIssuedBeforeIt() throws Exception {
+		authenticate(token);
+		userService.changeUserRole(user.getId(), "MANAGER");
+		clearInvocations(userRepository);
+
+		// The old token still says EMPLOYEE; the user is reloaded once, then served from the cache
+		assertEquals(List.of("ROLE_MANAGER"), roleNames(authenticate(token)));
+		assertEquals(List.of("ROLE_MANAGER"), roleNames(authenticate(token)));
+		verify(userRepository, times(1)).findByEmail(user.getEmail());
+	}
+
+	@Test
+	void tokensOfDeletedUsersNoLongerAuthenticate() throws Exception {
+		authenticate(token);
+		userService.deleteUser(user.getId());
+
+		assertNull(authenticate(token));
+	}
+
+	@Test
+	void tokensOfDeletedUsersDoNotAuthenticateTheEmailsNextOwner() throws Exception {
+		authenticate(token);
+		userService.deleteUser(user.getId());
+		user = testUsers.saveUser(user.getEmail(), RoleEnum.ROLE_MANAGER);
+
+		assertNull(authenticate(token));
+		assertNull(authenticate(token));
+		Authentication authentication = authenticate(jwtTokenUtil.generateToken(testUsers.details(user)));
+		assertEquals(user.getId(), ((AuthenticatedUser) authentication.getPrincipal()).getId());
+		assertEquals(List.of("ROLE_MANAGER"), roleNames(authentication));
+	}
+
+	private Authentication authenticate(String jwt) throws Exception {
+		SecurityContextHolder.clearContext();
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/tasks");
+		request.addHeader("Authorization", "Bearer " + jwt);
+		filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+		return SecurityContextHolder.getContext().getAuthentication();
+	}
+
+	private List<String> roleNames(Authentication authentication) {
+		return authentication.getAuthorities().stream().map(GrantedAuthority::getAuthority).collect(Collectors.toList());
+	}
+}
@@ -0,0 +1,67 @@
+package com.jeevlifeworks.Smart.Task.Manager.App.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class JwtTokenUtilTests {
+
+	private static final String SECRET = "test_secret_jwt_key_that_is_at_least_256_bits_long_for_hs256";
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	private final AuthenticatedUser user = new AuthenticatedUser(7L, "claims.cache@example.com", "unused",
+			List.of(new SimpleGrantedAuthority("ROLE_EMPLOYEE")));
+
+	@Test
+	void repeatedTokenIsVerifiedOnlyOnce() {
+		JwtTokenUtil jwtTokenUtil = new JwtTokenUtil(SECRET, 60_000, 100, meterRegistry);
+		String token = jwtTokenUtil.generateToken(user);
+
+		Claims first = jwtTokenUtil.parseToken(token);
+		assertEquals(user.getUsername(), first.getSubject());
+		assertSame(first, jwtTokenUtil.parseToken(token));
+		assertEquals(user.getUsername(), jwtTokenUtil.extractUsername(token));
+
+		assertEquals(1.0, gets("miss"));
+		assertEquals(2.0, gets("hit"));
+	}
+
+	@Test
+	void tamperedTokenIsRejectedAndNotCached() {
+		JwtTokenUtil jwtTokenUtil = new JwtTokenUtil(SECRET, 60_000, 100, meterRegistry);
+		String token = jwtTokenUtil.generateToken(user);
+		String tampered = token.substring(0, token.length() - 2) + (token.endsWith("AA") ? "BB" : "AA");
+
+		assertNull(jwtTokenUtil.parseToken(tampered));
+		assertNull(jwtTokenUtil.parseToken(tampered));
+		assertEquals(2.0, gets("miss"));
+		assertNotNull(jwtTokenUtil.parseToken(token));
+	}
+
+	@Test
+	void cachedClaimsExpireWithTheToken() throws InterruptedException {
+		JwtTokenUtil jwtTokenUtil = new JwtTokenUtil(SECRET, 1_000, 100, meterRegistry);
+		String token = jwtTokenUtil.generateToken(user);
+		assertNotNull(jwtTokenUtil.parseToken(token));
+
+		Thread.sleep(1_500);
+
+		// The entry is gone, so the token is verified again and rejected as expired
+		assertNull(jwtTokenUtil.parseToken(token));
+		assertEquals(2.0, gets("miss"));
+	}
+
+	private double gets(String result) {
+		return meterRegistry.get("cache.gets").tag("cache", "jwt.claims").tag("result", result).functionCounter().count();
+	}
+}
@@ -0,0 +1,95 @@
+package com.jeevlifeworks.Smart.Task.Manager.App.service;
+
+import static com.jeevlifeworks.Smart.Task.Manager.App.support.SqlStatementRecorder.assertStatementCount;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import com.jeevlifeworks.Smart.Task.Manager.App.Entity.Role;
+import com.jeevlifeworks.Smart.Task.Manager.App.Entity.RoleEnum;
+import com.jeevlifeworks.Smart.Task.Manager.App.Entity.User;
+import com.jeevlifeworks.Smart.Task.Manager.App.repository.RoleRepository;
+import com.jeevlifeworks.Smart.Task.Manager.App.repository.UserRepository;
+import com.jeevlifeworks.Smart.Task.Manager.App.support.TestUsers;
+
+@SpringBootTest
+class CurrentUserCacheTests {
+
+	@Autowired
+	private CurrentUserResolver currentUserResolver;
+
+	@Autowired
+	private UserService userService;
+
+	@Autowired
+	private TestUsers testUsers;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private RoleRepository roleRepository;
+
+	private User user;
+
+	@BeforeEach
+	void createUser() {
+		user = testUsers.saveUser("cache.user@example.com", RoleEnum.ROLE_EMPLOYEE);
+	}
+
+	@AfterEach
+	void cleanUp() {
+		RequestContextHolder.resetRequestAttributes();
+		userRepository.findByEmail("cache.user@example.com").ifPresent(userRepository::delete);
+	}
+
+	@Test
+	void repeatedLookupsAreServedFromTheSecondLevelCache() {
+		userRepository.findByEmail(user.getEmail()).orElseThrow();
+		roleRepository.findByName(RoleEnum.ROLE_MANAGER).orElseThrow();
+
+		User cached = assertStatementCount(0, () -> userRepository.findByEmail(user.getEmail()).orElseThrow());
+		Role role = assertStatementCount(0, () -> roleRepository.findByName(RoleEnum.ROLE_MANAGER).orElseThrow());
+		assertEquals(user.getId(), cached.getId());
+		assertEquals(RoleEnum.ROLE_EMPLOYEE, cached.getRoles().iterator().next().getName());
+		assertEquals(RoleEnum.ROLE_MANAGER, role.getName());
+	}
+
+	@Test
+	void roleChangesAndDeletesAreVisibleToLaterLookups() {
+		userRepository.findByEmail(user.getEmail()).orElseThrow();
+
+		userService.changeUserRole(user.getId(), "MANAGER");
+		User changed = userRepository.findByEmail(user.getEmail()).orElseThrow();
+		assertEquals(1, changed.getRoles().size());
+		assertEquals(RoleEnum.ROLE_MANAGER, changed.getRoles().iterator().next().getName());
+
+		userService.deleteUser(user.getId());
+		assertTrue(userRepository.findByEmail(user.getEmail()).isEmpty());
+	}
+
+	@Test
+	void userIsLoadedOncePerRequest() {
+		UserDetails principal = testUsers.details(user);
+		RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+
+		User first = currentUserResolver.getUser(principal);
+		User second = assertStatementCount(0, () -> currentUserResolver.getUser(principal));
+		assertSame(first, second);
+		assertEquals(user.getId(), assertStatementCount(0, () -> currentUserResolver.getId(principal)));
+
+		// A new request loads the user again
+		RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+		assertEquals(first.getId(), currentUserResolver.getUser(principal).getId());
+	}
+}
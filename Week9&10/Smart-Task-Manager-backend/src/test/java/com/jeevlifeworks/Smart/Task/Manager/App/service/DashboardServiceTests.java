@@ -0,0 +1,123 @@
+package com.jeevlifeworks.Smart.Task.Manager.App.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import com.jeevlifeworks.Smart.Task.Manager.App.Entity.RoleEnum;
+import com.jeevlifeworks.Smart.Task.Manager.App.Entity.Task;
+import com.jeevlifeworks.Smart.Task.Manager.App.Entity.User;
+import com.jeevlifeworks.Smart.Task.Manager.App.dto.DashboardAnalyticsDto;
+import com.jeevlifeworks.Smart.Task.Manager.App.dto.TaskDistributionDto;
+import com.jeevlifeworks.Smart.Task.Manager.App.dto.TaskDto;
+import com.jeevlifeworks.Smart.Task.Manager.App.repository.EmailOutboxRepository;
+import com.jeevlifeworks.Smart.Task.Manager.App.repository.TaskRepository;
+import com.jeevlifeworks.Smart.Task.Manager.App.repository.UserRepository;
+import com.jeevlifeworks.Smart.Task.Manager.App.support.TestUsers;
+
+// Not @Transactional: the counters are only updated once a task change commits
+@SpringBootTest
+class DashboardServiceTests {
+
+	@Autowired
+	private DashboardService dashboardService;
+
+	@Autowired
+	private TaskService taskService;
+
+	@Autowired
+	private TaskRepository taskRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private TestUsers testUsers;
+
+	@Autowired
+	private EmailOutboxRepository emailOutboxRepository;
+
+	private User manager;
+	private User alice;
+	private User bob;
+	private UserDetails managerDetails;
+	private UserDetails aliceDetails;
+
+	@BeforeEach
+	void loginManager() {
+		manager = testUsers.saveUser("dashboard.manager@example.com", RoleEnum.ROLE_MANAGER);
+		alice = testUsers.saveUser("dashboard.alice@example.com", RoleEnum.ROLE_EMPLOYEE);
+		bob = testUsers.saveUser("dashboard.bob@example.com", RoleEnum.ROLE_EMPLOYEE);
+		managerDetails = testUsers.logIn(manager);
+		aliceDetails = testUsers.details(alice);
+		dashboardService.reconcile();
+	}
+
+	@AfterEach
+	void cleanUp() {
+		SecurityContextHolder.clearContext();
+		emailOutboxRepository.deleteAll();
+		taskRepository.deleteAll(taskRepository.findByManager(manager));
+		userRepository.deleteAll(List.of(alice, bob, manager));
+		dashboardService.reconcile();
+	}
+
+	@Test
+	void countersFollowCreatedTasksAndStatusChanges() {
+		DashboardAnalyticsDto globalBefore = dashboardService.getDashboard(managerDetails);
+
+		Task overdue = taskService.createTask(task("Overdue", LocalDate.now().minusDays(2), alice, bob));
+		Task upcoming = taskService.createTask(task("Upcoming", LocalDate.now().plusDays(2), alice));
+		taskService.createTasksBulk(List.of(task("Bulk one", null, bob), task("Bulk two", null, alice)));
+		taskService.updateTaskStatus(overdue.getId(), "Completed", null, aliceDetails);
+		taskService.updateTaskStatus(upcoming.getId(), "In Progress", null, aliceDetails);
+
+		DashboardAnalyticsDto aliceDashboard = dashboardService.getDashboard(aliceDetails);
+		assertEquals(3, aliceDashboard.getAssignedCount());
+		assertEquals(1, aliceDashboard.getCompletedCount());
+		assertEquals(2, aliceDashboard.getPendingCount());
+		assertEquals(0, aliceDashboard.getOverdueCount());
+		assertEquals(List.of(new TaskDistributionDto("Completed", 1L), new TaskDistributionDto("In Progress", 1L),
+				new TaskDistributionDto("To Do", 1L)), aliceDashboard.getTaskDistribution());
+
+		DashboardAnalyticsDto globalAfter = dashboardService.getDashboard(managerDetails);
+		assertEquals(globalBefore.getAssignedCount() + 4, globalAfter.getAssignedCount());
+		assertEquals(globalBefore.getCompletedCount() + 1, globalAfter.getCompletedCount());
+		assertEquals(globalBefore.getOverdueCount(), globalAfter.getOverdueCount());
+	}
+
+	@Test
+	void reconciliationAgreesWithIncrementalCounters() {
+		Task overdue = taskService.createTask(task("Overdue", LocalDate.now().minusDays(1), bob));
+		taskService.createTask(task("Also overdue", LocalDate.now().minusDays(3), alice, bob));
+		taskService.updateTaskStatus(overdue.getId(), "In Progress", null, testUsers.details(bob));
+
+		UserDetails bobDetails = testUsers.details(bob);
+		DashboardAnalyticsDto incremental = dashboardService.getDashboard(bobDetails);
+		DashboardAnalyticsDto incrementalGlobal = dashboardService.getDashboard(managerDetails);
+		assertEquals(2, incremental.getOverdueCount());
+
+		dashboardService.reconcile();
+
+		assertEquals(incremental, dashboardService.getDashboard(bobDetails));
+		assertEquals(incrementalGlobal, dashboardService.getDashboard(managerDetails));
+	}
+
+	private TaskDto task(String title, LocalDate dueDate, User... assignees) {
+		TaskDto dto = new TaskDto();
+		dto.setTitle(title);
+		dto.setPriority("Medium");
+		dto.setDueDate(dueDate);
+		dto.setAssigneeIds(List.of(assignees).stream().map(User::getId).toList());
+		return dto;
+	}
+}
@@ -0,0 +1,160 @@
+package com.jeevlifeworks.Smart.Task.Manager.App.service;
+
+import static com.jeevlifeworks.Smart.Task.Manager.App.support.SqlStatementRecorder.assertStatementCount;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.icegreen.greenmail.configuration.GreenMailConfiguration;
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetup;
+import com.jeevlifeworks.Smart.Task.Manager.App.Entity.EmailOutbox;
+import com.jeevlifeworks.Smart.Task.Manager.App.Entity.EmailOutboxStatus;
+import com.jeevlifeworks.Smart.Task.Manager.App.repository.EmailOutboxRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.mail.internet.MimeMessage;
+
+@SpringBootTest
+class EmailOutboxDispatcherTests {
+
+	@RegisterExtension
+	static GreenMailExtension greenMail = new GreenMailExtension(new ServerSetup(3025, null, ServerSetup.PROTOCOL_SMTP))
+			.withConfiguration(GreenMailConfiguration.aConfig().withDisabledAuthentication());
+
+	@Autowired
+	private EmailService emailService;
+
+	@Autowired
+	private EmailOutboxDispatcher dispatcher;
+
+	@Autowired
+	private EmailOutboxRepository emailOutboxRepository;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	private TransactionTemplate tx;
+
+	@BeforeEach
+	void clearOutbox() {
+		tx = new TransactionTemplate(transactionManager);
+		emailOutboxRepository.deleteAll();
+	}
+
+	@Test
+	void queuedEmailsAreDeliveredInOneBatchAndMarkedSent() throws Exception {
+		tx.executeWithoutResult(status -> {
+			for (int i = 0; i < 5; i++) {
+				emailService.queueEmail("user" + i + "@example.com", "Subject " + i, "Body " + i);
+			}
+		});
+		assertEquals(5, emailOutboxRepository.countByStatus(EmailOutboxStatus.PENDING));
+
+		dispatcher.dispatchPending();
+
+		assertTrue(greenMail.waitForIncomingEmail(TimeUnit.SECONDS.toMillis(10), 5));
+		awaitStatus(EmailOutboxStatus.SENT, 5);
+		MimeMessage[] received = greenMail.getReceivedMessages();
+		assertEquals(5, received.length);
+		assertEquals("noreply@taskmanager.test", received[0].getFrom()[0].toString());
+	}
+
+	@Test
+	void emailsQueuedInARolledBackTransactionAreNeverSent() {
+		tx.executeWithoutResult(status -> {
+			emailService.queueEmail("rollback@example.com", "Never", "Never sent");
+			status.setRollbackOnly();
+		});
+
+		dispatcher.dispatchPending();
+
+		assertEquals(0, emailOutboxRepository.count());
+		assertEquals(0, greenMail.getReceivedMessages().length);
+	}
+
+	@Test
+	void failedDeliveryIsRetriedWithBackoffThenMarkedFailed() throws Exception {
+		greenMail.stop();
+		tx.executeWithoutResult(status -> emailService.queueEmail("down@example.com", "Retry", "SMTP is down"));
+
+		dispatcher.sendBatch(dispatcher.claimBatch());
+		EmailOutbox afterFirst = emailOutboxRepository.findAll().get(0);
+		assertEquals(EmailOutboxStatus.PENDING, afterFirst.getStatus());
+		assertEquals(1, afterFirst.getAttempts());
+		assertTrue(afterFirst.getNextAttemptAt().isAfter(afterFirst.getCreatedAt()));
+
+		// Make the retry due immediately; max-attempts is 2 in the test profile
+		tx.executeWithoutResult(status -> emailOutboxRepository.markFailedAttempt(afterFirst.getId(),
+				EmailOutboxStatus.PENDING, 1, afterFirst.getCreatedAt(), afterFirst.getLastError()));
+		dispatcher.sendBatch(dispatcher.claimBatch());
+
+		EmailOutbox afterSecond = emailOutboxRepository.findAll().get(0);
+		assertEquals(EmailOutboxStatus.FAILED, afterSecond.getStatus());
+		assertEquals(2, afterSecond.getAttempts());
+		greenMail.start();
+	}
+
+	@Test
+	void queueDepthIsRefreshedByMaintenanceAndAfterDeliveriesButNotByIdlePolls() throws Exception {
+		tx.executeWithoutResult(status -> {
+			emailService.queueEmail("depth1@example.com", "Depth", "One");
+			emailService.queueEmail("depth2@example.com", "Depth", "Two");
+		});
+		dispatcher.maintainOutbox();
+		assertEquals(2, pendingDepth());
+
+		dispatcher.dispatchPending();
+		awaitStatus(EmailOutboxStatus.SENT, 2);
+		// The first poll after the worker recorded the outcomes re-counts; later idle polls only look for due emails
+		long deadline = System.currentTimeMillis() + 10_000;
+		while (pendingDepth() != 0 && System.currentTimeMillis() < deadline) {
+			Thread.sleep(50);
+			dispatcher.dispatchPending();
+		}
+		assertEquals(0, pendingDepth());
+		assertStatementCount(1, () -> {
+			dispatcher.dispatchPending();
+			return null;
+		});
+	}
+
+	@Test
+	void backoffDoublesAndIsCapped() {
+		assertEquals(Duration.ofSeconds(30), dispatcher.backoffFor(1));
+		assertEquals(Duration.ofSeconds(120), dispatcher.backoffFor(3));
+		assertEquals(Duration.ofMinutes(30), dispatcher.backoffFor(50));
+	}
+
+	private double pendingDepth() {
+		return meterRegistry.get("email.outbox.depth").tag("status", "pending").gauge().value();
+	}
+
+	// Workers record their results asynchronously after GreenMail has accepted the messages
+	private void awaitStatus(EmailOutboxStatus expected, int count) throws InterruptedException {
+		long deadline = System.currentTimeMillis() + 10_000;
+		List<EmailOutbox> rows;
+		do {
+			rows = emailOutboxRepository.findAll();
+			if (rows.size() == count && rows.stream().allMatch(e -> e.getStatus() == expected)) {
+				return;
+			}
+			Thread.sleep(50);
+		} while (System.currentTimeMillis() < deadline);
+		throw new AssertionError("Outbox rows did not reach " + expected + ": " + rows);
+	}
+}
@@ -0,0 +1,113 @@
+package com.jeevlifeworks.Smart.Task.Manager.App.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import com.jeevlifeworks.Smart.Task.Manager.App.Entity.PasswordResetToken;
+import com.jeevlifeworks.Smart.Task.Manager.App.Entity.User;
+import com.jeevlifeworks.Smart.Task.Manager.App.Entity.VerificationToken;
+import com.jeevlifeworks.Smart.Task.Manager.App.repository.PasswordResetTokenRepository;
+import com.jeevlifeworks.Smart.Task.Manager.App.repository.UserRepository;
+import com.jeevlifeworks.Smart.Task.Manager.App.repository.VerificationTokenRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@SpringBootTest
+class ExpiredTokenPurgerTests {
+
+	@Autowired
+	private ExpiredTokenPurger expiredTokenPurger;
+
+	@Autowired
+	private VerificationTokenRepository verificationTokenRepository;
+
+	@Autowired
+	private PasswordResetTokenRepository passwordResetTokenRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	private final List<User> users = new ArrayList<>();
+
+	@BeforeEach
+	void createUsers() {
+		// Each user holds at most one token of each kind
+		for (int i = 0; i < 6; i++) {
+			User user = new User();
+			user.setUsername("purge.user" + i);
+			user.setEmail("purge.user" + i + "@example.com");
+			user.setPassword("encoded");
+			users.add(userRepository.save(user));
+		}
+	}
+
+	@AfterEach
+	void cleanUp() {
+		verificationTokenRepository.deleteAll();
+		passwordResetTokenRepository.deleteAll();
+		userRepository.deleteAll(users);
+	}
+
+	@Test
+	void expiredTokensArePurgedInChunksAndLiveOnesKept() {
+		LocalDateTime now = LocalDateTime.now();
+		// Five expired tokens of each kind: more than two chunks of the test batch size (2)
+		for (int i = 0; i < 5; i++) {
+			saveVerificationToken(users.get(i), now.minusHours(i + 1));
+			savePasswordResetToken(users.get(i), now.minusMinutes(i + 1));
+		}
+		VerificationToken liveVerification = saveVerificationToken(users.get(5), now.plusHours(24));
+		PasswordResetToken liveReset = savePasswordResetToken(users.get(5), now.plusMinutes(30));
+
+		expiredTokenPurger.purgeExpiredTokens();
+
+		assertEquals(List.of(liveVerification.getId()), verificationTokenRepository.findAll().stream().map(VerificationToken::getId).toList());
+		assertEquals(List.of(liveReset.getId()), passwordResetTokenRepository.findAll().stream().map(PasswordResetToken::getId).toList());
+		assertTrue(verificationTokenRepository.findByToken(liveVerification.getToken()).isPresent());
+		assertEquals(1.0, meterRegistry.get("auth.tokens").tag("type", "verification").gauge().value());
+		assertEquals(1.0, meterRegistry.get("auth.tokens").tag("type", "password_reset").gauge().value());
+	}
+
+	@Test
+	void tokenStringsAreUnique() {
+		VerificationToken first = saveVerificationToken(users.get(0), LocalDateTime.now().plusHours(1));
+
+		VerificationToken duplicate = new VerificationToken();
+		duplicate.setToken(first.getToken());
+		duplicate.setUser(users.get(1));
+		duplicate.setExpiryDate(LocalDateTime.now().plusHours(1));
+		assertThrows(DataIntegrityViolationException.class, () -> verificationTokenRepository.save(duplicate));
+	}
+
+	private VerificationToken saveVerificationToken(User user, LocalDateTime expiryDate) {
+		VerificationToken token = new VerificationToken();
+		token.setToken(UUID.randomUUID().toString());
+		token.setUser(user);
+		token.setExpiryDate(expiryDate);
+		return verificationTokenRepository.save(token);
+	}
+
+	private PasswordResetToken savePasswordResetToken(User user, LocalDateTime expiryDate) {
+		PasswordResetToken token = new PasswordResetToken();
+		token.setToken(UUID.randomUUID().toString());
+		token.setUser(user);
+		token.setExpiryDate(expiryDate);
+		return passwordResetTokenRepository.save(token);
+	}
+}
@@ -0,0 +1,174 @@
+package com.jeevlifeworks.Smart.Task.Manager.App.service;
+
+import static com.jeevlifeworks.Smart.Task.Manager.App.support.SqlStatementRecorder.assertStatementCount;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import com.jeevlifeworks.Smart.Task.Manager.App.Entity.RoleEnum;
+import com.jeevlifeworks.Smart.Task.Manager.App.Entity.Task;
+import com.jeevlifeworks.Smart.Task.Manager.App.Entity.User;
+import com.jeevlifeworks.Smart.Task.Manager.App.dto.TaskDto;
+import com.jeevlifeworks.Smart.Task.Manager.App.dto.TaskFilterDto;
+import com.jeevlifeworks.Smart.Task.Manager.App.repository.TaskRepository;
+import com.jeevlifeworks.Smart.Task.Manager.App.repository.UserRepository;
+import com.jeevlifeworks.Smart.Task.Manager.App.support.TestUsers;
+
+/**
+ * Pins the number of SQL statements issued by the hot read and write paths. Each path is
+ * measured with a few and with many tasks; the count must be the same, so a
+ * per-row query (N+1) fails here.
+ */
+@SpringBootTest
+class HotPathStatementCountTests {
+
+	// Page size used by the listing checks; both data sizes fill at least one page
+	private static final int PAGE_SIZE = 3;
+
+	@Autowired
+	private TaskService taskService;
+
+	@Autowired
+	private DashboardService dashboardService;
+
+	@Autowired
+	private TaskSearchIndex taskSearchIndex;
+
+	@Autowired
+	private TaskSnapshot taskSnapshot;
+
+	@Autowired
+	private TaskRepository taskRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private TestUsers testUsers;
+
+	private User manager;
+	private User alice;
+	private User bob;
+
+	@BeforeEach
+	void createUsers() {
+		manager = testUsers.saveUser("hotpath.manager@example.com", RoleEnum.ROLE_MANAGER);
+		alice = testUsers.saveUser("hotpath.alice@example.com", RoleEnum.ROLE_EMPLOYEE);
+		bob = testUsers.saveUser("hotpath.bob@example.com", RoleEnum.ROLE_EMPLOYEE);
+	}
+
+	@AfterEach
+	void cleanUp() {
+		taskRepository.deleteAll(taskRepository.findByManager(manager));
+		userRepository.deleteAll(List.of(alice, bob, manager));
+	}
+
+	@ParameterizedTest
+	@ValueSource(ints = { 4, 40 })
+	void assignedTasksUseThreeStatements(int taskCount) {
+		seedTasks(taskCount);
+
+		// user ID, task rows, assignee IDs
+		List<TaskDto> tasks = assertStatementCount(3, () -> taskService.getAssignedTasksForUser(alice.getEmail()));
+
+		assertEquals(taskCount, tasks.size());
+		assertEquals(List.of(alice.getId(), bob.getId()), tasks.get(0).getAssigneeIds());
+	}
+
+	@ParameterizedTest
+	@ValueSource(ints = { 4, 40 })
+	void taskPageUsesTwoStatements(int taskCount) {
+		seedTasks(taskCount);
+
+		// page rows, assignees of the page
+		assertStatementCount(2, () -> taskService.getAllTasks(null, PAGE_SIZE));
+	}
+
+	@ParameterizedTest
+	@ValueSource(ints = { 4, 40 })
+	void employeeFilterPageUsesTwoStatements(int taskCount) {
+		seedTasks(taskCount);
+		taskSnapshot.rebuild();
+		UserDetails aliceDetails = testUsers.details(alice);
+
+		// page rows, assignees (user ID and roles come from the principal) of the page
+		assertStatementCount(2, () -> taskService.getTasksFiltered(new TaskFilterDto(), aliceDetails, null, PAGE_SIZE));
+	}
+
+	@ParameterizedTest
+	@ValueSource(ints = { 4, 40 })
+	void managerFilterPageUsesTwoStatements(int taskCount) {
+		seedTasks(taskCount);
+		taskSnapshot.rebuild();
+		UserDetails managerDetails = testUsers.details(manager);
+		TaskFilterDto filter = new TaskFilterDto();
+		filter.setStatus(List.of("To Do"));
+		filter.setPriority(List.of("Medium"));
+		filter.setAssigneeId(bob.getId());
+
+		// page rows picked by the snapshot, assignees of the page
+		assertStatementCount(2, () -> taskService.getTasksFiltered(filter, managerDetails, null, PAGE_SIZE));
+	}
+
+	@ParameterizedTest
+	@ValueSource(ints = { 4, 40 })
+	void searchUsesTwoStatements(int taskCount) {
+		seedTasks(taskCount);
+		taskSearchIndex.rebuild();
+		UserDetails managerDetails = testUsers.details(manager);
+
+		// hits, assignees of the hits
+		assertStatementCount(2, () -> taskService.searchTasks("hotpath", PAGE_SIZE, managerDetails));
+	}
+
+	@ParameterizedTest
+	@ValueSource(ints = { 4, 40 })
+	void statusUpdateUsesTwoStatements(int taskCount) {
+		seedTasks(taskCount);
+		Long taskId = taskRepository.findByAssigneeId(alice.getId()).get(0).getId();
+		UserDetails aliceDetails = testUsers.details(alice);
+
+		// task state with assignees, conditional update
+		TaskDto updated = assertStatementCount(2, () -> taskService.updateTaskStatus(taskId, "In Progress", null, aliceDetails));
+		assertEquals(1L, updated.getVersion());
+	}
+
+	@ParameterizedTest
+	@ValueSource(ints = { 4, 40 })
+	void dashboardIsServedWithoutStatements(int taskCount) {
+		seedTasks(taskCount);
+		dashboardService.reconcile();
+		UserDetails aliceDetails = testUsers.details(alice);
+
+		assertEquals(taskCount, assertStatementCount(0, () -> dashboardService.getDashboard(aliceDetails)).getAssignedCount());
+	}
+
+	/**
+	 * Saves tasks assigned to alice and bob, spread over the due dates.
+	 */
+	private void seedTasks(int count) {
+		List<Task> tasks = new ArrayList<>();
+		for (int i = 0; i < count; i++) {
+			Task task = new Task();
+			task.setTitle("Hotpath task " + i);
+			task.setDescription("Seeded for statement counting");
+			task.setDueDate(LocalDate.of(2033, 1, 1).plusDays(i));
+			task.setPriority("Medium");
+			task.setStatus("To Do");
+			task.setManager(manager);
+			task.getAssignees().addAll(List.of(alice, bob));
+			tasks.add(task);
+		}
+		taskRepository.saveAll(tasks);
+	}
+}
@@ -0,0 +1,139 @@
+package com.jeevlifeworks.Smart.Task.Manager.App.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.jeevlifeworks.Smart.Task.Manager.App.Entity.EmailOutbox;
+import com.jeevlifeworks.Smart.Task.Manager.App.Entity.ReminderDigest;
+import com.jeevlifeworks.Smart.Task.Manager.App.Entity.ReminderRun;
+import com.jeevlifeworks.Smart.Task.Manager.App.Entity.RoleEnum;
+import com.jeevlifeworks.Smart.Task.Manager.App.Entity.Task;
+import com.jeevlifeworks.Smart.Task.Manager.App.Entity.User;
+import com.jeevlifeworks.Smart.Task.Manager.App.repository.EmailOutboxRepository;
+import com.jeevlifeworks.Smart.Task.Manager.App.repository.ReminderDigestRepository;
+import com.jeevlifeworks.Smart.Task.Manager.App.repository.ReminderRunRepository;
+import com.jeevlifeworks.Smart.Task.Manager.App.repository.TaskRepository;
+import com.jeevlifeworks.Smart.Task.Manager.App.repository.UserRepository;
+import com.jeevlifeworks.Smart.Task.Manager.App.support.TestUsers;
+
+// Not @Transactional: chunks are processed on worker threads in their own transactions
+@SpringBootTest
+class OverdueReminderServiceTests {
+
+	private static final LocalDate RUN_DATE = LocalDate.of(2031, 1, 1);
+
+	@Autowired
+	private OverdueReminderService overdueReminderService;
+
+	@Autowired
+	private TaskRepository taskRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private TestUsers testUsers;
+
+	@Autowired
+	private EmailOutboxRepository emailOutboxRepository;
+
+	@Autowired
+	private ReminderRunRepository reminderRunRepository;
+
+	@Autowired
+	private ReminderDigestRepository reminderDigestRepository;
+
+	private User manager;
+	private User alice;
+	private User bob;
+	private User carol;
+
+	@BeforeEach
+	void seedOverdueTasks() {
+		emailOutboxRepository.deleteAll();
+		manager = testUsers.saveUser("digest.manager@example.com", RoleEnum.ROLE_MANAGER);
+		alice = testUsers.saveUser("digest.alice@example.com", RoleEnum.ROLE_EMPLOYEE);
+		bob = testUsers.saveUser("digest.bob@example.com", RoleEnum.ROLE_EMPLOYEE);
+		carol = testUsers.saveUser("digest.carol@example.com", RoleEnum.ROLE_EMPLOYEE);
+
+		saveTask("Write report", RUN_DATE.minusDays(3), "To Do", alice);
+		saveTask("Review budget", RUN_DATE.minusDays(1), "In Progress", alice, bob);
+		saveTask("Due today", RUN_DATE, "To Do", bob);
+		saveTask("Already done", RUN_DATE.minusDays(5), "Completed", carol);
+	}
+
+	@AfterEach
+	void cleanUp() {
+		reminderDigestRepository.deleteAll();
+		reminderRunRepository.deleteAll();
+		emailOutboxRepository.deleteAll();
+		taskRepository.deleteAll(taskRepository.findByManager(manager));
+		userRepository.deleteAll(List.of(alice, bob, carol, manager));
+	}
+
+	@Test
+	void eachAssigneeGetsOneDigestListingAllTheirOverdueTasks() {
+		assertEquals(2, overdueReminderService.runReminders(RUN_DATE));
+
+		Map<String, EmailOutbox> byRecipient = emailOutboxRepository.findAll().stream()
+				.collect(Collectors.toMap(EmailOutbox::getRecipient, e -> e));
+		assertEquals(2, byRecipient.size());
+
+		String aliceBody = byRecipient.get(alice.getEmail()).getBody();
+		assertTrue(aliceBody.contains("Write report") && aliceBody.contains("Review budget"));
+		assertTrue(aliceBody.indexOf("Write report") < aliceBody.indexOf("Review budget"));
+
+		String bobBody = byRecipient.get(bob.getEmail()).getBody();
+		assertTrue(bobBody.contains("Review budget") && !bobBody.contains("Due today"));
+
+		ReminderRun run = reminderRunRepository.findById(RUN_DATE).orElseThrow();
+		assertNotNull(run.getCompletedAt());
+		assertEquals(2, run.getDigestsQueued());
+	}
+
+	@Test
+	void completedRunIsNotRepeated() {
+		overdueReminderService.runReminders(RUN_DATE);
+
+		assertEquals(0, overdueReminderService.runReminders(RUN_DATE));
+		assertEquals(2, emailOutboxRepository.count());
+	}
+
+	@Test
+	void interruptedRunResumesWithoutResendingCheckpointedDigests() {
+		// Simulate a crash after alice's chunk committed
+		reminderRunRepository.save(new ReminderRun(RUN_DATE, LocalDateTime.now()));
+		reminderDigestRepository.save(new ReminderDigest(RUN_DATE, alice.getId(), 2, LocalDateTime.now()));
+
+		assertEquals(1, overdueReminderService.runReminders(RUN_DATE));
+
+		List<EmailOutbox> queued = emailOutboxRepository.findAll();
+		assertEquals(1, queued.size());
+		assertEquals(bob.getEmail(), queued.get(0).getRecipient());
+		assertEquals(2, reminderRunRepository.findById(RUN_DATE).orElseThrow().getDigestsQueued());
+	}
+
+	private void saveTask(String title, LocalDate dueDate, String status, User... assignees) {
+		Task task = new Task();
+		task.setTitle(title);
+		task.setDueDate(dueDate);
+		task.setPriority("High");
+		task.setStatus(status);
+		task.setManager(manager);
+		task.getAssignees().addAll(List.of(assignees));
+		taskRepository.save(task);
+	}
+}
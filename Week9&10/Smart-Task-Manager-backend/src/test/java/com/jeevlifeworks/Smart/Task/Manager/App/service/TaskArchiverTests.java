@@ -0,0 +1,183 @@
+package com.jeevlifeworks.Smart.Task.Manager.App.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import com.jeevlifeworks.Smart.Task.Manager.App.Entity.RoleEnum;
+import com.jeevlifeworks.Smart.Task.Manager.App.Entity.Task;
+import com.jeevlifeworks.Smart.Task.Manager.App.Entity.User;
+import com.jeevlifeworks.Smart.Task.Manager.App.dto.AssigneeDto;
+import com.jeevlifeworks.Smart.Task.Manager.App.dto.DashboardAnalyticsDto;
+import com.jeevlifeworks.Smart.Task.Manager.App.dto.TaskDto;
+import com.jeevlifeworks.Smart.Task.Manager.App.dto.TaskFilterDto;
+import com.jeevlifeworks.Smart.Task.Manager.App.dto.TaskPageDto;
+import com.jeevlifeworks.Smart.Task.Manager.App.dto.TaskStatusBatchItemDto;
+import com.jeevlifeworks.Smart.Task.Manager.App.dto.TaskSummaryDto;
+import com.jeevlifeworks.Smart.Task.Manager.App.exception.TaskArchivedException;
+import com.jeevlifeworks.Smart.Task.Manager.App.repository.ArchivedTaskRepository;
+import com.jeevlifeworks.Smart.Task.Manager.App.repository.TaskRepository;
+import com.jeevlifeworks.Smart.Task.Manager.App.repository.UserRepository;
+import com.jeevlifeworks.Smart.Task.Manager.App.support.TestUsers;
+
+@SpringBootTest
+class TaskArchiverTests {
+
+	@Autowired
+	private TaskArchiver taskArchiver;
+
+	@Autowired
+	private TaskService taskService;
+
+	@Autowired
+	private DashboardService dashboardService;
+
+	@Autowired
+	private TaskSnapshot taskSnapshot;
+
+	@Autowired
+	private TaskRepository taskRepository;
+
+	@Autowired
+	private ArchivedTaskRepository archivedTaskRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private TestUsers testUsers;
+
+	private User manager;
+	private User alice;
+	private User bob;
+	private final List<Task> tasks = new ArrayList<>();
+
+	@BeforeEach
+	void seedTasks() {
+		manager = testUsers.saveUser("archive.manager@example.com", RoleEnum.ROLE_MANAGER);
+		alice = testUsers.saveUser("archive.alice@example.com", RoleEnum.ROLE_EMPLOYEE);
+		bob = testUsers.saveUser("archive.bob@example.com", RoleEnum.ROLE_EMPLOYEE);
+		LocalDateTime longAgo = LocalDateTime.now().minusDays(40);
+		// Tasks 0-2 were completed long ago (more than one batch), task 3 recently, task 4 is still open
+		tasks.add(saveTask("Archive task 0", LocalDate.of(2030, 1, 3), "Completed", longAgo));
+		tasks.add(saveTask("Archive task 1", LocalDate.of(2030, 1, 1), "Completed", longAgo));
+		tasks.add(saveTask("Archive task 2", null, "Completed", longAgo));
+		tasks.add(saveTask("Archive task 3", LocalDate.of(2030, 1, 2), "Completed", LocalDateTime.now().minusDays(1)));
+		tasks.add(saveTask("Archive task 4", LocalDate.of(2030, 1, 2), "To Do", null));
+	}
+
+	@AfterEach
+	void cleanUp() {
+		archivedTaskRepository.deleteAll();
+		taskRepository.deleteAll(taskRepository.findByManager(manager));
+		userRepository.deleteAll(List.of(alice, bob, manager));
+	}
+
+	@Test
+	void oldCompletedTasksMoveToTheArchiveWithTheirAssignees() {
+		assertEquals(3, taskArchiver.archiveCompletedTasks());
+
+		assertFalse(taskRepository.existsById(id(0)));
+		assertFalse(taskRepository.existsById(id(2)));
+		assertTrue(taskRepository.existsById(id(3)));
+		assertTrue(taskRepository.existsById(id(4)));
+		assertEquals(List.of(id(0), id(1), id(2)), archivedTaskRepository.findIdsByIdIn(List.of(id(0), id(1), id(2), id(3))).stream().sorted().toList());
+		assertEquals(List.of(alice.getId(), bob.getId()), archivedTaskRepository.findAssigneesByTaskIds(List.of(id(0))).stream()
+				.map(AssigneeDto::getId).sorted().toList());
+
+		// Nothing left to move
+		assertEquals(0, taskArchiver.archiveCompletedTasks());
+	}
+
+	@Test
+	void archivedTasksStayReadableButCannotBeChanged() {
+		taskArchiver.archiveCompletedTasks();
+
+		TaskDto task = taskService.getTask(id(1), testUsers.details(alice));
+		assertTrue(task.isArchived());
+		assertEquals("Archive task 1", task.getTitle());
+		assertEquals("Completed", task.getStatus());
+		assertEquals(List.of(alice.getId(), bob.getId()), task.getAssigneeIds().stream().sorted().toList());
+		assertFalse(taskService.getTask(id(4), testUsers.details(alice)).isArchived());
+
+		assertThrows(TaskArchivedException.class, () -> taskService.updateTaskStatus(id(1), "To Do", null, testUsers.details(alice)));
+		assertEquals("Task " + id(1) + " is archived and can no longer be changed.",
+				taskService.updateTaskStatuses(List.of(new TaskStatusBatchItemDto(id(1), "To Do", null)), testUsers.details(alice))
+					.getItems().get(0).getError());
+	}
+
+	@Test
+	void listingsOnlyIncludeArchivedTasksOnRequest() {
+		taskSnapshot.rebuild();
+		taskArchiver.archiveCompletedTasks();
+		TaskFilterDto filter = new TaskFilterDto();
+		filter.setAssigneeId(alice.getId());
+
+		assertEquals(List.of(id(3), id(4)), ids(taskService.getTasksFiltered(filter, testUsers.details(manager), null, 10)));
+
+		// Dated tasks in (dueDate, id) order across both tables, then the undated one
+		filter.setIncludeArchived(true);
+		TaskPageDto first = taskService.getTasksFiltered(filter, testUsers.details(alice), null, 2);
+		assertEquals(List.of(id(1), id(3)), ids(first));
+		assertTrue(first.getItems().get(0).isArchived());
+		assertEquals(2, first.getItems().get(0).getAssignees().size());
+		TaskPageDto second = taskService.getTasksFiltered(filter, testUsers.details(alice), first.getNextCursor(), 2);
+		assertEquals(List.of(id(4), id(0)), ids(second));
+		TaskPageDto third = taskService.getTasksFiltered(filter, testUsers.details(alice), second.getNextCursor(), 2);
+		assertEquals(List.of(id(2)), ids(third));
+		assertEquals(null, third.getNextCursor());
+	}
+
+	@Test
+	void dashboardStillCountsArchivedTasks() {
+		dashboardService.reconcile();
+		DashboardAnalyticsDto before = dashboardService.getDashboard(testUsers.details(alice));
+
+		taskArchiver.archiveCompletedTasks();
+		DashboardAnalyticsDto incremental = dashboardService.getDashboard(testUsers.details(alice));
+		dashboardService.reconcile();
+		DashboardAnalyticsDto reconciled = dashboardService.getDashboard(testUsers.details(alice));
+
+		assertEquals(5, before.getAssignedCount());
+		assertEquals(4, before.getCompletedCount());
+		for (DashboardAnalyticsDto after : List.of(incremental, reconciled)) {
+			assertEquals(before.getAssignedCount(), after.getAssignedCount());
+			assertEquals(before.getCompletedCount(), after.getCompletedCount());
+			assertEquals(before.getPendingCount(), after.getPendingCount());
+		}
+	}
+
+	private Long id(int task) {
+		return tasks.get(task).getId();
+	}
+
+	private List<Long> ids(TaskPageDto page) {
+		return page.getItems().stream().map(TaskSummaryDto::getId).toList();
+	}
+
+	private Task saveTask(String title, LocalDate dueDate, String status, LocalDateTime completedAt) {
+		Task task = new Task();
+		task.setTitle(title);
+		task.setDueDate(dueDate);
+		task.setPriority("Medium");
+		task.setStatus(status);
+		task.setCompletedAt(completedAt);
+		task.setManager(manager);
+		task.setChangeVersion(0L);
+		task.getAssignees().add(alice);
+		task.getAssignees().add(bob);
+		return taskRepository.save(task);
+	}
+}
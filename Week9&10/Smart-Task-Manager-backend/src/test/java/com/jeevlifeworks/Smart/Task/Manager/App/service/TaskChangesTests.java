@@ -0,0 +1,178 @@
+package com.jeevlifeworks.Smart.Task.Manager.App.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.jeevlifeworks.Smart.Task.Manager.App.Entity.RoleEnum;
+import com.jeevlifeworks.Smart.Task.Manager.App.Entity.User;
+import com.jeevlifeworks.Smart.Task.Manager.App.dto.TaskChangesDto;
+import com.jeevlifeworks.Smart.Task.Manager.App.dto.TaskDto;
+import com.jeevlifeworks.Smart.Task.Manager.App.dto.TaskSummaryDto;
+import com.jeevlifeworks.Smart.Task.Manager.App.repository.EmailOutboxRepository;
+import com.jeevlifeworks.Smart.Task.Manager.App.repository.TaskRepository;
+import com.jeevlifeworks.Smart.Task.Manager.App.repository.UserRepository;
+import com.jeevlifeworks.Smart.Task.Manager.App.support.TestUsers;
+
+// Not @Transactional: versions are only released once the writing transaction completes
+@SpringBootTest
+class TaskChangesTests {
+
+	@Autowired
+	private TaskService taskService;
+
+	@Autowired
+	private TaskChangeVersions taskChangeVersions;
+
+	@Autowired
+	private TaskRepository taskRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private TestUsers testUsers;
+
+	@Autowired
+	private EmailOutboxRepository emailOutboxRepository;
+
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private User manager;
+	private User alice;
+	private User bob;
+
+	@BeforeEach
+	void loginManager() {
+		manager = testUsers.saveUser("changes.manager@example.com", RoleEnum.ROLE_MANAGER);
+		alice = testUsers.saveUser("changes.alice@example.com", RoleEnum.ROLE_EMPLOYEE);
+		bob = testUsers.saveUser("changes.bob@example.com", RoleEnum.ROLE_EMPLOYEE);
+		testUsers.logIn(manager);
+	}
+
+	@AfterEach
+	void cleanUp() {
+		SecurityContextHolder.clearContext();
+		emailOutboxRepository.deleteAll();
+		// Tombstones are invisible to the repository, so remove the rows directly
+		jdbcTemplate.update("DELETE FROM task_assignees WHERE task_id IN (SELECT id FROM tasks WHERE manager_id = ?)", manager.getId());
+		jdbcTemplate.update("DELETE FROM tasks WHERE manager_id = ?", manager.getId());
+		userRepository.deleteAll(List.of(alice, bob, manager));
+	}
+
+	@Test
+	void onlyChangesAfterTheWatermarkAreReturned() {
+		Long first = taskService.createTask(task("Write spec", alice)).getId();
+		Long second = taskService.createTask(task("Fix login", bob)).getId();
+		long managerWatermark = syncAll(0, testUsers.details(manager)).getWatermark();
+		long aliceWatermark = syncAll(0, testUsers.details(alice)).getWatermark();
+		long bobWatermark = syncAll(0, testUsers.details(bob)).getWatermark();
+
+		taskService.updateTaskStatus(first, "In Progress", null, testUsers.details(alice));
+		taskService.deleteTask(second);
+		Long third = taskService.createTask(task("Plan sprint", alice, bob)).getId();
+
+		TaskChangesDto managerChanges = syncAll(managerWatermark, testUsers.details(manager));
+		assertEquals(List.of(first, third), ids(managerChanges.getChanged()));
+		assertEquals("In Progress", managerChanges.getChanged().get(0).getStatus());
+		assertEquals(2, managerChanges.getChanged().get(1).getAssignees().size());
+		assertEquals(List.of(second), managerChanges.getDeleted());
+
+		TaskChangesDto aliceChanges = syncAll(aliceWatermark, testUsers.details(alice));
+		assertEquals(List.of(first, third), ids(aliceChanges.getChanged()));
+		assertTrue(aliceChanges.getDeleted().isEmpty());
+
+		TaskChangesDto bobChanges = syncAll(bobWatermark, testUsers.details(bob));
+		assertEquals(List.of(third), ids(bobChanges.getChanged()));
+		assertEquals(List.of(second), bobChanges.getDeleted());
+
+		// Nothing changed since the last sync
+		TaskChangesDto none = taskService.getChangesSince(managerChanges.getWatermark(), testUsers.details(manager));
+		assertTrue(none.getChanged().isEmpty() && none.getDeleted().isEmpty());
+		assertEquals(managerChanges.getWatermark(), none.getWatermark());
+	}
+
+	@Test
+	void largeChangeSetsArriveInPages() {
+		long watermark = syncAll(0, testUsers.details(manager)).getWatermark();
+		List<Long> created = new ArrayList<>();
+		for (int i = 0; i < 5; i++) {
+			created.add(taskService.createTask(task("Task " + i, alice)).getId());
+		}
+
+		TaskChangesDto firstPage = taskService.getChangesSince(watermark, testUsers.details(manager));
+		assertEquals(created.subList(0, 3), ids(firstPage.getChanged()));
+		assertTrue(firstPage.isHasMore());
+
+		TaskChangesDto secondPage = taskService.getChangesSince(firstPage.getWatermark(), testUsers.details(manager));
+		assertEquals(created.subList(3, 5), ids(secondPage.getChanged()));
+		assertFalse(secondPage.isHasMore());
+	}
+
+	@Test
+	void deletedTasksDisappearFromEntityQueries() {
+		Long taskId = taskService.createTask(task("Obsolete", alice)).getId();
+
+		taskService.deleteTask(taskId);
+
+		assertTrue(taskRepository.findById(taskId).isEmpty());
+		assertTrue(taskService.getAssignedTasksForUser(alice.getEmail()).isEmpty());
+	}
+
+	@Test
+	void watermarkStaysBelowVersionsOfUncommittedTransactions() {
+		long version = transactionTemplate.execute(status -> {
+			long inFlight = taskChangeVersions.next();
+			assertEquals(inFlight - 1, taskChangeVersions.safeWatermark());
+			return inFlight;
+		});
+		assertTrue(taskChangeVersions.safeWatermark() >= version);
+	}
+
+	/**
+	 * Follows hasMore until the client is up to date and merges the responses.
+	 */
+	private TaskChangesDto syncAll(long since, UserDetails userDetails) {
+		TaskChangesDto merged = new TaskChangesDto(new ArrayList<>(), new ArrayList<>(), since, false);
+		TaskChangesDto response;
+		do {
+			response = taskService.getChangesSince(merged.getWatermark(), userDetails);
+			merged.getChanged().addAll(response.getChanged());
+			merged.getDeleted().addAll(response.getDeleted());
+			merged.setWatermark(response.getWatermark());
+		} while (response.isHasMore());
+		return merged;
+	}
+
+	private List<Long> ids(List<TaskSummaryDto> tasks) {
+		return tasks.stream().map(TaskSummaryDto::getId).collect(Collectors.toList());
+	}
+
+	private TaskDto task(String title, User... assignees) {
+		TaskDto dto = new TaskDto();
+		dto.setTitle(title);
+		dto.setPriority("Medium");
+		dto.setDueDate(LocalDate.of(2030, 6, 1));
+		dto.setAssigneeIds(List.of(assignees).stream().map(User::getId).collect(Collectors.toList()));
+		return dto;
+	}
+}
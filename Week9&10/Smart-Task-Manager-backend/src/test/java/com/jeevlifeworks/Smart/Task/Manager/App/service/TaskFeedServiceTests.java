@@ -0,0 +1,178 @@
+package com.jeevlifeworks.Smart.Task.Manager.App.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.jeevlifeworks.Smart.Task.Manager.App.Entity.RoleEnum;
+import com.jeevlifeworks.Smart.Task.Manager.App.Entity.Task;
+import com.jeevlifeworks.Smart.Task.Manager.App.Entity.User;
+import com.jeevlifeworks.Smart.Task.Manager.App.dto.TaskDto;
+import com.jeevlifeworks.Smart.Task.Manager.App.dto.TaskFeedEventDto;
+import com.jeevlifeworks.Smart.Task.Manager.App.repository.EmailOutboxRepository;
+import com.jeevlifeworks.Smart.Task.Manager.App.repository.TaskRepository;
+import com.jeevlifeworks.Smart.Task.Manager.App.repository.UserRepository;
+import com.jeevlifeworks.Smart.Task.Manager.App.support.TestUsers;
+
+// Not @Transactional: changes are only streamed after their transaction commits
+@SpringBootTest
+class TaskFeedServiceTests {
+
+	@Autowired
+	private TaskFeedService taskFeedService;
+
+	@Autowired
+	private TaskService taskService;
+
+	@Autowired
+	private TaskRepository taskRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private TestUsers testUsers;
+
+	@Autowired
+	private EmailOutboxRepository emailOutboxRepository;
+
+	private User manager;
+	private User alice;
+	private User bob;
+	private RecordingEmitter managerStream;
+	private RecordingEmitter aliceStream;
+	private RecordingEmitter bobStream;
+
+	@BeforeEach
+	void openStreams() {
+		manager = testUsers.saveUser("feed.manager@example.com", RoleEnum.ROLE_MANAGER);
+		alice = testUsers.saveUser("feed.alice@example.com", RoleEnum.ROLE_EMPLOYEE);
+		bob = testUsers.saveUser("feed.bob@example.com", RoleEnum.ROLE_EMPLOYEE);
+		testUsers.logIn(manager);
+
+		managerStream = open(manager);
+		aliceStream = open(alice);
+		bobStream = open(bob);
+	}
+
+	@AfterEach
+	void cleanUp() throws InterruptedException {
+		List.of(managerStream, aliceStream, bobStream).forEach(SseEmitter::complete);
+		SecurityContextHolder.clearContext();
+		emailOutboxRepository.deleteAll();
+		taskRepository.deleteAll(taskRepository.findByManager(manager));
+		userRepository.deleteAll(List.of(alice, bob, manager));
+	}
+
+	@Test
+	void changesReachOnlyTheAssigneesAndTheManager() throws InterruptedException {
+		Task task = taskService.createTask(task("Feed task", alice));
+
+		taskFeedService.flush();
+
+		TaskFeedEventDto expected = new TaskFeedEventDto("CREATED", task.getId(), "Feed task", "To Do", LocalDate.of(2031, 5, 1));
+		assertEquals(List.of(new Event("tasks", List.of(expected))), aliceStream.await(1));
+		assertEquals(List.of(new Event("tasks", List.of(expected))), managerStream.await(1));
+		assertEquals(List.of(), bobStream.events);
+	}
+
+	@Test
+	void burstOfChangesToOneTaskIsSentOnceWithItsLatestStatus() throws InterruptedException {
+		Task task = taskService.createTask(task("Busy task", alice));
+		UserDetails aliceDetails = testUsers.details(alice);
+		for (String status : List.of("In Progress", "To Do", "In Progress", "Completed")) {
+			taskService.updateTaskStatus(task.getId(), status, null, aliceDetails);
+		}
+
+		taskFeedService.flush();
+
+		List<Event> events = aliceStream.await(1);
+		assertEquals(1, events.size());
+		assertEquals(List.of(new TaskFeedEventDto("CREATED", task.getId(), "Busy task", "Completed", LocalDate.of(2031, 5, 1))),
+				events.get(0).data());
+	}
+
+	@Test
+	void connectionThatFallsTooFarBehindIsToldToResync() throws InterruptedException {
+		// One more distinct task than task.feed.max-pending
+		List<TaskDto> tasks = new ArrayList<>();
+		for (int i = 0; i < 6; i++) {
+			tasks.add(task("Bulk feed task " + i, bob));
+		}
+		taskService.createTasksBulk(tasks);
+
+		taskFeedService.flush();
+
+		assertEquals(List.of(new Event("resync", "{}")), bobStream.await(1));
+		// The manager's stream is just as far behind
+		assertEquals("resync", managerStream.await(1).get(0).name());
+		assertTrue(aliceStream.events.isEmpty());
+	}
+
+	private RecordingEmitter open(User user) {
+		RecordingEmitter emitter = new RecordingEmitter();
+		taskFeedService.register(user.getId(), emitter);
+		return emitter;
+	}
+
+	private TaskDto task(String title, User assignee) {
+		TaskDto dto = new TaskDto();
+		dto.setTitle(title);
+		dto.setPriority("Medium");
+		dto.setDueDate(LocalDate.of(2031, 5, 1));
+		dto.setAssigneeIds(List.of(assignee.getId()));
+		return dto;
+	}
+
+	private record Event(String name, Object data) {
+	}
+
+	/**
+	 * Records the events sent to it instead of writing them to a response.
+	 */
+	private static class RecordingEmitter extends SseEmitter {
+
+		private final List<Event> events = Collections.synchronizedList(new ArrayList<>());
+
+		@Override
+		public void send(SseEventBuilder builder) {
+			Set<DataWithMediaType> parts = builder.build();
+			String name = null;
+			Object data = null;
+			for (DataWithMediaType part : parts) {
+				if (part.getData() instanceof String text && text.startsWith("event:")) {
+					name = text.substring("event:".length(), text.indexOf('\n'));
+				} else if (MediaType.APPLICATION_JSON.equals(part.getMediaType())) {
+					data = part.getData();
+				}
+			}
+			if (name != null) {
+				events.add(new Event(name, data));
+			}
+		}
+
+		// Sends happen on the feed's sender threads
+		List<Event> await(int count) throws InterruptedException {
+			for (int i = 0; i < 100 && events.size() < count; i++) {
+				Thread.sleep(50);
+			}
+			return new ArrayList<>(events);
+		}
+	}
+}
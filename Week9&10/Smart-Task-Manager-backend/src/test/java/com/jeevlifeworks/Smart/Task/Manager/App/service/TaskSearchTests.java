@@ -0,0 +1,148 @@
+package com.jeevlifeworks.Smart.Task.Manager.App.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import com.jeevlifeworks.Smart.Task.Manager.App.Entity.RoleEnum;
+import com.jeevlifeworks.Smart.Task.Manager.App.Entity.Task;
+import com.jeevlifeworks.Smart.Task.Manager.App.Entity.User;
+import com.jeevlifeworks.Smart.Task.Manager.App.dto.AssigneeDto;
+import com.jeevlifeworks.Smart.Task.Manager.App.dto.TaskDto;
+import com.jeevlifeworks.Smart.Task.Manager.App.dto.TaskSummaryDto;
+import com.jeevlifeworks.Smart.Task.Manager.App.repository.EmailOutboxRepository;
+import com.jeevlifeworks.Smart.Task.Manager.App.repository.TaskRepository;
+import com.jeevlifeworks.Smart.Task.Manager.App.repository.UserRepository;
+import com.jeevlifeworks.Smart.Task.Manager.App.support.TestUsers;
+
+// Not @Transactional: tasks are only indexed once their transaction commits
+@SpringBootTest
+class TaskSearchTests {
+
+	@Autowired
+	private TaskService taskService;
+
+	@Autowired
+	private TaskSearchIndex taskSearchIndex;
+
+	@MockitoSpyBean
+	private TaskRepository taskRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private TestUsers testUsers;
+
+	@Autowired
+	private EmailOutboxRepository emailOutboxRepository;
+
+	private User manager;
+	private User alice;
+	private User bob;
+	private UserDetails managerDetails;
+
+	@BeforeEach
+	void createTasks() {
+		manager = testUsers.saveUser("search.manager@example.com", RoleEnum.ROLE_MANAGER);
+		alice = testUsers.saveUser("search.alice@example.com", RoleEnum.ROLE_EMPLOYEE);
+		bob = testUsers.saveUser("search.bob@example.com", RoleEnum.ROLE_EMPLOYEE);
+		managerDetails = testUsers.logIn(manager);
+
+		taskService.createTask(task("Migrate zephyr billing", "Move invoices to the new ledger", "Backend, Q3", alice));
+		taskService.createTask(task("Ledger cleanup", "Archive old zephyr invoices", "backend", bob));
+		taskService.createTasksBulk(List.of(
+				task("Design review", "Review the zephyr dashboard mockups", "Design, UX", alice),
+				task("Unrelated chore", "Water the plants", null, bob)));
+	}
+
+	@AfterEach
+	void cleanUp() {
+		SecurityContextHolder.clearContext();
+		emailOutboxRepository.deleteAll();
+		taskRepository.deleteAll(taskRepository.findByManager(manager));
+		userRepository.deleteAll(List.of(alice, bob, manager));
+	}
+
+	@Test
+	void titleMatchesRankAboveDescriptionMatches() {
+		List<String> titles = titles(taskService.searchTasks("zephyr", null, managerDetails));
+
+		assertEquals("Migrate zephyr billing", titles.get(0));
+		assertEquals(3, titles.size());
+	}
+
+	@Test
+	void everyWordMustMatchAndTheLastMayBeAPrefix() {
+		assertEquals(List.of("Migrate zephyr billing", "Ledger cleanup"),
+				titles(taskService.searchTasks("ZEPHYR ledg", null, managerDetails)));
+		assertEquals(List.of("Design review"), titles(taskService.searchTasks("ux zephyr", null, managerDetails)));
+		assertTrue(taskService.searchTasks("zephyr plants", null, managerDetails).isEmpty());
+	}
+
+	@Test
+	void employeesOnlyFindTheirOwnTasks() {
+		UserDetails aliceDetails = testUsers.details(alice);
+
+		assertEquals(List.of("Migrate zephyr billing", "Design review"),
+				titles(taskService.searchTasks("zephyr", null, aliceDetails)));
+	}
+
+	@Test
+	void rebuildFromTheDatabaseGivesTheSameResults() {
+		List<String> before = titles(taskService.searchTasks("zephyr", 10, managerDetails));
+
+		taskSearchIndex.rebuild();
+
+		assertEquals(before, titles(taskService.searchTasks("zephyr", 10, managerDetails)));
+		assertEquals(List.of("Unrelated chore"), titles(taskService.searchTasks("plants", 10, managerDetails)));
+	}
+
+	@Test
+	void tasksCreatedWhileTheIndexIsRebuiltAreSearchable() {
+		List<AssigneeDto> assignees = taskRepository.findAssigneesByTaskIds(
+				taskRepository.findAll().stream().map(Task::getId).collect(Collectors.toList()));
+		// Created and committed while the rebuild reads the table
+		AtomicBoolean created = new AtomicBoolean();
+		doAnswer(invocation -> {
+			List<Long> taskIds = invocation.getArgument(0);
+			if (created.compareAndSet(false, true)) {
+				taskService.createTask(task("Quokka census", "Count them", null, alice));
+			}
+			return assignees.stream().filter(assignee -> taskIds.contains(assignee.getTaskId())).collect(Collectors.toList());
+		}).when(taskRepository).findAssigneesByTaskIds(anyList());
+
+		taskSearchIndex.rebuild();
+
+		assertTrue(created.get());
+		assertEquals(List.of("Quokka census"), titles(taskService.searchTasks("quokka", 10, managerDetails)));
+	}
+
+	private List<String> titles(List<TaskSummaryDto> results) {
+		return results.stream().map(TaskSummaryDto::getTitle).collect(Collectors.toList());
+	}
+
+	private TaskDto task(String title, String description, String tags, User assignee) {
+		TaskDto dto = new TaskDto();
+		dto.setTitle(title);
+		dto.setDescription(description);
+		dto.setTags(tags);
+		dto.setPriority("Low");
+		dto.setAssigneeIds(List.of(assignee.getId()));
+		return dto;
+	}
+}
@@ -0,0 +1,133 @@
+package com.jeevlifeworks.Smart.Task.Manager.App.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import com.jeevlifeworks.Smart.Task.Manager.App.Entity.RoleEnum;
+import com.jeevlifeworks.Smart.Task.Manager.App.Entity.Task;
+import com.jeevlifeworks.Smart.Task.Manager.App.Entity.User;
+import com.jeevlifeworks.Smart.Task.Manager.App.dto.BulkTaskItemResultDto;
+import com.jeevlifeworks.Smart.Task.Manager.App.dto.BulkTaskResultDto;
+import com.jeevlifeworks.Smart.Task.Manager.App.dto.TaskDto;
+import com.jeevlifeworks.Smart.Task.Manager.App.exception.BulkLimitExceededException;
+import com.jeevlifeworks.Smart.Task.Manager.App.repository.EmailOutboxRepository;
+import com.jeevlifeworks.Smart.Task.Manager.App.repository.TaskRepository;
+import com.jeevlifeworks.Smart.Task.Manager.App.repository.UserRepository;
+import com.jeevlifeworks.Smart.Task.Manager.App.support.TestUsers;
+
+// Not @Transactional: every chunk of a bulk import commits in its own transaction
+@SpringBootTest
+class TaskServiceBulkCreateTests {
+
+	@Autowired
+	private TaskService taskService;
+
+	@Autowired
+	private TaskRepository taskRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private TestUsers testUsers;
+
+	@Autowired
+	private EmailOutboxRepository emailOutboxRepository;
+
+	private User manager;
+	private User alice;
+	private User bob;
+
+	@BeforeEach
+	void loginManager() {
+		emailOutboxRepository.deleteAll();
+		manager = testUsers.saveUser("bulk.manager@example.com", RoleEnum.ROLE_MANAGER);
+		alice = testUsers.saveUser("bulk.alice@example.com", RoleEnum.ROLE_EMPLOYEE);
+		bob = testUsers.saveUser("bulk.bob@example.com", RoleEnum.ROLE_EMPLOYEE);
+		testUsers.logIn(manager);
+	}
+
+	@AfterEach
+	void cleanUp() {
+		SecurityContextHolder.clearContext();
+		emailOutboxRepository.deleteAll();
+		taskRepository.deleteAll(taskRepository.findByManager(manager));
+		userRepository.deleteAll(List.of(alice, bob, manager));
+	}
+
+	@Test
+	void validTasksAreCreatedAcrossChunksAndInvalidOnesReportedPerItem() {
+		List<TaskDto> request = new ArrayList<>();
+		for (int i = 0; i < 45; i++) {
+			request.add(task("Sprint task " + i, i % 2 == 0 ? List.of(alice.getId(), bob.getId()) : List.of(alice.getId())));
+		}
+		request.add(7, task(" ", List.of(alice.getId())));
+		request.add(30, task("Unknown assignee", List.of(alice.getId(), -1L)));
+
+		BulkTaskResultDto result = taskService.createTasksBulk(request);
+
+		assertEquals(45, result.getCreated());
+		assertEquals(2, result.getFailed());
+		assertEquals("Title is required.", result.getItems().get(7).getError());
+		assertEquals("Assignee not found with id: -1", result.getItems().get(30).getError());
+		for (int i = 0; i < result.getItems().size(); i++) {
+			assertEquals(i, result.getItems().get(i).getIndex());
+		}
+
+		List<Task> saved = taskRepository.findByManager(manager);
+		assertEquals(45, saved.size());
+		assertEquals(23 * 2 + 22, taskRepository.findByAssigneeId(alice.getId()).size() + taskRepository.findByAssigneeId(bob.getId()).size());
+		assertEquals(23 * 2 + 22, emailOutboxRepository.count());
+	}
+
+	@Test
+	void databaseFailureOnlyRejectsTheOffendingItem() {
+		List<TaskDto> request = new ArrayList<>();
+		for (int i = 0; i < 5; i++) {
+			request.add(task("Task " + i, List.of(bob.getId())));
+		}
+		// Longer than the title column, so the whole chunk fails on flush
+		request.get(2).setTitle(String.join("", Collections.nCopies(300, "x")));
+
+		BulkTaskResultDto result = taskService.createTasksBulk(request);
+
+		assertEquals(4, result.getCreated());
+		BulkTaskItemResultDto failed = result.getItems().get(2);
+		assertNull(failed.getTaskId());
+		assertTrue(failed.getError().startsWith("Could not save task"));
+		assertNotNull(result.getItems().get(3).getTaskId());
+		assertEquals(4, taskRepository.findByManager(manager).size());
+		assertEquals(4, emailOutboxRepository.count());
+	}
+
+	@Test
+	void oversizedRequestIsRejected() {
+		List<TaskDto> request = Collections.nCopies(501, task("Too many", List.of()));
+
+		assertThrows(BulkLimitExceededException.class, () -> taskService.createTasksBulk(request));
+	}
+
+	private TaskDto task(String title, List<Long> assigneeIds) {
+		TaskDto dto = new TaskDto();
+		dto.setTitle(title);
+		dto.setPriority("Medium");
+		dto.setDueDate(LocalDate.of(2030, 6, 1));
+		dto.setAssigneeIds(assigneeIds);
+		return dto;
+	}
+}
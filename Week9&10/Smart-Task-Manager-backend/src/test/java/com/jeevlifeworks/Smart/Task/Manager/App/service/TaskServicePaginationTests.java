@@ -0,0 +1,134 @@
+package com.jeevlifeworks.Smart.Task.Manager.App.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.jeevlifeworks.Smart.Task.Manager.App.Entity.RoleEnum;
+import com.jeevlifeworks.Smart.Task.Manager.App.Entity.Task;
+import com.jeevlifeworks.Smart.Task.Manager.App.Entity.User;
+import com.jeevlifeworks.Smart.Task.Manager.App.dto.TaskFilterDto;
+import com.jeevlifeworks.Smart.Task.Manager.App.dto.TaskPageDto;
+import com.jeevlifeworks.Smart.Task.Manager.App.dto.TaskSummaryDto;
+import com.jeevlifeworks.Smart.Task.Manager.App.exception.InvalidCursorException;
+import com.jeevlifeworks.Smart.Task.Manager.App.repository.TaskRepository;
+import com.jeevlifeworks.Smart.Task.Manager.App.repository.UserRepository;
+import com.jeevlifeworks.Smart.Task.Manager.App.support.TestUsers;
+
+@SpringBootTest
+@Transactional
+class TaskServicePaginationTests {
+
+	@Autowired
+	private TaskService taskService;
+
+	@Autowired
+	private TaskSnapshot taskSnapshot;
+
+	@Autowired
+	private TaskRepository taskRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private TestUsers testUsers;
+
+	private User manager;
+	private User employee;
+
+	@BeforeEach
+	void seedTasks() {
+		manager = testUsers.saveUser("pager.manager@example.com", RoleEnum.ROLE_MANAGER);
+		employee = testUsers.saveUser("pager.employee@example.com", RoleEnum.ROLE_EMPLOYEE);
+
+		LocalDate base = LocalDate.of(2030, 1, 1);
+		// Several tasks share a due date so the id tie-breaker is exercised
+		saveTask("t1", base.plusDays(2), "High", true);
+		saveTask("t2", base, "Low", false);
+		saveTask("t3", base, "High", true);
+		saveTask("t4", base.plusDays(1), "High", false);
+		saveTask("t5", base.plusDays(2), "Low", true);
+		saveTask("t6", null, "High", true);
+		saveTask("t7", null, "Low", false);
+		// Saved through the repository, so the filter snapshot must be rebuilt to see them
+		taskSnapshot.rebuild();
+	}
+
+	@Test
+	void getAllTasksWalksEveryTaskOnceInDueDateThenIdOrder() {
+		List<TaskSummaryDto> seen = walk(cursor -> taskService.getAllTasks(cursor, 2));
+
+		List<String> titles = seen.stream().map(TaskSummaryDto::getTitle).collect(Collectors.toList());
+		assertEquals(List.of("t2", "t3", "t4", "t1", "t5", "t6", "t7"), titles);
+		assertTrue(seen.stream().allMatch(t -> t.getManagerId().equals(manager.getId())));
+	}
+
+	@Test
+	void filteredListingPagesOnlyMatchingTasksWithTheirAssignees() {
+		TaskFilterDto filter = new TaskFilterDto();
+		filter.setPriority(List.of("High"));
+		filter.setAssigneeId(employee.getId());
+		UserDetails managerDetails = org.springframework.security.core.userdetails.User
+				.withUsername(manager.getEmail()).password("x").authorities("ROLE_MANAGER").build();
+
+		List<TaskSummaryDto> seen = walk(cursor -> taskService.getTasksFiltered(filter, managerDetails, cursor, 1));
+
+		assertEquals(List.of("t3", "t1", "t6"), seen.stream().map(TaskSummaryDto::getTitle).collect(Collectors.toList()));
+		assertTrue(seen.stream().allMatch(t -> t.getAssignees().size() == 1
+				&& t.getAssignees().get(0).getUsername().equals(employee.getUsername())));
+	}
+
+	@Test
+	void requestedPageSizeIsCappedAndLastPageHasNoCursor() {
+		TaskPageDto page = taskService.getAllTasks(null, 10_000);
+
+		assertTrue(page.getItems().size() >= 7);
+		assertNull(page.getNextCursor());
+	}
+
+	@Test
+	void malformedCursorIsRejected() {
+		assertThrows(InvalidCursorException.class, () -> taskService.getAllTasks("not-a-cursor", 2));
+	}
+
+	// Follows nextCursor until the listing is exhausted and returns the seeded tasks in page order
+	private List<TaskSummaryDto> walk(java.util.function.Function<String, TaskPageDto> pageFetcher) {
+		List<TaskSummaryDto> seen = new ArrayList<>();
+		String cursor = null;
+		do {
+			TaskPageDto page = pageFetcher.apply(cursor);
+			seen.addAll(page.getItems());
+			cursor = page.getNextCursor();
+		} while (cursor != null);
+		return seen.stream()
+				.filter(t -> t.getManagerId().equals(manager.getId()))
+				.collect(Collectors.toList());
+	}
+
+	private void saveTask(String title, LocalDate dueDate, String priority, boolean assignEmployee) {
+		Task task = new Task();
+		task.setTitle(title);
+		task.setDueDate(dueDate);
+		task.setPriority(priority);
+		task.setStatus("To Do");
+		task.setManager(manager);
+		if (assignEmployee) {
+			task.getAssignees().add(employee);
+		}
+		taskRepository.save(task);
+	}
+}
@@ -0,0 +1,262 @@
+package com.jeevlifeworks.Smart.Task.Manager.App.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import com.jeevlifeworks.Smart.Task.Manager.App.Entity.RoleEnum;
+import com.jeevlifeworks.Smart.Task.Manager.App.Entity.Task;
+import com.jeevlifeworks.Smart.Task.Manager.App.Entity.User;
+import com.jeevlifeworks.Smart.Task.Manager.App.dto.AssigneeDto;
+import com.jeevlifeworks.Smart.Task.Manager.App.dto.TaskCursor;
+import com.jeevlifeworks.Smart.Task.Manager.App.dto.TaskDto;
+import com.jeevlifeworks.Smart.Task.Manager.App.dto.TaskFilterDto;
+import com.jeevlifeworks.Smart.Task.Manager.App.dto.TaskSummaryDto;
+import com.jeevlifeworks.Smart.Task.Manager.App.repository.EmailOutboxRepository;
+import com.jeevlifeworks.Smart.Task.Manager.App.repository.TaskRepository;
+import com.jeevlifeworks.Smart.Task.Manager.App.repository.UserRepository;
+import com.jeevlifeworks.Smart.Task.Manager.App.support.TestUsers;
+
+// Not @Transactional: the snapshot is updated by listeners that run after commit
+@SpringBootTest
+class TaskSnapshotTests {
+
+	private static final String[] STATUSES = { "To Do", "In Progress", "Completed" };
+	private static final String[] PRIORITIES = { "Low", "Medium", "High" };
+
+	@Autowired
+	private TaskSnapshot taskSnapshot;
+
+	@Autowired
+	private TaskService taskService;
+
+	@MockitoSpyBean
+	private TaskRepository taskRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private TestUsers testUsers;
+
+	@Autowired
+	private EmailOutboxRepository emailOutboxRepository;
+
+	private User manager;
+	private User alice;
+	private User bob;
+	private UserDetails managerDetails;
+
+	@BeforeEach
+	void createUsers() {
+		manager = testUsers.saveUser("snapshot.manager@example.com", RoleEnum.ROLE_MANAGER);
+		alice = testUsers.saveUser("snapshot.alice@example.com", RoleEnum.ROLE_EMPLOYEE);
+		bob = testUsers.saveUser("snapshot.bob@example.com", RoleEnum.ROLE_EMPLOYEE);
+		managerDetails = testUsers.logIn(manager);
+	}
+
+	@AfterEach
+	void cleanUp() {
+		SecurityContextHolder.clearContext();
+		emailOutboxRepository.deleteAll();
+		taskRepository.deleteAll(taskRepository.findByManager(manager));
+		userRepository.deleteAll(List.of(alice, bob, manager));
+	}
+
+	@Test
+	void pagesMatchTheDatabaseForEveryFilterCombination() {
+		seedTasks(60);
+		taskSnapshot.rebuild();
+
+		LocalDate from = LocalDate.of(2032, 1, 5);
+		for (List<String> statuses : List.of(List.<String>of(), List.of("In Progress"), List.of("To Do", "Completed"))) {
+			for (List<String> priorities : List.of(List.<String>of(), List.of("High"))) {
+				for (Long assigneeId : new Long[] { null, alice.getId() }) {
+					for (LocalDate[] range : new LocalDate[][] { {}, { from, null }, { from, from.plusDays(10) } }) {
+						TaskFilterDto filter = new TaskFilterDto();
+						filter.setStatus(statuses);
+						filter.setPriority(priorities);
+						filter.setAssigneeId(assigneeId);
+						if (range.length > 0) {
+							filter.setDueDateFrom(range[0]);
+							filter.setDueDateTo(range[1]);
+						}
+						assertEquals(databaseIds(filter), taskSnapshot.findPage(filter, null, 1000).orElseThrow(), filter.toString());
+					}
+				}
+			}
+		}
+	}
+
+	@Test
+	void pagesFollowingCursorsMatchTheDatabase() {
+		seedTasks(60);
+		taskSnapshot.rebuild();
+		// Created after the build: the first two are merged into the sorted order, the last stays in the unsorted tail
+		for (int day : new int[] { 3, 12, 3 }) {
+			TaskDto dto = task("Snapshot inserted " + day, "Low", alice);
+			dto.setDueDate(LocalDate.of(2032, 1, 1).plusDays(day));
+			taskService.createTask(dto);
+		}
+
+		TaskFilterDto inProgress = new TaskFilterDto();
+		inProgress.setStatus(List.of("In Progress"));
+		TaskFilterDto range = new TaskFilterDto();
+		range.setDueDateFrom(LocalDate.of(2032, 1, 4));
+		range.setDueDateTo(LocalDate.of(2032, 1, 13));
+		TaskFilterDto alicesLowTasks = new TaskFilterDto();
+		alicesLowTasks.setPriority(List.of("Low"));
+		alicesLowTasks.setAssigneeId(alice.getId());
+		for (TaskFilterDto filter : List.of(new TaskFilterDto(), inProgress, range, alicesLowTasks)) {
+			assertEquals(databaseIds(filter), pagedIds(filter, 5), filter.toString());
+		}
+	}
+
+	@Test
+	void createdTasksAndStatusChangesAreVisibleWithoutRebuild() {
+		taskSnapshot.rebuild();
+		Task created = taskService.createTask(task("Snapshot fresh", "High", alice));
+
+		TaskFilterDto inProgress = new TaskFilterDto();
+		inProgress.setStatus(List.of("In Progress"));
+		inProgress.setAssigneeId(alice.getId());
+		assertEquals(List.of(), titles(inProgress));
+
+		UserDetails aliceDetails = testUsers.details(alice);
+		taskService.updateTaskStatus(created.getId(), "In Progress", null, aliceDetails);
+
+		assertEquals(List.of("Snapshot fresh"), titles(inProgress));
+	}
+
+	@Test
+	void changesCommittedWhileTheRebuildReadsTheTableReachTheNewSnapshot() {
+		Task racing = taskService.createTask(task("Snapshot racing", "High", alice));
+		UserDetails aliceDetails = testUsers.details(alice);
+		List<AssigneeDto> assignees = taskRepository.findAssigneesByTaskIds(
+				taskRepository.findAll().stream().map(Task::getId).collect(Collectors.toList()));
+		// The status changes after the rebuild has read the task's row, but before it is loaded
+		AtomicBoolean changed = new AtomicBoolean();
+		doAnswer(invocation -> {
+			List<Long> taskIds = invocation.getArgument(0);
+			if (taskIds.contains(racing.getId()) && changed.compareAndSet(false, true)) {
+				taskService.updateTaskStatus(racing.getId(), "In Progress", null, aliceDetails);
+			}
+			return assignees.stream().filter(assignee -> taskIds.contains(assignee.getTaskId())).collect(Collectors.toList());
+		}).when(taskRepository).findAssigneesByTaskIds(anyList());
+
+		taskSnapshot.rebuild();
+
+		assertTrue(changed.get());
+		TaskFilterDto inProgress = new TaskFilterDto();
+		inProgress.setStatus(List.of("In Progress"));
+		inProgress.setAssigneeId(alice.getId());
+		assertEquals(List.of(racing.getId()), taskSnapshot.findPage(inProgress, null, 10).orElseThrow());
+	}
+
+	@Test
+	void tasksChangedBehindTheSnapshotAreNotListedUnderTheirOldStatus() {
+		taskSnapshot.rebuild();
+		Task created = taskService.createTask(task("Snapshot stale", "High", bob));
+		// Written outside TaskService, so the snapshot still has the task as To Do
+		Task row = taskRepository.findById(created.getId()).orElseThrow();
+		row.setStatus("Completed");
+		taskRepository.save(row);
+
+		TaskFilterDto toDo = new TaskFilterDto();
+		toDo.setStatus(List.of("To Do"));
+		toDo.setAssigneeId(bob.getId());
+		assertTrue(taskSnapshot.findPage(toDo, null, 10).orElseThrow().contains(created.getId()));
+		assertFalse(titles(toDo).contains("Snapshot stale"));
+	}
+
+	@Test
+	void deletedTasksFallBackToTheDatabaseAndAreDropped() {
+		taskService.createTask(task("Snapshot kept", "High", bob));
+		Task deleted = taskService.createTask(task("Snapshot deleted", "High", bob));
+		taskRepository.delete(taskRepository.findById(deleted.getId()).orElseThrow());
+
+		TaskFilterDto bobsTasks = new TaskFilterDto();
+		bobsTasks.setAssigneeId(bob.getId());
+		assertEquals(List.of("Snapshot kept"), titles(bobsTasks));
+		assertEquals(1, taskSnapshot.findPage(bobsTasks, null, 10).orElseThrow().size());
+	}
+
+	private List<String> titles(TaskFilterDto filter) {
+		return taskService.getTasksFiltered(filter, managerDetails, null, 50).getItems().stream()
+				.map(TaskSummaryDto::getTitle)
+				.collect(Collectors.toList());
+	}
+
+	// Every page of the snapshot listing, each requested with the cursor of the one before
+	private List<Long> pagedIds(TaskFilterDto filter, int limit) {
+		Map<Long, LocalDate> dueDates = taskRepository.findAll().stream()
+				.filter(task -> task.getDueDate() != null)
+				.collect(Collectors.toMap(Task::getId, Task::getDueDate));
+		List<Long> ids = new ArrayList<>();
+		TaskCursor cursor = null;
+		List<Long> page;
+		do {
+			page = taskSnapshot.findPage(filter, cursor, limit).orElseThrow();
+			ids.addAll(page);
+			if (!page.isEmpty()) {
+				Long last = page.get(page.size() - 1);
+				cursor = new TaskCursor(dueDates.get(last), last);
+			}
+		} while (page.size() == limit);
+		return ids;
+	}
+
+	// The same listing as the database path: dated tasks by (dueDate, id), then undated ones by id
+	private List<Long> databaseIds(TaskFilterDto filter) {
+		List<Long> ids = new ArrayList<>();
+		taskRepository.findDatedSummariesByFilter(filter, null, Limit.of(1000)).forEach(t -> ids.add(t.getId()));
+		taskRepository.findUndatedSummariesByFilter(filter, 0L, Limit.of(1000)).forEach(t -> ids.add(t.getId()));
+		return ids;
+	}
+
+	private void seedTasks(int count) {
+		Random random = new Random(3);
+		List<Task> tasks = new ArrayList<>();
+		for (int i = 0; i < count; i++) {
+			Task task = new Task();
+			task.setTitle("Snapshot task " + i);
+			// Few distinct dates, so the id tie-breaker matters; every tenth task has none
+			task.setDueDate(i % 10 == 0 ? null : LocalDate.of(2032, 1, 1).plusDays(random.nextInt(20)));
+			task.setPriority(PRIORITIES[random.nextInt(PRIORITIES.length)]);
+			task.setStatus(STATUSES[random.nextInt(STATUSES.length)]);
+			task.setManager(manager);
+			task.getAssignees().add(random.nextBoolean() ? alice : bob);
+			tasks.add(task);
+		}
+		taskRepository.saveAll(tasks);
+	}
+
+	private TaskDto task(String title, String priority, User assignee) {
+		TaskDto dto = new TaskDto();
+		dto.setTitle(title);
+		dto.setPriority(priority);
+		dto.setDueDate(LocalDate.of(2032, 3, 1));
+		dto.setAssigneeIds(List.of(assignee.getId()));
+		return dto;
+	}
+}
@@ -0,0 +1,145 @@
+package com.jeevlifeworks.Smart.Task.Manager.App.service;
+
+import static com.jeevlifeworks.Smart.Task.Manager.App.support.SqlStatementRecorder.assertStatementCount;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import com.jeevlifeworks.Smart.Task.Manager.App.Entity.RoleEnum;
+import com.jeevlifeworks.Smart.Task.Manager.App.Entity.Task;
+import com.jeevlifeworks.Smart.Task.Manager.App.Entity.User;
+import com.jeevlifeworks.Smart.Task.Manager.App.dto.TaskStatusBatchItemDto;
+import com.jeevlifeworks.Smart.Task.Manager.App.dto.TaskStatusBatchItemResultDto;
+import com.jeevlifeworks.Smart.Task.Manager.App.dto.TaskStatusBatchResultDto;
+import com.jeevlifeworks.Smart.Task.Manager.App.exception.BulkLimitExceededException;
+import com.jeevlifeworks.Smart.Task.Manager.App.repository.TaskRepository;
+import com.jeevlifeworks.Smart.Task.Manager.App.repository.UserRepository;
+import com.jeevlifeworks.Smart.Task.Manager.App.support.TestUsers;
+
+@SpringBootTest
+class TaskStatusBatchTests {
+
+	@Autowired
+	private TaskService taskService;
+
+	@Autowired
+	private TaskRepository taskRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private TestUsers testUsers;
+
+	private User manager;
+	private User alice;
+	private User bob;
+	private final List<Task> tasks = new ArrayList<>();
+
+	@BeforeEach
+	void seedTasks() {
+		manager = testUsers.saveUser("batch.manager@example.com", RoleEnum.ROLE_MANAGER);
+		alice = testUsers.saveUser("batch.alice@example.com", RoleEnum.ROLE_EMPLOYEE);
+		bob = testUsers.saveUser("batch.bob@example.com", RoleEnum.ROLE_EMPLOYEE);
+		// Tasks 0-3 are alice's, task 4 is bob's
+		for (int i = 0; i < 5; i++) {
+			tasks.add(saveTask("Batch task " + i, i < 4 ? alice : bob));
+		}
+	}
+
+	@AfterEach
+	void cleanUp() {
+		taskRepository.deleteAll(taskRepository.findByManager(manager));
+		userRepository.deleteAll(List.of(alice, bob, manager));
+	}
+
+	@Test
+	void batchIsReadInOneQueryAndWrittenWithOneUpdatePerStatus() {
+		UserDetails aliceDetails = testUsers.details(alice);
+		List<TaskStatusBatchItemDto> updates = List.of(
+				update(0, "In Progress", null),
+				update(1, "In Progress", 0L),
+				update(2, "Completed", null),
+				update(3, "To Do", null));
+
+		// locked state of all four tasks, one UPDATE for "In Progress", one for "Completed"
+		TaskStatusBatchResultDto result = assertStatementCount(3, () -> taskService.updateTaskStatuses(updates, aliceDetails));
+
+		assertEquals(4, result.getUpdated());
+		assertEquals(0, result.getFailed());
+		assertEquals(List.of(1L, 1L, 1L, 0L), result.getItems().stream().map(TaskStatusBatchItemResultDto::getVersion).toList());
+		assertEquals("In Progress", stored(0).getStatus());
+		assertEquals("In Progress", stored(1).getStatus());
+		assertEquals("Completed", stored(2).getStatus());
+		assertEquals(1L, stored(2).getVersion());
+		// Delta sync relies on every change having its own version
+		assertNotEquals(stored(0).getChangeVersion(), stored(1).getChangeVersion());
+		assertEquals(tasks.get(3).getChangeVersion(), stored(3).getChangeVersion());
+	}
+
+	@Test
+	void rejectedEntriesDoNotStopTheOthers() {
+		List<TaskStatusBatchItemDto> updates = List.of(
+				update(0, "Completed", null),
+				update(4, "Completed", null),
+				new TaskStatusBatchItemDto(-1L, "Completed", null),
+				update(1, "Completed", 7L),
+				update(0, "Blocked", null),
+				new TaskStatusBatchItemDto(tasks.get(2).getId(), " ", null));
+
+		TaskStatusBatchResultDto result = taskService.updateTaskStatuses(updates, testUsers.details(alice));
+
+		assertEquals(1, result.getUpdated());
+		assertEquals(5, result.getFailed());
+		List<TaskStatusBatchItemResultDto> items = result.getItems();
+		assertNull(items.get(0).getError());
+		assertEquals("You are not authorized to update this task.", items.get(1).getError());
+		assertEquals("Task not found with id: -1", items.get(2).getError());
+		assertEquals("Task " + tasks.get(1).getId() + " was changed by someone else. Reload it and try again.", items.get(3).getError());
+		assertEquals("Task appears more than once in the batch.", items.get(4).getError());
+		assertEquals("Status is required.", items.get(5).getError());
+		assertEquals("Completed", stored(0).getStatus());
+		assertEquals("To Do", stored(1).getStatus());
+		assertEquals("To Do", stored(4).getStatus());
+	}
+
+	@Test
+	void oversizedBatchIsRejected() {
+		List<TaskStatusBatchItemDto> updates = Collections.nCopies(501, update(0, "Completed", null));
+
+		assertThrows(BulkLimitExceededException.class, () -> taskService.updateTaskStatuses(updates, testUsers.details(alice)));
+	}
+
+	private TaskStatusBatchItemDto update(int task, String status, Long version) {
+		return new TaskStatusBatchItemDto(tasks.get(task).getId(), status, version);
+	}
+
+	private Task stored(int task) {
+		return taskRepository.findById(tasks.get(task).getId()).orElseThrow();
+	}
+
+	private Task saveTask(String title, User assignee) {
+		Task task = new Task();
+		task.setTitle(title);
+		task.setDueDate(LocalDate.of(2030, 1, 1));
+		task.setPriority("Medium");
+		task.setStatus("To Do");
+		task.setManager(manager);
+		task.setChangeVersion(0L);
+		task.getAssignees().add(assignee);
+		return taskRepository.save(task);
+	}
+}
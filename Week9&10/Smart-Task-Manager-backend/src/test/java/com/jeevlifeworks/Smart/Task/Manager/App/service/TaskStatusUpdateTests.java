@@ -0,0 +1,104 @@
+package com.jeevlifeworks.Smart.Task.Manager.App.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.access.AccessDeniedException;
+
+import com.jeevlifeworks.Smart.Task.Manager.App.Entity.RoleEnum;
+import com.jeevlifeworks.Smart.Task.Manager.App.Entity.Task;
+import com.jeevlifeworks.Smart.Task.Manager.App.Entity.User;
+import com.jeevlifeworks.Smart.Task.Manager.App.dto.TaskDto;
+import com.jeevlifeworks.Smart.Task.Manager.App.exception.ResourceNotFoundException;
+import com.jeevlifeworks.Smart.Task.Manager.App.exception.TaskVersionConflictException;
+import com.jeevlifeworks.Smart.Task.Manager.App.repository.TaskRepository;
+import com.jeevlifeworks.Smart.Task.Manager.App.repository.UserRepository;
+import com.jeevlifeworks.Smart.Task.Manager.App.support.TestUsers;
+
+@SpringBootTest
+class TaskStatusUpdateTests {
+
+	@Autowired
+	private TaskService taskService;
+
+	@Autowired
+	private TaskRepository taskRepository;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private TestUsers testUsers;
+
+	private User manager;
+	private User alice;
+	private User bob;
+	private User carol;
+	private Task task;
+
+	@BeforeEach
+	void seedTask() {
+		manager = testUsers.saveUser("status.manager@example.com", RoleEnum.ROLE_MANAGER);
+		alice = testUsers.saveUser("status.alice@example.com", RoleEnum.ROLE_EMPLOYEE);
+		bob = testUsers.saveUser("status.bob@example.com", RoleEnum.ROLE_EMPLOYEE);
+		carol = testUsers.saveUser("status.carol@example.com", RoleEnum.ROLE_EMPLOYEE);
+
+		task = new Task();
+		task.setTitle("Shared task");
+		task.setDueDate(LocalDate.of(2030, 1, 1));
+		task.setPriority("High");
+		task.setStatus("To Do");
+		task.setManager(manager);
+		task.getAssignees().addAll(List.of(alice, bob));
+		task = taskRepository.save(task);
+	}
+
+	@AfterEach
+	void cleanUp() {
+		taskRepository.deleteAll(taskRepository.findByManager(manager));
+		userRepository.deleteAll(List.of(alice, bob, carol, manager));
+	}
+
+	@Test
+	void assigneeUpdatesTheStatusAndTheVersionAdvances() {
+		TaskDto updated = taskService.updateTaskStatus(task.getId(), "In Progress", 0L, testUsers.details(alice));
+
+		assertEquals("In Progress", updated.getStatus());
+		assertEquals(1L, updated.getVersion());
+		assertEquals(List.of(alice.getId(), bob.getId()), updated.getAssigneeIds().stream().sorted().toList());
+		Task stored = taskRepository.findById(task.getId()).orElseThrow();
+		assertEquals("In Progress", stored.getStatus());
+		assertEquals(1L, stored.getVersion());
+	}
+
+	@Test
+	void updateBasedOnAStaleVersionIsRejected() {
+		// alice and bob both loaded version 0; bob saves first
+		taskService.updateTaskStatus(task.getId(), "Completed", 0L, testUsers.details(bob));
+
+		assertThrows(TaskVersionConflictException.class,
+				() -> taskService.updateTaskStatus(task.getId(), "Blocked", 0L, testUsers.details(alice)));
+		assertEquals("Completed", taskRepository.findById(task.getId()).orElseThrow().getStatus());
+	}
+
+	@Test
+	void nonAssigneeIsForbidden() {
+		assertThrows(AccessDeniedException.class,
+				() -> taskService.updateTaskStatus(task.getId(), "Completed", null, testUsers.details(carol)));
+		assertEquals("To Do", taskRepository.findById(task.getId()).orElseThrow().getStatus());
+	}
+
+	@Test
+	void unknownTaskIsNotFound() {
+		assertThrows(ResourceNotFoundException.class,
+				() -> taskService.updateTaskStatus(-1L, "Completed", null, testUsers.details(alice)));
+	}
+}
@@ -0,0 +1,69 @@
+package com.jeevlifeworks.Smart.Task.Manager.App.support;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.opentest4j.AssertionFailedError;
+
+/**
+ * Hibernate StatementInspector that records the SQL prepared on the current thread
+ * while recording is switched on. Registered for all tests through
+ * spring.jpa.properties.hibernate.session_factory.statement_inspector.
+ *
+ * assertStatementCount() pins the number of statements a service call issues,
+ * so an N+1 creeping back into a hot path fails the build.
+ */
+public class SqlStatementRecorder implements StatementInspector {
+
+	private static final ThreadLocal<List<String>> RECORDED = new ThreadLocal<>();
+
+	@Override
+	public String inspect(String sql) {
+		List<String> statements = RECORDED.get();
+		if (statements != null) {
+			statements.add(sql);
+		}
+		return sql;
+	}
+
+	/**
+	 * Starts recording the statements of the current thread, discarding earlier ones.
+	 */
+	public static void start() {
+		RECORDED.set(new ArrayList<>());
+	}
+
+	/**
+	 * Stops recording and returns the statements prepared since start().
+	 */
+	public static List<String> stop() {
+		List<String> statements = RECORDED.get();
+		RECORDED.remove();
+		return statements == null ? List.of() : statements;
+	}
+
+	/**
+	 * Runs the call and fails unless it issued exactly the expected number of statements.
+	 *
+	 * Accepts parameter expected number of SQL statements the call may issue
+	 * Accepts parameter call the service call to measure (must run on the calling thread)
+	 * return the call's result
+	 */
+	public static <T> T assertStatementCount(int expected, Supplier<T> call) {
+		start();
+		T result;
+		List<String> statements;
+		try {
+			result = call.get();
+		} finally {
+			statements = stop();
+		}
+		if (statements.size() != expected) {
+			throw new AssertionFailedError("Expected " + expected + " SQL statements but " + statements.size()
+				+ " were executed:\n  " + String.join("\n  ", statements), expected, statements.size());
+		}
+		return result;
+	}
+}
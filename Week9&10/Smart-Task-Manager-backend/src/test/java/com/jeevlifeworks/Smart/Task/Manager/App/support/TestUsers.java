@@ -0,0 +1,70 @@
+package com.jeevlifeworks.Smart.Task.Manager.App.support;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+import com.jeevlifeworks.Smart.Task.Manager.App.Entity.RoleEnum;
+import com.jeevlifeworks.Smart.Task.Manager.App.Entity.User;
+import com.jeevlifeworks.Smart.Task.Manager.App.repository.RoleRepository;
+import com.jeevlifeworks.Smart.Task.Manager.App.repository.UserRepository;
+import com.jeevlifeworks.Smart.Task.Manager.App.service.UserDetailsServiceImpl;
+
+/**
+ * Creates the users a test works with and logs them in, so test classes do not
+ * each carry their own copy of the setup. Picked up by component scanning in
+ * every @SpringBootTest context.
+ *
+ * Users are saved directly, so tests remain responsible for deleting them.
+ */
+@Component
+public class TestUsers {
+
+	@Autowired
+	private UserRepository userRepository;
+
+	@Autowired
+	private RoleRepository roleRepository;
+
+	@Autowired
+	private UserDetailsServiceImpl userDetailsService;
+
+	/**
+	 * Saves an enabled user whose username is the part of the email before the '@'.
+	 *
+	 * Accepts parameter email the user's email
+	 * Accepts parameter role the user's only role
+	 * return the saved user
+	 */
+	public User saveUser(String email, RoleEnum role) {
+		User user = new User();
+		user.setUsername(email.substring(0, email.indexOf('@')));
+		user.setEmail(email);
+		user.setPassword("encoded");
+		user.setEnabled(true);
+		user.getRoles().add(roleRepository.findByName(role).orElseThrow());
+		return userRepository.save(user);
+	}
+
+	/**
+	 * Loads the principal the application builds for the user on login.
+	 */
+	public UserDetails details(User user) {
+		return userDetailsService.loadUserByUsername(user.getEmail());
+	}
+
+	/**
+	 * Authenticates the user in the current thread's security context, as the JWT filter would.
+	 *
+	 * Accepts parameter user the user to log in
+	 * return the user's principal
+	 */
+	public UserDetails logIn(User user) {
+		UserDetails details = details(user);
+		SecurityContextHolder.getContext().setAuthentication(
+				new UsernamePasswordAuthenticationToken(details, null, details.getAuthorities()));
+		return details;
+	}
+}
@@ -0,0 +1,128 @@
+package com.jeevlifeworks.Smart.Task.Manager.App.benchmark;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import com.jeevlifeworks.Smart.Task.Manager.App.Entity.Role;
+import com.jeevlifeworks.Smart.Task.Manager.App.Entity.RoleEnum;
+import com.jeevlifeworks.Smart.Task.Manager.App.Entity.Task;
+import com.jeevlifeworks.Smart.Task.Manager.App.Entity.User;
+import com.jeevlifeworks.Smart.Task.Manager.App.dto.AssigneeDto;
+import com.jeevlifeworks.Smart.Task.Manager.App.dto.TaskDto;
+import com.jeevlifeworks.Smart.Task.Manager.App.dto.TaskSummaryDto;
+
+/**
+ * Deterministic sample data shared by the benchmarks, shaped like production:
+ * a few statuses and priorities, due dates spread over a year, one to three
+ * assignees per task and short free-text descriptions and tags.
+ */
+final class BenchmarkData {
+
+	static final String[] STATUSES = { "To Do", "In Progress", "Completed" };
+	static final String[] PRIORITIES = { "Low", "Medium", "High" };
+	static final String[] TAGS = { "backend", "frontend", "design", "urgent", "q3", "billing", "ops", "research" };
+	static final String[] WORDS = { "migrate", "invoice", "ledger", "review", "deploy", "report", "dashboard",
+			"customer", "onboarding", "refactor", "audit", "release", "metrics", "schema", "search" };
+
+	static final LocalDate FIRST_DUE_DATE = LocalDate.of(2025, 1, 1);
+
+	private BenchmarkData() {
+	}
+
+	/**
+	 * Builds a sentence of the given number of words, chosen by the random source.
+	 */
+	static String words(Random random, int count) {
+		StringBuilder text = new StringBuilder();
+		for (int i = 0; i < count; i++) {
+			if (i > 0) {
+				text.append(' ');
+			}
+			text.append(WORDS[random.nextInt(WORDS.length)]);
+		}
+		return text.toString();
+	}
+
+	/**
+	 * Builds two comma-separated tags.
+	 */
+	static String tags(Random random) {
+		return TAGS[random.nextInt(TAGS.length)] + ", " + TAGS[random.nextInt(TAGS.length)];
+	}
+
+	/**
+	 * Builds detached users with the given role, IDs starting at 1.
+	 */
+	static List<User> users(int count, RoleEnum roleName) {
+		Role role = new Role(1L, roleName);
+		List<User> users = new ArrayList<>(count);
+		for (int i = 1; i <= count; i++) {
+			User user = new User();
+			user.setId((long) i);
+			user.setUsername("employee" + i);
+			user.setEmail("employee" + i + "@example.com");
+			user.setPassword("$2a$10$abcdefghijklmnopqrstuv");
+			user.setEnabled(true);
+			user.getRoles().add(role);
+			users.add(user);
+		}
+		return users;
+	}
+
+	/**
+	 * Builds detached Task entities as the controllers return them.
+	 */
+	static List<Task> tasks(int count, User manager, List<User> employees, long seed) {
+		Random random = new Random(seed);
+		List<Task> tasks = new ArrayList<>(count);
+		for (int i = 1; i <= count; i++) {
+			Task task = new Task();
+			task.setId((long) i);
+			task.setTitle(words(random, 3));
+			task.setDescription(words(random, 12));
+			task.setDueDate(FIRST_DUE_DATE.plusDays(random.nextInt(365)));
+			task.setPriority(PRIORITIES[random.nextInt(PRIORITIES.length)]);
+			task.setStatus(STATUSES[random.nextInt(STATUSES.length)]);
+			task.setTags(tags(random));
+			task.setManager(manager);
+			int assignees = 1 + random.nextInt(3);
+			for (int a = 0; a < assignees; a++) {
+				task.getAssignees().add(employees.get(random.nextInt(employees.size())));
+			}
+			tasks.add(task);
+		}
+		return tasks;
+	}
+
+	/**
+	 * Maps the tasks to the DTO returned by the "assigned tasks" endpoint.
+	 */
+	static List<TaskDto> taskDtos(List<Task> tasks) {
+		List<TaskDto> dtos = new ArrayList<>(tasks.size());
+		for (Task task : tasks) {
+			TaskDto dto = new TaskDto(task.getId(), task.getTitle(), task.getDescription(), task.getDueDate(),
+					task.getPriority(), task.getStatus(), task.getManager().getId(), task.getTags(), task.getVersion());
+			dto.setAssigneeIds(task.getAssignees().stream().map(User::getId).toList());
+			dtos.add(dto);
+		}
+		return dtos;
+	}
+
+	/**
+	 * Maps the tasks to the summaries returned by the paginated list endpoints.
+	 */
+	static List<TaskSummaryDto> summaries(List<Task> tasks) {
+		List<TaskSummaryDto> summaries = new ArrayList<>(tasks.size());
+		for (Task task : tasks) {
+			TaskSummaryDto summary = new TaskSummaryDto(task.getId(), task.getTitle(), task.getDueDate(),
+					task.getPriority(), task.getStatus(), task.getManager().getId(), task.getTags());
+			summary.setAssignees(task.getAssignees().stream()
+					.map(user -> new AssigneeDto(task.getId(), user.getId(), user.getUsername()))
+					.toList());
+			summaries.add(summary);
+		}
+		return summaries;
+	}
+}
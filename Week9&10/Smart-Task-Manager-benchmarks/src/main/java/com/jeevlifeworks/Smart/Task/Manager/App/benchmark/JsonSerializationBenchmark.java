@@ -0,0 +1,75 @@
+package com.jeevlifeworks.Smart.Task.Manager.App.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.jeevlifeworks.Smart.Task.Manager.App.Entity.RoleEnum;
+import com.jeevlifeworks.Smart.Task.Manager.App.Entity.Task;
+import com.jeevlifeworks.Smart.Task.Manager.App.Entity.User;
+import com.jeevlifeworks.Smart.Task.Manager.App.dto.TaskDto;
+import com.jeevlifeworks.Smart.Task.Manager.App.dto.TaskSummaryDto;
+
+/**
+ * Cost of writing a response body for the task endpoints: Task entities
+ * (create/status endpoints), TaskDto (assigned tasks) and TaskSummaryDto
+ * (paginated lists and search), with an ObjectMapper configured as Spring Boot does.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonSerializationBenchmark {
+
+	// Number of tasks in the serialized list (a page, and a large "assigned tasks" response)
+	@Param({ "50", "1000" })
+	public int size;
+
+	private ObjectMapper objectMapper;
+	private List<Task> tasks;
+	private List<TaskDto> taskDtos;
+	private List<TaskSummaryDto> summaries;
+
+	@Setup
+	public void setUp() {
+		objectMapper = Jackson2ObjectMapperBuilder.json()
+				.featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+				.build();
+		User manager = BenchmarkData.users(1, RoleEnum.ROLE_MANAGER).get(0);
+		tasks = BenchmarkData.tasks(size, manager, BenchmarkData.users(200, RoleEnum.ROLE_EMPLOYEE), 7L);
+		taskDtos = BenchmarkData.taskDtos(tasks);
+		summaries = BenchmarkData.summaries(tasks);
+	}
+
+	@Benchmark
+	public byte[] serializeTasks() throws JsonProcessingException {
+		return objectMapper.writeValueAsBytes(tasks);
+	}
+
+	@Benchmark
+	public byte[] serializeTaskDtos() throws JsonProcessingException {
+		return objectMapper.writeValueAsBytes(taskDtos);
+	}
+
+	@Benchmark
+	public byte[] serializeTaskSummaries() throws JsonProcessingException {
+		return objectMapper.writeValueAsBytes(summaries);
+	}
+}
@@ -0,0 +1,59 @@
+package com.jeevlifeworks.Smart.Task.Manager.App.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import com.jeevlifeworks.Smart.Task.Manager.App.security.AuthenticatedUser;
+import com.jeevlifeworks.Smart.Task.Manager.App.security.JwtTokenUtil;
+
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Cost of issuing a token at login and of verifying one on every request.
+ * parseToken measures the usual case of a client repeating its token, which
+ * is answered from the verified-claims cache after the first request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtTokenBenchmark {
+
+	private JwtTokenUtil jwtTokenUtil;
+	private AuthenticatedUser user;
+	private String token;
+
+	@Setup
+	public void setUp() {
+		jwtTokenUtil = new JwtTokenUtil("benchmark_secret_jwt_key_that_is_at_least_256_bits_long",
+				86_400_000L, 10_000, new SimpleMeterRegistry());
+		user = new AuthenticatedUser(42L, "employee42@example.com", "unused",
+				List.of(new SimpleGrantedAuthority("ROLE_EMPLOYEE")));
+		token = jwtTokenUtil.generateToken(user);
+	}
+
+	@Benchmark
+	public String generateToken() {
+		return jwtTokenUtil.generateToken(user);
+	}
+
+	@Benchmark
+	public Claims parseToken() {
+		return jwtTokenUtil.parseToken(token);
+	}
+}
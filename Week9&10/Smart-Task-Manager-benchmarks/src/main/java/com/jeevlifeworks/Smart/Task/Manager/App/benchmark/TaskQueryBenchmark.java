@@ -0,0 +1,184 @@
+package com.jeevlifeworks.Smart.Task.Manager.App.benchmark;
+
+import java.sql.Date;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import com.jeevlifeworks.Smart.Task.Manager.App.SmartTaskManagerAppApplication;
+import com.jeevlifeworks.Smart.Task.Manager.App.Entity.RoleEnum;
+import com.jeevlifeworks.Smart.Task.Manager.App.Entity.User;
+import com.jeevlifeworks.Smart.Task.Manager.App.dto.TaskDto;
+import com.jeevlifeworks.Smart.Task.Manager.App.dto.TaskFilterDto;
+import com.jeevlifeworks.Smart.Task.Manager.App.dto.TaskPageDto;
+import com.jeevlifeworks.Smart.Task.Manager.App.repository.RoleRepository;
+import com.jeevlifeworks.Smart.Task.Manager.App.repository.UserRepository;
+import com.jeevlifeworks.Smart.Task.Manager.App.service.TaskSearchIndex;
+import com.jeevlifeworks.Smart.Task.Manager.App.service.TaskService;
+import com.jeevlifeworks.Smart.Task.Manager.App.service.TaskSnapshot;
+import com.jeevlifeworks.Smart.Task.Manager.App.service.UserDetailsServiceImpl;
+
+/**
+ * The task read paths end to end (service, JPA, JDBC) against an in-memory H2
+ * database seeded with taskCount tasks: a filtered listing page, an employee's
+ * assigned tasks, and a ranked text search.
+ *
+ * The application context is started once per trial with the schedulers and
+ * the outbox poller switched off, so only the measured call touches the database.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskQueryBenchmark {
+
+	private static final int EMPLOYEES = 200;
+
+	@Param({ "10000", "100000" })
+	public int taskCount;
+
+	private ConfigurableApplicationContext context;
+	private TaskService taskService;
+	private TaskSearchIndex taskSearchIndex;
+	private TaskSnapshot taskSnapshot;
+	private UserDetails manager;
+	private String employeeEmail;
+	private TaskFilterDto statusAndPriority;
+	private TaskFilterDto assignee;
+
+	@Setup(Level.Trial)
+	public void startApplication() {
+		context = SpringApplication.run(SmartTaskManagerAppApplication.class,
+				"--spring.datasource.url=jdbc:h2:mem:benchmark;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+				"--spring.datasource.username=sa",
+				"--spring.datasource.password=",
+				"--spring.jpa.hibernate.ddl-auto=create-drop",
+				"--spring.jpa.show-sql=false",
+				"--server.port=0",
+				"--task.reminders.schedule=-",
+				"--task.dashboard.reconcile-cron=-",
+				"--task.snapshot.rebuild-cron=-",
+				"--email.outbox.poll-interval=PT24H",
+				"--email.outbox.maintenance-interval=PT24H",
+				"--logging.level.root=WARN");
+		taskService = context.getBean(TaskService.class);
+		taskSearchIndex = context.getBean(TaskSearchIndex.class);
+		taskSnapshot = context.getBean(TaskSnapshot.class);
+
+		List<User> employees = seed();
+		taskSearchIndex.rebuild();
+		taskSnapshot.rebuild();
+
+		manager = context.getBean(UserDetailsServiceImpl.class).loadUserByUsername("benchmark.manager@example.com");
+		employeeEmail = employees.get(0).getEmail();
+
+		statusAndPriority = new TaskFilterDto();
+		statusAndPriority.setStatus(List.of("In Progress"));
+		statusAndPriority.setPriority(List.of("High"));
+		assignee = new TaskFilterDto();
+		assignee.setAssigneeId(employees.get(1).getId());
+	}
+
+	@TearDown(Level.Trial)
+	public void stopApplication() {
+		context.close();
+	}
+
+	@Benchmark
+	public TaskPageDto filterByStatusAndPriority() {
+		return taskService.getTasksFiltered(statusAndPriority, manager, null, null);
+	}
+
+	@Benchmark
+	public TaskPageDto filterByAssignee() {
+		return taskService.getTasksFiltered(assignee, manager, null, null);
+	}
+
+	// The in-memory part of filterByStatusAndPriority: picking the page from the snapshot
+	@Benchmark
+	public List<Long> snapshotPage() {
+		return taskSnapshot.findPage(statusAndPriority, null, 51).orElseThrow();
+	}
+
+	@Benchmark
+	public List<TaskDto> assignedTasks() {
+		return taskService.getAssignedTasksForUser(employeeEmail);
+	}
+
+	@Benchmark
+	public List<Long> search() {
+		return taskSearchIndex.search("deploy rep", null, 20);
+	}
+
+	/**
+	 * Saves the manager and employees through JPA, then inserts the tasks and
+	 * their assignees with plain JDBC batches; going through the entities would
+	 * make a 100k-task trial spend most of its setup in Hibernate.
+	 */
+	private List<User> seed() {
+		RoleRepository roleRepository = context.getBean(RoleRepository.class);
+		UserRepository userRepository = context.getBean(UserRepository.class);
+		JdbcTemplate jdbcTemplate = context.getBean(JdbcTemplate.class);
+
+		User manager = new User();
+		manager.setUsername("benchmark.manager");
+		manager.setEmail("benchmark.manager@example.com");
+		manager.setPassword("unused");
+		manager.setEnabled(true);
+		manager.getRoles().add(roleRepository.findByName(RoleEnum.ROLE_MANAGER).orElseThrow());
+		manager = userRepository.save(manager);
+
+		List<User> employees = new ArrayList<>(EMPLOYEES);
+		for (int i = 0; i < EMPLOYEES; i++) {
+			User employee = new User();
+			employee.setUsername("benchmark.employee" + i);
+			employee.setEmail("benchmark.employee" + i + "@example.com");
+			employee.setPassword("unused");
+			employee.setEnabled(true);
+			employee.getRoles().add(roleRepository.findByName(RoleEnum.ROLE_EMPLOYEE).orElseThrow());
+			employees.add(employee);
+		}
+		employees = userRepository.saveAll(employees);
+
+		Random random = new Random(11L);
+		List<Object[]> tasks = new ArrayList<>(taskCount);
+		List<Object[]> assignees = new ArrayList<>();
+		for (long id = 1; id <= taskCount; id++) {
+			tasks.add(new Object[] { id, BenchmarkData.words(random, 3), BenchmarkData.words(random, 12),
+					Date.valueOf(BenchmarkData.FIRST_DUE_DATE.plusDays(random.nextInt(365))),
+					BenchmarkData.PRIORITIES[random.nextInt(BenchmarkData.PRIORITIES.length)],
+					BenchmarkData.STATUSES[random.nextInt(BenchmarkData.STATUSES.length)],
+					manager.getId(), BenchmarkData.tags(random), id, false });
+			int first = random.nextInt(EMPLOYEES);
+			int count = 1 + random.nextInt(3);
+			for (int a = 0; a < count; a++) {
+				assignees.add(new Object[] { id, employees.get((first + a) % EMPLOYEES).getId() });
+			}
+		}
+		jdbcTemplate.batchUpdate("INSERT INTO tasks (id, title, description, due_date, priority, status, manager_id, tags,"
+				+ " change_version, deleted) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", tasks);
+		jdbcTemplate.batchUpdate("INSERT INTO task_assignees (task_id, user_id) VALUES (?, ?)", assignees);
+		return employees;
+	}
+}
@@ -42,7 +42,12 @@ export class LoginComponent {
       },
       error: (error) => {
         // Show error toast notification if login fails
-        this.toastr.error('Invalid email or password.', 'Login Failed');
+        if (error.status === 429) {
+          // The server is busy verifying other sign-ins; the credentials were not checked
+          this.toastr.warning('Too many sign-in attempts at the moment. Please try again shortly.', 'Login Failed');
+        } else {
+          this.toastr.error('Invalid email or password.', 'Login Failed');
+        }
         console.error('Login error:', error); // Log error details in browser console
       }
     });
@@ -1,12 +1,13 @@
-import { Component, OnInit } from '@angular/core';
+import { Component, OnDestroy, OnInit } from '@angular/core';
 import { Router } from '@angular/router';
 import { CommonModule } from '@angular/common';
 import { FormsModule } from '@angular/forms';
 import { TaskService } from '../../tasks/services/task.service';
-import { TaskDto, TaskStatus } from '../../shared/models/task.model';
+import { TaskDto, TaskStatus, DashboardAnalytics, TaskChange } from '../../shared/models/task.model';
 import { ToastrService } from 'ngx-toastr';
 import { ChartOptions, ChartType } from 'chart.js';
 import { BaseChartDirective } from 'ng2-charts';
+import { Subscription } from 'rxjs';
 
 
 @Component({
@@ -16,13 +17,16 @@ import { BaseChartDirective } from 'ng2-charts';
   standalone: true,
   imports: [CommonModule , FormsModule]
 })
-export class EmployeeDashboardComponent implements OnInit {
+export class EmployeeDashboardComponent implements OnInit, OnDestroy {
   // Stores the list of tasks assigned to the logged-in employee
   tasks: TaskDto[] = [];
+  // Task counts for the logged-in employee, computed by the backend
+  analytics: DashboardAnalytics | null = null;
   // Possible statuses a task can have
   taskStatuses: TaskStatus[] = ['To Do', 'In Progress', 'Completed'];
   loading: boolean = true; // Used to show a loading spinner
   errorMessage: string | null = null; // Stores error messages
+  private taskStream?: Subscription; // Live task changes, replacing polling
 
   constructor(
     private router: Router,
@@ -36,7 +40,48 @@ export class EmployeeDashboardComponent implements OnInit {
    */
   ngOnInit(): void {
     this.loadAssignedTasks(); // Load all tasks assigned to the logged-in employee
-    // this.loadDashboardAnalytics();
+    this.loadDashboardAnalytics(); // Load the task counts shown above the list
+    this.watchTaskChanges(); // Keep both current as tasks are created or change status
+  }
+
+  /**
+   * Angular lifecycle hook
+   * Closes the task stream when leaving the dashboard
+   */
+  ngOnDestroy(): void {
+    this.taskStream?.unsubscribe();
+  }
+
+  /**
+   * Applies task changes pushed by the backend; reloads everything when asked to resync
+   */
+  watchTaskChanges(): void {
+    this.taskStream = this.taskService.streamTaskChanges().subscribe(message => {
+      if (message.kind === 'changes' && message.changes.every(change => this.applyChange(change))) {
+        this.loadDashboardAnalytics(); // Counts change with the statuses
+        return;
+      }
+      this.loadAssignedTasks();
+      this.loadDashboardAnalytics();
+    });
+  }
+
+  /**
+   * Updates a listed task in place, or drops it if it was deleted
+   * Accepts parameter change - The change pushed by the backend
+   * Returns false if the task is not listed yet (newly assigned), so the list must be reloaded
+   */
+  private applyChange(change: TaskChange): boolean {
+    if (change.type === 'DELETED') {
+      this.tasks = this.tasks.filter(t => t.id !== change.taskId);
+      return true;
+    }
+    const task = this.tasks.find(t => t.id === change.taskId);
+    if (!task) {
+      return false;
+    }
+    task.status = change.status;
+    return true;
   }
 
   /**
@@ -56,6 +101,16 @@ export class EmployeeDashboardComponent implements OnInit {
     });
   }
 
+  /**
+   * Fetches the employee's task counts from the backend
+   */
+  loadDashboardAnalytics(): void {
+    this.taskService.getDashboardAnalytics().subscribe({
+      next: (analytics) => this.analytics = analytics,
+      error: (err) => console.error('Error fetching dashboard analytics', err)
+    });
+  }
+
   /**
    * Updates the status of a specific task
    * Accepts parameter taskId - The ID of the task being updated
@@ -63,12 +118,17 @@ export class EmployeeDashboardComponent implements OnInit {
    */
   updateTaskStatus(taskId: number, event: Event): void {
     const status = (event.target as HTMLSelectElement).value as TaskStatus;
-    this.taskService.updateTaskStatus(taskId, status).subscribe({
+    const version = this.tasks.find(t => t.id === taskId)?.version;
+    this.taskService.updateTaskStatus(taskId, status, version).subscribe({
       next: () => {
         this.toastr.success('Task status updated successfully.');
         this.loadAssignedTasks(); // Reload tasks after updating
+        this.loadDashboardAnalytics(); // Counts change with the status
       },
-      error: (err) => this.toastr.error('Failed to update task status: ' + err.message)
+      error: (err) => {
+        this.toastr.error('Failed to update task status: ' + err.message);
+        this.loadAssignedTasks(); // Show the current state, e.g. after someone else changed the task
+      }
     });
   }
 
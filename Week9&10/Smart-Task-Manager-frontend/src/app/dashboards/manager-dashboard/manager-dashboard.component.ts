@@ -1,12 +1,14 @@
-import { Component, OnInit } from '@angular/core';
+import { Component, OnDestroy, OnInit } from '@angular/core';
 import { Router } from '@angular/router';
 import { CommonModule } from '@angular/common';
 import { TaskService } from '../../tasks/services/task.service';
 import { UserService } from '../../users/services/user.service';
-import { TaskDto } from '../../shared/models/task.model';
+import { TaskDto, TaskPage } from '../../shared/models/task.model';
 import { User } from '../../shared/models/user.model';
 import { TaskFormComponent } from '../../tasks/components/task-form/task-form.component';
 import { ToastrService } from 'ngx-toastr';
+import { EMPTY, Observable, Subject, Subscription } from 'rxjs';
+import { catchError, debounceTime, distinctUntilChanged, map, switchMap } from 'rxjs/operators';
 
 @Component({
   selector: 'app-manager-dashboard',
@@ -15,11 +17,16 @@ import { ToastrService } from 'ngx-toastr';
   standalone: true,
   imports: [CommonModule, TaskFormComponent]
 })
-export class ManagerDashboardComponent implements OnInit {
-  // Array to store all tasks created by the manager
+export class ManagerDashboardComponent implements OnInit, OnDestroy {
+  // Array to store the tasks loaded so far
   tasks: TaskDto[] = [];
+  // Cursor for the next page of tasks (null when everything is loaded)
+  nextCursor: string | null = null;
   // Array to store employees
   employees: User[] = [];
+  // Text typed into the search box, one value per keystroke
+  private searchQueries = new Subject<string>();
+  private searchResults?: Subscription;
 
   constructor(
     private router: Router,
@@ -35,19 +42,84 @@ export class ManagerDashboardComponent implements OnInit {
   ngOnInit(): void {
     this.loadTasks();
     this.loadEmployees();
+    this.watchSearchQueries();
   }
 
   /**
-   * Fetches all tasks from the backend using TaskService
-   * Assigns the fetched data to the 'tasks' array
+   * Angular lifecycle hook
+   * Stops listening to the search box when leaving the dashboard
+   */
+  ngOnDestroy(): void {
+    this.searchResults?.unsubscribe();
+  }
+
+  /**
+   * Fetches the first page of tasks from the backend using TaskService
+   * Replaces the 'tasks' array with the fetched page
    */
   loadTasks(): void {
     this.taskService.getTasks().subscribe({
-      next: (data) => this.tasks = data, // On success, store the tasks
+      next: (page) => { // On success, store the tasks and the cursor
+        this.tasks = page.items;
+        this.nextCursor = page.nextCursor;
+      },
       error: (err) => this.toastr.error('Failed to load tasks: ' + err.message) // On error, show a toast
     });
   }
 
+  /**
+   * Fetches the next page of tasks and appends it to the 'tasks' array
+   */
+  loadMoreTasks(): void {
+    if (!this.nextCursor) {
+      return;
+    }
+    this.taskService.getTasks(this.nextCursor).subscribe({
+      next: (page) => {
+        this.tasks = [...this.tasks, ...page.items];
+        this.nextCursor = page.nextCursor;
+      },
+      error: (err) => this.toastr.error('Failed to load tasks: ' + err.message)
+    });
+  }
+
+  /**
+   * Searches tasks as the manager types; clearing the box shows the full list again
+   * Accepts parameter event - The input event of the search box
+   */
+  searchTasks(event: Event): void {
+    this.searchQueries.next((event.target as HTMLInputElement).value.trim());
+  }
+
+  /**
+   * Runs a search once typing pauses; a newer query cancels the request of the previous one,
+   * so a slow response can never replace the results of the final query
+   */
+  watchSearchQueries(): void {
+    this.searchResults = this.searchQueries.pipe(
+      debounceTime(300),
+      distinctUntilChanged(),
+      switchMap(query => this.findTasks(query))
+    ).subscribe(page => {
+      this.tasks = page.items;
+      this.nextCursor = page.nextCursor;
+    });
+  }
+
+  /**
+   * Returns the search results for the query (not paginated), or the first page of all tasks for an empty query
+   * Errors are shown as a toast and end only this request, not the search box
+   */
+  private findTasks(query: string): Observable<TaskPage> {
+    const results: Observable<TaskPage> = query
+      ? this.taskService.searchTasks(query).pipe(map(tasks => ({ items: tasks, nextCursor: null })))
+      : this.taskService.getTasks();
+    return results.pipe(catchError(err => {
+      this.toastr.error((query ? 'Failed to search tasks: ' : 'Failed to load tasks: ') + err.message);
+      return EMPTY;
+    }));
+  }
+
   /**
    * Fetches all users from the backend using UserService
    * Filters the list to only include users with the role 'ROLE_EMPLOYEE'
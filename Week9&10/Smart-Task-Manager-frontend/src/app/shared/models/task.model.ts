@@ -24,14 +24,92 @@ export interface TaskDto {
   managerId: number;
   assignees: User[];
   tags: string;
+  version?: number; // Row version; sent back with status updates to detect concurrent changes
+  archived?: boolean; // True for tasks completed long ago and moved to the archive; they can no longer be changed
 }
 
+/**
+ * One page of tasks returned by the paginated list endpoints.
+ * Pass nextCursor back as the "cursor" query parameter to load the next page;
+ * it is null once the last page has been returned.
+ */
+export interface TaskPage {
+  items: TaskDto[];
+  nextCursor: string | null;
+}
+
+/**
+ * Number of tasks in one status, as shown in the dashboard's status distribution.
+ */
+export interface TaskDistribution {
+  status: string;
+  count: number;
+}
+
+/**
+ * Task counts shown on the dashboards.
+ * Managers and admins get the counts of all tasks, employees those of their own tasks.
+ */
+export interface DashboardAnalytics {
+  assignedCount: number;
+  completedCount: number;
+  pendingCount: number;
+  overdueCount: number;
+  taskDistribution: TaskDistribution[];
+}
+
+/**
+ * One task change pushed over the task stream (GET /api/tasks/stream).
+ */
+export interface TaskChange {
+  type: 'CREATED' | 'STATUS_CHANGED' | 'DELETED';
+  taskId: number;
+  title: string;
+  status: TaskStatus;
+  dueDate: string;
+}
+
+/**
+ * A message from the task stream: a batch of changes, or a request to reload
+ * all tasks because the client fell too far behind.
+ */
+export type TaskStreamMessage =
+  | { kind: 'changes'; changes: TaskChange[] }
+  | { kind: 'resync' };
+
 /**
  * DTO for updating only the status of a task.
  * Used when changing task progress without modifying other details.
  */
 export interface TaskStatusUpdateDto {
   status: TaskStatus;
+  version?: number; // Version the task had when it was loaded; the update fails with 409 if it changed since
+}
+
+/**
+ * One entry of a status batch (PUT /api/tasks/status).
+ */
+export interface TaskStatusBatchItem extends TaskStatusUpdateDto {
+  taskId: number;
+}
+
+/**
+ * Outcome of a status batch, one item per entry in request order.
+ * An item has either status and version (applied) or error (rejected).
+ */
+export interface TaskStatusBatchResult {
+  updated: number;
+  failed: number;
+  items: { index: number; taskId?: number; status?: TaskStatus; version?: number; error?: string }[];
+}
+
+/**
+ * Outcome of a CSV import: counts plus the line and reason of each rejected row (the first task.import.max-errors).
+ */
+export interface TaskImportResult {
+  imported: number;
+  failed: number;
+  errors: { line: number; error: string }[];
 }
 
 /**
@@ -1,9 +1,10 @@
 import { Injectable } from '@angular/core';
-import { HttpClient, HttpErrorResponse } from '@angular/common/http';
+import { HttpClient, HttpErrorResponse, HttpParams } from '@angular/common/http';
 import { Observable, throwError } from 'rxjs';
 import { catchError, tap } from 'rxjs/operators';
 import { environment } from '../../../environments/environment';
-import { TaskDto, TaskStatusUpdateDto, CreateTaskDto } from '../../shared/models/task.model';
+import { TaskDto, TaskStatusUpdateDto, TaskStatusBatchItem, TaskStatusBatchResult, TaskImportResult, CreateTaskDto, TaskPage, DashboardAnalytics, TaskChange, TaskStreamMessage } from '../../shared/models/task.model';
+import { AuthService } from '../../auth/services/auth.service';
 
 @Injectable({
   providedIn: 'root'
@@ -12,7 +13,7 @@ export class TaskService {
   // Base URL for all task-related API endpoints
   private apiUrl = `${environment.apiBaseUrl}/tasks`;
 
-  constructor(private http: HttpClient) { }
+  constructor(private http: HttpClient, private authService: AuthService) { }
 
   // Creates a new task by sending a POST request with task data
   createTask(task: CreateTaskDto): Observable<TaskDto> {
@@ -21,9 +22,34 @@ export class TaskService {
     );
   }
 
-  // Retrieves all tasks by sending a GET request
-  getTasks(): Observable<TaskDto[]> {
-    return this.http.get<TaskDto[]>(this.apiUrl)
+  // Retrieves one page of tasks; pass the previous page's nextCursor to continue
+  getTasks(cursor?: string | null): Observable<TaskPage> {
+    let params = new HttpParams();
+    if (cursor) {
+      params = params.set('cursor', cursor);
+    }
+    return this.http.get<TaskPage>(this.apiUrl, { params })
+      .pipe(catchError(this.handleError));
+  }
+
+  // Downloads all tasks as one file (admins and managers); the backend streams it row by row
+  exportTasks(format: 'csv' | 'ndjson' = 'csv', gzip = false): Observable<Blob> {
+    const params = new HttpParams().set('format', format).set('gzip', gzip);
+    return this.http.get(`${this.apiUrl}/export`, { params, responseType: 'blob' })
+      .pipe(catchError(this.handleError));
+  }
+
+  // Creates tasks from a CSV file (managers and admins); rows that cannot be imported are reported by line
+  importTasks(file: File): Observable<TaskImportResult> {
+    const body = new FormData();
+    body.append('file', file);
+    return this.http.post<TaskImportResult>(`${this.apiUrl}/import`, body)
+      .pipe(catchError(this.handleError));
+  }
+
+  // Retrieves one task by ID, including archived tasks
+  getTask(taskId: number): Observable<TaskDto> {
+    return this.http.get<TaskDto>(`${this.apiUrl}/${taskId}`)
       .pipe(catchError(this.handleError));
   }
 
@@ -33,15 +59,57 @@ export class TaskService {
       .pipe(catchError(this.handleError));
   }
 
+  // Searches task titles, descriptions and tags; results come back most relevant first
+  searchTasks(query: string): Observable<TaskDto[]> {
+    const params = new HttpParams().set('q', query);
+    return this.http.get<TaskDto[]>(`${this.apiUrl}/search`, { params })
+      .pipe(catchError(this.handleError));
+  }
+
+  // Retrieves the dashboard counts (assigned, completed, pending, overdue and per-status distribution)
+  getDashboardAnalytics(): Observable<DashboardAnalytics> {
+    return this.http.get<DashboardAnalytics>(`${this.apiUrl}/dashboard`)
+      .pipe(catchError(this.handleError));
+  }
+
+  // Streams changes to the current user's tasks as they happen (Server-Sent Events).
+  // EventSource reconnects by itself; every (re)connect is reported as a resync,
+  // since changes made while disconnected were missed. Unsubscribing closes the stream.
+  streamTaskChanges(): Observable<TaskStreamMessage> {
+    return new Observable<TaskStreamMessage>(subscriber => {
+      // EventSource cannot send an Authorization header, so the token goes in the URL
+      const token = encodeURIComponent(this.authService.getToken() ?? '');
+      const source = new EventSource(`${this.apiUrl}/stream?access_token=${token}`);
+      let opened = false;
+      source.onopen = () => {
+        if (opened) {
+          subscriber.next({ kind: 'resync' });
+        }
+        opened = true;
+      };
+      source.addEventListener('tasks', event =>
+        subscriber.next({ kind: 'changes', changes: JSON.parse((event as MessageEvent).data) as TaskChange[] }));
+      source.addEventListener('resync', () => subscriber.next({ kind: 'resync' }));
+      return () => source.close();
+    });
+  }
+
   // Updates the status of a task (e.g., To Do, In Progress, Completed)
-  updateTaskStatus(taskId: number, status: string): Observable<TaskDto> {
+  // Passing the version the task was loaded with makes the backend reject the update if it changed since
+  updateTaskStatus(taskId: number, status: string, version?: number): Observable<TaskDto> {
     // Prepare payload with the new status, restricting it to allowed values
-    const statusDto: TaskStatusUpdateDto = { status: status as 'To Do' | 'In Progress' | 'Completed' };
+    const statusDto: TaskStatusUpdateDto = { status: status as 'To Do' | 'In Progress' | 'Completed', version };
     // Send PUT request to update task status
     return this.http.put<TaskDto>(`${this.apiUrl}/${taskId}/status`, statusDto)
       .pipe(catchError(this.handleError));
   }
 
+  // Updates the status of many tasks in one request; each entry succeeds or fails on its own
+  updateTaskStatuses(updates: TaskStatusBatchItem[]): Observable<TaskStatusBatchResult> {
+    return this.http.put<TaskStatusBatchResult>(`${this.apiUrl}/status`, updates)
+      .pipe(catchError(this.handleError));
+  }
+
   // Handles HTTP errors and returns an Observable that emits a user-friendly error message
   private handleError(error: HttpErrorResponse) {
     let errorMessage = 'An unknown error occurred!';